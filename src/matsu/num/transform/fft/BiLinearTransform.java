@@ -5,10 +5,13 @@
  * http://opensource.org/licenses/mit-license.php
  */
 /*
- * 2025.5.8
+ * 2025.10.13
  */
 package matsu.num.transform.fft;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
 import matsu.num.transform.fft.validation.StructureAcceptance;
 
 /**
@@ -38,6 +41,28 @@ import matsu.num.transform.fft.validation.StructureAcceptance;
  * <li>例: 入力の長さは2の累乗でなければならない.</li>
  * </ul>
  * 
+ * <p>
+ * 同じサイズの変換を繰り返す場合は, {@link #plan(int)} により
+ * サイズを固定したプラン ({@link BiLinearTransform.Plan}) を取得できる. <br>
+ * プランは, サイズに依存する準備の計算 (基底の計算など) を構築時に済ませている.
+ * </p>
+ * 
+ * <p>
+ * 同じサイズの多数の組を変換する場合は, {@link #applyBatch(double[][], double[][], boolean)} により
+ * まとめて変換できる. <br>
+ * 準備の計算はバッチ全体で1回のみ行われ, 各組の変換を複数のスレッドに分配することもできる.
+ * </p>
+ * 
+ * <p>
+ * 出力を呼び出し側が用意した配列に書き込む場合は, {@link #applyInto(double[], double[], double[])},
+ * {@link #applyInPlace(double[], double[])} を用いる.
+ * </p>
+ * 
+ * <p>
+ * 呼び出しスレッドを待機させずに変換する場合は, {@link #applyAsync(double[], double[], Executor)} により
+ * 変換を {@link CompletableFuture} として実行できる.
+ * </p>
+ * 
  * @implSpec
  *               このインターフェースをモジュール外で継承・実装してはいけない.
  * 
@@ -70,4 +95,153 @@ public interface BiLinearTransform extends FFTModuleExecutor {
      */
     public abstract double[] apply(double[] f, double[] g);
 
+    /**
+     * 与えた2系列の実数列に対し, 変換を実行し, 結果を与えた出力配列に書き込む.
+     * 
+     * <p>
+     * 変換の結果は {@link #apply(double[], double[])} と同等である. <br>
+     * 出力配列は {@code f} または {@code g} と同一の配列でもよい. <br>
+     * 入力は ({@code out} と同一である場合を除いて) 書き換えられない.
+     * </p>
+     * 
+     * @param f 実数列f
+     * @param g 実数列g
+     * @param out 出力配列, 入力とサイズが等しい
+     * @throws IllegalArgumentException 引数がacceptされない場合,
+     *             出力配列のサイズが入力と整合しない場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public abstract void applyInto(double[] f, double[] g, double[] out);
+
+    /**
+     * 与えた2系列の実数列に対し, 変換を実行し, 結果で実数列fを上書きする.
+     * 
+     * <p>
+     * 変換の結果は {@link #apply(double[], double[])} と同等である. <br>
+     * {@code f} と {@code g} は同一の配列でもよい. <br>
+     * 実数列gは ({@code f} と同一である場合を除いて) 書き換えられない.
+     * </p>
+     * 
+     * @param f 実数列f, 結果で上書きされる
+     * @param g 実数列g
+     * @throws IllegalArgumentException 引数がacceptされない場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public abstract void applyInPlace(double[] f, double[] g);
+
+    /**
+     * 与えた同じサイズの2系列の実数列の組 (バッチ) に対し, 逐次的に変換を実行する. <br>
+     * {@code applyBatch(fBatch, gBatch, false)} と同等である.
+     * 
+     * @param fBatch 実数列fの配列
+     * @param gBatch 実数列gの配列
+     * @return 変換後の実数列の配列(順に入力の組に対応する)
+     * @throws IllegalArgumentException バッチの要素数が整合しない場合,
+     *             バッチ内の実数列のサイズが整合しない場合, サイズがacceptされない場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     * @see #applyBatch(double[][], double[][], boolean)
+     */
+    public abstract double[][] applyBatch(double[][] fBatch, double[][] gBatch);
+
+    /**
+     * 与えた同じサイズの2系列の実数列の組 (バッチ) に対し, 変換を実行する.
+     * 
+     * <p>
+     * {@code fBatch[i]} と {@code gBatch[i]} の変換結果は
+     * {@link #apply(double[], double[])} と同等である. <br>
+     * サイズに依存する準備の計算はバッチ全体で1回のみ行われる. <br>
+     * {@code parallel} が {@code true} の場合, 各組の変換は複数のスレッドで並列に実行されうる. <br>
+     * 空のバッチに対しては空の配列を返す.
+     * </p>
+     * 
+     * @param fBatch 実数列fの配列
+     * @param gBatch 実数列gの配列
+     * @param parallel 並列に実行する場合はtrue
+     * @return 変換後の実数列の配列(順に入力の組に対応する)
+     * @throws IllegalArgumentException バッチの要素数が整合しない場合,
+     *             バッチ内の実数列のサイズが整合しない場合, サイズがacceptされない場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public abstract double[][] applyBatch(double[][] fBatch, double[][] gBatch, boolean parallel);
+
+    /**
+     * 与えた2系列の実数列に対し, デフォルトのエグゼキュータで非同期に変換を実行する.
+     * 
+     * <p>
+     * デフォルトのエグゼキュータは, モジュール内で共有される,
+     * スレッド数がプロセッサ数で制限されたスレッドプールである. <br>
+     * その他の契約は {@link #applyAsync(double[], double[], Executor)} に準拠する.
+     * </p>
+     * 
+     * @param f 実数列f
+     * @param g 実数列g
+     * @return 変換後の実数列を結果とする {@link CompletableFuture}
+     * @throws NullPointerException 引数にnullが含まれる場合
+     * @see #applyAsync(double[], double[], Executor)
+     */
+    public abstract CompletableFuture<double[]> applyAsync(double[] f, double[] g);
+
+    /**
+     * 与えた2系列の実数列に対し, 与えたエグゼキュータで非同期に変換を実行する.
+     * 
+     * <p>
+     * 変換の結果は {@link #apply(double[], double[])} と同等である. <br>
+     * 引数がacceptされない場合, 戻り値は {@link IllegalArgumentException} により例外的に完了する. <br>
+     * 戻り値が完了するまで, 引数の配列を書き換えてはいけない.
+     * </p>
+     * 
+     * @param f 実数列f
+     * @param g 実数列g
+     * @param executor 変換を実行するエグゼキュータ
+     * @return 変換後の実数列を結果とする {@link CompletableFuture}
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public abstract CompletableFuture<double[]> applyAsync(double[] f, double[] g, Executor executor);
+
+    /**
+     * 与えたサイズに固定した, 変換のプランを返す.
+     * 
+     * <p>
+     * サイズがacceptされる条件は, 2系列のサイズが共に {@code size} である場合の
+     * {@link #accepts(double[], double[])} に準拠する.
+     * </p>
+     * 
+     * @param size 実数列のサイズ
+     * @return プラン
+     * @throws IllegalArgumentException サイズがacceptされない場合
+     */
+    public abstract BiLinearTransform.Plan plan(int size);
+
+    /**
+     * サイズを固定した, 2系列の実数列から1系列への双線形な変換のプラン.
+     * 
+     * <p>
+     * このインターフェースのサブタイプはイミュータブルであり, スレッドセーフである. <br>
+     * {@link #execute(double[], double[])} の振る舞いは,
+     * プランを生成したインスタンスの {@link BiLinearTransform#apply(double[], double[])} と同等である.
+     * </p>
+     * 
+     * @implSpec
+     *               このインターフェースをモジュール外で継承・実装してはいけない.
+     */
+    public static interface Plan {
+
+        /**
+         * このプランが扱う実数列のサイズを返す.
+         * 
+         * @return サイズ
+         */
+        public abstract int size();
+
+        /**
+         * 与えた2系列の実数列に対し, 変換を実行する.
+         * 
+         * @param f 実数列f
+         * @param g 実数列g
+         * @return 変換後の実数列(入力とサイズが等しい)
+         * @throws IllegalArgumentException 引数のサイズがプランのサイズと一致しない場合
+         * @throws NullPointerException 引数にnullが含まれる場合
+         */
+        public abstract double[] execute(double[] f, double[] g);
+    }
 }
@@ -5,10 +5,13 @@
  * http://opensource.org/licenses/mit-license.php
  */
 /*
- * 2025.5.8
+ * 2025.10.13
  */
 package matsu.num.transform.fft;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
 import matsu.num.transform.fft.dto.ComplexNumberArrayDTO;
 import matsu.num.transform.fft.validation.StructureAcceptance;
 
@@ -42,6 +45,30 @@ import matsu.num.transform.fft.validation.StructureAcceptance;
  * <li>例: 入力の長さは2の累乗でなければならない.</li>
  * </ul>
  * 
+ * <p>
+ * 同じサイズの変換を繰り返す場合は, {@link #plan(int)} により
+ * サイズを固定したプラン ({@link ComplexLinearTransform.Plan}) を取得できる. <br>
+ * プランは, サイズに依存する準備の計算 (素因数分解, アルゴリズムの選択, 基底の計算など) を
+ * 構築時に済ませている.
+ * </p>
+ * 
+ * <p>
+ * 同じサイズの多数の複素数列を変換する場合は,
+ * {@link #applyBatch(ComplexNumberArrayDTO[], boolean)} によりまとめて変換できる. <br>
+ * 準備の計算はバッチ全体で1回のみ行われ, 各複素数列の変換を複数のスレッドに分配することもできる.
+ * </p>
+ * 
+ * <p>
+ * 出力を呼び出し側が用意した複素数列に書き込む場合は,
+ * {@link #applyInto(ComplexNumberArrayDTO, ComplexNumberArrayDTO)},
+ * {@link #applyInPlace(ComplexNumberArrayDTO)} を用いる.
+ * </p>
+ * 
+ * <p>
+ * 呼び出しスレッドを待機させずに変換する場合は, {@link #applyAsync(ComplexNumberArrayDTO, Executor)} により
+ * 変換を {@link CompletableFuture} として実行できる.
+ * </p>
+ * 
  * @implSpec
  *               このインターフェースをモジュール外で継承・実装してはいけない.
  * 
@@ -99,4 +126,197 @@ public interface ComplexLinearTransform extends FFTModuleExecutor {
      * @return 変換後の複素数列(入力とサイズが等しい)
      */
     public abstract ComplexNumberArrayDTO applyReal(double[] realNumberData);
+
+    /**
+     * 与えた複素数列に対し, 変換を実行し, 結果を与えた出力に書き込む.
+     * 
+     * <p>
+     * 変換の結果は {@link #apply(ComplexNumberArrayDTO)} と同等である. <br>
+     * 出力は入力と同一のインスタンスでもよい
+     * (このとき, {@link #applyInPlace(ComplexNumberArrayDTO)} と同等である). <br>
+     * 呼び出し側が出力を使いまわすことで, 変換ごとの出力の生成を避けられる.
+     * </p>
+     * 
+     * @param complexNumberArray 複素数列
+     * @param out 出力, 入力とサイズが等しい
+     * @throws IllegalArgumentException 引数がacceptされない場合,
+     *             出力のサイズが入力と整合しない場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public abstract void applyInto(ComplexNumberArrayDTO complexNumberArray, ComplexNumberArrayDTO out);
+
+    /**
+     * 与えた複素数列に対し, 変換を実行し, 結果で複素数列を上書きする. <br>
+     * {@code applyInto(complexNumberArray, complexNumberArray)} と同等である.
+     * 
+     * @param complexNumberArray 複素数列
+     * @throws IllegalArgumentException 引数がacceptされない場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     * @see #applyInto(ComplexNumberArrayDTO, ComplexNumberArrayDTO)
+     */
+    public abstract void applyInPlace(ComplexNumberArrayDTO complexNumberArray);
+
+    /**
+     * 与えた実数列に対し, 変換を実行し, 結果を与えた出力に書き込む. <br>
+     * 変換の結果は {@link #applyReal(double[])} と同等である.
+     * 
+     * @param realNumberData 実数列
+     * @param out 出力, 入力とサイズが等しい
+     * @throws IllegalArgumentException 引数がacceptされない場合,
+     *             出力のサイズが入力と整合しない場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public abstract void applyRealInto(double[] realNumberData, ComplexNumberArrayDTO out);
+
+    /**
+     * 与えた同じサイズの複素数列の組 (バッチ) に対し, 逐次的に線形変換を実行する. <br>
+     * {@code applyBatch(batch, false)} と同等である.
+     * 
+     * @param batch 複素数列の配列
+     * @return 変換後の複素数列の配列(順に入力の複素数列に対応する)
+     * @throws IllegalArgumentException バッチ内の複素数列のサイズが整合しない場合,
+     *             サイズがacceptされない場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     * @see #applyBatch(ComplexNumberArrayDTO[], boolean)
+     */
+    public abstract ComplexNumberArrayDTO[] applyBatch(ComplexNumberArrayDTO[] batch);
+
+    /**
+     * 与えた同じサイズの複素数列の組 (バッチ) に対し, 線形変換を実行する.
+     * 
+     * <p>
+     * 各複素数列の変換結果は {@link #apply(ComplexNumberArrayDTO)} と同等である. <br>
+     * サイズに依存する準備の計算はバッチ全体で1回のみ行われる. <br>
+     * {@code parallel} が {@code true} の場合, 各複素数列の変換は複数のスレッドで並列に実行されうる. <br>
+     * 空のバッチに対しては空の配列を返す.
+     * </p>
+     * 
+     * @param batch 複素数列の配列
+     * @param parallel 並列に実行する場合はtrue
+     * @return 変換後の複素数列の配列(順に入力の複素数列に対応する)
+     * @throws IllegalArgumentException バッチ内の複素数列のサイズが整合しない場合,
+     *             サイズがacceptされない場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public abstract ComplexNumberArrayDTO[] applyBatch(ComplexNumberArrayDTO[] batch, boolean parallel);
+
+    /**
+     * 与えた同じサイズの実数列の組 (バッチ) に対し, 逐次的に線形変換を実行する. <br>
+     * {@code applyRealBatch(batch, false)} と同等である.
+     * 
+     * @param batch 実数列の配列
+     * @return 変換後の複素数列の配列(順に入力の実数列に対応する)
+     * @throws IllegalArgumentException バッチ内の実数列のサイズが整合しない場合,
+     *             サイズがacceptされない場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     * @see #applyRealBatch(double[][], boolean)
+     */
+    public abstract ComplexNumberArrayDTO[] applyRealBatch(double[][] batch);
+
+    /**
+     * 与えた同じサイズの実数列の組 (バッチ) に対し, 線形変換を実行する.
+     * 
+     * <p>
+     * 各実数列の変換結果は {@link #applyReal(double[])} と同等である. <br>
+     * その他の契約は {@link #applyBatch(ComplexNumberArrayDTO[], boolean)} に準拠する.
+     * </p>
+     * 
+     * @param batch 実数列の配列
+     * @param parallel 並列に実行する場合はtrue
+     * @return 変換後の複素数列の配列(順に入力の実数列に対応する)
+     * @throws IllegalArgumentException バッチ内の実数列のサイズが整合しない場合,
+     *             サイズがacceptされない場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public abstract ComplexNumberArrayDTO[] applyRealBatch(double[][] batch, boolean parallel);
+
+    /**
+     * 与えた複素数列に対し, デフォルトのエグゼキュータで非同期に変換を実行する.
+     * 
+     * <p>
+     * デフォルトのエグゼキュータは, モジュール内で共有される,
+     * スレッド数がプロセッサ数で制限されたスレッドプールである. <br>
+     * その他の契約は {@link #applyAsync(ComplexNumberArrayDTO, Executor)} に準拠する.
+     * </p>
+     * 
+     * @param complexNumberArray 複素数列
+     * @return 変換後の複素数列を結果とする {@link CompletableFuture}
+     * @throws NullPointerException 引数にnullが含まれる場合
+     * @see #applyAsync(ComplexNumberArrayDTO, Executor)
+     */
+    public abstract CompletableFuture<ComplexNumberArrayDTO> applyAsync(ComplexNumberArrayDTO complexNumberArray);
+
+    /**
+     * 与えた複素数列に対し, 与えたエグゼキュータで非同期に変換を実行する.
+     * 
+     * <p>
+     * 変換の結果は {@link #apply(ComplexNumberArrayDTO)} と同等である. <br>
+     * 引数がacceptされない場合, 戻り値は {@link IllegalArgumentException} により例外的に完了する. <br>
+     * 戻り値が完了するまで, 引数の配列を書き換えてはいけない.
+     * </p>
+     * 
+     * @param complexNumberArray 複素数列
+     * @param executor 変換を実行するエグゼキュータ
+     * @return 変換後の複素数列を結果とする {@link CompletableFuture}
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public abstract CompletableFuture<ComplexNumberArrayDTO> applyAsync(ComplexNumberArrayDTO complexNumberArray, Executor executor);
+
+    /**
+     * 与えたサイズに固定した, 変換のプランを返す.
+     * 
+     * <p>
+     * サイズがacceptされる条件は, {@link #accepts(ComplexNumberArrayDTO)} に準拠する.
+     * </p>
+     * 
+     * @param size 複素数列のサイズ
+     * @return プラン
+     * @throws IllegalArgumentException サイズがacceptされない場合
+     */
+    public abstract ComplexLinearTransform.Plan plan(int size);
+
+    /**
+     * サイズを固定した, 複素数列の線形変換のプラン.
+     * 
+     * <p>
+     * このインターフェースのサブタイプはイミュータブルであり, スレッドセーフである. <br>
+     * {@link #execute(ComplexNumberArrayDTO)}, {@link #executeReal(double[])} の振る舞いは,
+     * プランを生成したインスタンスの
+     * {@link ComplexLinearTransform#apply(ComplexNumberArrayDTO)},
+     * {@link ComplexLinearTransform#applyReal(double[])} と同等である.
+     * </p>
+     * 
+     * @implSpec
+     *               このインターフェースをモジュール外で継承・実装してはいけない.
+     */
+    public static interface Plan {
+
+        /**
+         * このプランが扱う複素数列のサイズを返す.
+         * 
+         * @return サイズ
+         */
+        public abstract int size();
+
+        /**
+         * 与えた複素数列に対し, 変換を実行する.
+         * 
+         * @param complexNumberArray 複素数列
+         * @return 変換後の複素数列(入力とサイズが等しい)
+         * @throws IllegalArgumentException 引数のサイズがプランのサイズと一致しない場合
+         * @throws NullPointerException 引数にnullが含まれる場合
+         */
+        public abstract ComplexNumberArrayDTO execute(ComplexNumberArrayDTO complexNumberArray);
+
+        /**
+         * 与えた実数列に対し, 変換を実行する. <br>
+         * 虚部を0とした複素数列を {@link #execute(ComplexNumberArrayDTO)} に与えるのと同等である.
+         * 
+         * @param realNumberData 実数列
+         * @return 変換後の複素数列(入力とサイズが等しい)
+         * @throws IllegalArgumentException 引数のサイズがプランのサイズと一致しない場合
+         * @throws NullPointerException 引数にnullが含まれる場合
+         */
+        public abstract ComplexNumberArrayDTO executeReal(double[] realNumberData);
+    }
 }
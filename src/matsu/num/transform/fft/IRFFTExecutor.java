@@ -0,0 +1,122 @@
+/*
+ * Copyright © 2024 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2025.10.10
+ */
+package matsu.num.transform.fft;
+
+import matsu.num.transform.fft.dto.ComplexNumberArrayDTO;
+import matsu.num.transform.fft.validation.StructureAcceptance;
+
+/**
+ * Hermite対称な複素数列の逆離散Fourier変換 (実数IFFT) を扱う.
+ * 
+ * <p>
+ * 変換は {@link IDFTExecutor} と同じ式で与えられる. <br>
+ * 標本サイズを <i>N</i> とし, 入力はHermite対称
+ * (<i>A</i><sub><i>N</i> - <i>k</i></sub> = <i>A</i><sub><i>k</i></sub><sup>*</sup>)
+ * な複素数列の, <i>k</i> = 0, ... , floor(<i>N</i>/2) の
+ * floor(<i>N</i>/2) + 1 個の成分 (半スペクトル) で与える. <br>
+ * 半スペクトルの長さからは <i>N</i> が一意に定まらないため, <i>N</i> は引数で指定する. <br>
+ * <i>A</i><sub>0</sub> の虚部と,
+ * (<i>N</i> が偶数の場合の) <i>A</i><sub><i>N</i>/2</sub> の虚部は無視される.
+ * </p>
+ * 
+ * <p>
+ * {@link #applyPair(ComplexNumberArrayDTO, ComplexNumberArrayDTO, int)} により,
+ * 同じサイズの2個の半スペクトルを1回の複素FFTでまとめて変換することもできる.
+ * </p>
+ * 
+ * <p>
+ * 入力に無限大や非数 (NaN) を含む場合, 戻り値は全て {@code Double.NaN} となる
+ * (対の変換では, 該当する側の戻り値のみ).
+ * </p>
+ * 
+ * <p>
+ * {@link #accepts(ComplexNumberArrayDTO, int)} のreject条件は次のとおりである. <br>
+ * rejectされる条件と, {@link #apply(ComplexNumberArrayDTO, int)} が例外をスローする条件は等価である.
+ * </p>
+ * 
+ * <ul>
+ * <li>データサイズ <i>N</i> が1以上でない場合.</li>
+ * <li>データサイズ <i>N</i> が {@link #MAX_DATA_SIZE} を超過する場合.</li>
+ * <li>半スペクトルのサイズが floor(<i>N</i>/2) + 1 でない場合.</li>
+ * </ul>
+ * 
+ * 
+ * <hr>
+ * <h2>技術的補足</h2>
+ * 
+ * <p>
+ * {@link RFFTExecutor} の逆変換である. <br>
+ * 実数列を {@link RFFTExecutor} で変換し, その結果をこのインターフェースで変換すると,
+ * 元の実数列の <i>N</i> 倍になる.
+ * </p>
+ * 
+ * @implSpec
+ *               このインターフェースをモジュール外で継承・実装してはいけない.
+ * 
+ * @author Matsuura Y.
+ */
+public interface IRFFTExecutor extends FFTModuleExecutor {
+
+    /**
+     * 扱うことができるデータサイズの最大値: 2<sup>28</sup>
+     */
+    public static final int MAX_DATA_SIZE = 0x1000_0000;
+
+    /**
+     * 与えた半スペクトルの構造(サイズ)と変換後のデータサイズが, 変換に対応しているかどうかを判定する.
+     * 
+     * @param halfSpectrum 半スペクトル
+     * @param size 変換後の実数列のサイズ <i>N</i>
+     * @return 判定結果
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public abstract StructureAcceptance accepts(ComplexNumberArrayDTO halfSpectrum, int size);
+
+    /**
+     * 与えた2個の半スペクトルの構造(サイズ)と変換後のデータサイズが, 対の変換に対応しているかどうかを判定する.
+     * 
+     * <p>
+     * 両方の半スペクトルが {@link #accepts(ComplexNumberArrayDTO, int)} でacceptされる場合に,
+     * acceptされる.
+     * </p>
+     * 
+     * @param halfSpectrum1 半スペクトル1
+     * @param halfSpectrum2 半スペクトル2
+     * @param size 変換後の実数列のサイズ <i>N</i>
+     * @return 判定結果
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public abstract StructureAcceptance acceptsPair(
+            ComplexNumberArrayDTO halfSpectrum1, ComplexNumberArrayDTO halfSpectrum2, int size);
+
+    /**
+     * 与えた半スペクトルに対し, 変換を実行する.
+     * 
+     * @param halfSpectrum 半スペクトル
+     * @param size 変換後の実数列のサイズ <i>N</i>
+     * @return 変換後の実数列
+     * @throws IllegalArgumentException 引数がacceptされない場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public abstract double[] apply(ComplexNumberArrayDTO halfSpectrum, int size);
+
+    /**
+     * 与えた2個の半スペクトルに対し, 1回の複素FFTで変換を実行する.
+     * 
+     * @param halfSpectrum1 半スペクトル1
+     * @param halfSpectrum2 半スペクトル2
+     * @param size 変換後の実数列のサイズ <i>N</i>
+     * @return 変換後の実数列(長さ2の配列で, 順に半スペクトル1, 2に対応する)
+     * @throws IllegalArgumentException 引数がacceptされない場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public abstract double[][] applyPair(
+            ComplexNumberArrayDTO halfSpectrum1, ComplexNumberArrayDTO halfSpectrum2, int size);
+}
@@ -5,10 +5,13 @@
  * http://opensource.org/licenses/mit-license.php
  */
 /*
- * 2025.5.8
+ * 2025.10.13
  */
 package matsu.num.transform.fft;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
 import matsu.num.transform.fft.validation.StructureAcceptance;
 
 /**
@@ -39,8 +42,31 @@ import matsu.num.transform.fft.validation.StructureAcceptance;
  * </ul>
  * 
  * <p>
+ * 同じサイズの変換を繰り返す場合は, {@link #plan(int)} により
+ * サイズを固定したプラン ({@link LinearTransform.Plan}) を取得できる. <br>
+ * プランは, サイズに依存する準備の計算 (素因数分解, アルゴリズムの選択, 基底の計算など) を
+ * 構築時に済ませている.
+ * </p>
+ * 
+ * <p>
+ * 同じサイズの多数の実数列を変換する場合は, {@link #applyBatch(double[][], boolean)} により
+ * まとめて変換できる. <br>
+ * 準備の計算はバッチ全体で1回のみ行われ, 各実数列の変換を複数のスレッドに分配することもできる.
+ * </p>
+ * 
+ * <p>
+ * 出力を呼び出し側が用意した配列に書き込む場合は, {@link #applyInto(double[], double[])},
+ * {@link #applyInPlace(double[])} を用いる.
+ * </p>
+ * 
+ * <p>
+ * 呼び出しスレッドを待機させずに変換する場合は, {@link #applyAsync(double[], Executor)} により
+ * 変換を {@link CompletableFuture} として実行できる.
+ * </p>
+ * 
+ * <p>
  * このインターフェースのサブタイプは実質的にイミュータブルであり,
- * すべてのメソッドは副作用無し,
+ * すべてのメソッドは (出力配列への書き込みを除いて) 副作用無し,
  * スレッドセーフ, 参照透過であることが保証される.
  * </p>
  * 
@@ -81,4 +107,140 @@ public interface LinearTransform extends FFTModuleExecutor {
      */
     public abstract double[] apply(double[] data);
 
+    /**
+     * 与えた実数列に対し, 線形変換を実行し, 結果を与えた出力配列に書き込む.
+     * 
+     * <p>
+     * 変換の結果は {@link #apply(double[])} と同等である. <br>
+     * 出力配列は入力と同一の配列でもよい (このとき, {@link #applyInPlace(double[])} と同等である). <br>
+     * 呼び出し側が出力配列を使いまわすことで, 変換ごとの出力の生成を避けられる.
+     * </p>
+     * 
+     * @param data 実数列
+     * @param out 出力配列, 入力とサイズが等しい
+     * @throws IllegalArgumentException 引数がacceptされない場合,
+     *             出力配列のサイズが入力と整合しない場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public abstract void applyInto(double[] data, double[] out);
+
+    /**
+     * 与えた実数列に対し, 線形変換を実行し, 結果で実数列を上書きする. <br>
+     * {@code applyInto(data, data)} と同等である.
+     * 
+     * @param data 実数列
+     * @throws IllegalArgumentException 引数がacceptされない場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     * @see #applyInto(double[], double[])
+     */
+    public abstract void applyInPlace(double[] data);
+
+    /**
+     * 与えた同じサイズの実数列の組 (バッチ) に対し, 逐次的に線形変換を実行する. <br>
+     * {@code applyBatch(batch, false)} と同等である.
+     * 
+     * @param batch 実数列の配列
+     * @return 変換後の実数列の配列(順に入力の実数列に対応する)
+     * @throws IllegalArgumentException バッチ内の実数列のサイズが整合しない場合,
+     *             サイズがacceptされない場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     * @see #applyBatch(double[][], boolean)
+     */
+    public abstract double[][] applyBatch(double[][] batch);
+
+    /**
+     * 与えた同じサイズの実数列の組 (バッチ) に対し, 線形変換を実行する.
+     * 
+     * <p>
+     * 各実数列の変換結果は {@link #apply(double[])} と同等である. <br>
+     * サイズに依存する準備の計算はバッチ全体で1回のみ行われる. <br>
+     * {@code parallel} が {@code true} の場合, 各実数列の変換は複数のスレッドで並列に実行されうる. <br>
+     * 空のバッチに対しては空の配列を返す.
+     * </p>
+     * 
+     * @param batch 実数列の配列
+     * @param parallel 並列に実行する場合はtrue
+     * @return 変換後の実数列の配列(順に入力の実数列に対応する)
+     * @throws IllegalArgumentException バッチ内の実数列のサイズが整合しない場合,
+     *             サイズがacceptされない場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public abstract double[][] applyBatch(double[][] batch, boolean parallel);
+
+    /**
+     * 与えた実数列に対し, デフォルトのエグゼキュータで非同期に変換を実行する.
+     * 
+     * <p>
+     * デフォルトのエグゼキュータは, モジュール内で共有される,
+     * スレッド数がプロセッサ数で制限されたスレッドプールである. <br>
+     * その他の契約は {@link #applyAsync(double[], Executor)} に準拠する.
+     * </p>
+     * 
+     * @param data 実数列
+     * @return 変換後の実数列を結果とする {@link CompletableFuture}
+     * @throws NullPointerException 引数にnullが含まれる場合
+     * @see #applyAsync(double[], Executor)
+     */
+    public abstract CompletableFuture<double[]> applyAsync(double[] data);
+
+    /**
+     * 与えた実数列に対し, 与えたエグゼキュータで非同期に変換を実行する.
+     * 
+     * <p>
+     * 変換の結果は {@link #apply(double[])} と同等である. <br>
+     * 引数がacceptされない場合, 戻り値は {@link IllegalArgumentException} により例外的に完了する. <br>
+     * 戻り値が完了するまで, 引数の配列を書き換えてはいけない.
+     * </p>
+     * 
+     * @param data 実数列
+     * @param executor 変換を実行するエグゼキュータ
+     * @return 変換後の実数列を結果とする {@link CompletableFuture}
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public abstract CompletableFuture<double[]> applyAsync(double[] data, Executor executor);
+
+    /**
+     * 与えたサイズに固定した, 変換のプランを返す.
+     * 
+     * <p>
+     * サイズがacceptされる条件は, {@link #accepts(double[])} に準拠する.
+     * </p>
+     * 
+     * @param size 実数列のサイズ
+     * @return プラン
+     * @throws IllegalArgumentException サイズがacceptされない場合
+     */
+    public abstract LinearTransform.Plan plan(int size);
+
+    /**
+     * サイズを固定した, 実数列の線形変換のプラン.
+     * 
+     * <p>
+     * このインターフェースのサブタイプはイミュータブルであり, スレッドセーフである. <br>
+     * {@link #execute(double[])} の振る舞いは,
+     * プランを生成したインスタンスの {@link LinearTransform#apply(double[])} と同等である.
+     * </p>
+     * 
+     * @implSpec
+     *               このインターフェースをモジュール外で継承・実装してはいけない.
+     */
+    public static interface Plan {
+
+        /**
+         * このプランが扱う実数列のサイズを返す.
+         * 
+         * @return サイズ
+         */
+        public abstract int size();
+
+        /**
+         * 与えた実数列に対し, 線形変換を実行する.
+         * 
+         * @param data 実数列
+         * @return 変換後の実数列(入力とサイズが等しい)
+         * @throws IllegalArgumentException 引数のサイズがプランのサイズと一致しない場合
+         * @throws NullPointerException 引数にnullが含まれる場合
+         */
+        public abstract double[] execute(double[] data);
+    }
 }
@@ -0,0 +1,97 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2025.10.13
+ */
+package matsu.num.transform.fft;
+
+import matsu.num.transform.fft.dto.ComplexNumberArrayDTO;
+import matsu.num.transform.fft.validation.StructureAcceptance;
+
+/**
+ * 2次元または3次元の複素数の多次元配列の, 分離可能な線形変換を扱う. <br>
+ * 例えば, 多次元の離散Fourier変換/逆変換である.
+ * 
+ * <p>
+ * 多次元配列は, 行優先 (row-major) で1次元に並べて {@link ComplexNumberArrayDTO} で表現する. <br>
+ * 形状 (各軸の長さ) を (<i>n</i><sub>0</sub>, <i>n</i><sub>1</sub>) とすると,
+ * 添え字 (<i>j</i><sub>0</sub>, <i>j</i><sub>1</sub>) の要素は
+ * <i>j</i><sub>0</sub> <i>n</i><sub>1</sub> + <i>j</i><sub>1</sub> 番目に格納される. <br>
+ * 形状を (<i>n</i><sub>0</sub>, <i>n</i><sub>1</sub>, <i>n</i><sub>2</sub>) とすると,
+ * 添え字 (<i>j</i><sub>0</sub>, <i>j</i><sub>1</sub>, <i>j</i><sub>2</sub>) の要素は
+ * (<i>j</i><sub>0</sub> <i>n</i><sub>1</sub> + <i>j</i><sub>1</sub>) <i>n</i><sub>2</sub>
+ * + <i>j</i><sub>2</sub> 番目に格納される.
+ * </p>
+ * 
+ * <p>
+ * {@link #apply(ComplexNumberArrayDTO, int[])} メソッドにより変換を実行する. <br>
+ * このとき, 出力の形状は入力の形状と等しい. <br>
+ * 入力に無限大や非数 (NaN) を含む場合, 戻り値は全て {@code Double.NaN} となる.
+ * </p>
+ * 
+ * <p>
+ * 入力データと形状がこのインスタンスに対応可能かどうかを判定するために,
+ * {@link #accepts(ComplexNumberArrayDTO, int[])} が用意されている. <br>
+ * 仕様上, 次の場合はrejectされるが, その他のreject条件は具象クラスにゆだねられる. <br>
+ * rejectされる条件と, {@link #apply(ComplexNumberArrayDTO, int[])} が例外をスローする条件は等価である.
+ * </p>
+ * 
+ * <ul>
+ * <li>形状の次元 (配列の長さ) が2または3でない場合.</li>
+ * <li>各軸の長さが1以上でない場合.</li>
+ * <li>データサイズが各軸の長さの積と一致しない場合.</li>
+ * </ul>
+ * 
+ * @implSpec
+ *               このインターフェースをモジュール外で継承・実装してはいけない.
+ * 
+ * @author Matsuura Y.
+ * @see ComplexNumberArrayDTO
+ */
+public interface MultiDimComplexLinearTransform extends FFTModuleExecutor {
+
+    /**
+     * 与えた複素数の多次元配列の構造(サイズと形状)が, 変換に対応しているかどうかを判定する.
+     * 
+     * @param complexNumberArray 行優先で並べた複素数の多次元配列
+     * @param shape 形状 (各軸の長さ)
+     * @return 判定結果
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public abstract StructureAcceptance accepts(ComplexNumberArrayDTO complexNumberArray, int[] shape);
+
+    /**
+     * 与えた複素数の多次元配列に対し, 逐次的に線形変換を実行する. <br>
+     * {@code apply(complexNumberArray, shape, false)} と同等である.
+     * 
+     * @param complexNumberArray 行優先で並べた複素数の多次元配列
+     * @param shape 形状 (各軸の長さ)
+     * @return 変換後の多次元配列(入力と形状が等しい)
+     * @throws IllegalArgumentException 引数がacceptされない場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public abstract ComplexNumberArrayDTO apply(ComplexNumberArrayDTO complexNumberArray, int[] shape);
+
+    /**
+     * 与えた複素数の多次元配列に対し, 線形変換を実行する.
+     * 
+     * <p>
+     * {@code parallel} が {@code true} の場合,
+     * 各軸に沿った1次元変換は複数のスレッドで並列に実行されうる. <br>
+     * 並列実行の有無によらず, 戻り値は等しい.
+     * </p>
+     * 
+     * @param complexNumberArray 行優先で並べた複素数の多次元配列
+     * @param shape 形状 (各軸の長さ)
+     * @param parallel 並列に実行する場合はtrue
+     * @return 変換後の多次元配列(入力と形状が等しい)
+     * @throws IllegalArgumentException 引数がacceptされない場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public abstract ComplexNumberArrayDTO apply(
+            ComplexNumberArrayDTO complexNumberArray, int[] shape, boolean parallel);
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2025.10.13
+ */
+package matsu.num.transform.fft;
+
+import matsu.num.transform.fft.dto.ComplexNumberArrayDTO;
+
+/**
+ * 2次元または3次元の逆離散Fourier変換 (IDFT) を扱う.
+ * 
+ * <p>
+ * 多次元IDFTは, 各軸に沿って {@link IDFTExecutor} と同じ1次元IDFTを順に施したものである. <br>
+ * 例えば2次元の場合, 形状を (<i>N</i><sub>0</sub>, <i>N</i><sub>1</sub>) として, <br>
+ * <i>A</i><sub><i>k</i><sub>0</sub>, <i>k</i><sub>1</sub></sub> =
+ * &Sigma;<sub><i>j</i><sub>0</sub>, <i>j</i><sub>1</sub></sub>
+ * <i>a</i><sub><i>j</i><sub>0</sub>, <i>j</i><sub>1</sub></sub>
+ * exp[i2<i>&pi;</i>(<i>j</i><sub>0</sub><i>k</i><sub>0</sub>/<i>N</i><sub>0</sub>
+ * + <i>j</i><sub>1</sub><i>k</i><sub>1</sub>/<i>N</i><sub>1</sub>)]
+ * である.
+ * </p>
+ * 
+ * <p>
+ * このインターフェースでは,
+ * {@link #accepts(ComplexNumberArrayDTO, int[])}
+ * のreject条件は,
+ * {@link MultiDimComplexLinearTransform}
+ * に対して次が追加される.
+ * </p>
+ * 
+ * <ul>
+ * <li>全要素数が {@link #MAX_DATA_SIZE} を超過する場合.</li>
+ * </ul>
+ * 
+ * 
+ * <hr>
+ * <h2>技術的補足</h2>
+ * 
+ * <p>
+ * 逆変換は {@link MultiDimDFTExecutor} である. <br>
+ * IDFTとDFTを順に施すと, 元の配列の全要素数倍になる.
+ * </p>
+ * 
+ * @implSpec
+ *               このインターフェースをモジュール外で継承・実装してはいけない.
+ * 
+ * @author Matsuura Y.
+ */
+public interface MultiDimIDFTExecutor extends MultiDimComplexLinearTransform {
+
+    /**
+     * 扱うことができる全要素数の最大値: 2<sup>28</sup>
+     */
+    public static final int MAX_DATA_SIZE = 0x1000_0000;
+
+}
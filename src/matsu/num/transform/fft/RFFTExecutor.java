@@ -0,0 +1,113 @@
+/*
+ * Copyright © 2024 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2025.10.10
+ */
+package matsu.num.transform.fft;
+
+import matsu.num.transform.fft.dto.ComplexNumberArrayDTO;
+import matsu.num.transform.fft.validation.StructureAcceptance;
+
+/**
+ * 実数列の離散Fourier変換 (実数FFT) を扱う.
+ * 
+ * <p>
+ * 変換は {@link DFTExecutor} と同じ式で与えられる. <br>
+ * 標本サイズを <i>N</i> とすると, 実数列のDFTはHermite対称
+ * (<i>A</i><sub><i>N</i> - <i>k</i></sub> = <i>A</i><sub><i>k</i></sub><sup>*</sup>)
+ * であるから,
+ * このインターフェースは冗長でない <i>k</i> = 0, ... , floor(<i>N</i>/2) の
+ * floor(<i>N</i>/2) + 1 個の成分 (半スペクトル) のみを返す.
+ * </p>
+ * 
+ * <p>
+ * {@link #applyPair(double[], double[])} により,
+ * 同じサイズの2個の実数列を1回の複素FFTでまとめて変換することもできる.
+ * </p>
+ * 
+ * <p>
+ * 入力に無限大や非数 (NaN) を含む場合, 戻り値は全て {@code Double.NaN} となる
+ * (対の変換では, 該当する側の戻り値のみ).
+ * </p>
+ * 
+ * <p>
+ * {@link #accepts(double[])} のreject条件は次のとおりである. <br>
+ * rejectされる条件と, {@link #apply(double[])} が例外をスローする条件は等価である.
+ * </p>
+ * 
+ * <ul>
+ * <li>データサイズが1以上でない場合.</li>
+ * <li>データサイズが {@link #MAX_DATA_SIZE} を超過する場合.</li>
+ * </ul>
+ * 
+ * 
+ * <hr>
+ * <h2>技術的補足</h2>
+ * 
+ * <p>
+ * <i>N</i> が偶数の場合, 偶数番目と奇数番目の標本を実部と虚部に詰めた
+ * 長さ <i>N</i>/2 の複素FFTにより計算される. <br>
+ * 逆変換は {@link IRFFTExecutor} である.
+ * </p>
+ * 
+ * @implSpec
+ *               このインターフェースをモジュール外で継承・実装してはいけない.
+ * 
+ * @author Matsuura Y.
+ */
+public interface RFFTExecutor extends FFTModuleExecutor {
+
+    /**
+     * 扱うことができるデータサイズの最大値: 2<sup>28</sup>
+     */
+    public static final int MAX_DATA_SIZE = 0x1000_0000;
+
+    /**
+     * 与えた実数列の構造(サイズ)が, 変換に対応しているかどうかを判定する.
+     * 
+     * @param data 実数列
+     * @return 判定結果
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public abstract StructureAcceptance accepts(double[] data);
+
+    /**
+     * 与えた2個の実数列の構造(サイズ)が, 対の変換に対応しているかどうかを判定する.
+     * 
+     * <p>
+     * {@link #accepts(double[])} の条件に加えて,
+     * 2個の実数列のサイズが一致しない場合はrejectされる.
+     * </p>
+     * 
+     * @param data1 実数列1
+     * @param data2 実数列2
+     * @return 判定結果
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public abstract StructureAcceptance acceptsPair(double[] data1, double[] data2);
+
+    /**
+     * 与えた実数列に対し, 変換を実行する.
+     * 
+     * @param data 実数列
+     * @return 変換後の半スペクトル(サイズはfloor(<i>N</i>/2) + 1)
+     * @throws IllegalArgumentException 引数がacceptされない場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public abstract ComplexNumberArrayDTO apply(double[] data);
+
+    /**
+     * 与えた2個の実数列に対し, 1回の複素FFTで変換を実行する.
+     * 
+     * @param data1 実数列1
+     * @param data2 実数列2
+     * @return 変換後の半スペクトル(長さ2の配列で, 順に実数列1, 2に対応する)
+     * @throws IllegalArgumentException 引数がacceptされない場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public abstract ComplexNumberArrayDTO[] applyPair(double[] data1, double[] data2);
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2025.10.13
+ */
+package matsu.num.transform.fft.component;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 非同期変換 (変換を {@link CompletableFuture} として実行する) の補助.
+ * 
+ * @author Matsuura Y.
+ */
+final class AsyncSupport {
+
+    private AsyncSupport() {
+        //インスタンス化不可
+        throw new AssertionError();
+    }
+
+    /**
+     * 変換を与えたエグゼキュータで非同期に実行する. <br>
+     * 変換がスローした例外は, 戻り値を例外的に完了させる.
+     * 
+     * @param <T> 結果の型
+     * @param task 変換
+     * @param executor エグゼキュータ
+     * @return 変換の結果
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    static <T> CompletableFuture<T> supply(Supplier<T> task, Executor executor) {
+        return CompletableFuture.supplyAsync(
+                Objects.requireNonNull(task), Objects.requireNonNull(executor));
+    }
+
+    /**
+     * エグゼキュータを指定しない非同期変換で用いる, デフォルトのエグゼキュータを返す.
+     * 
+     * <p>
+     * デフォルトのエグゼキュータは, スレッド数がプロセッサ数で制限されたプラットフォームスレッドのプールである. <br>
+     * スレッドはデーモンスレッドであり, 一定時間使われない場合は終了する.
+     * </p>
+     * 
+     * @return デフォルトのエグゼキュータ
+     */
+    static Executor defaultExecutor() {
+        return DefaultExecutorHolder.INSTANCE;
+    }
+
+    /**
+     * デフォルトのエグゼキュータを遅延初期化するためのホルダ.
+     */
+    private static final class DefaultExecutorHolder {
+
+        private static final long KEEP_ALIVE_SECONDS = 60L;
+
+        static final Executor INSTANCE = create();
+
+        private static Executor create() {
+            int threads = Runtime.getRuntime().availableProcessors();
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                    threads, threads, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<>(), new DaemonThreadFactory());
+            executor.allowCoreThreadTimeOut(true);
+            return executor;
+        }
+    }
+
+    /**
+     * デフォルトのエグゼキュータのスレッドを生成する.
+     */
+    private static final class DaemonThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r, "matsu.num.transform.fft-async-" + this.counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
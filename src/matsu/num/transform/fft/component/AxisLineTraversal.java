@@ -0,0 +1,233 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2025.10.13
+ */
+package matsu.num.transform.fft.component;
+
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * 行優先 (row-major) で1次元配列に格納された多次元配列について,
+ * 1個の軸に沿った各ライン (他の添え字を固定した1次元列) に変換を適用する.
+ * 
+ * <p>
+ * 形状を (<i>n</i><sub>0</sub>, <i>n</i><sub>1</sub>, ... ) とすると,
+ * 添え字 (<i>j</i><sub>0</sub>, <i>j</i><sub>1</sub>, ... ) の要素は
+ * (... (<i>j</i><sub>0</sub> <i>n</i><sub>1</sub> + <i>j</i><sub>1</sub>) <i>n</i><sub>2</sub> + ... )
+ * 番目に格納されている.
+ * </p>
+ * 
+ * <p>
+ * 最終軸以外のラインはストライドを持つため, 隣接する最大 {@link #BLOCK_WIDTH} 本のラインを
+ * まとめてバッファに集め (転置), 変換後に書き戻す. <br>
+ * これにより, 主記憶へのアクセスは常に連続した区間の単位となる.
+ * </p>
+ * 
+ * <p>
+ * 並列実行の方針 ({@link ParallelPolicy}) が配列全体の要素数に対して並列実行を行う場合,
+ * ラインのブロックを複数のタスクに分配し, 方針のプールで実行する. <br>
+ * ラインの変換器はタスクごとにサプライヤから取得されるので,
+ * 変換器は作業用配列を保持してよい (スレッド間で共有されない).
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+public final class AxisLineTraversal {
+
+    /**
+     * 1回に集めるラインの本数の最大値.
+     */
+    public static final int BLOCK_WIDTH = 16;
+
+    /**
+     * 並列実行時の, プールのスレッドあたりのタスク数.
+     */
+    private static final int TASKS_PER_THREAD = 4;
+
+    private AxisLineTraversal() {
+        //インスタンス化不可
+        throw new AssertionError();
+    }
+
+    /**
+     * 実数の多次元配列の, 指定した軸に沿った各ラインに変換を適用し, 結果で上書きする.
+     * 
+     * <p>
+     * 変換器はラインの長さの配列を受け取り, 同じ長さの配列を返す
+     * (引数の配列を書き換えて返してもよい).
+     * </p>
+     * 
+     * @param data 多次元配列, 結果で上書きされる
+     * @param shape 形状
+     * @param axis 軸
+     * @param policy 並列実行の方針
+     * @param lineTransformSupplier ラインの変換器のサプライヤ
+     */
+    public static void transformReal(
+            double[] data, int[] shape, int axis, ParallelPolicy policy,
+            Supplier<? extends UnaryOperator<double[]>> lineTransformSupplier) {
+
+        Layout layout = new Layout(shape, axis);
+        forEachTask(layout, data.length, policy, (from, to) -> {
+            final int n = layout.length;
+            final UnaryOperator<double[]> lineTransform = lineTransformSupplier.get();
+            double[][] lines = new double[Math.min(BLOCK_WIDTH, layout.inner)][n];
+
+            for (int u = from; u < to; u++) {
+                final int offset = layout.blockOffset(u);
+                final int width = layout.blockWidth(u);
+
+                gather(data, lines, offset, layout.inner, n, width);
+                for (int b = 0; b < width; b++) {
+                    double[] result = lineTransform.apply(lines[b]);
+                    if (result != lines[b]) {
+                        System.arraycopy(result, 0, lines[b], 0, n);
+                    }
+                }
+                scatter(lines, data, offset, layout.inner, n, width);
+            }
+        });
+    }
+
+    /**
+     * 実部と虚部の配列で与えた複素数の多次元配列の, 指定した軸に沿った各ラインに変換を適用し, 結果で上書きする.
+     * 
+     * <p>
+     * 変換器はラインの長さの実部配列と虚部配列を受け取り, 結果で上書きする.
+     * </p>
+     * 
+     * @param realPart 多次元配列の実部, 結果で上書きされる
+     * @param imaginaryPart 多次元配列の虚部, 結果で上書きされる
+     * @param shape 形状
+     * @param axis 軸
+     * @param policy 並列実行の方針
+     * @param lineTransformSupplier ラインの変換器のサプライヤ
+     */
+    public static void transformComplex(
+            double[] realPart, double[] imaginaryPart, int[] shape, int axis, ParallelPolicy policy,
+            Supplier<? extends BiConsumer<double[], double[]>> lineTransformSupplier) {
+
+        Layout layout = new Layout(shape, axis);
+        forEachTask(layout, realPart.length, policy, (from, to) -> {
+            final int n = layout.length;
+            final BiConsumer<double[], double[]> lineTransform = lineTransformSupplier.get();
+            final int blockWidth = Math.min(BLOCK_WIDTH, layout.inner);
+            double[][] linesRe = new double[blockWidth][n];
+            double[][] linesIm = new double[blockWidth][n];
+
+            for (int u = from; u < to; u++) {
+                final int offset = layout.blockOffset(u);
+                final int width = layout.blockWidth(u);
+
+                gather(realPart, linesRe, offset, layout.inner, n, width);
+                gather(imaginaryPart, linesIm, offset, layout.inner, n, width);
+                for (int b = 0; b < width; b++) {
+                    lineTransform.accept(linesRe[b], linesIm[b]);
+                }
+                scatter(linesRe, realPart, offset, layout.inner, n, width);
+                scatter(linesIm, imaginaryPart, offset, layout.inner, n, width);
+            }
+        });
+    }
+
+    /**
+     * ブロックの範囲 [from, to) を処理するタスク.
+     */
+    @FunctionalInterface
+    private static interface RangeTask {
+
+        abstract void run(int from, int to);
+    }
+
+    private static void forEachTask(Layout layout, int size, ParallelPolicy policy, RangeTask task) {
+        final int blocks = layout.blockCount();
+        final int taskCount = policy.parallelizes(size)
+                ? Math.min(blocks, TASKS_PER_THREAD * policy.parallelism())
+                : 1;
+        if (taskCount <= 1) {
+            task.run(0, blocks);
+            return;
+        }
+
+        policy.forEach(
+                size, taskCount,
+                t -> task.run(
+                        (int) ((long) blocks * t / taskCount),
+                        (int) ((long) blocks * (t + 1) / taskCount)));
+    }
+
+    /**
+     * offsetを先頭とし, ストライドstrideで並ぶwidth本のラインをバッファに集める.
+     */
+    private static void gather(double[] src, double[][] lines, int offset, int stride, int n, int width) {
+        for (int j = 0, base = offset; j < n; j++, base += stride) {
+            for (int b = 0; b < width; b++) {
+                lines[b][j] = src[base + b];
+            }
+        }
+    }
+
+    /**
+     * {@link #gather(double[], double[][], int, int, int, int)} の逆.
+     */
+    private static void scatter(double[][] lines, double[] dst, int offset, int stride, int n, int width) {
+        for (int j = 0, base = offset; j < n; j++, base += stride) {
+            for (int b = 0; b < width; b++) {
+                dst[base + b] = lines[b][j];
+            }
+        }
+    }
+
+    /**
+     * 軸に沿ったラインの配置.
+     * 
+     * <p>
+     * 配列を (outer, length, inner) の3次元配列とみなし,
+     * 中央の軸に沿ったラインを, inner方向に隣接する {@link #BLOCK_WIDTH} 本ごとのブロックに分ける.
+     * </p>
+     */
+    private static final class Layout {
+
+        final int outer;
+        final int length;
+        final int inner;
+        final int blocksPerOuter;
+
+        Layout(int[] shape, int axis) {
+            int outer = 1;
+            for (int d = 0; d < axis; d++) {
+                outer *= shape[d];
+            }
+            int inner = 1;
+            for (int d = axis + 1; d < shape.length; d++) {
+                inner *= shape[d];
+            }
+            this.outer = outer;
+            this.length = shape[axis];
+            this.inner = inner;
+            this.blocksPerOuter = (inner + BLOCK_WIDTH - 1) / BLOCK_WIDTH;
+        }
+
+        int blockCount() {
+            return this.outer * this.blocksPerOuter;
+        }
+
+        int blockOffset(int block) {
+            int o = block / this.blocksPerOuter;
+            int i0 = (block % this.blocksPerOuter) * BLOCK_WIDTH;
+            return o * this.length * this.inner + i0;
+        }
+
+        int blockWidth(int block) {
+            int i0 = (block % this.blocksPerOuter) * BLOCK_WIDTH;
+            return Math.min(BLOCK_WIDTH, this.inner - i0);
+        }
+    }
+}
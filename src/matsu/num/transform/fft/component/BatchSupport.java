@@ -0,0 +1,62 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2025.10.13
+ */
+package matsu.num.transform.fft.component;
+
+import java.util.function.IntConsumer;
+import java.util.function.IntUnaryOperator;
+
+import matsu.num.transform.fft.validation.DataSizeNotMismatchException;
+
+/**
+ * バッチ変換 (同じサイズの多数のデータの変換) の補助.
+ * 
+ * @author Matsuura Y.
+ */
+final class BatchSupport {
+
+    private BatchSupport() {
+        //インスタンス化不可
+        throw new AssertionError();
+    }
+
+    /**
+     * バッチの各要素のサイズが全て等しいことを検証し, そのサイズを返す.
+     * 
+     * @param count 要素数, 1以上
+     * @param sizeOf 要素番号からサイズを返す関数
+     * @return 共通のサイズ
+     * @throws DataSizeNotMismatchException サイズが整合しない場合
+     * @throws NullPointerException 要素にnullが含まれる場合
+     */
+    static int commonSize(int count, IntUnaryOperator sizeOf) {
+        final int size = sizeOf.applyAsInt(0);
+        for (int i = 1; i < count; i++) {
+            if (sizeOf.applyAsInt(i) != size) {
+                throw new DataSizeNotMismatchException("バッチ内のデータサイズが整合しない");
+            }
+        }
+        return size;
+    }
+
+    /**
+     * 要素番号 0, ... , count - 1 に対して処理を実行する. <br>
+     * バッチ全体の要素数の合計を問題のサイズとして, 方針に従って並列に実行する. <br>
+     * 各要素の処理は互いに独立でなければならない.
+     * 
+     * @param count 要素数
+     * @param size 各要素のサイズ
+     * @param policy 並列実行の方針
+     * @param action 処理
+     */
+    static void forEach(int count, int size, ParallelPolicy policy, IntConsumer action) {
+        int totalSize = (int) Math.min(Integer.MAX_VALUE, (long) count * size);
+        policy.forEach(totalSize, count, action);
+    }
+}
@@ -5,12 +5,15 @@
  * http://opensource.org/licenses/mit-license.php
  */
 /*
- * 2024.10.26
+ * 2025.10.13
  */
 package matsu.num.transform.fft.component;
 
 import java.util.Arrays;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.BinaryOperator;
 
 import matsu.num.transform.fft.BiLinearTransform;
 import matsu.num.transform.fft.lib.privatelib.ArraysUtil;
@@ -30,6 +33,11 @@ import matsu.num.transform.fft.validation.StructureRejected;
  * (詳細はメソッド説明を参照).
  * </p>
  * 
+ * <p>
+ * {@link #plan(int)} も同様に実装しており, プランの実行時には
+ * {@link #planInner(int)} が返す変換に対して同じスケーリングと復元を行う.
+ * </p>
+ * 
  * @author Matsuura Y.
  */
 public abstract class BiLinearByScalingStability implements BiLinearTransform {
@@ -40,17 +48,32 @@ public abstract class BiLinearByScalingStability implements BiLinearTransform {
             StructureRejected.by(() -> new DataSizeNotMismatchException("データサイズが整合しない"), "REJECT_BY_SIZE_MISMATCH");
 
     private final ArraysUtil arraysUtil;
+    private final ParallelPolicy parallelPolicy;
 
     /**
-     * 唯一のコンストラクタ.
+     * 並列実行の方針を {@link ParallelPolicy#SEQUENTIAL} として, インスタンスを構築する.
      * 
      * @param arraysUtil 配列ユーティリティ
      * @throws NullPointerException 引数にnullが含まれる場合
      */
     protected BiLinearByScalingStability(ArraysUtil arraysUtil) {
+        this(arraysUtil, ParallelPolicy.SEQUENTIAL);
+    }
+
+    /**
+     * 並列実行の方針を指定して, インスタンスを構築する. <br>
+     * バッチ変換で並列実行が要求された場合, この方針のプールと閾値が用いられる
+     * (詳細は {@link ParallelPolicy#whenRequested(boolean)} を参照).
+     * 
+     * @param arraysUtil 配列ユーティリティ
+     * @param parallelPolicy 並列実行の方針
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    protected BiLinearByScalingStability(ArraysUtil arraysUtil, ParallelPolicy parallelPolicy) {
         super();
 
         this.arraysUtil = Objects.requireNonNull(arraysUtil);
+        this.parallelPolicy = Objects.requireNonNull(parallelPolicy);
         this.dataSizeContract.bindRequiredSize(1);
     }
 
@@ -71,35 +94,153 @@ public abstract class BiLinearByScalingStability implements BiLinearTransform {
             throw acceptance.getException();
         }
 
+        return this.applyScaled(f, g, this::applyInner);
+    }
+
+    @Override
+    public final void applyInto(double[] f, double[] g, double[] out) {
+        StructureAcceptance acceptance = this.accepts(f, g);
+        if (!acceptance.isAcceptState()) {
+            throw acceptance.getException();
+        }
+        if (out.length != f.length) {
+            throw new DataSizeNotMismatchException("出力のサイズが入力と整合しない");
+        }
+
+        this.applyScaledIntoWithScratch(f, g, out, this::applyInner);
+    }
+
+    @Override
+    public final void applyInPlace(double[] f, double[] g) {
+        StructureAcceptance acceptance = this.accepts(f, g);
+        if (!acceptance.isAcceptState()) {
+            throw acceptance.getException();
+        }
+
+        this.applyScaledIntoWithScratch(f, g, f, this::applyInner);
+    }
+
+    @Override
+    public final BiLinearTransform.Plan plan(int size) {
+        StructureAcceptance acceptance = this.dataSizeContract.acceptsSize(size);
+        if (!acceptance.isAcceptState()) {
+            throw acceptance.getException();
+        }
+
+        BinaryOperator<double[]> inner = this.planInner(size);
+
+        //準備の計算 (キャッシュの構築など) を, ここで済ませる
+        inner.apply(new double[size], new double[size]);
+
+        return new ScalingPlan(size, inner);
+    }
+
+    @Override
+    public final double[][] applyBatch(double[][] fBatch, double[][] gBatch) {
+        return this.applyBatch(fBatch, gBatch, false);
+    }
+
+    @Override
+    public final double[][] applyBatch(double[][] fBatch, double[][] gBatch, boolean parallel) {
+        final int count = fBatch.length;
+        if (count != gBatch.length) {
+            throw new DataSizeNotMismatchException("バッチの要素数が整合しない");
+        }
+        double[][] out = new double[count][];
+        if (count == 0) {
+            return out;
+        }
+
+        final int size = BatchSupport.commonSize(count, i -> fBatch[i].length);
+        if (BatchSupport.commonSize(count, i -> gBatch[i].length) != size) {
+            throw new DataSizeNotMismatchException("データサイズが整合しない");
+        }
+        StructureAcceptance acceptance = this.dataSizeContract.acceptsSize(size);
+        if (!acceptance.isAcceptState()) {
+            throw acceptance.getException();
+        }
+
+        //プランの構築(基底の計算など)をバッチ全体で1回にする
+        BinaryOperator<double[]> inner = this.planInner(size);
+        ParallelPolicy policy = this.parallelPolicy.whenRequested(parallel);
+        BatchSupport.forEach(count, size, policy, i -> out[i] = this.applyScaled(fBatch[i], gBatch[i], inner));
+        return out;
+    }
+
+    @Override
+    public final CompletableFuture<double[]> applyAsync(double[] f, double[] g) {
+        return this.applyAsync(f, g, AsyncSupport.defaultExecutor());
+    }
+
+    @Override
+    public final CompletableFuture<double[]> applyAsync(double[] f, double[] g, Executor executor) {
+        Objects.requireNonNull(f);
+        Objects.requireNonNull(g);
+        return AsyncSupport.supply(() -> this.apply(f, g), executor);
+    }
+
+    /**
+     * 新しい配列にスケーリングした写しを作り, 変換を実行して復元する.
+     */
+    private double[] applyScaled(double[] f, double[] g, BinaryOperator<double[]> inner) {
+        double[] out = new double[f.length];
+        this.applyScaledIntoWithScratch(f, g, out, inner);
+        return out;
+    }
+
+    /**
+     * 作業領域をスレッドの {@link ScratchArena} から借りて,
+     * {@link #applyScaledInto(double[], double[], double[], double[], BinaryOperator)} を実行する.
+     */
+    private void applyScaledIntoWithScratch(
+            double[] f, double[] g, double[] out, BinaryOperator<double[]> inner) {
+        ScratchArena arena = ScratchArena.current();
+        double[] work = arena.borrow(f.length);
+        try {
+            this.applyScaledInto(f, g, out, work, inner);
+        } finally {
+            arena.giveBack(work);
+        }
+    }
+
+    /**
+     * fのスケーリングした写しを出力に, gのスケーリングした写しを作業領域に作り,
+     * 変換を実行して出力上で復元する.
+     * 
+     * <p>
+     * 出力はfまたはgと同一の配列でもよい
+     * (ただし, 作業領域は入出力と異なる配列でなければならない).
+     * </p>
+     */
+    private void applyScaledInto(
+            double[] f, double[] g, double[] out, double[] work, BinaryOperator<double[]> inner) {
         int size = f.length;
 
-        double[] cloneF = f.clone();
-        double[] cloneG = g.clone();
-        double scaleF = this.arraysUtil.normMax(cloneF);
-        double scaleG = this.arraysUtil.normMax(cloneG);
+        double scaleF = this.arraysUtil.normMax(f);
+        double scaleG = this.arraysUtil.normMax(g);
 
         //不正な値が入っている場合,NaNで埋めてreturn
         if (!(Double.isFinite(scaleF) && Double.isFinite(scaleG))) {
-            //cloneFの配列を使いまわす
-            Arrays.fill(cloneF, Double.NaN);
-            return cloneF;
+            Arrays.fill(out, Double.NaN);
+            return;
         }
 
-        //スケールを正規化し,cloneF,Gをスケーリング
+        //スケールを正規化し,f,gをスケーリング
+        //出力がgと同一である場合に備え, gを先に作業領域に移す
         scaleF = scaleF == 0d ? 1d : scaleF;
         scaleG = scaleG == 0d ? 1d : scaleG;
         for (int j = 0; j < size; j++) {
-            cloneF[j] /= scaleF;
-            cloneG[j] /= scaleG;
+            work[j] = g[j] / scaleG;
+        }
+        for (int j = 0; j < size; j++) {
+            out[j] = f[j] / scaleF;
         }
 
-        double[] result = this.applyInner(cloneF, cloneG);
+        double[] result = inner.apply(out, work);
         double scaleFG = scaleF * scaleG;
         for (int j = 0; j < size; j++) {
-            result[j] *= scaleFG;
+            out[j] = result[j] * scaleFG;
         }
-
-        return result;
     }
 
     /**
@@ -130,6 +271,28 @@ public abstract class BiLinearByScalingStability implements BiLinearTransform {
      */
     protected abstract double[] applyInner(double[] f, double[] g);
 
+    /**
+     * {@link #plan(int)}から呼ばれる, サイズを固定した双線形変換を構築するメソッド. <br>
+     * 外部から呼ばれることを想定されていない.
+     * 
+     * <p>
+     * 戻り値の変換の契約は, {@link #applyInner(double[], double[])} に準拠する
+     * (引数のサイズは {@code size} であることが保証される). <br>
+     * 戻り値はスレッドセーフでなければならない.
+     * </p>
+     * 
+     * <p>
+     * サイズに依存する準備の計算を前もって行う場合は, このメソッドをオーバーライドする. <br>
+     * デフォルトでは, {@link #applyInner(double[], double[])} をそのまま返す.
+     * </p>
+     * 
+     * @param size 実数列のサイズ, acceptされていることが保証されている
+     * @return サイズを固定した双線形変換
+     */
+    protected BinaryOperator<double[]> planInner(int size) {
+        return this::applyInner;
+    }
+
     /**
      * このインスタンスの文字列表現を提供する.
      * 
@@ -143,4 +306,37 @@ public abstract class BiLinearByScalingStability implements BiLinearTransform {
     public String toString() {
         return "BiLinearTransform";
     }
+
+    /**
+     * スケーリングを伴う, サイズを固定したプラン.
+     */
+    private final class ScalingPlan implements BiLinearTransform.Plan {
+
+        private final int size;
+        private final BinaryOperator<double[]> inner;
+
+        ScalingPlan(int size, BinaryOperator<double[]> inner) {
+            this.size = size;
+            this.inner = inner;
+        }
+
+        @Override
+        public int size() {
+            return this.size;
+        }
+
+        @Override
+        public double[] execute(double[] f, double[] g) {
+            if (f.length != this.size || g.length != this.size) {
+                throw new DataSizeNotMismatchException("データサイズがプランと整合しない");
+            }
+            return BiLinearByScalingStability.this.applyScaled(f, g, this.inner);
+        }
+
+        @Override
+        public String toString() {
+            return String.format(
+                    "Plan(%s, size = %s)", BiLinearByScalingStability.this, this.size);
+        }
+    }
 }
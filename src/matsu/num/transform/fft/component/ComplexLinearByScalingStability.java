@@ -5,16 +5,20 @@
  * http://opensource.org/licenses/mit-license.php
  */
 /*
- * 2024.10.1
+ * 2025.10.13
  */
 package matsu.num.transform.fft.component;
 
 import java.util.Arrays;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.UnaryOperator;
 
 import matsu.num.transform.fft.ComplexLinearTransform;
 import matsu.num.transform.fft.dto.ComplexNumberArrayDTO;
 import matsu.num.transform.fft.lib.privatelib.ArraysUtil;
+import matsu.num.transform.fft.validation.DataSizeNotMismatchException;
 import matsu.num.transform.fft.validation.StructureAcceptance;
 
 /**
@@ -34,6 +38,11 @@ import matsu.num.transform.fft.validation.StructureAcceptance;
  * {@link DataSizeContract#acceptsSize(int)} と連動するように実装している.
  * </p>
  * 
+ * <p>
+ * {@link #plan(int)} も同様に実装しており, プランの実行時には
+ * {@link #planInner(int)} が返す変換に対して同じスケーリングと復元を行う.
+ * </p>
+ * 
  * @author Matsuura Y.
  */
 public abstract class ComplexLinearByScalingStability implements ComplexLinearTransform {
@@ -41,17 +50,32 @@ public abstract class ComplexLinearByScalingStability implements ComplexLinearTr
     protected final DataSizeContract dataSizeContract = new DataSizeContract();
 
     private final ArraysUtil arraysUtil;
+    private final ParallelPolicy parallelPolicy;
 
     /**
-     * 唯一のコンストラクタ.
+     * 並列実行の方針を {@link ParallelPolicy#SEQUENTIAL} として, インスタンスを構築する.
      * 
      * @param arraysUtil 配列ユーティリティ
      * @throws NullPointerException 引数にnullが含まれる場合
      */
     protected ComplexLinearByScalingStability(ArraysUtil arraysUtil) {
+        this(arraysUtil, ParallelPolicy.SEQUENTIAL);
+    }
+
+    /**
+     * 並列実行の方針を指定して, インスタンスを構築する. <br>
+     * バッチ変換で並列実行が要求された場合, この方針のプールと閾値が用いられる
+     * (詳細は {@link ParallelPolicy#whenRequested(boolean)} を参照).
+     * 
+     * @param arraysUtil 配列ユーティリティ
+     * @param parallelPolicy 並列実行の方針
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    protected ComplexLinearByScalingStability(ArraysUtil arraysUtil, ParallelPolicy parallelPolicy) {
         super();
 
         this.arraysUtil = Objects.requireNonNull(arraysUtil);
+        this.parallelPolicy = Objects.requireNonNull(parallelPolicy);
 
         this.dataSizeContract.bindRequiredSize(1);
     }
@@ -73,41 +97,156 @@ public abstract class ComplexLinearByScalingStability implements ComplexLinearTr
             throw acceptance.getException();
         }
 
-        int size = complexNumberArray.size;
+        return this.applyScaled(complexNumberArray, this::applyInner);
+    }
+
+    @Override
+    public final void applyInto(ComplexNumberArrayDTO complexNumberArray, ComplexNumberArrayDTO out) {
+        StructureAcceptance acceptance = this.accepts(complexNumberArray);
+        if (!acceptance.isAcceptState()) {
+            throw acceptance.getException();
+        }
+        if (out.size != complexNumberArray.size) {
+            throw new DataSizeNotMismatchException("出力のサイズが入力と整合しない");
+        }
+
+        this.applyScaledInto(complexNumberArray, out, this::applyInner);
+    }
+
+    @Override
+    public final void applyInPlace(ComplexNumberArrayDTO complexNumberArray) {
+        this.applyInto(complexNumberArray, complexNumberArray);
+    }
+
+    @Override
+    public final ComplexLinearTransform.Plan plan(int size) {
+        StructureAcceptance acceptance = this.dataSizeContract.acceptsSize(size);
+        if (!acceptance.isAcceptState()) {
+            throw acceptance.getException();
+        }
 
-        //データのクローン
-        ComplexNumberArrayDTO cloneData = ComplexNumberArrayDTO.zeroFilledOf(size);
-        System.arraycopy(complexNumberArray.realPart, 0, cloneData.realPart, 0, size);
-        System.arraycopy(complexNumberArray.imaginaryPart, 0, cloneData.imaginaryPart, 0, size);
+        UnaryOperator<ComplexNumberArrayDTO> inner = this.planInner(size);
 
-        double[] cloneRealPart = cloneData.realPart;
-        double[] cloneImaginaryPart = cloneData.imaginaryPart;
+        //準備の計算 (キャッシュの構築など) を, ここで済ませる
+        inner.apply(ComplexNumberArrayDTO.zeroFilledOf(size));
+
+        return new ScalingPlan(size, inner);
+    }
+
+    @Override
+    public final ComplexNumberArrayDTO[] applyBatch(ComplexNumberArrayDTO[] batch) {
+        return this.applyBatch(batch, false);
+    }
+
+    @Override
+    public final ComplexNumberArrayDTO[] applyBatch(ComplexNumberArrayDTO[] batch, boolean parallel) {
+        final int count = batch.length;
+        ComplexNumberArrayDTO[] out = new ComplexNumberArrayDTO[count];
+        if (count == 0) {
+            return out;
+        }
+
+        final int size = BatchSupport.commonSize(count, i -> batch[i].size);
+        StructureAcceptance acceptance = this.dataSizeContract.acceptsSize(size);
+        if (!acceptance.isAcceptState()) {
+            throw acceptance.getException();
+        }
+
+        //プランの構築(基底の計算など)をバッチ全体で1回にする
+        UnaryOperator<ComplexNumberArrayDTO> inner = this.planInner(size);
+        ParallelPolicy policy = this.parallelPolicy.whenRequested(parallel);
+        BatchSupport.forEach(count, size, policy, i -> out[i] = this.applyScaled(batch[i], inner));
+        return out;
+    }
+
+    @Override
+    public final ComplexNumberArrayDTO[] applyRealBatch(double[][] batch) {
+        return this.applyRealBatch(batch, false);
+    }
+
+    @Override
+    public final ComplexNumberArrayDTO[] applyRealBatch(double[][] batch, boolean parallel) {
+        final int count = batch.length;
+        ComplexNumberArrayDTO[] out = new ComplexNumberArrayDTO[count];
+        if (count == 0) {
+            return out;
+        }
+
+        final int size = BatchSupport.commonSize(count, i -> batch[i].length);
+        StructureAcceptance acceptance = this.dataSizeContract.acceptsSize(size);
+        if (!acceptance.isAcceptState()) {
+            throw acceptance.getException();
+        }
+
+        UnaryOperator<ComplexNumberArrayDTO> inner = this.planInner(size);
+        ParallelPolicy policy = this.parallelPolicy.whenRequested(parallel);
+        BatchSupport.forEach(count, size, policy, i -> {
+            ComplexNumberArrayDTO complexNumberArray = ComplexNumberArrayDTO.zeroFilledOf(size);
+            System.arraycopy(batch[i], 0, complexNumberArray.realPart, 0, size);
+            out[i] = this.applyScaled(complexNumberArray, inner);
+        });
+        return out;
+    }
+
+    @Override
+    public final CompletableFuture<ComplexNumberArrayDTO> applyAsync(ComplexNumberArrayDTO complexNumberArray) {
+        return this.applyAsync(complexNumberArray, AsyncSupport.defaultExecutor());
+    }
+
+    @Override
+    public final CompletableFuture<ComplexNumberArrayDTO> applyAsync(ComplexNumberArrayDTO complexNumberArray, Executor executor) {
+        Objects.requireNonNull(complexNumberArray);
+        return AsyncSupport.supply(() -> this.apply(complexNumberArray), executor);
+    }
+
+    /**
+     * 新しい配列にスケーリングした写しを作り, 変換を実行して復元する.
+     */
+    private ComplexNumberArrayDTO applyScaled(
+            ComplexNumberArrayDTO complexNumberArray, UnaryOperator<ComplexNumberArrayDTO> inner) {
+        ComplexNumberArrayDTO out = ComplexNumberArrayDTO.zeroFilledOf(complexNumberArray.size);
+        this.applyScaledInto(complexNumberArray, out, inner);
+        return out;
+    }
+
+    /**
+     * 出力にスケーリングした写しを作り, 変換を実行して復元する. <br>
+     * 入力と出力は同一のインスタンスでもよい.
+     */
+    private void applyScaledInto(
+            ComplexNumberArrayDTO complexNumberArray, ComplexNumberArrayDTO out,
+            UnaryOperator<ComplexNumberArrayDTO> inner) {
+        int size = complexNumberArray.size;
+
+        double[] realPart = complexNumberArray.realPart;
+        double[] imaginaryPart = complexNumberArray.imaginaryPart;
+        double[] outRealPart = out.realPart;
+        double[] outImaginaryPart = out.imaginaryPart;
 
         double scale = Math.max(
-                this.arraysUtil.normMax(cloneRealPart), this.arraysUtil.normMax(cloneImaginaryPart));
+                this.arraysUtil.normMax(realPart), this.arraysUtil.normMax(imaginaryPart));
 
         //不正な値が入っている場合はNaNにしてreturn
         if (!Double.isFinite(scale)) {
-            Arrays.fill(cloneRealPart, Double.NaN);
-            Arrays.fill(cloneImaginaryPart, Double.NaN);
-            return cloneData;
+            Arrays.fill(outRealPart, Double.NaN);
+            Arrays.fill(outImaginaryPart, Double.NaN);
+            return;
         }
         //スケールを正規化し, dataをスケーリング
         scale = scale == 0d ? 1d : scale;
         for (int j = 0; j < size; j++) {
-            cloneRealPart[j] /= scale;
-            cloneImaginaryPart[j] /= scale;
+            outRealPart[j] = realPart[j] / scale;
+            outImaginaryPart[j] = imaginaryPart[j] / scale;
         }
 
-        ComplexNumberArrayDTO out = this.applyInner(cloneData);
-        double[] outRealPart = out.realPart;
-        double[] outImaginaryPart = out.imaginaryPart;
+        //変換は出力上で行われることが多いが, 別のインスタンスが返された場合は書き戻す
+        ComplexNumberArrayDTO result = inner.apply(out);
+        double[] resultRealPart = result.realPart;
+        double[] resultImaginaryPart = result.imaginaryPart;
         for (int k = 0; k < size; k++) {
-            outRealPart[k] *= scale;
-            outImaginaryPart[k] *= scale;
+            outRealPart[k] = resultRealPart[k] * scale;
+            outImaginaryPart[k] = resultImaginaryPart[k] * scale;
         }
-
-        return out;
     }
 
     @Override
@@ -122,6 +261,22 @@ public abstract class ComplexLinearByScalingStability implements ComplexLinearTr
         return this.apply(complexNumberArray);
     }
 
+    @Override
+    public final void applyRealInto(double[] realNumberData, ComplexNumberArrayDTO out) {
+        StructureAcceptance acceptance = this.acceptsReal(realNumberData);
+        if (!acceptance.isAcceptState()) {
+            throw acceptance.getException();
+        }
+        if (out.size != realNumberData.length) {
+            throw new DataSizeNotMismatchException("出力のサイズが入力と整合しない");
+        }
+
+        //出力を入力として, その上で変換する
+        System.arraycopy(realNumberData, 0, out.realPart, 0, realNumberData.length);
+        Arrays.fill(out.imaginaryPart, 0d);
+        this.applyScaledInto(out, out, this::applyInner);
+    }
+
     /**
      * {@link #apply(ComplexNumberArrayDTO)}から呼ばれる, 線形変換を実行する抽象メソッド. <br>
      * 外部から呼ばれることを想定されていない.
@@ -148,6 +303,28 @@ public abstract class ComplexLinearByScalingStability implements ComplexLinearTr
      */
     protected abstract ComplexNumberArrayDTO applyInner(ComplexNumberArrayDTO complexNumberArray);
 
+    /**
+     * {@link #plan(int)}から呼ばれる, サイズを固定した線形変換を構築するメソッド. <br>
+     * 外部から呼ばれることを想定されていない.
+     * 
+     * <p>
+     * 戻り値の変換の契約は, {@link #applyInner(ComplexNumberArrayDTO)} に準拠する
+     * (引数のサイズは {@code size} であることが保証される). <br>
+     * 戻り値はスレッドセーフでなければならない.
+     * </p>
+     * 
+     * <p>
+     * サイズに依存する準備の計算を前もって行う場合は, このメソッドをオーバーライドする. <br>
+     * デフォルトでは, {@link #applyInner(ComplexNumberArrayDTO)} をそのまま返す.
+     * </p>
+     * 
+     * @param size 複素数列のサイズ, acceptされていることが保証されている
+     * @return サイズを固定した線形変換
+     */
+    protected UnaryOperator<ComplexNumberArrayDTO> planInner(int size) {
+        return this::applyInner;
+    }
+
     /**
      * このインスタンスの文字列表現を提供する.
      * 
@@ -162,4 +339,47 @@ public abstract class ComplexLinearByScalingStability implements ComplexLinearTr
         return "ComplexLinearTransform";
     }
 
+    /**
+     * スケーリングを伴う, サイズを固定したプラン.
+     */
+    private final class ScalingPlan implements ComplexLinearTransform.Plan {
+
+        private final int size;
+        private final UnaryOperator<ComplexNumberArrayDTO> inner;
+
+        ScalingPlan(int size, UnaryOperator<ComplexNumberArrayDTO> inner) {
+            this.size = size;
+            this.inner = inner;
+        }
+
+        @Override
+        public int size() {
+            return this.size;
+        }
+
+        @Override
+        public ComplexNumberArrayDTO execute(ComplexNumberArrayDTO complexNumberArray) {
+            if (complexNumberArray.size != this.size) {
+                throw new DataSizeNotMismatchException("データサイズがプランと整合しない");
+            }
+            return ComplexLinearByScalingStability.this.applyScaled(complexNumberArray, this.inner);
+        }
+
+        @Override
+        public ComplexNumberArrayDTO executeReal(double[] realNumberData) {
+            if (realNumberData.length != this.size) {
+                throw new DataSizeNotMismatchException("データサイズがプランと整合しない");
+            }
+
+            ComplexNumberArrayDTO complexNumberArray = ComplexNumberArrayDTO.zeroFilledOf(this.size);
+            System.arraycopy(realNumberData, 0, complexNumberArray.realPart, 0, this.size);
+            return this.execute(complexNumberArray);
+        }
+
+        @Override
+        public String toString() {
+            return String.format(
+                    "Plan(%s, size = %s)", ComplexLinearByScalingStability.this, this.size);
+        }
+    }
 }
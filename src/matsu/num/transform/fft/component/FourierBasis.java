@@ -5,7 +5,7 @@
  * http://opensource.org/licenses/mit-license.php
  */
 /*
- * 2024.4.4
+ * 2025.10.1
  */
 package matsu.num.transform.fft.component;
 
@@ -30,18 +30,29 @@ package matsu.num.transform.fft.component;
 public final class FourierBasis {
 
     private final int sequenceSize;
-    private final ComplexNumber[] values;
+
+    /*
+     * 基底の値は, サポート標本サイズに対する全体の値を共有し,
+     * 間引き幅 stride により参照する.
+     */
+    private final double[] realValues;
+    private final double[] imaginaryValues;
+    private final int stride;
 
     /**
      * 
      */
-    FourierBasis(int sequenceNumber, ComplexNumber[] values, FourierType type) {
+    FourierBasis(int sequenceNumber, double[] realValues, double[] imaginaryValues, int stride) {
 
         this.sequenceSize = sequenceNumber;
-        this.values = values;
+        this.realValues = realValues;
+        this.imaginaryValues = imaginaryValues;
+        this.stride = stride;
 
         assert this.sequenceSize >= 1;
-        assert this.values.length == this.sequenceSize;
+        assert this.stride >= 1;
+        assert this.realValues.length == this.imaginaryValues.length;
+        assert (long) this.sequenceSize * this.stride == this.realValues.length;
 
     }
 
@@ -58,14 +69,46 @@ public final class FourierBasis {
      * @throws ArrayIndexOutOfBoundsException indexが0以上N-1以下でない場合
      */
     public final ComplexNumber valueAt(int index) {
-        return this.values[index];
+        return ComplexNumber.of(this.realAt(index), this.imaginaryAt(index));
+    }
+
+    /**
+     * 基底の実部を返す.
+     * 
+     * @param index index
+     * @return 実部
+     * @throws ArrayIndexOutOfBoundsException indexが0以上N-1以下でない場合
+     */
+    public final double realAt(int index) {
+        if (index < 0 || index >= this.sequenceSize) {
+            throw new ArrayIndexOutOfBoundsException(index);
+        }
+        return this.realValues[index * this.stride];
+    }
+
+    /**
+     * 基底の虚部を返す.
+     * 
+     * @param index index
+     * @return 虚部
+     * @throws ArrayIndexOutOfBoundsException indexが0以上N-1以下でない場合
+     */
+    public final double imaginaryAt(int index) {
+        if (index < 0 || index >= this.sequenceSize) {
+            throw new ArrayIndexOutOfBoundsException(index);
+        }
+        return this.imaginaryValues[index * this.stride];
     }
 
     /**
      * @return 複素数
      */
     public final ComplexNumber[] toArray() {
-        return this.values.clone();
+        ComplexNumber[] out = new ComplexNumber[this.sequenceSize];
+        for (int j = 0; j < this.sequenceSize; j++) {
+            out[j] = this.valueAt(j);
+        }
+        return out;
     }
 
 }
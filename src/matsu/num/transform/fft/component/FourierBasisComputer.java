@@ -5,10 +5,12 @@
  * http://opensource.org/licenses/mit-license.php
  */
 /*
- * 2024.4.4
+ * 2025.10.13
  */
 package matsu.num.transform.fft.component;
 
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
@@ -56,7 +58,8 @@ public final class FourierBasisComputer {
     private final Trigonometry trigonometry;
 
     private final int supportedSequenceSize;
-    private final ComplexNumber[] values;
+    private final double[] realValues;
+    private final double[] imaginaryValues;
 
     private final Map<Integer, FourierBasis> basisCache;
 
@@ -74,7 +77,8 @@ public final class FourierBasisComputer {
         this.type = type;
         this.trigonometry = trigonometry;
         this.supportedSequenceSize = supportedSequenceSize;
-        this.values = new ComplexNumber[supportedSequenceSize];
+        this.realValues = new double[supportedSequenceSize];
+        this.imaginaryValues = new double[supportedSequenceSize];
         this.basisCache = new ConcurrentHashMap<>();
 
         this.computeFullBasis();
@@ -83,10 +87,20 @@ public final class FourierBasisComputer {
     private void computeFullBasis() {
         for (int j = 0; j < this.supportedSequenceSize; j++) {
             double argByPi = this.type.argByPi(this.supportedSequenceSize, j);
-            this.values[j] = ComplexNumber.of(this.trigonometry.cospi(argByPi), this.trigonometry.sinpi(argByPi));
+            this.realValues[j] = this.trigonometry.cospi(argByPi);
+            this.imaginaryValues[j] = this.trigonometry.sinpi(argByPi);
         }
     }
 
+    /**
+     * この生成器が扱う基底のタイプを返す.
+     * 
+     * @return タイプ
+     */
+    public FourierType type() {
+        return this.type;
+    }
+
     /**
      * 指定した標本サイズがサポートされているかを判定する.
      * 
@@ -135,39 +149,120 @@ public final class FourierBasisComputer {
         }
     }
 
+    /**
+     * 基底の値の保持に使われるおおよそのバイト数を返す.
+     * 
+     * @return バイト数
+     */
+    long byteSize() {
+        //実部と虚部のdouble配列
+        return 2L * Double.BYTES * this.supportedSequenceSize;
+    }
+
     private FourierBasis computeBasis(int sequenceSize) {
 
         int thinning = this.supportedSequenceSize / sequenceSize;
 
-        ComplexNumber[] sub = new ComplexNumber[sequenceSize];
-        for (int j = 0, jd = 0; j < sequenceSize; j++) {
-            sub[j] = this.values[jd];
-            jd += thinning;
-        }
-
-        return new FourierBasis(sequenceSize, sub, type);
+        //全体の値を共有し, 間引きは参照時に行う
+        return new FourierBasis(sequenceSize, this.realValues, this.imaginaryValues, thinning);
     }
 
     /**
      * {@link FourierBasisComputer} のサプライヤ.
+     * 
+     * <p>
+     * 生成器の構築には, サポート標本サイズに比例した回数の三角関数の評価が必要である. <br>
+     * そこで, サプライヤは構築した生成器を (サポート標本サイズ, タイプ) をキーとしてキャッシュし,
+     * 同一キーに対する {@link #covering(int, FourierType)} の呼び出しで再利用する.
+     * </p>
+     * 
+     * <p>
+     * キャッシュは次の2つの上限を持ち,
+     * いずれかを超える場合は最も長く使われていない (LRU) ものから破棄される.
+     * </p>
+     * 
+     * <ul>
+     * <li>保持する生成器の個数</li>
+     * <li>生成器が保持する基底の値の総バイト数</li>
+     * </ul>
+     * 
+     * <p>
+     * 単独でバイト数の上限を超える生成器はキャッシュされない. <br>
+     * 個数の上限を0とすると, キャッシュは無効になる.
+     * </p>
+     * 
+     * <p>
+     * 公開された全ての振る舞いはスレッドセーフである.
+     * </p>
      */
     public static final class Supplier {
 
+        /**
+         * キャッシュする生成器の個数の上限のデフォルト値.
+         */
+        public static final int DEFAULT_MAX_CACHED_COMPUTERS = 16;
+
+        /**
+         * キャッシュする基底の値の総バイト数の上限のデフォルト値: 2<sup>26</sup> (64MiB).
+         */
+        public static final long DEFAULT_MAX_CACHED_BYTES = 1L << 26;
+
         private final Trigonometry trigonometry;
 
+        private final int maxCachedComputers;
+        private final long maxCachedBytes;
+
+        /*
+         * アクセス順のLinkedHashMapによりLRUを実現する.
+         * 読み出しでも順序が変わるため, 全てのアクセスはlockで保護する.
+         */
+        private final LinkedHashMap<CacheKey, FourierBasisComputer> cache;
+        private long cachedBytes;
+
+        //排他処理用ロックオブジェクト
+        private final Object lock = new Object();
+
         /**
+         * デフォルトのキャッシュ上限を持つサプライヤを構築する.
          * 
          * @param trigonometry 三角関数ライブラリ
          * @throws NullPointerException 引数にnullが含まれる場合
          */
         public Supplier(Trigonometry trigonometry) {
+            this(trigonometry, DEFAULT_MAX_CACHED_COMPUTERS, DEFAULT_MAX_CACHED_BYTES);
+        }
+
+        /**
+         * キャッシュ上限を指定してサプライヤを構築する.
+         * 
+         * @param trigonometry 三角関数ライブラリ
+         * @param maxCachedComputers キャッシュする生成器の個数の上限
+         * @param maxCachedBytes キャッシュする基底の値の総バイト数の上限
+         * @throws IllegalArgumentException 上限が0以上でない場合
+         * @throws NullPointerException 引数にnullが含まれる場合
+         */
+        public Supplier(Trigonometry trigonometry, int maxCachedComputers, long maxCachedBytes) {
             super();
+            if (maxCachedComputers < 0) {
+                throw new IllegalArgumentException("キャッシュ個数の上限が0以上でない");
+            }
+            if (maxCachedBytes < 0) {
+                throw new IllegalArgumentException("キャッシュバイト数の上限が0以上でない");
+            }
             this.trigonometry = Objects.requireNonNull(trigonometry);
+            this.maxCachedComputers = maxCachedComputers;
+            this.maxCachedBytes = maxCachedBytes;
+            this.cache = new LinkedHashMap<>(16, 0.75f, true);
+            this.cachedBytes = 0L;
         }
 
         /**
          * 与えたサポート標本サイズをカバーする生成器を返す.
          * 
+         * <p>
+         * キャッシュに該当する生成器があれば, それを返す.
+         * </p>
+         * 
          * @param supportedSequenceSize サポート標本サイズ
          * @param type タイプ
          * @return 生成器
@@ -181,10 +276,82 @@ public final class FourierBasisComputer {
             if (supportedSequenceSize > FourierBasisComputer.MAX_SUPPORTED_SEQUENCE_SIZE) {
                 throw new IllegalArgumentException("サポート標本サイズが大きすぎる");
             }
+            Objects.requireNonNull(type);
 
-            return new FourierBasisComputer(
-                    supportedSequenceSize, Objects.requireNonNull(type), this.trigonometry);
+            CacheKey key = new CacheKey(supportedSequenceSize, type);
+            synchronized (this.lock) {
+                FourierBasisComputer out = this.cache.get(key);
+                if (Objects.nonNull(out)) {
+                    return out;
+                }
+            }
+
+            //生成器の構築は重いので, ロックの外で行う
+            //同一キーに対して競合した場合は, 先にキャッシュされたものを採用する
+            FourierBasisComputer created =
+                    new FourierBasisComputer(supportedSequenceSize, type, this.trigonometry);
+            synchronized (this.lock) {
+                FourierBasisComputer out = this.cache.get(key);
+                if (Objects.nonNull(out)) {
+                    return out;
+                }
+                this.putAndEvict(key, created);
+                return created;
+            }
         }
 
+        /**
+         * キャッシュに追加し, 上限を超えた分を破棄する. <br>
+         * ロックを取得した状態で呼ばれなければならない.
+         */
+        private void putAndEvict(CacheKey key, FourierBasisComputer computer) {
+            long bytes = computer.byteSize();
+            if (this.maxCachedComputers == 0 || bytes > this.maxCachedBytes) {
+                return;
+            }
+
+            this.cache.put(key, computer);
+            this.cachedBytes += bytes;
+
+            //アクセス順の先頭が最も長く使われていない
+            Iterator<FourierBasisComputer> ite = this.cache.values().iterator();
+            while (this.cache.size() > this.maxCachedComputers || this.cachedBytes > this.maxCachedBytes) {
+                FourierBasisComputer eldest = ite.next();
+                ite.remove();
+                this.cachedBytes -= eldest.byteSize();
+            }
+        }
+
+        /**
+         * キャッシュのキー.
+         */
+        private static final class CacheKey {
+
+            private final int supportedSequenceSize;
+            private final FourierType type;
+
+            CacheKey(int supportedSequenceSize, FourierType type) {
+                this.supportedSequenceSize = supportedSequenceSize;
+                this.type = type;
+            }
+
+            @Override
+            public boolean equals(Object obj) {
+                if (this == obj) {
+                    return true;
+                }
+                if (!(obj instanceof CacheKey)) {
+                    return false;
+                }
+                CacheKey target = (CacheKey) obj;
+                return this.supportedSequenceSize == target.supportedSequenceSize
+                        && this.type == target.type;
+            }
+
+            @Override
+            public int hashCode() {
+                return 31 * this.supportedSequenceSize + this.type.hashCode();
+            }
+        }
     }
 }
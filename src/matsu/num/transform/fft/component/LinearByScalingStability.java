@@ -5,15 +5,19 @@
  * http://opensource.org/licenses/mit-license.php
  */
 /*
- * 2024.10.26
+ * 2025.10.13
  */
 package matsu.num.transform.fft.component;
 
 import java.util.Arrays;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.UnaryOperator;
 
 import matsu.num.transform.fft.LinearTransform;
 import matsu.num.transform.fft.lib.privatelib.ArraysUtil;
+import matsu.num.transform.fft.validation.DataSizeNotMismatchException;
 import matsu.num.transform.fft.validation.StructureAcceptance;
 
 /**
@@ -28,6 +32,11 @@ import matsu.num.transform.fft.validation.StructureAcceptance;
  * (詳細はメソッド説明を参照).
  * </p>
  * 
+ * <p>
+ * {@link #plan(int)} も同様に実装しており, プランの実行時には
+ * {@link #planInner(int)} が返す変換に対して同じスケーリングと復元を行う.
+ * </p>
+ * 
  * @author Matsuura Y.
  */
 public abstract class LinearByScalingStability implements LinearTransform {
@@ -35,17 +44,32 @@ public abstract class LinearByScalingStability implements LinearTransform {
     protected final DataSizeContract dataSizeContract = new DataSizeContract();
 
     private final ArraysUtil arraysUtil;
+    private final ParallelPolicy parallelPolicy;
 
     /**
-     * 唯一のコンストラクタ.
+     * 並列実行の方針を {@link ParallelPolicy#SEQUENTIAL} として, インスタンスを構築する.
      * 
      * @param arraysUtil 配列ユーティリティ
      * @throws NullPointerException 引数にnullが含まれる場合
      */
     protected LinearByScalingStability(ArraysUtil arraysUtil) {
+        this(arraysUtil, ParallelPolicy.SEQUENTIAL);
+    }
+
+    /**
+     * 並列実行の方針を指定して, インスタンスを構築する. <br>
+     * バッチ変換で並列実行が要求された場合, この方針のプールと閾値が用いられる
+     * (詳細は {@link ParallelPolicy#whenRequested(boolean)} を参照).
+     * 
+     * @param arraysUtil 配列ユーティリティ
+     * @param parallelPolicy 並列実行の方針
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    protected LinearByScalingStability(ArraysUtil arraysUtil, ParallelPolicy parallelPolicy) {
         super();
 
         this.arraysUtil = Objects.requireNonNull(arraysUtil);
+        this.parallelPolicy = Objects.requireNonNull(parallelPolicy);
         this.dataSizeContract.bindRequiredSize(1);
     }
 
@@ -61,28 +85,112 @@ public abstract class LinearByScalingStability implements LinearTransform {
             throw acceptance.getException();
         }
 
-        double[] cloneData = data.clone();
-        int size = cloneData.length;
-        double scale = this.arraysUtil.normMax(cloneData);
+        return this.applyScaled(data, this::applyInner);
+    }
+
+    @Override
+    public final void applyInto(double[] data, double[] out) {
+        StructureAcceptance acceptance = this.accepts(data);
+        if (!acceptance.isAcceptState()) {
+            throw acceptance.getException();
+        }
+        if (out.length != data.length) {
+            throw new DataSizeNotMismatchException("出力のサイズが入力と整合しない");
+        }
+
+        this.applyScaledInto(data, out, this::applyInner);
+    }
+
+    @Override
+    public final void applyInPlace(double[] data) {
+        this.applyInto(data, data);
+    }
+
+    @Override
+    public final LinearTransform.Plan plan(int size) {
+        StructureAcceptance acceptance = this.dataSizeContract.acceptsSize(size);
+        if (!acceptance.isAcceptState()) {
+            throw acceptance.getException();
+        }
+
+        UnaryOperator<double[]> inner = this.planInner(size);
+
+        //準備の計算 (キャッシュの構築など) を, ここで済ませる
+        inner.apply(new double[size]);
+
+        return new ScalingPlan(size, inner);
+    }
+
+    @Override
+    public final double[][] applyBatch(double[][] batch) {
+        return this.applyBatch(batch, false);
+    }
+
+    @Override
+    public final double[][] applyBatch(double[][] batch, boolean parallel) {
+        final int count = batch.length;
+        double[][] out = new double[count][];
+        if (count == 0) {
+            return out;
+        }
+
+        final int size = BatchSupport.commonSize(count, i -> batch[i].length);
+        StructureAcceptance acceptance = this.dataSizeContract.acceptsSize(size);
+        if (!acceptance.isAcceptState()) {
+            throw acceptance.getException();
+        }
+
+        //プランの構築(基底の計算など)をバッチ全体で1回にする
+        UnaryOperator<double[]> inner = this.planInner(size);
+        ParallelPolicy policy = this.parallelPolicy.whenRequested(parallel);
+        BatchSupport.forEach(count, size, policy, i -> out[i] = this.applyScaled(batch[i], inner));
+        return out;
+    }
+
+    @Override
+    public final CompletableFuture<double[]> applyAsync(double[] data) {
+        return this.applyAsync(data, AsyncSupport.defaultExecutor());
+    }
+
+    @Override
+    public final CompletableFuture<double[]> applyAsync(double[] data, Executor executor) {
+        Objects.requireNonNull(data);
+        return AsyncSupport.supply(() -> this.apply(data), executor);
+    }
+
+    /**
+     * 新しい配列にスケーリングした写しを作り, 変換を実行して復元する.
+     */
+    private double[] applyScaled(double[] data, UnaryOperator<double[]> inner) {
+        double[] out = new double[data.length];
+        this.applyScaledInto(data, out, inner);
+        return out;
+    }
+
+    /**
+     * 出力配列にスケーリングした写しを作り, 変換を実行して復元する. <br>
+     * 入力と出力は同一の配列でもよい.
+     */
+    private void applyScaledInto(double[] data, double[] out, UnaryOperator<double[]> inner) {
+        int size = data.length;
+        double scale = this.arraysUtil.normMax(data);
 
         //不正な値が入っている場合はNaNにしてreturn
         if (!Double.isFinite(scale)) {
-            //cloneData配列を使いまわす
-            Arrays.fill(cloneData, Double.NaN);
-            return cloneData;
+            Arrays.fill(out, Double.NaN);
+            return;
         }
         //スケールを正規化し, dataをスケーリング
         scale = scale == 0d ? 1d : scale;
         for (int j = 0; j < size; j++) {
-            cloneData[j] /= scale;
+            out[j] = data[j] / scale;
         }
 
-        double[] out = this.applyInner(cloneData);
+        //変換は出力配列上で行われることが多いが, 別の配列が返された場合は書き戻す
+        double[] result = inner.apply(out);
         for (int k = 0; k < size; k++) {
-            out[k] *= scale;
+            out[k] = result[k] * scale;
         }
-
-        return out;
     }
 
     /**
@@ -111,6 +219,28 @@ public abstract class LinearByScalingStability implements LinearTransform {
      */
     protected abstract double[] applyInner(double[] data);
 
+    /**
+     * {@link #plan(int)}から呼ばれる, サイズを固定した線形変換を構築するメソッド. <br>
+     * 外部から呼ばれることを想定されていない.
+     * 
+     * <p>
+     * 戻り値の変換の契約は, {@link #applyInner(double[])} に準拠する
+     * (引数のサイズは {@code size} であることが保証される). <br>
+     * 戻り値はスレッドセーフでなければならない.
+     * </p>
+     * 
+     * <p>
+     * サイズに依存する準備の計算を前もって行う場合は, このメソッドをオーバーライドする. <br>
+     * デフォルトでは, {@link #applyInner(double[])} をそのまま返す.
+     * </p>
+     * 
+     * @param size 実数列のサイズ, acceptされていることが保証されている
+     * @return サイズを固定した線形変換
+     */
+    protected UnaryOperator<double[]> planInner(int size) {
+        return this::applyInner;
+    }
+
     /**
      * このインスタンスの文字列表現を提供する.
      * 
@@ -124,4 +254,37 @@ public abstract class LinearByScalingStability implements LinearTransform {
     public String toString() {
         return "LinearTransform";
     }
+
+    /**
+     * スケーリングを伴う, サイズを固定したプラン.
+     */
+    private final class ScalingPlan implements LinearTransform.Plan {
+
+        private final int size;
+        private final UnaryOperator<double[]> inner;
+
+        ScalingPlan(int size, UnaryOperator<double[]> inner) {
+            this.size = size;
+            this.inner = inner;
+        }
+
+        @Override
+        public int size() {
+            return this.size;
+        }
+
+        @Override
+        public double[] execute(double[] data) {
+            if (data.length != this.size) {
+                throw new DataSizeNotMismatchException("データサイズがプランと整合しない");
+            }
+            return LinearByScalingStability.this.applyScaled(data, this.inner);
+        }
+
+        @Override
+        public String toString() {
+            return String.format(
+                    "Plan(%s, size = %s)", LinearByScalingStability.this, this.size);
+        }
+    }
 }
@@ -0,0 +1,146 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2025.10.13
+ */
+package matsu.num.transform.fft.component;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+import matsu.num.transform.fft.MultiDimComplexLinearTransform;
+import matsu.num.transform.fft.dto.ComplexNumberArrayDTO;
+import matsu.num.transform.fft.lib.privatelib.ArraysUtil;
+import matsu.num.transform.fft.validation.StructureAcceptance;
+
+/**
+ * 複素数の多次元配列の分離可能な線形変換において,
+ * 配列全体のスケーリングによる前処理, 後処理によって計算安定性を高めた抽象クラス.
+ * 
+ * <p>
+ * この抽象クラスで {@link #apply(ComplexNumberArrayDTO, int[], boolean)} メソッドを実装しており,
+ * 引数のacceptチェック, スケーリングと復元を配列全体で1回だけ行い,
+ * 各軸に沿ったラインの変換を {@link AxisLineTraversal} により実行する. <br>
+ * 不正値(inf, NaN)が混入している場合は{@code Double#NaN}で埋めてreturnされる. <br>
+ * このクラスの継承先では, 1次元の変換器を返す {@link #planLine(int)} を実装すればよい.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+public abstract class MultiDimComplexLinearByScalingStability implements MultiDimComplexLinearTransform {
+
+    private final ShapeContract shapeContract;
+    private final ArraysUtil arraysUtil;
+    private final ParallelPolicy parallelPolicy;
+
+    /**
+     * 並列実行の方針を {@link ParallelPolicy#SEQUENTIAL} として, インスタンスを構築する.
+     * 
+     * @param arraysUtil 配列ユーティリティ
+     * @param upperLimitSize 全要素数の上限
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    protected MultiDimComplexLinearByScalingStability(ArraysUtil arraysUtil, int upperLimitSize) {
+        this(arraysUtil, upperLimitSize, ParallelPolicy.SEQUENTIAL);
+    }
+
+    /**
+     * 並列実行の方針を指定して, インスタンスを構築する. <br>
+     * 多次元変換で並列実行が要求された場合, この方針のプールと閾値が用いられる
+     * (詳細は {@link ParallelPolicy#whenRequested(boolean)} を参照).
+     * 
+     * @param arraysUtil 配列ユーティリティ
+     * @param upperLimitSize 全要素数の上限
+     * @param parallelPolicy 並列実行の方針
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    protected MultiDimComplexLinearByScalingStability(ArraysUtil arraysUtil, int upperLimitSize, ParallelPolicy parallelPolicy) {
+        super();
+
+        this.arraysUtil = Objects.requireNonNull(arraysUtil);
+        this.parallelPolicy = Objects.requireNonNull(parallelPolicy);
+        this.shapeContract = new ShapeContract(upperLimitSize);
+    }
+
+    @Override
+    public final StructureAcceptance accepts(ComplexNumberArrayDTO complexNumberArray, int[] shape) {
+        return this.shapeContract.acceptsShape(shape, complexNumberArray.size);
+    }
+
+    @Override
+    public final ComplexNumberArrayDTO apply(ComplexNumberArrayDTO complexNumberArray, int[] shape) {
+        return this.apply(complexNumberArray, shape, false);
+    }
+
+    @Override
+    public final ComplexNumberArrayDTO apply(
+            ComplexNumberArrayDTO complexNumberArray, int[] shape, boolean parallel) {
+        //変換中に書き換えられないように, 形状をコピーしてから検証する
+        final int[] copyShape = shape.clone();
+        StructureAcceptance acceptance = this.accepts(complexNumberArray, copyShape);
+        if (!acceptance.isAcceptState()) {
+            throw acceptance.getException();
+        }
+
+        final int size = complexNumberArray.size;
+        ComplexNumberArrayDTO out = ComplexNumberArrayDTO.zeroFilledOf(size);
+        double[] outRealPart = out.realPart;
+        double[] outImaginaryPart = out.imaginaryPart;
+
+        double scale = Math.max(
+                this.arraysUtil.normMax(complexNumberArray.realPart),
+                this.arraysUtil.normMax(complexNumberArray.imaginaryPart));
+
+        //不正な値が入っている場合はNaNにしてreturn
+        if (!Double.isFinite(scale)) {
+            Arrays.fill(outRealPart, Double.NaN);
+            Arrays.fill(outImaginaryPart, Double.NaN);
+            return out;
+        }
+        //スケールを正規化し, 配列全体を1回だけスケーリング
+        scale = scale == 0d ? 1d : scale;
+        for (int j = 0; j < size; j++) {
+            outRealPart[j] = complexNumberArray.realPart[j] / scale;
+            outImaginaryPart[j] = complexNumberArray.imaginaryPart[j] / scale;
+        }
+
+        //同じ長さの軸ではラインの変換器を共有する
+        Map<Integer, Supplier<? extends BiConsumer<double[], double[]>>> lines = new HashMap<>();
+        ParallelPolicy policy = this.parallelPolicy.whenRequested(parallel);
+        for (int axis = 0; axis < copyShape.length; axis++) {
+            AxisLineTraversal.transformComplex(
+                    outRealPart, outImaginaryPart, copyShape, axis, policy,
+                    lines.computeIfAbsent(copyShape[axis], this::planLine));
+        }
+
+        for (int k = 0; k < size; k++) {
+            outRealPart[k] *= scale;
+            outImaginaryPart[k] *= scale;
+        }
+        return out;
+    }
+
+    /**
+     * {@link #apply(ComplexNumberArrayDTO, int[], boolean)}から呼ばれる,
+     * 長さを固定した1次元の変換器のサプライヤを構築するメソッド. <br>
+     * 外部から呼ばれることを想定されていない.
+     * 
+     * <p>
+     * 変換器は実部配列と虚部配列を受け取り, 結果で上書きする. <br>
+     * サプライヤはタスクごとに呼ばれるので, 変換器は作業用配列を保持してよい. <br>
+     * サプライヤはスレッドセーフでなければならない.
+     * </p>
+     * 
+     * @param length ラインの長さ, acceptされていることが保証されている
+     * @return 変換器のサプライヤ
+     */
+    protected abstract Supplier<? extends BiConsumer<double[], double[]>> planLine(int length);
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2025.10.13
+ */
+package matsu.num.transform.fft.component;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+import matsu.num.transform.fft.MultiDimLinearTransform;
+import matsu.num.transform.fft.lib.privatelib.ArraysUtil;
+import matsu.num.transform.fft.validation.StructureAcceptance;
+
+/**
+ * 実数の多次元配列の分離可能な線形変換において,
+ * 配列全体のスケーリングによる前処理, 後処理によって計算安定性を高めた抽象クラス.
+ * 
+ * <p>
+ * この抽象クラスで {@link #apply(double[], int[], boolean)} メソッドを実装しており,
+ * 引数のacceptチェック, スケーリングと復元を配列全体で1回だけ行い,
+ * 各軸に沿ったラインの変換を {@link AxisLineTraversal} により実行する. <br>
+ * 不正値(inf, NaN)が混入している場合は{@code Double#NaN}で埋めてreturnされる. <br>
+ * このクラスの継承先では, 1次元の変換器を返す {@link #planLine(int)} を実装すればよい.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+public abstract class MultiDimLinearByScalingStability implements MultiDimLinearTransform {
+
+    private final ShapeContract shapeContract;
+    private final ArraysUtil arraysUtil;
+    private final ParallelPolicy parallelPolicy;
+
+    /**
+     * 並列実行の方針を {@link ParallelPolicy#SEQUENTIAL} として, インスタンスを構築する.
+     * 
+     * @param arraysUtil 配列ユーティリティ
+     * @param upperLimitSize 全要素数の上限
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    protected MultiDimLinearByScalingStability(ArraysUtil arraysUtil, int upperLimitSize) {
+        this(arraysUtil, upperLimitSize, ParallelPolicy.SEQUENTIAL);
+    }
+
+    /**
+     * 並列実行の方針を指定して, インスタンスを構築する. <br>
+     * 多次元変換で並列実行が要求された場合, この方針のプールと閾値が用いられる
+     * (詳細は {@link ParallelPolicy#whenRequested(boolean)} を参照).
+     * 
+     * @param arraysUtil 配列ユーティリティ
+     * @param upperLimitSize 全要素数の上限
+     * @param parallelPolicy 並列実行の方針
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    protected MultiDimLinearByScalingStability(ArraysUtil arraysUtil, int upperLimitSize, ParallelPolicy parallelPolicy) {
+        super();
+
+        this.arraysUtil = Objects.requireNonNull(arraysUtil);
+        this.parallelPolicy = Objects.requireNonNull(parallelPolicy);
+        this.shapeContract = new ShapeContract(upperLimitSize);
+    }
+
+    @Override
+    public final StructureAcceptance accepts(double[] data, int[] shape) {
+        return this.shapeContract.acceptsShape(shape, data.length);
+    }
+
+    @Override
+    public final double[] apply(double[] data, int[] shape) {
+        return this.apply(data, shape, false);
+    }
+
+    @Override
+    public final double[] apply(double[] data, int[] shape, boolean parallel) {
+        //変換中に書き換えられないように, 形状をコピーしてから検証する
+        final int[] copyShape = shape.clone();
+        StructureAcceptance acceptance = this.accepts(data, copyShape);
+        if (!acceptance.isAcceptState()) {
+            throw acceptance.getException();
+        }
+
+        final int size = data.length;
+        double[] out = new double[size];
+
+        double scale = this.arraysUtil.normMax(data);
+
+        //不正な値が入っている場合はNaNにしてreturn
+        if (!Double.isFinite(scale)) {
+            Arrays.fill(out, Double.NaN);
+            return out;
+        }
+        //スケールを正規化し, 配列全体を1回だけスケーリング
+        scale = scale == 0d ? 1d : scale;
+        for (int j = 0; j < size; j++) {
+            out[j] = data[j] / scale;
+        }
+
+        //同じ長さの軸ではラインの変換器を共有する
+        Map<Integer, Supplier<? extends UnaryOperator<double[]>>> lines = new HashMap<>();
+        ParallelPolicy policy = this.parallelPolicy.whenRequested(parallel);
+        for (int axis = 0; axis < copyShape.length; axis++) {
+            AxisLineTraversal.transformReal(
+                    out, copyShape, axis, policy,
+                    lines.computeIfAbsent(copyShape[axis], this::planLine));
+        }
+
+        for (int k = 0; k < size; k++) {
+            out[k] *= scale;
+        }
+        return out;
+    }
+
+    /**
+     * {@link #apply(double[], int[], boolean)}から呼ばれる,
+     * 長さを固定した1次元の変換器のサプライヤを構築するメソッド. <br>
+     * 外部から呼ばれることを想定されていない.
+     * 
+     * <p>
+     * 変換器はラインの長さの配列を受け取り, 同じ長さの変換結果を返す
+     * (引数の配列を書き換えてもよい). <br>
+     * サプライヤはタスクごとに呼ばれるので, 変換器は作業用配列を保持してよい. <br>
+     * サプライヤはスレッドセーフでなければならない.
+     * </p>
+     * 
+     * @param length ラインの長さ, acceptされていることが保証されている
+     * @return 変換器のサプライヤ
+     */
+    protected abstract Supplier<? extends UnaryOperator<double[]>> planLine(int length);
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2025.10.13
+ */
+package matsu.num.transform.fft.component;
+
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+/**
+ * 変換内部の独立な部分問題を, fork/joinにより並列に実行するかどうかの方針を扱う.
+ * 
+ * <p>
+ * 逐次実行の方針 ({@link #SEQUENTIAL}) では, 全ての処理は呼び出しスレッドで実行される. <br>
+ * 並列実行の方針では, 問題のサイズが閾値以上の場合に限り,
+ * 部分問題を指定した {@link ForkJoinPool} で並列に実行する. <br>
+ * 閾値未満の部分問題は (並列実行されている部分問題の内部でも) 逐次的に実行される.
+ * </p>
+ * 
+ * <p>
+ * バッチ変換や多次元変換のように, 呼び出し元が並列実行を明示的に要求する処理では,
+ * {@link #whenRequested(boolean)} により実際に用いる方針を得る.
+ * </p>
+ * 
+ * <p>
+ * このクラスはイミュータブルであり, スレッドセーフである.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+public final class ParallelPolicy {
+
+    /**
+     * 並列実行を行うサイズの閾値のデフォルト値: 2<sup>15</sup>
+     */
+    public static final int DEFAULT_THRESHOLD = 0x8000;
+
+    /**
+     * 逐次実行の方針.
+     */
+    public static final ParallelPolicy SEQUENTIAL = new ParallelPolicy(null, Integer.MAX_VALUE);
+
+    /**
+     * 並列実行時の, プールのスレッドあたりのタスク数.
+     */
+    private static final int TASKS_PER_THREAD = 4;
+
+    //逐次実行の場合はnull
+    private final ForkJoinPool pool;
+    private final int threshold;
+
+    private ParallelPolicy(ForkJoinPool pool, int threshold) {
+        this.pool = pool;
+        this.threshold = threshold;
+    }
+
+    /**
+     * 並列実行の方針を返す.
+     * 
+     * @param pool 部分問題を実行するプール
+     * @param threshold 並列実行を行うサイズの閾値
+     * @return 並列実行の方針
+     * @throws IllegalArgumentException 閾値が1以上でない場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public static ParallelPolicy of(ForkJoinPool pool, int threshold) {
+        if (threshold < 1) {
+            throw new IllegalArgumentException("閾値が1以上でない");
+        }
+        return new ParallelPolicy(Objects.requireNonNull(pool), threshold);
+    }
+
+    /**
+     * 呼び出し元による並列実行の要求に応じて, 実際に用いる方針を返す.
+     * 
+     * <p>
+     * 要求されない場合は {@link #SEQUENTIAL} を返す. <br>
+     * 要求された場合, これが並列実行の方針ならばこれ自身を返し,
+     * 逐次実行の方針ならば共通プール ({@link ForkJoinPool#commonPool()}) と
+     * 閾値 {@link #DEFAULT_THRESHOLD} による方針を返す.
+     * </p>
+     * 
+     * @param parallel 並列実行が要求された場合はtrue
+     * @return 実際に用いる方針
+     */
+    public ParallelPolicy whenRequested(boolean parallel) {
+        if (!parallel) {
+            return SEQUENTIAL;
+        }
+        return Objects.nonNull(this.pool)
+                ? this
+                : CommonPoolHolder.INSTANCE;
+    }
+
+    /**
+     * 部分問題を実行するプールの並列度を返す. <br>
+     * 逐次実行の方針では1である.
+     * 
+     * @return 並列度
+     */
+    public int parallelism() {
+        return Objects.nonNull(this.pool)
+                ? this.pool.getParallelism()
+                : 1;
+    }
+
+    /**
+     * 与えたサイズの問題の部分問題を並列に実行するかどうかを判定する.
+     * 
+     * @param size 問題のサイズ
+     * @return 並列に実行する場合はtrue
+     */
+    public boolean parallelizes(int size) {
+        return Objects.nonNull(this.pool) && size >= this.threshold;
+    }
+
+    /**
+     * 添え字 0, ... , count - 1 に対する処理を実行する. <br>
+     * サイズ {@code size} が並列実行の対象である場合は並列に実行し, 全ての処理の完了を待つ. <br>
+     * 各添え字の処理は互いに独立でなければならない.
+     * 
+     * @param size 問題全体のサイズ
+     * @param count 処理の個数
+     * @param action 処理
+     */
+    public void forEach(int size, int count, IntConsumer action) {
+        if (count <= 1 || !this.parallelizes(size)) {
+            for (int i = 0; i < count; i++) {
+                action.accept(i);
+            }
+            return;
+        }
+        //プールのスレッドあたり数個のタスクになるように, 逐次実行する範囲の大きさを決める
+        int grain = Math.max(1, count / (TASKS_PER_THREAD * this.pool.getParallelism()));
+        this.invoke(new RangeAction(0, count, grain, action));
+    }
+
+    /**
+     * 2個の処理を実行する. <br>
+     * サイズ {@code size} が並列実行の対象である場合は並列に実行し, 両方の完了を待つ. <br>
+     * 2個の処理は互いに独立でなければならない.
+     * 
+     * @param size 問題全体のサイズ
+     * @param action1 処理1
+     * @param action2 処理2
+     */
+    public void invokeBoth(int size, Runnable action1, Runnable action2) {
+        this.forEach(size, 2, i -> (i == 0 ? action1 : action2).run());
+    }
+
+    /**
+     * プールのワーカースレッドからの呼び出しであれば (入れ子の並列化), そのまま実行し,
+     * そうでなければプールに投入して完了を待つ.
+     */
+    private void invoke(ForkJoinTask<?> task) {
+        if (ForkJoinTask.inForkJoinPool() && ForkJoinTask.getPool() == this.pool) {
+            task.invoke();
+            return;
+        }
+        this.pool.invoke(task);
+    }
+
+    @Override
+    public String toString() {
+        return Objects.isNull(this.pool)
+                ? "ParallelPolicy(sequential)"
+                : String.format("ParallelPolicy(parallelism=%s, threshold=%s)",
+                        this.pool.getParallelism(), this.threshold);
+    }
+
+    /**
+     * 共通プールによる並列実行の方針の遅延初期化.
+     */
+    private static final class CommonPoolHolder {
+
+        static final ParallelPolicy INSTANCE =
+                new ParallelPolicy(ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * 添え字の範囲 [from, to) を二分しながら実行するタスク.
+     */
+    private static final class RangeAction extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+        private final int grain;
+        private final IntConsumer action;
+
+        RangeAction(int from, int to, int grain, IntConsumer action) {
+            this.from = from;
+            this.to = to;
+            this.grain = grain;
+            this.action = action;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.to - this.from <= this.grain) {
+                for (int i = this.from; i < this.to; i++) {
+                    this.action.accept(i);
+                }
+                return;
+            }
+            int mid = (this.from + this.to) >>> 1;
+            invokeAll(
+                    new RangeAction(this.from, mid, this.grain, this.action),
+                    new RangeAction(mid, this.to, this.grain, this.action));
+        }
+    }
+}
@@ -0,0 +1,281 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2025.10.13
+ */
+package matsu.num.transform.fft.component;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 変換内部で使われる作業用配列 (スクラッチ) を, スレッドごとに貸し出す領域.
+ * 
+ * <p>
+ * 領域はスレッドごとに用意され ({@link #current()}), スレッド間で可変な状態を共有しない. <br>
+ * 作業用配列は {@link #borrow(int)} で借り, 使用後に {@link #giveBack(double[])} で返す. <br>
+ * 返された配列は同じ長さの次の借用で再利用されるため,
+ * 同じサイズの変換を繰り返す場合は作業用配列の確保が起こらない.
+ * </p>
+ * 
+ * <p>
+ * 配列は長さごとのプールで管理される
+ * (変換の内部では配列の長さがサイズを表すため, 長さの切り上げは行わない). <br>
+ * 各プールが保持する配列の個数は,
+ * 直近の {@link #trim()} 以降に同時に貸し出された個数の最大値 (high-water mark) を超えない. <br>
+ * 長さが {@link #MAX_RETAINED_LENGTH} を超える配列は保持されない.
+ * </p>
+ * 
+ * <p>
+ * 1スレッドの領域が保持する量は, 次により制限される.
+ * </p>
+ * 
+ * <ul>
+ * <li>管理する長さの種類は {@link #MAX_POOL_COUNT} 以下であり,
+ * これを超える場合は最も長く使われていない長さのプールが破棄される.</li>
+ * <li>保持する配列の要素数の合計は {@link #MAX_RETAINED_TOTAL_LENGTH} 以下であり,
+ * これを超える場合は最も長く使われていない長さの配列から解放される.</li>
+ * </ul>
+ * 
+ * <p>
+ * したがって, 領域全体が保持する量は,
+ * (変換を行ったスレッドの数) &times; {@link #MAX_RETAINED_TOTAL_LENGTH} 要素で抑えられる. <br>
+ * {@link #trimAll()} により, 全てのスレッドの領域の解放を要求できる
+ * (他のスレッドの領域は, そのスレッドが次に領域を使う時点で解放される).
+ * </p>
+ * 
+ * <p>
+ * 領域を取得したスレッド以外から, その領域のメソッドを呼んではいけない. <br>
+ * 借りた配列を返さなかった場合でも, 単に再利用されないだけである.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+public final class ScratchArena {
+
+    /**
+     * 領域が保持する配列の長さの最大値: 2<sup>22</sup>
+     */
+    public static final int MAX_RETAINED_LENGTH = 0x40_0000;
+
+    /**
+     * 1スレッドの領域が保持する配列の要素数の合計の最大値: 2<sup>23</sup> (64 MiB)
+     */
+    public static final long MAX_RETAINED_TOTAL_LENGTH = 0x80_0000L;
+
+    /**
+     * 1スレッドの領域が管理する長さの種類の最大値: 16
+     */
+    public static final int MAX_POOL_COUNT = 16;
+
+    private static final ThreadLocal<ScratchArena> LOCAL = ThreadLocal.withInitial(ScratchArena::new);
+
+    //全ての領域の解放を要求するための世代
+    private static final AtomicLong GENERATION = new AtomicLong();
+
+    //最近使われた順 (先頭が最新) に並べる; 種類は少ないため, 線形探索で扱う
+    private LengthPool[] pools = new LengthPool[0];
+    private long retainedLength;
+    private long generation = GENERATION.get();
+
+    private ScratchArena() {
+        super();
+    }
+
+    /**
+     * 現在のスレッドの領域を返す.
+     * 
+     * @return 現在のスレッドの領域
+     */
+    public static ScratchArena current() {
+        return LOCAL.get();
+    }
+
+    /**
+     * 全てのスレッドの領域が保持している作業用配列の解放を要求する. <br>
+     * 現在のスレッドの領域は直ちに解放され,
+     * 他のスレッドの領域は, そのスレッドが次に領域を使う時点で解放される.
+     */
+    public static void trimAll() {
+        GENERATION.incrementAndGet();
+        current().synchronizeGeneration();
+    }
+
+    /**
+     * 与えた長さの作業用配列を借りる. <br>
+     * 配列の値は不定である.
+     * 
+     * @param length 配列の長さ
+     * @return 作業用配列
+     * @throws NegativeArraySizeException 長さが負の場合
+     */
+    public double[] borrow(int length) {
+        if (length > MAX_RETAINED_LENGTH) {
+            return new double[length];
+        }
+
+        this.synchronizeGeneration();
+        LengthPool pool = this.poolOf(length);
+        pool.outstanding++;
+        pool.highWaterMark = Math.max(pool.highWaterMark, pool.outstanding);
+        double[] array = pool.free.pollFirst();
+        if (array == null) {
+            return new double[length];
+        }
+        this.retainedLength -= length;
+        return array;
+    }
+
+    /**
+     * 与えた長さの, 0で埋められた作業用配列を借りる.
+     * 
+     * @param length 配列の長さ
+     * @return 作業用配列
+     * @throws NegativeArraySizeException 長さが負の場合
+     */
+    public double[] borrowZeroed(int length) {
+        double[] array = this.borrow(length);
+        Arrays.fill(array, 0d);
+        return array;
+    }
+
+    /**
+     * 借りた作業用配列を返す. <br>
+     * 返した配列を, 以降で使用してはいけない.
+     * 
+     * @param array 作業用配列
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public void giveBack(double[] array) {
+        int length = array.length;
+        if (length > MAX_RETAINED_LENGTH) {
+            return;
+        }
+
+        this.synchronizeGeneration();
+        LengthPool pool = this.findPool(length);
+        if (pool == null || pool.outstanding == 0) {
+            //借りたものではないか, trimより前に借りたもの (あるいは破棄されたプールのもの)
+            return;
+        }
+        pool.outstanding--;
+        if (pool.free.size() + pool.outstanding < pool.highWaterMark) {
+            pool.free.addFirst(array);
+            this.retainedLength += length;
+            this.evictOverBudget();
+        }
+    }
+
+    /**
+     * 保持している作業用配列を全て解放し, high-water markを初期化する. <br>
+     * 貸し出し中の配列は, 返されても保持されない.
+     */
+    public void trim() {
+        this.pools = new LengthPool[0];
+        this.retainedLength = 0L;
+    }
+
+    /**
+     * 保持している (貸し出し中でない) 作業用配列の要素数の合計を返す.
+     * 
+     * @return 保持している要素数の合計
+     */
+    public long retainedLength() {
+        this.synchronizeGeneration();
+        return this.retainedLength;
+    }
+
+    /**
+     * 全体の解放が要求されていれば, この領域を解放する.
+     */
+    private void synchronizeGeneration() {
+        long current = GENERATION.get();
+        if (this.generation != current) {
+            this.trim();
+            this.generation = current;
+        }
+    }
+
+    /**
+     * 保持量が上限を超えている場合, 最も長く使われていない長さの配列から解放する.
+     */
+    private void evictOverBudget() {
+        for (int i = this.pools.length - 1; i >= 0 && this.retainedLength > MAX_RETAINED_TOTAL_LENGTH; i--) {
+            LengthPool pool = this.pools[i];
+            while (this.retainedLength > MAX_RETAINED_TOTAL_LENGTH && !pool.free.isEmpty()) {
+                pool.free.pollLast();
+                this.retainedLength -= pool.length;
+            }
+        }
+    }
+
+    private LengthPool findPool(int length) {
+        for (LengthPool pool : this.pools) {
+            if (pool.length == length) {
+                return pool;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 与えた長さのプールを, 最近使われたものとして返す. <br>
+     * 存在しない場合は作成し, 種類が上限を超えるならば最も長く使われていないプールを破棄する.
+     */
+    private LengthPool poolOf(int length) {
+        LengthPool[] pools = this.pools;
+        for (int i = 0; i < pools.length; i++) {
+            LengthPool pool = pools[i];
+            if (pool.length == length) {
+                System.arraycopy(pools, 0, pools, 1, i);
+                pools[0] = pool;
+                return pool;
+            }
+        }
+        if (length < 0) {
+            throw new NegativeArraySizeException(String.valueOf(length));
+        }
+
+        LengthPool pool = new LengthPool(length);
+        LengthPool[] newPools;
+        if (pools.length < MAX_POOL_COUNT) {
+            newPools = new LengthPool[pools.length + 1];
+        } else {
+            newPools = new LengthPool[pools.length];
+            LengthPool evicted = pools[pools.length - 1];
+            this.retainedLength -= (long) evicted.length * evicted.free.size();
+        }
+        System.arraycopy(pools, 0, newPools, 1, newPools.length - 1);
+        newPools[0] = pool;
+        this.pools = newPools;
+        return pool;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "ScratchArena(lengths = %s, retained = %s)",
+                this.pools.length, this.retainedLength);
+    }
+
+    /**
+     * 同じ長さの作業用配列の管理.
+     */
+    private static final class LengthPool {
+
+        final int length;
+        final ArrayDeque<double[]> free = new ArrayDeque<>();
+
+        int outstanding;
+        int highWaterMark;
+
+        LengthPool(int length) {
+            this.length = length;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2025.10.13
+ */
+package matsu.num.transform.fft.component;
+
+import matsu.num.transform.fft.validation.DataSizeNotMismatchException;
+import matsu.num.transform.fft.validation.DataSizeTooLargeException;
+import matsu.num.transform.fft.validation.NotRequiredDataSizeException;
+import matsu.num.transform.fft.validation.StructureAcceptance;
+import matsu.num.transform.fft.validation.StructureRejected;
+
+/**
+ * 2次元または3次元の多次元配列の形状の制約 (契約) を表現する.
+ * 
+ * <p>
+ * 形状 (各軸の長さ) が次を全て満たす場合に, acceptedになる.
+ * </p>
+ * 
+ * <ul>
+ * <li>次元 (形状の配列の長さ) が2または3である.</li>
+ * <li>各軸の長さが1以上である.</li>
+ * <li>全要素数 (各軸の長さの積) が {@code upperLimitSize} 以下である.</li>
+ * <li>全要素数がデータサイズと一致する.</li>
+ * </ul>
+ * 
+ * <p>
+ * このクラスはイミュータブルであり, スレッドセーフである.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+public final class ShapeContract {
+
+    private static final StructureAcceptance REJECT_BY_DIMENSION =
+            StructureRejected.by(
+                    () -> new DataSizeNotMismatchException("形状の次元が2または3でない"),
+                    "REJECT_BY_DIMENSION");
+    private static final StructureAcceptance REJECT_BY_NOT_REQUIRED_LENGTH =
+            StructureRejected.by(
+                    () -> new NotRequiredDataSizeException("軸の長さが1に満たない"),
+                    "REJECT_BY_NOT_REQUIRED_LENGTH");
+    private static final StructureAcceptance REJECT_BY_TOO_LARGE_SIZE =
+            StructureRejected.by(
+                    () -> new DataSizeTooLargeException("データサイズが大きすぎる"),
+                    "REJECT_BY_TOO_LARGE_SIZE");
+    private static final StructureAcceptance REJECT_BY_SIZE_MISMATCH =
+            StructureRejected.by(
+                    () -> new DataSizeNotMismatchException("データサイズが形状と整合しない"),
+                    "REJECT_BY_SIZE_MISMATCH");
+
+    private final int upperLimitSize;
+
+    /**
+     * 全要素数の上限を指定して, 契約を構築する.
+     * 
+     * @param upperLimitSize 全要素数の上限
+     */
+    public ShapeContract(int upperLimitSize) {
+        super();
+        this.upperLimitSize = upperLimitSize;
+    }
+
+    /**
+     * 与えた形状とデータサイズがrejectかどうかを判定する.
+     * 
+     * @param shape 形状
+     * @param dataSize データサイズ
+     * @return 判定結果
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public StructureAcceptance acceptsShape(int[] shape, int dataSize) {
+        if (shape.length != 2 && shape.length != 3) {
+            return REJECT_BY_DIMENSION;
+        }
+
+        long total = 1L;
+        for (int length : shape) {
+            if (length < 1) {
+                return REJECT_BY_NOT_REQUIRED_LENGTH;
+            }
+            total *= length;
+            if (total > this.upperLimitSize) {
+                return REJECT_BY_TOO_LARGE_SIZE;
+            }
+        }
+        if (total != dataSize) {
+            return REJECT_BY_SIZE_MISMATCH;
+        }
+        return StructureAcceptance.ACCEPTED;
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2025.10.13
+ */
+package matsu.num.transform.fft.convolution;
+
+import matsu.num.transform.fft.FFTModuleExecutor;
+import matsu.num.transform.fft.validation.StructureAcceptance;
+
+/**
+ * 実数列の自己相関を扱う.
+ * 
+ * <p>
+ * 長さ <i>N</i> のデータ
+ * {<i>f</i><sub>0</sub>, ... , <i>f</i><sub><i>N</i> - 1</sub>}
+ * に対し, ラグ <i>k</i> の自己相関を <br>
+ * <i>r</i><sub><i>k</i></sub> =
+ * &Sigma;<sub><i>j</i></sub>
+ * <i>f</i><sub><i>j</i></sub> <i>f</i><sub><i>j</i> + <i>k</i></sub> <br>
+ * で定める. <br>
+ * 自己相関は <i>r</i><sub>-<i>k</i></sub> = <i>r</i><sub><i>k</i></sub> を満たすため,
+ * 非負のラグのみを返す.
+ * </p>
+ * 
+ * <ul>
+ * <li>巡回自己相関 ({@link #applyCyclic(double[])}):
+ * 添え字を <i>N</i> を法として扱う. 結果は <i>k</i> = 0, ... , <i>N</i> - 1 の順に並ぶ.</li>
+ * <li>線形自己相関 ({@link #applyLinear(double[], int)}):
+ * 和は 0 &le; <i>j</i>, <i>j</i> + <i>k</i> &lt; <i>N</i> の範囲でとる.
+ * 最大ラグ <i>L</i> を指定し, 結果は <i>k</i> = 0, ... , <i>L</i> の順に並ぶ (長さ <i>L</i> + 1).</li>
+ * </ul>
+ * 
+ * <p>
+ * 実数列に無限大や非数 (NaN) を含む場合, 戻り値は全て {@code Double.NaN} となる.
+ * </p>
+ * 
+ * <p>
+ * {@link #accepts(double[])} のreject条件は次のとおりである. <br>
+ * rejectされる条件と, 各メソッドが例外をスローする条件は等価である
+ * (ただし, 最大ラグが負の場合, {@link #MAX_DATA_SIZE} を超える場合も例外をスローする).
+ * </p>
+ * 
+ * <ul>
+ * <li>サイズが1以上でない場合.</li>
+ * <li>サイズが {@link #MAX_DATA_SIZE} を超過する場合.</li>
+ * </ul>
+ * 
+ * 
+ * <hr>
+ * <h2>技術的補足</h2>
+ * 
+ * <p>
+ * 1回の実数FFTでパワースペクトル |<i>F</i>|<sup>2</sup> を求め, 逆変換する. <br>
+ * 線形自己相関では, 必要なラグのみが巡回の影響を受けない最小の長さ
+ * (<i>N</i> + <i>L</i> と 2<i>N</i> - 1 の小さい方以上の5-smooth数) で計算する.
+ * </p>
+ * 
+ * @implSpec
+ *               このインターフェースをモジュール外で継承・実装してはいけない.
+ * 
+ * @author Matsuura Y.
+ */
+public interface AutoCorrelationExecutor extends FFTModuleExecutor {
+
+    /**
+     * 扱うことができるデータサイズの最大値: 2<sup>27</sup>
+     */
+    public static final int MAX_DATA_SIZE = 0x0800_0000;
+
+    /**
+     * 与えた実数列の構造(サイズ)が, 自己相関に対応しているかどうかを判定する.
+     * 
+     * @param f 実数列f
+     * @return 判定結果
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public abstract StructureAcceptance accepts(double[] f);
+
+    /**
+     * 巡回自己相関を実行する.
+     * 
+     * @param f 実数列f
+     * @return 巡回自己相関(ラグ0, ... , <i>N</i> - 1)
+     * @throws IllegalArgumentException 引数がacceptされない場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public abstract double[] applyCyclic(double[] f);
+
+    /**
+     * 最大ラグを指定して, 線形自己相関を実行する.
+     * 
+     * <p>
+     * <i>k</i> &ge; <i>N</i> のラグの値は0である.
+     * </p>
+     * 
+     * @param f 実数列f
+     * @param maxLag 最大ラグ <i>L</i>
+     * @return 線形自己相関(ラグ0, ... , <i>L</i>)
+     * @throws IllegalArgumentException 引数がacceptされない場合, 最大ラグが負の場合,
+     *             最大ラグが {@link #MAX_DATA_SIZE} を超える場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public abstract double[] applyLinear(double[] f, int maxLag);
+}
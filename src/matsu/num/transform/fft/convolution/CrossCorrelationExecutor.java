@@ -0,0 +1,139 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2025.10.13
+ */
+package matsu.num.transform.fft.convolution;
+
+import matsu.num.transform.fft.FFTModuleExecutor;
+import matsu.num.transform.fft.validation.StructureAcceptance;
+
+/**
+ * 実数列の相互相関を扱う.
+ * 
+ * <p>
+ * 長さ <i>m</i>, <i>n</i> の2系列のデータ
+ * {<i>f</i><sub>0</sub>, ... , <i>f</i><sub><i>m</i> - 1</sub>},
+ * {<i>g</i><sub>0</sub>, ... , <i>g</i><sub><i>n</i> - 1</sub>}
+ * に対し, ラグ <i>k</i> の相互相関を <br>
+ * <i>r</i><sub><i>k</i></sub> =
+ * &Sigma;<sub><i>j</i></sub>
+ * <i>f</i><sub><i>j</i></sub> <i>g</i><sub><i>j</i> + <i>k</i></sub> <br>
+ * で定める. <br>
+ * <i>g</i> が <i>f</i> を <i>d</i> だけ遅らせたものである場合, <i>r</i><sub><i>k</i></sub> は <i>k</i> = <i>d</i> で最大になる.
+ * </p>
+ * 
+ * <ul>
+ * <li>巡回相互相関 ({@link #applyCyclic(double[], double[])}):
+ * <i>m</i> = <i>n</i> = <i>N</i> とし, 添え字を <i>N</i> を法として扱う.
+ * 結果は <i>k</i> = 0, ... , <i>N</i> - 1 の順に並ぶ.</li>
+ * <li>線形相互相関 ({@link #applyLinear(double[], double[], int)}):
+ * 和は 0 &le; <i>j</i> &lt; <i>m</i>, 0 &le; <i>j</i> + <i>k</i> &lt; <i>n</i> の範囲でとる.
+ * 最大ラグ <i>L</i> を指定し, 結果は <i>k</i> = -<i>L</i>, ... , <i>L</i> の順に並ぶ
+ * (長さ 2<i>L</i> + 1).</li>
+ * </ul>
+ * 
+ * <p>
+ * 実数列に無限大や非数 (NaN) を含む場合, 戻り値は全て {@code Double.NaN} となる.
+ * </p>
+ * 
+ * <p>
+ * {@link #acceptsCyclic(double[], double[])} のreject条件は次のとおりである.
+ * </p>
+ * 
+ * <ul>
+ * <li>2系列のサイズが整合しない場合.</li>
+ * <li>サイズが1以上でない場合.</li>
+ * <li>サイズが {@link #MAX_DATA_SIZE} を超過する場合.</li>
+ * </ul>
+ * 
+ * <p>
+ * {@link #acceptsLinear(double[], double[])} のreject条件は次のとおりである.
+ * </p>
+ * 
+ * <ul>
+ * <li>いずれかのサイズが1以上でない場合.</li>
+ * <li><i>m</i> + <i>n</i> - 1 が {@link #MAX_DATA_SIZE} を超過する場合.</li>
+ * </ul>
+ * 
+ * <p>
+ * rejectされる条件と, 対応するメソッドが例外をスローする条件は等価である
+ * (ただし, 最大ラグが負の場合, {@link #MAX_DATA_SIZE} を超える場合も例外をスローする).
+ * </p>
+ * 
+ * 
+ * <hr>
+ * <h2>技術的補足</h2>
+ * 
+ * <p>
+ * 2系列を1回の複素FFTで同時に変換し, 共役積 <i>F</i><sup>*</sup><i>G</i> を逆変換する. <br>
+ * 系列の時間反転と, それに伴う配列の複製は行わない. <br>
+ * 線形相互相関では, 必要なラグのみが巡回の影響を受けない最小の長さ
+ * (max(<i>m</i>, <i>n</i>) + <i>L</i> と <i>m</i> + <i>n</i> - 1 の小さい方以上の5-smooth数) で計算する.
+ * </p>
+ * 
+ * @implSpec
+ *               このインターフェースをモジュール外で継承・実装してはいけない.
+ * 
+ * @author Matsuura Y.
+ */
+public interface CrossCorrelationExecutor extends FFTModuleExecutor {
+
+    /**
+     * 扱うことができるデータサイズの最大値: 2<sup>28</sup>
+     */
+    public static final int MAX_DATA_SIZE = 0x1000_0000;
+
+    /**
+     * 与えた2系列の実数列の構造(サイズ)が, 巡回相互相関に対応しているかどうかを判定する.
+     * 
+     * @param f 実数列f
+     * @param g 実数列g
+     * @return 判定結果
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public abstract StructureAcceptance acceptsCyclic(double[] f, double[] g);
+
+    /**
+     * 巡回相互相関を実行する.
+     * 
+     * @param f 実数列f
+     * @param g 実数列g
+     * @return 巡回相互相関(ラグ0, ... , <i>N</i> - 1)
+     * @throws IllegalArgumentException 引数がacceptされない場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public abstract double[] applyCyclic(double[] f, double[] g);
+
+    /**
+     * 与えた2系列の実数列の構造(サイズ)が, 線形相互相関に対応しているかどうかを判定する.
+     * 
+     * @param f 実数列f
+     * @param g 実数列g
+     * @return 判定結果
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public abstract StructureAcceptance acceptsLinear(double[] f, double[] g);
+
+    /**
+     * 最大ラグを指定して, 線形相互相関を実行する.
+     * 
+     * <p>
+     * 重なりを持たないラグ (<i>k</i> &lt; -(<i>m</i> - 1) または <i>k</i> &gt; <i>n</i> - 1)
+     * の値は0である.
+     * </p>
+     * 
+     * @param f 実数列f
+     * @param g 実数列g
+     * @param maxLag 最大ラグ <i>L</i>
+     * @return 線形相互相関(ラグ -<i>L</i>, ... , <i>L</i>)
+     * @throws IllegalArgumentException 引数がacceptされない場合, 最大ラグが負の場合,
+     *             最大ラグが {@link #MAX_DATA_SIZE} を超える場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public abstract double[] applyLinear(double[] f, double[] g, int maxLag);
+}
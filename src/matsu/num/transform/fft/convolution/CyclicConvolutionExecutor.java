@@ -5,7 +5,7 @@
  * http://opensource.org/licenses/mit-license.php
  */
 /*
- * 2025.6.20
+ * 2025.10.13
  */
 package matsu.num.transform.fft.convolution;
 
@@ -42,6 +42,13 @@ import matsu.num.transform.fft.BiLinearTransform;
  * <li>データサイズが {@link #MAX_DATA_SIZE} を超過する場合</li>
  * </ul>
  * 
+ * <p>
+ * 同じ <i>g</i> (カーネル) に対して多数の <i>f</i> との畳み込みを計算する場合は,
+ * {@link #prepare(double[])} によりカーネルを固定した
+ * {@link CyclicConvolutionExecutor.PreparedConvolution} を取得できる. <br>
+ * カーネルのFourier変換とスケールは構築時に計算され, 保持される.
+ * </p>
+ * 
  * @implSpec
  *               このインターフェースをモジュール外で継承・実装してはいけない.
  * 
@@ -54,4 +61,53 @@ public interface CyclicConvolutionExecutor extends BiLinearTransform {
      */
     public static final int MAX_DATA_SIZE = 0x1000_0000;
 
+    /**
+     * 与えたカーネル <i>g</i> を固定した, 巡回畳み込みを返す.
+     * 
+     * <p>
+     * カーネルがacceptされる条件は, <i>f</i> のサイズが <i>g</i> と等しい場合の
+     * {@link #accepts(double[], double[])} に準拠する. <br>
+     * カーネルは構築時に複製されるので, 戻り値の振る舞いは引数の配列のその後の変更に影響されない.
+     * </p>
+     * 
+     * @param g カーネル
+     * @return カーネルを固定した巡回畳み込み
+     * @throws IllegalArgumentException カーネルのサイズがacceptされない場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public abstract CyclicConvolutionExecutor.PreparedConvolution prepare(double[] g);
+
+    /**
+     * カーネル <i>g</i> を固定した, 実数列の巡回畳み込み.
+     * 
+     * <p>
+     * このインターフェースのサブタイプはイミュータブルであり, スレッドセーフである. <br>
+     * {@link #apply(double[])} の振る舞いは,
+     * 生成したインスタンスの {@link CyclicConvolutionExecutor#apply(double[], double[])}
+     * にカーネルを <i>g</i> として与えたものと同等である
+     * (ただし, 丸め誤差の範囲で結果が異なる場合がある).
+     * </p>
+     * 
+     * @implSpec
+     *               このインターフェースをモジュール外で継承・実装してはいけない.
+     */
+    public static interface PreparedConvolution {
+
+        /**
+         * このインスタンスが扱う実数列のサイズ (カーネルのサイズ) を返す.
+         * 
+         * @return サイズ
+         */
+        public abstract int size();
+
+        /**
+         * 与えた実数列 <i>f</i> と, 固定したカーネル <i>g</i> の巡回畳み込みを実行する.
+         * 
+         * @param f 実数列f
+         * @return 変換後の実数列(入力とサイズが等しい)
+         * @throws IllegalArgumentException 引数のサイズがカーネルのサイズと一致しない場合
+         * @throws NullPointerException 引数にnullが含まれる場合
+         */
+        public abstract double[] apply(double[] f);
+    }
 }
@@ -0,0 +1,141 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2025.10.13
+ */
+package matsu.num.transform.fft.convolution;
+
+import matsu.num.transform.fft.FFTModuleExecutor;
+import matsu.num.transform.fft.validation.StructureAcceptance;
+
+/**
+ * 実数列の線形 (非巡回) 畳み込みを扱う.
+ * 
+ * <p>
+ * 長さ <i>m</i>, <i>n</i> の2系列のデータ
+ * {<i>f</i><sub>0</sub>, ... , <i>f</i><sub><i>m</i> - 1</sub>},
+ * {<i>g</i><sub>0</sub>, ... , <i>g</i><sub><i>n</i> - 1</sub>}
+ * を用意する. <br>
+ * <i>f</i> と <i>g</i> の線形畳み込み <i>f</i> &lowast; <i>g</i> は,
+ * <i>j</i> = 0, ... , <i>m</i> + <i>n</i> - 2 として, <br>
+ * (<i>f</i> &lowast; <i>g</i>)<sub><i>j</i></sub> =
+ * &Sigma;<sub><i>i</i></sub>
+ * <i>f</i><sub><i>i</i></sub> <i>g</i><sub><i>j</i> - <i>i</i></sub> <br>
+ * で与えられる. <br>
+ * ただし, 和は 0 &le; <i>i</i> &lt; <i>m</i>, 0 &le; <i>j</i> - <i>i</i> &lt; <i>n</i>
+ * の範囲でとる. <br>
+ * 結果の長さは <i>m</i> + <i>n</i> - 1 である.
+ * </p>
+ * 
+ * <p>
+ * {@link CyclicConvolutionExecutor} と異なり, 2系列の長さは一致しなくてよい. <br>
+ * 実数列に無限大や非数 (NaN) を含む場合, 戻り値は全て {@code Double.NaN} となる.
+ * </p>
+ * 
+ * <p>
+ * {@link #accepts(double[], double[])} のreject条件は次のとおりである. <br>
+ * rejectされる条件と, {@link #apply(double[], double[])} が例外をスローする条件は等価である.
+ * </p>
+ * 
+ * <ul>
+ * <li>いずれかの長さが1以上でない場合.</li>
+ * <li>結果の長さ <i>m</i> + <i>n</i> - 1 が {@link #MAX_DATA_SIZE} を超過する場合.</li>
+ * </ul>
+ * 
+ * 
+ * <hr>
+ * <h2>技術的補足</h2>
+ * 
+ * <p>
+ * 内部では, <i>m</i> + <i>n</i> - 1 以上の高速に変換できる長さ (素因数が2, 3, 5のみ) のうち最小のものまで
+ * 0埋めして巡回畳み込みを計算する. <br>
+ * 呼び出し側で共通の長さに0埋めする必要はない.
+ * </p>
+ * 
+ * @implSpec
+ *               このインターフェースをモジュール外で継承・実装してはいけない.
+ * 
+ * @author Matsuura Y.
+ */
+public interface LinearConvolutionExecutor extends FFTModuleExecutor {
+
+    /**
+     * 扱うことができる結果の長さ (<i>m</i> + <i>n</i> - 1) の最大値: 2<sup>28</sup>
+     */
+    public static final int MAX_DATA_SIZE = 0x1000_0000;
+
+    /**
+     * 与えた2系列の実数列の構造(サイズ)が, 変換に対応しているかどうかを判定する.
+     * 
+     * @param f 実数列f
+     * @param g 実数列g
+     * @return 判定結果
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public abstract StructureAcceptance accepts(double[] f, double[] g);
+
+    /**
+     * 与えた2系列の実数列に対し, 線形畳み込みを実行する.
+     * 
+     * @param f 実数列f
+     * @param g 実数列g
+     * @return 線形畳み込みの結果(長さは <i>m</i> + <i>n</i> - 1)
+     * @throws IllegalArgumentException 引数がacceptされない場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public abstract double[] apply(double[] f, double[] g);
+
+    /**
+     * 与えたカーネルによるストリームの畳み込みを, 新しく生成して返す.
+     * 
+     * <p>
+     * 戻り値は, 重複保留法 (overlap-save) によりブロックごとに計算する. <br>
+     * カーネルのFourier変換は生成時に計算され, 保持される. <br>
+     * カーネルは生成時に複製されるので, 戻り値の振る舞いは引数の配列のその後の変更に影響されない.
+     * </p>
+     * 
+     * @param kernel カーネル
+     * @param blockSize ブロックの長さ
+     * @return ストリームの畳み込み
+     * @throws IllegalArgumentException カーネルの長さ, ブロックの長さが1以上でない場合,
+     *             それらの和が {@link #MAX_DATA_SIZE} に対して大きすぎる場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public abstract StreamingConvolver createStreamingConvolver(double[] kernel, int blockSize);
+
+    /**
+     * 与えたカーネルによるストリームの畳み込みを, 分割畳み込み (partitioned convolution) として生成して返す.
+     * 
+     * <p>
+     * 長いカーネルに対して, 単一の重複保留法ではブロックの長さ (遅延) かFFTの長さが大きくなりすぎる. <br>
+     * 分割畳み込みでは, カーネルをパーティションに分割し,
+     * 入力の変換を周波数領域の遅延線に保持して各パーティションのスペクトルとの積和をとる. <br>
+     * 入力から出力までの遅延は, 最小のパーティションの長さである {@code blockSize} に等しい
+     * (各呼び出しは, 与えたブロックと同じ区間の出力を書き込む).
+     * </p>
+     * 
+     * <p>
+     * パーティションの長さは {@code blockSize} から始めて,
+     * {@code maxPartitionSize} に達するまで倍々に増やす (非一様分割). <br>
+     * {@code maxPartitionSize} が {@code blockSize} に等しい場合は, 全てのパーティションの長さが等しい一様分割となり,
+     * ブロックあたりの計算量は一定である. <br>
+     * 非一様分割では計算量の総和は小さくなるが, 大きなパーティションの計算は,
+     * その長さ分の入力が揃ったブロックでまとめて行われる.
+     * </p>
+     * 
+     * @param kernel カーネル
+     * @param blockSize ブロックの長さ (最小のパーティションの長さ)
+     * @param maxPartitionSize パーティションの長さの最大値
+     * @return ストリームの畳み込み
+     * @throws IllegalArgumentException カーネルの長さ, ブロックの長さが1以上でない場合,
+     *             {@code maxPartitionSize} が {@code blockSize} の2の累乗倍でない場合,
+     *             {@code 2 * maxPartitionSize} が {@link #MAX_DATA_SIZE} を超える場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public abstract StreamingConvolver createPartitionedConvolver(
+            double[] kernel, int blockSize, int maxPartitionSize);
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2025.10.13
+ */
+package matsu.num.transform.fft.convolution;
+
+/**
+ * 固定したカーネルによる, 無限長の実数列 (ストリーム) の線形畳み込みを扱う.
+ * 
+ * <p>
+ * カーネルを {<i>h</i><sub>0</sub>, ... , <i>h</i><sub><i>K</i> - 1</sub>},
+ * ストリームを {<i>x</i><sub>0</sub>, <i>x</i><sub>1</sub>, ... } とする. <br>
+ * 出力は, <i>t</i> = 0, 1, ... として, <br>
+ * <i>y</i><sub><i>t</i></sub> =
+ * &Sigma;<sub><i>i</i> = 0</sub><sup><i>K</i> - 1</sup>
+ * <i>h</i><sub><i>i</i></sub> <i>x</i><sub><i>t</i> - <i>i</i></sub> <br>
+ * である (ただし, <i>t</i> - <i>i</i> &lt; 0 のとき
+ * <i>x</i><sub><i>t</i> - <i>i</i></sub> = 0 とする).
+ * </p>
+ * 
+ * <p>
+ * ストリームは長さ {@link #blockSize()} のブロックごとに {@link #process(double[], double[])} へ与える. <br>
+ * 各呼び出しは, 与えたブロックと同じ区間の出力を書き込む
+ * (ブロック化以外の遅延はない). <br>
+ * ストリームの終端以降の出力 (畳み込みの裾) が必要な場合は, 0のブロックを与えればよい.
+ * </p>
+ * 
+ * <p>
+ * 入力に無限大や非数 (NaN) を含む場合, その標本の影響が及ぶ範囲の出力は非数になる. <br>
+ * そのような状態からは {@link #reset()} により復帰できる.
+ * </p>
+ * 
+ * <p>
+ * このインターフェースのサブタイプは状態を持ち, スレッドセーフでない.
+ * </p>
+ * 
+ * @implSpec
+ *               このインターフェースをモジュール外で継承・実装してはいけない.
+ * 
+ * @author Matsuura Y.
+ */
+public interface StreamingConvolver {
+
+    /**
+     * カーネルの長さ <i>K</i> を返す.
+     * 
+     * @return カーネルの長さ
+     */
+    public abstract int kernelSize();
+
+    /**
+     * 1回の処理で扱うブロックの長さを返す.
+     * 
+     * @return ブロックの長さ
+     */
+    public abstract int blockSize();
+
+    /**
+     * ストリームの次のブロックを処理し, 同じ区間の出力を書き込む.
+     * 
+     * <p>
+     * 入力と出力に同じ配列を与えてもよい. <br>
+     * このメソッドは配列を確保しない.
+     * </p>
+     * 
+     * @param in 入力ブロック
+     * @param out 出力ブロックの書き込み先
+     * @throws IllegalArgumentException 配列の長さがブロックの長さと一致しない場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public abstract void process(double[] in, double[] out);
+
+    /**
+     * 内部状態を初期化し, 以降の入力を新しいストリームの先頭として扱う.
+     */
+    public abstract void reset();
+}
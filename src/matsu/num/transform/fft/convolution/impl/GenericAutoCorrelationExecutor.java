@@ -0,0 +1,182 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2025.10.13
+ */
+package matsu.num.transform.fft.convolution.impl;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import matsu.num.transform.fft.component.DataSizeContract;
+import matsu.num.transform.fft.component.FourierBasisComputer;
+import matsu.num.transform.fft.component.ParallelPolicy;
+import matsu.num.transform.fft.component.ScratchArena;
+import matsu.num.transform.fft.convolution.AutoCorrelationExecutor;
+import matsu.num.transform.fft.fftmodule.RealCyclicConvolutionModule;
+import matsu.num.transform.fft.lib.Trigonometry;
+import matsu.num.transform.fft.lib.privatelib.ArraysUtil;
+import matsu.num.transform.fft.number.SmoothNumberUtil;
+import matsu.num.transform.fft.validation.StructureAcceptance;
+
+/**
+ * {@link AutoCorrelationExecutor} の実装.
+ * 
+ * <p>
+ * 入力は最大ノルムでスケーリングしてから計算し, 結果を復元する.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+public final class GenericAutoCorrelationExecutor implements AutoCorrelationExecutor {
+
+    private final DataSizeContract dataSizeContract = new DataSizeContract();
+
+    private final ArraysUtil arraysUtil;
+    private final RealCyclicConvolutionModule module;
+
+    /**
+     * 自己相関を構築する.
+     * 
+     * @param trigonometry 三角関数ライブラリ
+     * @param arraysUtil 配列ユーティリティ
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public GenericAutoCorrelationExecutor(Trigonometry trigonometry, ArraysUtil arraysUtil) {
+        this(new FourierBasisComputer.Supplier(trigonometry), arraysUtil);
+    }
+
+    /**
+     * 基底生成器のサプライヤを指定して, 自己相関を構築する. <br>
+     * サプライヤが持つ生成器のキャッシュは, 同じサプライヤを使う他のインスタンスと共有される.
+     * 
+     * @param computerSupplier 基底生成器のサプライヤ
+     * @param arraysUtil 配列ユーティリティ
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public GenericAutoCorrelationExecutor(FourierBasisComputer.Supplier computerSupplier, ArraysUtil arraysUtil) {
+        this(computerSupplier, arraysUtil, ParallelPolicy.SEQUENTIAL);
+    }
+
+    /**
+     * 基底生成器のサプライヤと並列実行の方針を指定して, 自己相関を構築する. <br>
+     * サプライヤが持つ生成器のキャッシュは, 同じサプライヤを使う他のインスタンスと共有される.
+     * 
+     * @param computerSupplier 基底生成器のサプライヤ
+     * @param arraysUtil 配列ユーティリティ
+     * @param parallelPolicy 内部のFFTの並列実行の方針
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public GenericAutoCorrelationExecutor(
+            FourierBasisComputer.Supplier computerSupplier, ArraysUtil arraysUtil,
+            ParallelPolicy parallelPolicy) {
+        super();
+        this.arraysUtil = Objects.requireNonNull(arraysUtil);
+        this.module = new RealCyclicConvolutionModule(computerSupplier, parallelPolicy);
+
+        this.dataSizeContract.bindRequiredSize(1);
+        this.dataSizeContract.bindUpperLimitSize(MAX_DATA_SIZE);
+    }
+
+    @Override
+    public StructureAcceptance accepts(double[] f) {
+        return this.dataSizeContract.acceptsSize(f.length);
+    }
+
+    @Override
+    public double[] applyCyclic(double[] f) {
+        StructureAcceptance acceptance = this.accepts(f);
+        if (!acceptance.isAcceptState()) {
+            throw acceptance.getException();
+        }
+
+        final int size = f.length;
+        double scale = this.arraysUtil.normMax(f);
+
+        //不正な値が入っている場合,NaNで埋めてreturn
+        if (!Double.isFinite(scale)) {
+            return nanArray(size);
+        }
+        scale = scale == 0d ? 1d : scale;
+
+        double[] result = this.cyclicAutoCorrelation(f, scale, size);
+        final double scale2 = scale * scale;
+        for (int k = 0; k < size; k++) {
+            result[k] *= scale2;
+        }
+        return result;
+    }
+
+    @Override
+    public double[] applyLinear(double[] f, int maxLag) {
+        StructureAcceptance acceptance = this.accepts(f);
+        if (!acceptance.isAcceptState()) {
+            throw acceptance.getException();
+        }
+        if (maxLag < 0 || maxLag > MAX_DATA_SIZE) {
+            throw new IllegalArgumentException("最大ラグが不適: maxLag = " + maxLag);
+        }
+
+        final int size = f.length;
+        double scale = this.arraysUtil.normMax(f);
+
+        //不正な値が入っている場合,NaNで埋めてreturn
+        if (!Double.isFinite(scale)) {
+            return nanArray(maxLag + 1);
+        }
+        scale = scale == 0d ? 1d : scale;
+
+        //ラグ 0, ... , L が巡回の影響を受けない最小の長さ
+        //(MAX_DATA_SIZEの制約により, 2N - 1 と N + L はintでオーバーフローしない)
+        final int length = SmoothNumberUtil.ceilTo5Smooth(Math.min(2 * size - 1, size + maxLag));
+        double[] cyclic = this.cyclicAutoCorrelation(f, scale, length);
+
+        double[] result = new double[maxLag + 1];
+        final int upperLag = Math.min(maxLag, size - 1);
+        final double scale2 = scale * scale;
+        for (int k = 0; k <= upperLag; k++) {
+            result[k] = cyclic[k] * scale2;
+        }
+        return result;
+    }
+
+    /**
+     * fをスケーリングし, 長さを指定して0埋めした作業用配列に対して, 巡回自己相関を計算する.
+     */
+    private double[] cyclicAutoCorrelation(double[] f, double scale, int length) {
+        ScratchArena arena = ScratchArena.current();
+        double[] scaledF = scaledCopy(f, scale, arena.borrow(length));
+        try {
+            return this.module.plan(length).computeAutoCorrelation(scaledF);
+        } finally {
+            arena.giveBack(scaledF);
+        }
+    }
+
+    /**
+     * スケーリングした複製 (0埋め) を出力配列に書き込み, 出力配列を返す.
+     */
+    private static double[] scaledCopy(double[] src, double scale, double[] out) {
+        final int len = src.length;
+        for (int j = 0; j < len; j++) {
+            out[j] = src[j] / scale;
+        }
+        Arrays.fill(out, len, out.length, 0d);
+        return out;
+    }
+
+    private static double[] nanArray(int size) {
+        double[] out = new double[size];
+        Arrays.fill(out, Double.NaN);
+        return out;
+    }
+
+    @Override
+    public String toString() {
+        return "GenericAutoCorrelationExecutor";
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2025.10.13
+ */
+package matsu.num.transform.fft.convolution.impl;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import matsu.num.transform.fft.component.DataSizeContract;
+import matsu.num.transform.fft.component.FourierBasisComputer;
+import matsu.num.transform.fft.component.ParallelPolicy;
+import matsu.num.transform.fft.component.ScratchArena;
+import matsu.num.transform.fft.convolution.CrossCorrelationExecutor;
+import matsu.num.transform.fft.fftmodule.RealCyclicConvolutionModule;
+import matsu.num.transform.fft.lib.Trigonometry;
+import matsu.num.transform.fft.lib.privatelib.ArraysUtil;
+import matsu.num.transform.fft.number.SmoothNumberUtil;
+import matsu.num.transform.fft.validation.DataSizeNotMismatchException;
+import matsu.num.transform.fft.validation.StructureAcceptance;
+import matsu.num.transform.fft.validation.StructureRejected;
+
+/**
+ * {@link CrossCorrelationExecutor} の実装.
+ * 
+ * <p>
+ * 入力は系列ごとに最大ノルムでスケーリングしてから計算し, 結果を復元する.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+public final class GenericCrossCorrelationExecutor implements CrossCorrelationExecutor {
+
+    private static final StructureAcceptance REJECT_BY_SIZE_MISMATCH =
+            StructureRejected.by(() -> new DataSizeNotMismatchException("データサイズが整合しない"), "REJECT_BY_SIZE_MISMATCH");
+
+    private final DataSizeContract dataSizeContract = new DataSizeContract();
+
+    private final ArraysUtil arraysUtil;
+    private final RealCyclicConvolutionModule module;
+
+    /**
+     * 相互相関を構築する.
+     * 
+     * @param trigonometry 三角関数ライブラリ
+     * @param arraysUtil 配列ユーティリティ
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public GenericCrossCorrelationExecutor(Trigonometry trigonometry, ArraysUtil arraysUtil) {
+        this(new FourierBasisComputer.Supplier(trigonometry), arraysUtil);
+    }
+
+    /**
+     * 基底生成器のサプライヤを指定して, 相互相関を構築する. <br>
+     * サプライヤが持つ生成器のキャッシュは, 同じサプライヤを使う他のインスタンスと共有される.
+     * 
+     * @param computerSupplier 基底生成器のサプライヤ
+     * @param arraysUtil 配列ユーティリティ
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public GenericCrossCorrelationExecutor(FourierBasisComputer.Supplier computerSupplier, ArraysUtil arraysUtil) {
+        this(computerSupplier, arraysUtil, ParallelPolicy.SEQUENTIAL);
+    }
+
+    /**
+     * 基底生成器のサプライヤと並列実行の方針を指定して, 相互相関を構築する. <br>
+     * サプライヤが持つ生成器のキャッシュは, 同じサプライヤを使う他のインスタンスと共有される.
+     * 
+     * @param computerSupplier 基底生成器のサプライヤ
+     * @param arraysUtil 配列ユーティリティ
+     * @param parallelPolicy 内部のFFTの並列実行の方針
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public GenericCrossCorrelationExecutor(
+            FourierBasisComputer.Supplier computerSupplier, ArraysUtil arraysUtil,
+            ParallelPolicy parallelPolicy) {
+        super();
+        this.arraysUtil = Objects.requireNonNull(arraysUtil);
+        this.module = new RealCyclicConvolutionModule(computerSupplier, parallelPolicy);
+
+        this.dataSizeContract.bindRequiredSize(1);
+        this.dataSizeContract.bindUpperLimitSize(MAX_DATA_SIZE);
+    }
+
+    @Override
+    public StructureAcceptance acceptsCyclic(double[] f, double[] g) {
+        if (f.length != g.length) {
+            return REJECT_BY_SIZE_MISMATCH;
+        }
+        return this.dataSizeContract.acceptsSize(f.length);
+    }
+
+    @Override
+    public double[] applyCyclic(double[] f, double[] g) {
+        StructureAcceptance acceptance = this.acceptsCyclic(f, g);
+        if (!acceptance.isAcceptState()) {
+            throw acceptance.getException();
+        }
+
+        final int size = f.length;
+        double scaleF = this.arraysUtil.normMax(f);
+        double scaleG = this.arraysUtil.normMax(g);
+
+        //不正な値が入っている場合,NaNで埋めてreturn
+        if (!(Double.isFinite(scaleF) && Double.isFinite(scaleG))) {
+            return nanArray(size);
+        }
+        scaleF = scaleF == 0d ? 1d : scaleF;
+        scaleG = scaleG == 0d ? 1d : scaleG;
+
+        double[] result = this.cyclicCorrelation(f, scaleF, g, scaleG, size);
+        rescale(result, scaleF * scaleG);
+        return result;
+    }
+
+    @Override
+    public StructureAcceptance acceptsLinear(double[] f, double[] g) {
+        StructureAcceptance acceptance = this.dataSizeContract.acceptsSize(f.length);
+        if (!acceptance.isAcceptState()) {
+            return acceptance;
+        }
+        acceptance = this.dataSizeContract.acceptsSize(g.length);
+        if (!acceptance.isAcceptState()) {
+            return acceptance;
+        }
+
+        //各長さはMAX_DATA_SIZE以下なので, intでオーバーフローしない
+        return this.dataSizeContract.acceptsSize(f.length + g.length - 1);
+    }
+
+    @Override
+    public double[] applyLinear(double[] f, double[] g, int maxLag) {
+        StructureAcceptance acceptance = this.acceptsLinear(f, g);
+        if (!acceptance.isAcceptState()) {
+            throw acceptance.getException();
+        }
+        if (maxLag < 0 || maxLag > MAX_DATA_SIZE) {
+            throw new IllegalArgumentException("最大ラグが不適: maxLag = " + maxLag);
+        }
+
+        final int m = f.length;
+        final int n = g.length;
+        double scaleF = this.arraysUtil.normMax(f);
+        double scaleG = this.arraysUtil.normMax(g);
+
+        //不正な値が入っている場合,NaNで埋めてreturn
+        if (!(Double.isFinite(scaleF) && Double.isFinite(scaleG))) {
+            return nanArray(2 * maxLag + 1);
+        }
+        scaleF = scaleF == 0d ? 1d : scaleF;
+        scaleG = scaleG == 0d ? 1d : scaleG;
+
+        //ラグ -L, ... , L が巡回の影響を受けない最小の長さ
+        final int length = SmoothNumberUtil.ceilTo5Smooth(
+                (int) Math.min(m + n - 1, (long) Math.max(m, n) + maxLag));
+        double[] cyclic = this.cyclicCorrelation(f, scaleF, g, scaleG, length);
+
+        double[] result = new double[2 * maxLag + 1];
+        final int lowerLag = Math.max(-maxLag, -(m - 1));
+        final int upperLag = Math.min(maxLag, n - 1);
+        final double scaleFG = scaleF * scaleG;
+        for (int k = lowerLag; k <= upperLag; k++) {
+            result[k + maxLag] = cyclic[k >= 0 ? k : k + length] * scaleFG;
+        }
+        return result;
+    }
+
+    /**
+     * f, gをスケーリングし, 長さを指定して0埋めした作業用配列に対して, 巡回相互相関を計算する.
+     */
+    private double[] cyclicCorrelation(double[] f, double scaleF, double[] g, double scaleG, int length) {
+        ScratchArena arena = ScratchArena.current();
+        double[] scaledF = scaledCopy(f, scaleF, arena.borrow(length));
+        double[] scaledG = scaledCopy(g, scaleG, arena.borrow(length));
+        try {
+            return this.module.plan(length).computeCorrelation(scaledF, scaledG);
+        } finally {
+            arena.giveBack(scaledG);
+            arena.giveBack(scaledF);
+        }
+    }
+
+    /**
+     * スケーリングした複製 (0埋め) を出力配列に書き込み, 出力配列を返す.
+     */
+    private static double[] scaledCopy(double[] src, double scale, double[] out) {
+        final int len = src.length;
+        for (int j = 0; j < len; j++) {
+            out[j] = src[j] / scale;
+        }
+        Arrays.fill(out, len, out.length, 0d);
+        return out;
+    }
+
+    private static void rescale(double[] data, double scale) {
+        for (int j = 0, len = data.length; j < len; j++) {
+            data[j] *= scale;
+        }
+    }
+
+    private static double[] nanArray(int size) {
+        double[] out = new double[size];
+        Arrays.fill(out, Double.NaN);
+        return out;
+    }
+
+    @Override
+    public String toString() {
+        return "GenericCrossCorrelationExecutor";
+    }
+}
@@ -0,0 +1,239 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2025.10.13
+ */
+package matsu.num.transform.fft.convolution.impl;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import matsu.num.transform.fft.component.DataSizeContract;
+import matsu.num.transform.fft.component.FourierBasisComputer;
+import matsu.num.transform.fft.component.ParallelPolicy;
+import matsu.num.transform.fft.component.ScratchArena;
+import matsu.num.transform.fft.convolution.LinearConvolutionExecutor;
+import matsu.num.transform.fft.convolution.StreamingConvolver;
+import matsu.num.transform.fft.fftmodule.RealCyclicConvolutionModule;
+import matsu.num.transform.fft.fftmodule.RealInnerFFTExecutor;
+import matsu.num.transform.fft.lib.Trigonometry;
+import matsu.num.transform.fft.lib.privatelib.ArraysUtil;
+import matsu.num.transform.fft.number.Power2Util;
+import matsu.num.transform.fft.number.SmoothNumberUtil;
+import matsu.num.transform.fft.validation.StructureAcceptance;
+
+/**
+ * {@link LinearConvolutionExecutor} の実装.
+ * 
+ * <p>
+ * 結果の長さ <i>m</i> + <i>n</i> - 1 以上の最小の5-smooth数に0埋めし,
+ * 実数列の巡回畳み込みとして計算する. <br>
+ * 短い方の長さが小さい場合は, 定義どおりに直接計算する.
+ * </p>
+ * 
+ * <p>
+ * 入力は系列ごとに最大ノルムでスケーリングしてから計算し, 結果を復元する.
+ * </p>
+ * 
+ * <p>
+ * ストリームの畳み込みは, 重複保留法により,
+ * ブロックとカーネルの長さの和以上の最小の偶数の5-smooth数の長さで計算する. <br>
+ * 分割畳み込みでは, 長さ <i>P</i> のパーティションを長さ2<i>P</i>の実数FFTで計算する.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+public final class GenericLinearConvolutionExecutor implements LinearConvolutionExecutor {
+
+    /**
+     * 短い方の長さがこの値以下の場合は, 直接計算する.
+     */
+    private static final int DIRECT_THRESHOLD = 32;
+
+    private final DataSizeContract dataSizeContract = new DataSizeContract();
+
+    private final ArraysUtil arraysUtil;
+    private final RealInnerFFTExecutor realFFT;
+    private final RealCyclicConvolutionModule module;
+
+    /**
+     * 線形畳み込みを構築する.
+     * 
+     * @param trigonometry 三角関数ライブラリ
+     * @param arraysUtil 配列ユーティリティ
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public GenericLinearConvolutionExecutor(Trigonometry trigonometry, ArraysUtil arraysUtil) {
+        this(new FourierBasisComputer.Supplier(trigonometry), arraysUtil);
+    }
+
+    /**
+     * 基底生成器のサプライヤを指定して, 線形畳み込みを構築する. <br>
+     * サプライヤが持つ生成器のキャッシュは, 同じサプライヤを使う他のインスタンスと共有される.
+     * 
+     * @param computerSupplier 基底生成器のサプライヤ
+     * @param arraysUtil 配列ユーティリティ
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public GenericLinearConvolutionExecutor(FourierBasisComputer.Supplier computerSupplier, ArraysUtil arraysUtil) {
+        this(computerSupplier, arraysUtil, ParallelPolicy.SEQUENTIAL);
+    }
+
+    /**
+     * 基底生成器のサプライヤと並列実行の方針を指定して, 線形畳み込みを構築する. <br>
+     * サプライヤが持つ生成器のキャッシュは, 同じサプライヤを使う他のインスタンスと共有される.
+     * 
+     * @param computerSupplier 基底生成器のサプライヤ
+     * @param arraysUtil 配列ユーティリティ
+     * @param parallelPolicy 内部のFFTの並列実行の方針
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public GenericLinearConvolutionExecutor(
+            FourierBasisComputer.Supplier computerSupplier, ArraysUtil arraysUtil,
+            ParallelPolicy parallelPolicy) {
+        super();
+        this.arraysUtil = Objects.requireNonNull(arraysUtil);
+        this.realFFT = new RealInnerFFTExecutor(computerSupplier, parallelPolicy);
+        this.module = new RealCyclicConvolutionModule(computerSupplier, parallelPolicy);
+
+        this.dataSizeContract.bindRequiredSize(1);
+        this.dataSizeContract.bindUpperLimitSize(MAX_DATA_SIZE);
+    }
+
+    @Override
+    public StructureAcceptance accepts(double[] f, double[] g) {
+        StructureAcceptance acceptance = this.dataSizeContract.acceptsSize(f.length);
+        if (!acceptance.isAcceptState()) {
+            return acceptance;
+        }
+        acceptance = this.dataSizeContract.acceptsSize(g.length);
+        if (!acceptance.isAcceptState()) {
+            return acceptance;
+        }
+
+        //結果の長さ: 各長さはMAX_DATA_SIZE以下なので, intでオーバーフローしない
+        return this.dataSizeContract.acceptsSize(f.length + g.length - 1);
+    }
+
+    @Override
+    public double[] apply(double[] f, double[] g) {
+        StructureAcceptance acceptance = this.accepts(f, g);
+        if (!acceptance.isAcceptState()) {
+            throw acceptance.getException();
+        }
+
+        final int m = f.length;
+        final int n = g.length;
+        final int resultSize = m + n - 1;
+
+        double scaleF = this.arraysUtil.normMax(f);
+        double scaleG = this.arraysUtil.normMax(g);
+
+        //不正な値が入っている場合,NaNで埋めてreturn
+        if (!(Double.isFinite(scaleF) && Double.isFinite(scaleG))) {
+            double[] result = new double[resultSize];
+            Arrays.fill(result, Double.NaN);
+            return result;
+        }
+
+        //スケールを正規化し, 0埋めを兼ねた配列にスケーリングして複製
+        scaleF = scaleF == 0d ? 1d : scaleF;
+        scaleG = scaleG == 0d ? 1d : scaleG;
+        final int length = Math.min(m, n) <= DIRECT_THRESHOLD
+                ? 0
+                : SmoothNumberUtil.ceilTo5Smooth(resultSize);
+        ScratchArena arena = ScratchArena.current();
+        double[] scaledF = arena.borrow(Math.max(m, length));
+        double[] scaledG = arena.borrow(Math.max(n, length));
+        double[] result;
+        try {
+            for (int j = 0; j < m; j++) {
+                scaledF[j] = f[j] / scaleF;
+            }
+            Arrays.fill(scaledF, m, scaledF.length, 0d);
+            for (int j = 0; j < n; j++) {
+                scaledG[j] = g[j] / scaleG;
+            }
+            Arrays.fill(scaledG, n, scaledG.length, 0d);
+
+            result = length == 0
+                    ? computeDirect(scaledF, scaledG)
+                    : Arrays.copyOf(this.module.plan(length).compute(scaledF, scaledG), resultSize);
+        } finally {
+            arena.giveBack(scaledG);
+            arena.giveBack(scaledF);
+        }
+
+        double scaleFG = scaleF * scaleG;
+        for (int j = 0; j < resultSize; j++) {
+            result[j] *= scaleFG;
+        }
+        return result;
+    }
+
+    @Override
+    public StreamingConvolver createStreamingConvolver(double[] kernel, int blockSize) {
+        if (kernel.length == 0) {
+            throw new IllegalArgumentException("カーネルの長さが0である");
+        }
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("ブロックの長さが1以上でない");
+        }
+        if ((long) kernel.length + blockSize - 1 > MAX_DATA_SIZE) {
+            throw new IllegalArgumentException("カーネルとブロックの長さが大きすぎる");
+        }
+
+        //偶数の5-smooth数とし, 実数FFTを長さL/2の複素FFTで行う
+        final int minLength = kernel.length + blockSize - 1;
+        final int fftLength = 2 * SmoothNumberUtil.ceilTo5Smooth((minLength + 1) / 2);
+        return new OverlapSaveConvolver(
+                this.realFFT.plan(fftLength), kernel, blockSize, this.arraysUtil);
+    }
+
+    @Override
+    public StreamingConvolver createPartitionedConvolver(
+            double[] kernel, int blockSize, int maxPartitionSize) {
+        if (kernel.length == 0) {
+            throw new IllegalArgumentException("カーネルの長さが0である");
+        }
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("ブロックの長さが1以上でない");
+        }
+        if (maxPartitionSize < blockSize
+                || maxPartitionSize % blockSize != 0
+                || !Power2Util.isPowerOf2(maxPartitionSize / blockSize)) {
+            throw new IllegalArgumentException("パーティションの長さの最大値がブロックの長さの2の累乗倍でない");
+        }
+        if (2L * maxPartitionSize > MAX_DATA_SIZE) {
+            throw new IllegalArgumentException("パーティションの長さが大きすぎる");
+        }
+
+        return new PartitionedConvolver(
+                this.realFFT::plan, kernel, blockSize, maxPartitionSize, this.arraysUtil);
+    }
+
+    /**
+     * 定義どおりに線形畳み込みを計算する.
+     */
+    private static double[] computeDirect(double[] f, double[] g) {
+        final int m = f.length;
+        final int n = g.length;
+        double[] result = new double[m + n - 1];
+        for (int i = 0; i < m; i++) {
+            final double fi = f[i];
+            for (int k = 0; k < n; k++) {
+                result[i + k] += fi * g[k];
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "GenericLinearConvolutionExecutor";
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2025.10.13
+ */
+package matsu.num.transform.fft.convolution.impl;
+
+import java.util.Arrays;
+
+import matsu.num.transform.fft.convolution.StreamingConvolver;
+import matsu.num.transform.fft.fftmodule.RealInnerFFTExecutor;
+import matsu.num.transform.fft.lib.privatelib.ArraysUtil;
+
+/**
+ * 重複保留法 (overlap-save) による {@link StreamingConvolver} の実装.
+ * 
+ * <p>
+ * カーネルの長さを <i>K</i>, ブロックの長さを <i>B</i> とし,
+ * 長さ <i>L</i> &ge; <i>B</i> + <i>K</i> - 1 の実数FFTを用いる. <br>
+ * 直近 <i>L</i> 個の入力をフレームとして保持し,
+ * ブロックごとにフレームの巡回畳み込みを計算して, 末尾 <i>B</i> 個 (巡回の影響を受けない部分) を出力する. <br>
+ * カーネルの半スペクトル (1/<i>L</i> の正規化を含む) は構築時に計算する.
+ * </p>
+ * 
+ * <p>
+ * 作業用配列は全て構築時に確保し, ブロックの処理では確保しない.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+final class OverlapSaveConvolver implements StreamingConvolver {
+
+    private final int kernelSize;
+    private final int blockSize;
+
+    private final RealInnerFFTExecutor.Plan fftPlan;
+    private final RealInnerFFTExecutor.Workspace workspace;
+
+    private final double[] kernelRe;
+    private final double[] kernelIm;
+
+    //直近L個の入力と, その変換結果
+    private final double[] frame;
+    private final double[] spectrumRe;
+    private final double[] spectrumIm;
+    private final double[] result;
+
+    /**
+     * 与えたFFTのプランでストリームの畳み込みを構築する. <br>
+     * 引数は検証されていなければならない
+     * (プランの長さは kernel.length + blockSize - 1 以上).
+     * 
+     * @param fftPlan 実数FFTのプラン
+     * @param kernel カーネル
+     * @param blockSize ブロックの長さ
+     * @param arraysUtil 配列ユーティリティ
+     */
+    OverlapSaveConvolver(
+            RealInnerFFTExecutor.Plan fftPlan, double[] kernel, int blockSize, ArraysUtil arraysUtil) {
+        super();
+        this.kernelSize = kernel.length;
+        this.blockSize = blockSize;
+        this.fftPlan = fftPlan;
+        this.workspace = fftPlan.createWorkspace();
+
+        final int L = fftPlan.size();
+        final int half = fftPlan.halfSpectrumSize();
+        this.frame = new double[L];
+        this.spectrumRe = new double[half];
+        this.spectrumIm = new double[half];
+        this.result = new double[L];
+        this.kernelRe = new double[half];
+        this.kernelIm = new double[half];
+
+        //カーネルをスケーリングして変換し, 変換後にスケールと1/Lを戻す
+        //(カーネルに不正値がある場合, スペクトルはNaNとなり, 出力も全てNaNになる)
+        double scale = arraysUtil.normMax(kernel);
+        scale = scale == 0d || !Double.isFinite(scale) ? 1d : scale;
+        for (int j = 0; j < this.kernelSize; j++) {
+            this.frame[j] = kernel[j] / scale;
+        }
+        fftPlan.forward(this.frame, this.kernelRe, this.kernelIm, this.workspace);
+        double factor = scale / L;
+        for (int k = 0; k < half; k++) {
+            this.kernelRe[k] *= factor;
+            this.kernelIm[k] *= factor;
+        }
+
+        this.reset();
+    }
+
+    @Override
+    public int kernelSize() {
+        return this.kernelSize;
+    }
+
+    @Override
+    public int blockSize() {
+        return this.blockSize;
+    }
+
+    @Override
+    public void process(double[] in, double[] out) {
+        final int B = this.blockSize;
+        if (in.length != B || out.length != B) {
+            throw new IllegalArgumentException("配列の長さがブロックの長さと一致しない");
+        }
+
+        final double[] frame = this.frame;
+        final int L = frame.length;
+
+        //フレームをBだけ進め, 末尾に新しいブロックを置く
+        System.arraycopy(frame, B, frame, 0, L - B);
+        System.arraycopy(in, 0, frame, L - B, B);
+
+        this.fftPlan.forward(frame, this.spectrumRe, this.spectrumIm, this.workspace);
+
+        final double[] s_re = this.spectrumRe;
+        final double[] s_im = this.spectrumIm;
+        final double[] k_re = this.kernelRe;
+        final double[] k_im = this.kernelIm;
+        for (int k = 0, len = s_re.length; k < len; k++) {
+            double a_re = s_re[k];
+            double a_im = s_im[k];
+            s_re[k] = a_re * k_re[k] - a_im * k_im[k];
+            s_im[k] = a_re * k_im[k] + a_im * k_re[k];
+        }
+
+        this.fftPlan.inverse(s_re, s_im, this.result, this.workspace);
+        System.arraycopy(this.result, L - B, out, 0, B);
+    }
+
+    @Override
+    public void reset() {
+        Arrays.fill(this.frame, 0d);
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "StreamingConvolver(overlap-save, kernelSize = %s, blockSize = %s, fftSize = %s)",
+                this.kernelSize, this.blockSize, this.fftPlan.size());
+    }
+}
@@ -0,0 +1,328 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2025.10.13
+ */
+package matsu.num.transform.fft.convolution.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntFunction;
+
+import matsu.num.transform.fft.convolution.StreamingConvolver;
+import matsu.num.transform.fft.fftmodule.RealInnerFFTExecutor;
+import matsu.num.transform.fft.lib.privatelib.ArraysUtil;
+
+/**
+ * 分割畳み込み (partitioned convolution) による {@link StreamingConvolver} の実装.
+ * 
+ * <p>
+ * カーネルを複数の区間 (パーティション) に分割し,
+ * 各パーティションを重複保留法で畳み込む. <br>
+ * 同じ長さ <i>P</i> のパーティションの列は1個のステージとして扱い,
+ * 入力の変換 (長さ2<i>P</i>の実数FFT) を周波数領域の遅延線 (FDL) に保持して,
+ * 各パーティションのスペクトルとの積和をとってから1回だけ逆変換する.
+ * </p>
+ * 
+ * <p>
+ * 先頭のステージはパーティションの長さがブロックの長さ <i>B</i> に等しく, 入力を受け取ったブロックで出力する. <br>
+ * 後続のステージ (パーティションの長さ <i>P</i> = 2<sup><i>k</i></sup><i>B</i>) は,
+ * カーネル内のオフセット <i>O</i> が <i>P</i> の倍数かつ <i>O</i> &ge; <i>P</i> となるように配置されるため,
+ * 長さ <i>P</i> の入力が揃った時点で, 以降 <i>P</i> 個の出力を前もって計算できる. <br>
+ * したがって, 入力から出力までの遅延はブロック化によるもののみである.
+ * </p>
+ * 
+ * <p>
+ * 作業用配列は全て構築時に確保し, ブロックの処理では確保しない.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+final class PartitionedConvolver implements StreamingConvolver {
+
+    private final int kernelSize;
+    private final int blockSize;
+
+    private final Stage[] stages;
+    private final double[] accumulator;
+
+    /**
+     * カーネルを分割して, 分割畳み込みを構築する. <br>
+     * 引数は検証されていなければならない
+     * ({@code maxPartitionSize} はブロックの長さの2の累乗倍).
+     * 
+     * @param planFactory 長さを与えて実数FFTのプランを返す関数
+     * @param kernel カーネル
+     * @param blockSize ブロックの長さ
+     * @param maxPartitionSize パーティションの長さの最大値
+     * @param arraysUtil 配列ユーティリティ
+     */
+    PartitionedConvolver(
+            IntFunction<RealInnerFFTExecutor.Plan> planFactory,
+            double[] kernel, int blockSize, int maxPartitionSize, ArraysUtil arraysUtil) {
+        super();
+        this.kernelSize = kernel.length;
+        this.blockSize = blockSize;
+        this.accumulator = new double[blockSize];
+
+        //カーネル全体のスケール(各ステージのスペクトルに戻す)
+        double scale = arraysUtil.normMax(kernel);
+        scale = scale == 0d || !Double.isFinite(scale) ? 1d : scale;
+
+        /*
+         * 先頭のステージ: 長さBのパーティションを2個 (オフセット0, B).
+         * 以降のステージ: 長さPのパーティションを1個 (オフセットP), P = 2B, 4B, ... .
+         * 長さが最大値に達したステージ, あるいは残りが2P以下になったステージで, 残りを全て覆う.
+         */
+        final int K = this.kernelSize;
+        List<Stage> stageList = new ArrayList<>();
+        int offset = 0;
+        int partitionSize = blockSize;
+        while (offset < K) {
+            int remaining = K - offset;
+            boolean last = partitionSize == maxPartitionSize || remaining <= 2 * partitionSize;
+            int count = last
+                    ? (remaining + partitionSize - 1) / partitionSize
+                    : offset == 0 ? 2 : 1;
+
+            stageList.add(new Stage(
+                    planFactory.apply(2 * partitionSize), kernel, scale,
+                    offset, partitionSize, count, blockSize));
+
+            offset += count * partitionSize;
+            partitionSize *= 2;
+        }
+        this.stages = stageList.toArray(new Stage[0]);
+    }
+
+    @Override
+    public int kernelSize() {
+        return this.kernelSize;
+    }
+
+    @Override
+    public int blockSize() {
+        return this.blockSize;
+    }
+
+    @Override
+    public void process(double[] in, double[] out) {
+        final int B = this.blockSize;
+        if (in.length != B || out.length != B) {
+            throw new IllegalArgumentException("配列の長さがブロックの長さと一致しない");
+        }
+
+        final double[] acc = this.accumulator;
+        Arrays.fill(acc, 0d);
+        for (Stage stage : this.stages) {
+            stage.process(in, acc);
+        }
+        System.arraycopy(acc, 0, out, 0, B);
+    }
+
+    @Override
+    public void reset() {
+        for (Stage stage : this.stages) {
+            stage.reset();
+        }
+    }
+
+    /**
+     * パーティションの長さの列を返す (文字列表現用).
+     */
+    private String partitionDescription() {
+        StringBuilder sb = new StringBuilder();
+        for (Stage stage : this.stages) {
+            if (sb.length() > 0) {
+                sb.append(", ");
+            }
+            sb.append(stage.partitionSize).append('x').append(stage.partitionCount);
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "StreamingConvolver(partitioned, kernelSize = %s, blockSize = %s, partitions = [%s])",
+                this.kernelSize, this.blockSize, this.partitionDescription());
+    }
+
+    /**
+     * 同じ長さのパーティションの列を扱うステージ.
+     */
+    private static final class Stage {
+
+        private final int partitionSize;
+        private final int partitionCount;
+        private final int blockSize;
+
+        /**
+         * 先頭のステージ (オフセットが0) ならtrue.
+         */
+        private final boolean immediate;
+
+        /**
+         * FDLのうち, 最初のパーティションに対応する遅延 (パーティション単位).
+         */
+        private final int delay;
+
+        private final RealInnerFFTExecutor.Plan fftPlan;
+        private final RealInnerFFTExecutor.Workspace workspace;
+
+        //パーティションごとのスペクトル
+        private final double[][] kernelRe;
+        private final double[][] kernelIm;
+
+        //周波数領域の遅延線(リングバッファ)
+        private final double[][] fdlRe;
+        private final double[][] fdlIm;
+        private int fdlHead;
+
+        //直近2P個の入力, 後半に入力を蓄積する
+        private final double[] frame;
+        private int filled;
+
+        private final double[] spectrumRe;
+        private final double[] spectrumIm;
+        private final double[] result;
+
+        //前もって計算した, 以降P個の出力(先頭のステージでは使わない)
+        private final double[] pending;
+        private int pendingPosition;
+
+        Stage(RealInnerFFTExecutor.Plan fftPlan, double[] kernel, double scale,
+                int offset, int partitionSize, int partitionCount, int blockSize) {
+            this.partitionSize = partitionSize;
+            this.partitionCount = partitionCount;
+            this.blockSize = blockSize;
+            this.immediate = offset == 0;
+            this.delay = this.immediate ? 0 : offset / partitionSize - 1;
+
+            this.fftPlan = fftPlan;
+            this.workspace = fftPlan.createWorkspace();
+
+            final int L = fftPlan.size();
+            final int half = fftPlan.halfSpectrumSize();
+            this.frame = new double[L];
+            this.spectrumRe = new double[half];
+            this.spectrumIm = new double[half];
+            this.result = new double[L];
+            this.pending = new double[partitionSize];
+
+            final int depth = this.delay + partitionCount;
+            this.fdlRe = new double[depth][half];
+            this.fdlIm = new double[depth][half];
+
+            //各パーティションをスケーリングして変換し, 変換後にスケールと1/Lを戻す
+            this.kernelRe = new double[partitionCount][half];
+            this.kernelIm = new double[partitionCount][half];
+            final double factor = scale / L;
+            for (int p = 0; p < partitionCount; p++) {
+                Arrays.fill(this.frame, 0d);
+                int start = offset + p * partitionSize;
+                int end = Math.min(start + partitionSize, kernel.length);
+                for (int j = start; j < end; j++) {
+                    this.frame[j - start] = kernel[j] / scale;
+                }
+                fftPlan.forward(this.frame, this.kernelRe[p], this.kernelIm[p], this.workspace);
+                for (int k = 0; k < half; k++) {
+                    this.kernelRe[p][k] *= factor;
+                    this.kernelIm[p][k] *= factor;
+                }
+            }
+
+            this.reset();
+        }
+
+        /**
+         * ブロックを受け取り, このステージの寄与を acc に加える.
+         */
+        void process(double[] in, double[] acc) {
+            final int B = this.blockSize;
+            final int P = this.partitionSize;
+
+            //前もって計算した出力を払い出す
+            if (!this.immediate) {
+                final double[] pending = this.pending;
+                final int pos = this.pendingPosition;
+                for (int j = 0; j < B; j++) {
+                    acc[j] += pending[pos + j];
+                }
+                this.pendingPosition = pos + B;
+            }
+
+            System.arraycopy(in, 0, this.frame, P + this.filled, B);
+            this.filled += B;
+            if (this.filled < P) {
+                return;
+            }
+
+            this.computePartitions();
+            System.arraycopy(this.frame, P, this.frame, 0, P);
+            this.filled = 0;
+
+            //巡回の影響を受けない後半P個が, 出力になる
+            if (this.immediate) {
+                final double[] result = this.result;
+                for (int j = 0; j < B; j++) {
+                    acc[j] += result[P + j];
+                }
+            } else {
+                System.arraycopy(this.result, P, this.pending, 0, P);
+                this.pendingPosition = 0;
+            }
+        }
+
+        /**
+         * フレームを変換してFDLに入れ, パーティションとの積和を逆変換する.
+         */
+        private void computePartitions() {
+            final int depth = this.fdlRe.length;
+            final int head = this.fdlHead == depth - 1 ? 0 : this.fdlHead + 1;
+            this.fdlHead = head;
+            this.fftPlan.forward(this.frame, this.fdlRe[head], this.fdlIm[head], this.workspace);
+
+            final double[] s_re = this.spectrumRe;
+            final double[] s_im = this.spectrumIm;
+            Arrays.fill(s_re, 0d);
+            Arrays.fill(s_im, 0d);
+            final int half = s_re.length;
+            for (int p = 0; p < this.partitionCount; p++) {
+                int slot = head - (this.delay + p);
+                if (slot < 0) {
+                    slot += depth;
+                }
+                final double[] x_re = this.fdlRe[slot];
+                final double[] x_im = this.fdlIm[slot];
+                final double[] h_re = this.kernelRe[p];
+                final double[] h_im = this.kernelIm[p];
+                for (int k = 0; k < half; k++) {
+                    s_re[k] += x_re[k] * h_re[k] - x_im[k] * h_im[k];
+                    s_im[k] += x_re[k] * h_im[k] + x_im[k] * h_re[k];
+                }
+            }
+
+            this.fftPlan.inverse(s_re, s_im, this.result, this.workspace);
+        }
+
+        void reset() {
+            Arrays.fill(this.frame, 0d);
+            Arrays.fill(this.pending, 0d);
+            for (double[] a : this.fdlRe) {
+                Arrays.fill(a, 0d);
+            }
+            for (double[] a : this.fdlIm) {
+                Arrays.fill(a, 0d);
+            }
+            this.fdlHead = 0;
+            this.filled = 0;
+            this.pendingPosition = 0;
+        }
+    }
+}
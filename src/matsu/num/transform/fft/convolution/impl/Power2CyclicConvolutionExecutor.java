@@ -5,19 +5,23 @@
  * http://opensource.org/licenses/mit-license.php
  */
 /*
- * 2025.5.8
+ * 2025.10.13
  */
 package matsu.num.transform.fft.convolution.impl;
 
+import java.util.Objects;
+import java.util.function.BinaryOperator;
+
 import matsu.num.transform.fft.component.BiLinearByScalingStability;
-import matsu.num.transform.fft.component.ComplexNumber;
 import matsu.num.transform.fft.component.FourierBasisComputer;
+import matsu.num.transform.fft.component.ParallelPolicy;
 import matsu.num.transform.fft.convolution.CyclicConvolutionExecutor;
-import matsu.num.transform.fft.fftmodule.Power2CyclicConvolutionModule;
+import matsu.num.transform.fft.fftmodule.RealCyclicConvolutionModule;
 import matsu.num.transform.fft.lib.Trigonometry;
 import matsu.num.transform.fft.lib.privatelib.ArraysUtil;
 import matsu.num.transform.fft.number.Power2Util;
 import matsu.num.transform.fft.validation.DataSizeNotMismatchException;
+import matsu.num.transform.fft.validation.StructureAcceptance;
 import matsu.num.transform.fft.validation.StructureRejected;
 
 /**
@@ -49,7 +53,8 @@ public final class Power2CyclicConvolutionExecutor
      */
 
     private final FourierBasisComputer.Supplier computerSupplier;
-    private final Power2CyclicConvolutionModule module;
+    private final ArraysUtil arraysUtil;
+    private final RealCyclicConvolutionModule module;
 
     /**
      * 巡回畳み込みを構築する.
@@ -59,9 +64,37 @@ public final class Power2CyclicConvolutionExecutor
      * @throws NullPointerException 引数にnullが含まれる場合
      */
     public Power2CyclicConvolutionExecutor(Trigonometry trigonometry, ArraysUtil arraysUtil) {
-        super(arraysUtil);
-        this.computerSupplier = new FourierBasisComputer.Supplier(trigonometry);
-        this.module = new Power2CyclicConvolutionModule(this.computerSupplier);
+        this(new FourierBasisComputer.Supplier(trigonometry), arraysUtil);
+    }
+
+    /**
+     * 基底生成器のサプライヤを指定して, 巡回畳み込みを構築する. <br>
+     * サプライヤが持つ生成器のキャッシュは, 同じサプライヤを使う他のインスタンスと共有される.
+     * 
+     * @param computerSupplier 基底生成器のサプライヤ
+     * @param arraysUtil 配列ユーティリティ
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public Power2CyclicConvolutionExecutor(FourierBasisComputer.Supplier computerSupplier, ArraysUtil arraysUtil) {
+        this(computerSupplier, arraysUtil, ParallelPolicy.SEQUENTIAL);
+    }
+
+    /**
+     * 基底生成器のサプライヤと並列実行の方針を指定して, 巡回畳み込みを構築する. <br>
+     * サプライヤが持つ生成器のキャッシュは, 同じサプライヤを使う他のインスタンスと共有される.
+     * 
+     * @param computerSupplier 基底生成器のサプライヤ
+     * @param arraysUtil 配列ユーティリティ
+     * @param parallelPolicy 内部のFFTとバッチ変換の並列実行の方針
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public Power2CyclicConvolutionExecutor(
+            FourierBasisComputer.Supplier computerSupplier, ArraysUtil arraysUtil,
+            ParallelPolicy parallelPolicy) {
+        super(arraysUtil, parallelPolicy);
+        this.arraysUtil = arraysUtil;
+        this.computerSupplier = Objects.requireNonNull(computerSupplier);
+        this.module = new RealCyclicConvolutionModule(this.computerSupplier, parallelPolicy);
 
         this.dataSizeContract.bindUpperLimitSize(MAX_DATA_SIZE);
         this.dataSizeContract.addRejectionContract(
@@ -72,13 +105,24 @@ public final class Power2CyclicConvolutionExecutor
 
     @Override
     protected double[] applyInner(double[] f, double[] g) {
-        int size = f.length;
+        //実数列のまま, f, gを1回の複素FFTで同時に変換して畳み込む
+        return this.module.compute(f, g);
+    }
 
-        double[] imaginaryZero = new double[size];
-        ComplexNumber[] complexF = ComplexNumber.from(f, imaginaryZero);
-        ComplexNumber[] complexG = ComplexNumber.from(g, imaginaryZero);
+    @Override
+    protected BinaryOperator<double[]> planInner(int size) {
+        RealCyclicConvolutionModule.Plan convPlan = this.module.plan(size);
+        return convPlan::compute;
+    }
+
+    @Override
+    public CyclicConvolutionExecutor.PreparedConvolution prepare(double[] g) {
+        StructureAcceptance acceptance = this.dataSizeContract.acceptsSize(g.length);
+        if (!acceptance.isAcceptState()) {
+            throw acceptance.getException();
+        }
 
-        ComplexNumber[] complexResult = this.module.compute(complexF, complexG);
-        return ComplexNumber.separateToArrays(complexResult)[0];
+        return new ScalingPreparedConvolution(
+                this.module.plan(g.length), g, this.arraysUtil, this.toString());
     }
 }
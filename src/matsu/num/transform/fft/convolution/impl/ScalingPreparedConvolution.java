@@ -0,0 +1,124 @@
+/*
+ * Copyright © 2024 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2025.10.13
+ */
+package matsu.num.transform.fft.convolution.impl;
+
+import java.util.Arrays;
+
+import matsu.num.transform.fft.component.ScratchArena;
+import matsu.num.transform.fft.convolution.CyclicConvolutionExecutor;
+import matsu.num.transform.fft.fftmodule.RealCyclicConvolutionModule;
+import matsu.num.transform.fft.lib.privatelib.ArraysUtil;
+import matsu.num.transform.fft.validation.DataSizeNotMismatchException;
+
+/**
+ * カーネルのスペクトルとスケールを保持した,
+ * {@link CyclicConvolutionExecutor.PreparedConvolution} の実装.
+ * 
+ * <p>
+ * スケーリングの方法は {@code BiLinearByScalingStability} に準拠する. <br>
+ * カーネルのスケールは構築時に1回だけ計算される.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+final class ScalingPreparedConvolution implements CyclicConvolutionExecutor.PreparedConvolution {
+
+    private final int size;
+    private final ArraysUtil arraysUtil;
+    private final String executorName;
+
+    /**
+     * カーネルが不正値を含む場合はnull.
+     */
+    private final RealCyclicConvolutionModule.PreparedKernel kernel;
+    private final double scaleG;
+
+    /**
+     * カーネルを固定したインスタンスを構築する. <br>
+     * 引数はacceptされていることが保証されていなければならない.
+     * 
+     * @param convPlan カーネルのサイズに対応したプラン
+     * @param g カーネル
+     * @param arraysUtil 配列ユーティリティ
+     * @param executorName 生成元の文字列表現
+     */
+    ScalingPreparedConvolution(
+            RealCyclicConvolutionModule.Plan convPlan, double[] g,
+            ArraysUtil arraysUtil, String executorName) {
+        super();
+        this.size = g.length;
+        this.arraysUtil = arraysUtil;
+        this.executorName = executorName;
+
+        double scale = arraysUtil.normMax(g);
+        if (!Double.isFinite(scale)) {
+            this.kernel = null;
+            this.scaleG = Double.NaN;
+            return;
+        }
+
+        //スケールを正規化し, 複製したgをスケーリングして変換を保持
+        scale = scale == 0d ? 1d : scale;
+        double[] scaledG = new double[this.size];
+        for (int j = 0; j < this.size; j++) {
+            scaledG[j] = g[j] / scale;
+        }
+        this.kernel = convPlan.prepare(scaledG);
+        this.scaleG = scale;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public double[] apply(double[] f) {
+        final int size = this.size;
+        if (f.length != size) {
+            throw new DataSizeNotMismatchException("データサイズがカーネルと整合しない");
+        }
+
+        double scaleF = this.arraysUtil.normMax(f);
+
+        //不正な値が入っている場合,NaNで埋めてreturn
+        if (this.kernel == null || !Double.isFinite(scaleF)) {
+            double[] result = new double[size];
+            Arrays.fill(result, Double.NaN);
+            return result;
+        }
+
+        //スケールを正規化し,fをスケーリングした作業用配列を作る
+        scaleF = scaleF == 0d ? 1d : scaleF;
+        ScratchArena arena = ScratchArena.current();
+        double[] scaledF = arena.borrow(size);
+        double[] result;
+        try {
+            for (int j = 0; j < size; j++) {
+                scaledF[j] = f[j] / scaleF;
+            }
+            result = this.kernel.compute(scaledF);
+        } finally {
+            arena.giveBack(scaledF);
+        }
+        double scaleFG = scaleF * this.scaleG;
+        for (int j = 0; j < size; j++) {
+            result[j] *= scaleFG;
+        }
+
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "PreparedConvolution(%s, size = %s)", this.executorName, this.size);
+    }
+}
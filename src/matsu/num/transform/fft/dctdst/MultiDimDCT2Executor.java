@@ -0,0 +1,55 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2025.10.13
+ */
+package matsu.num.transform.fft.dctdst;
+
+import matsu.num.transform.fft.MultiDimLinearTransform;
+
+/**
+ * 2次元または3次元の 離散cosine変換 (DCT-2) を扱う.
+ * 
+ * <p>
+ * 多次元の変換は, 各軸に沿って {@link DCT2Executor} と同じ1次元の変換を順に施したものである.
+ * </p>
+ * 
+ * <p>
+ * このインターフェースでは,
+ * {@link #accepts(double[], int[])}
+ * のreject条件は,
+ * {@link MultiDimLinearTransform}
+ * に対して次が追加される.
+ * </p>
+ * 
+ * <ul>
+ * <li>全要素数が {@link #MAX_DATA_SIZE} を超過する場合</li>
+ * </ul>
+ * 
+ * 
+ * <hr>
+ * <h2>技術的補足</h2>
+ * 
+ * <p>
+ * 逆変換は (定数倍を除いて) {@link MultiDimDCT3Executor} である. <br>
+ * 各軸の長さを <i>N</i><sub><i>d</i></sub> とすると,
+ * DCT-2とDCT-3を順に施した結果は元の配列の &Pi;<sub><i>d</i></sub> (<i>N</i><sub><i>d</i></sub> / 2) 倍になる.
+ * </p>
+ * 
+ * @implSpec
+ *               このインターフェースをモジュール外で継承・実装してはいけない.
+ * 
+ * @author Matsuura Y.
+ */
+public interface MultiDimDCT2Executor extends MultiDimLinearTransform {
+
+    /**
+     * 扱うことができる全要素数の最大値: 2<sup>27</sup>
+     */
+    public static final int MAX_DATA_SIZE = 0x1000_0000 / 2;
+
+}
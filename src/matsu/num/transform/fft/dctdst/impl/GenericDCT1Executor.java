@@ -5,16 +5,19 @@
  * http://opensource.org/licenses/mit-license.php
  */
 /*
- * 2025.5.8
+ * 2025.10.13
  */
 package matsu.num.transform.fft.dctdst.impl;
 
-import matsu.num.transform.fft.component.ComplexNumber;
+import java.util.Objects;
+import java.util.function.UnaryOperator;
+
 import matsu.num.transform.fft.component.FourierBasisComputer;
-import matsu.num.transform.fft.component.FourierType;
 import matsu.num.transform.fft.component.LinearByScalingStability;
+import matsu.num.transform.fft.component.ParallelPolicy;
+import matsu.num.transform.fft.component.ScratchArena;
 import matsu.num.transform.fft.dctdst.DCT1Executor;
-import matsu.num.transform.fft.fftmodule.GenericInnerFFTExecutor;
+import matsu.num.transform.fft.fftmodule.RealInnerFFTExecutor;
 import matsu.num.transform.fft.lib.Trigonometry;
 import matsu.num.transform.fft.lib.privatelib.ArraysUtil;
 
@@ -34,7 +37,7 @@ public final class GenericDCT1Executor
      */
 
     private final FourierBasisComputer.Supplier computerSupplier;
-    private final GenericInnerFFTExecutor fftExecutor;
+    private final RealInnerFFTExecutor realFFT;
 
     /**
      * DCT1Executorを構築する.
@@ -44,9 +47,36 @@ public final class GenericDCT1Executor
      * @throws NullPointerException 引数にnullが含まれる場合
      */
     public GenericDCT1Executor(Trigonometry trigonometry, ArraysUtil arraysUtil) {
-        super(arraysUtil);
-        this.computerSupplier = new FourierBasisComputer.Supplier(trigonometry);
-        this.fftExecutor = new GenericInnerFFTExecutor(this.computerSupplier);
+        this(new FourierBasisComputer.Supplier(trigonometry), arraysUtil);
+    }
+
+    /**
+     * 基底生成器のサプライヤを指定して, DCT1Executorを構築する. <br>
+     * サプライヤが持つ生成器のキャッシュは, 同じサプライヤを使う他のインスタンスと共有される.
+     * 
+     * @param computerSupplier 基底生成器のサプライヤ
+     * @param arraysUtil 配列ユーティリティ
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public GenericDCT1Executor(FourierBasisComputer.Supplier computerSupplier, ArraysUtil arraysUtil) {
+        this(computerSupplier, arraysUtil, ParallelPolicy.SEQUENTIAL);
+    }
+
+    /**
+     * 基底生成器のサプライヤと並列実行の方針を指定して, DCT1Executorを構築する. <br>
+     * サプライヤが持つ生成器のキャッシュは, 同じサプライヤを使う他のインスタンスと共有される.
+     * 
+     * @param computerSupplier 基底生成器のサプライヤ
+     * @param arraysUtil 配列ユーティリティ
+     * @param parallelPolicy バッチ変換の並列実行の方針
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public GenericDCT1Executor(
+            FourierBasisComputer.Supplier computerSupplier, ArraysUtil arraysUtil,
+            ParallelPolicy parallelPolicy) {
+        super(arraysUtil, parallelPolicy);
+        this.computerSupplier = Objects.requireNonNull(computerSupplier);
+        this.realFFT = new RealInnerFFTExecutor(this.computerSupplier);
 
         this.dataSizeContract.bindRequiredSize(2);
         this.dataSizeContract.bindUpperLimitSize(MAX_DATA_SIZE);
@@ -54,39 +84,63 @@ public final class GenericDCT1Executor
 
     @Override
     protected double[] applyInner(double[] data) {
+        return this.applyInner(data, this.fftPlan(data.length));
+    }
+
+    @Override
+    protected UnaryOperator<double[]> planInner(int size) {
+        RealInnerFFTExecutor.Plan fftPlan = this.fftPlan(size);
+        return data -> this.applyInner(data, fftPlan);
+    }
+
+    /**
+     * 変換のサイズに対応する, 実数FFTのプランを構築する.
+     */
+    private RealInnerFFTExecutor.Plan fftPlan(int size) {
+        return this.realFFT.plan(2 * size - 2);
+    }
+
+    private double[] applyInner(double[] data, RealInnerFFTExecutor.Plan fftPlan) {
         int size = data.length;
 
         /*
          * DCT-1は2N-2個の実数データ点a,
          * a[0] = x[0],..., a[N-1] = x[N-1],
          * a[N] = x[N-2], ,..., x[2N-3] = x[1]
-         * に対してFFTを実行し,
+         * に対して実数FFTを実行し,
          * X[k] = 0.5 * A[k] (A[k]は実数)
          * とすればよい.
+         * 実数FFTの半スペクトルはA[0],...,A[N-1]のN個である.
          */
 
         /* FFT用のデータ作成 */
         //fftSizeの上限が　FFTExecutor.MAX_DATA_SIZE　になっている
         int fftSize = 2 * size - 2;
-        ComplexNumber[] a = new ComplexNumber[fftSize];
-        for (int i = 0; i < size; i++) {
-            a[i] = ComplexNumber.of(data[i], 0);
-        }
-        for (int i = 1; i < size - 1; i++) {
-            a[fftSize - i] = a[i];
-        }
+        ScratchArena arena = ScratchArena.current();
+        double[] a = arena.borrow(fftSize);
+        double[] a_re = arena.borrow(size);
+        double[] a_im = arena.borrow(size);
+        try {
+            System.arraycopy(data, 0, a, 0, size);
+            for (int i = 1; i < size - 1; i++) {
+                a[fftSize - i] = a[i];
+            }
 
-        /* FFT実行 */
-        ComplexNumber[] A = this.fftExecutor
-                .compute(a, this.computerSupplier.covering(fftSize, FourierType.DFT));
+            /* FFT実行 */
+            fftPlan.forward(a, a_re, a_im);
 
-        /* 結果をDCT-1に変換 */
-        double[] result = new double[size];
-        for (int i = 0; i < size; i++) {
-            result[i] = 0.5 * A[i].real();
+            /* 結果をDCT-1に変換 */
+            //入力は使い終えたので, 結果の格納に再利用する
+            double[] result = data;
+            for (int i = 0; i < size; i++) {
+                result[i] = 0.5 * a_re[i];
+            }
+            return result;
+        } finally {
+            arena.giveBack(a_im);
+            arena.giveBack(a_re);
+            arena.giveBack(a);
         }
-
-        return result;
     }
 
     @Override
@@ -5,15 +5,19 @@
  * http://opensource.org/licenses/mit-license.php
  */
 /*
- * 2025.5.8
+ * 2025.10.13
  */
 package matsu.num.transform.fft.dctdst.impl;
 
-import matsu.num.transform.fft.component.ComplexNumber;
+import java.util.Objects;
+import java.util.function.UnaryOperator;
+
 import matsu.num.transform.fft.component.FourierBasis;
 import matsu.num.transform.fft.component.FourierBasisComputer;
 import matsu.num.transform.fft.component.FourierType;
 import matsu.num.transform.fft.component.LinearByScalingStability;
+import matsu.num.transform.fft.component.ParallelPolicy;
+import matsu.num.transform.fft.component.ScratchArena;
 import matsu.num.transform.fft.dctdst.DCT4Executor;
 import matsu.num.transform.fft.fftmodule.GenericInnerFFTExecutor;
 import matsu.num.transform.fft.lib.Trigonometry;
@@ -46,9 +50,39 @@ public final class GenericDCT4Executor
      * @throws NullPointerException 引数にnullが含まれる場合
      */
     public GenericDCT4Executor(Trigonometry trigonometry, ArraysUtil arraysUtil) {
-        super(arraysUtil);
-        this.trigonometry = trigonometry;
-        this.computerSupplier = new FourierBasisComputer.Supplier(this.trigonometry);
+        this(trigonometry, new FourierBasisComputer.Supplier(trigonometry), arraysUtil);
+    }
+
+    /**
+     * 基底生成器のサプライヤを指定して, DCT4Executorを構築する. <br>
+     * サプライヤが持つ生成器のキャッシュは, 同じサプライヤを使う他のインスタンスと共有される.
+     * 
+     * @param trigonometry 三角関数ライブラリ
+     * @param computerSupplier 基底生成器のサプライヤ
+     * @param arraysUtil 配列ユーティリティ
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public GenericDCT4Executor(
+            Trigonometry trigonometry, FourierBasisComputer.Supplier computerSupplier, ArraysUtil arraysUtil) {
+        this(trigonometry, computerSupplier, arraysUtil, ParallelPolicy.SEQUENTIAL);
+    }
+
+    /**
+     * 基底生成器のサプライヤと並列実行の方針を指定して, DCT4Executorを構築する. <br>
+     * サプライヤが持つ生成器のキャッシュは, 同じサプライヤを使う他のインスタンスと共有される.
+     * 
+     * @param trigonometry 三角関数ライブラリ
+     * @param computerSupplier 基底生成器のサプライヤ
+     * @param arraysUtil 配列ユーティリティ
+     * @param parallelPolicy バッチ変換の並列実行の方針
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public GenericDCT4Executor(
+            Trigonometry trigonometry, FourierBasisComputer.Supplier computerSupplier, ArraysUtil arraysUtil,
+            ParallelPolicy parallelPolicy) {
+        super(arraysUtil, parallelPolicy);
+        this.trigonometry = Objects.requireNonNull(trigonometry);
+        this.computerSupplier = Objects.requireNonNull(computerSupplier);
         this.fftExecutor = new GenericInnerFFTExecutor(this.computerSupplier);
 
         this.dataSizeContract.bindUpperLimitSize(MAX_DATA_SIZE);
@@ -56,6 +90,107 @@ public final class GenericDCT4Executor
 
     @Override
     protected double[] applyInner(double[] data) {
+        return this.applyInner(data, this.fftPlan(data.length));
+    }
+
+    @Override
+    protected UnaryOperator<double[]> planInner(int size) {
+        GenericInnerFFTExecutor.Plan fftPlan = this.fftPlan(size);
+        return data -> this.applyInner(data, fftPlan);
+    }
+
+    /**
+     * 変換のサイズに対応する, FFTのプランを構築する. <br>
+     * サイズが偶数の場合は長さN/2, 奇数の場合は長さ2NのFFTである.
+     */
+    private GenericInnerFFTExecutor.Plan fftPlan(int size) {
+        if ((size & 1) == 0) {
+            int fftSize = size / 2;
+            return this.fftExecutor.plan(
+                    fftSize, this.computerSupplier.covering(2 * size, FourierType.DFT));
+        }
+
+        int fftSize = 2 * size;
+        return this.fftExecutor.plan(
+                fftSize, this.computerSupplier.covering(2 * fftSize, FourierType.DFT));
+    }
+
+    private double[] applyInner(double[] data, GenericInnerFFTExecutor.Plan fftPlan) {
+        return (data.length & 1) == 0
+                ? this.applyInnerEven(data, fftPlan)
+                : this.applyInnerOdd(data, fftPlan);
+    }
+
+    /**
+     * 偶数サイズのDCT-4を, 長さN/2の複素FFTで計算する.
+     */
+    private double[] applyInnerEven(double[] data, GenericInnerFFTExecutor.Plan fftPlan) {
+        int size = data.length;
+        int halfSize = size / 2;
+
+        /*
+         * DCT-4は, N/2個の複素数データ点u,
+         * u[m] = (x[2m] + i*x[N-1-2m]) * exp(-i * 2pi * m/(2N))
+         * (m=0,...,N/2-1)
+         * に対してFFTを実行し,
+         * y[k] = exp(-i * 2pi * k/(2N)) * exp(-i * pi/(4N)) * U[k]
+         * として,
+         * X[2k] = Re(y[k]), X[N-1-2k] = -Im(y[k])
+         * とすればよい.
+         */
+        FourierBasis dftBasis_2N =
+                this.computerSupplier.covering(2 * size, FourierType.DFT).getBasis(2 * size);
+
+        //rot_quarter = cos - i*sin
+        final double cos;
+        final double sin;
+        {
+            //cos, sin (pi/(4N))
+            double phi = 0.25 / size;
+            cos = this.trigonometry.cospi(phi);
+            sin = this.trigonometry.sinpi(phi);
+        }
+
+        /* FFT用のデータ作成 */
+        ScratchArena arena = ScratchArena.current();
+        double[] u_re = arena.borrow(halfSize);
+        double[] u_im = arena.borrow(halfSize);
+        try {
+            for (int m = 0; m < halfSize; m++) {
+                double a = data[2 * m];
+                double b = data[size - 1 - 2 * m];
+                double w_re = dftBasis_2N.realAt(m);
+                double w_im = dftBasis_2N.imaginaryAt(m);
+                u_re[m] = a * w_re - b * w_im;
+                u_im[m] = a * w_im + b * w_re;
+            }
+
+            /* FFT実行 */
+            fftPlan.computeInPlace(u_re, u_im);
+
+            /* 結果をDCT-4に変換 */
+            //入力は使い終えたので, 結果の格納に再利用する
+            double[] result = data;
+            for (int k = 0; k < halfSize; k++) {
+                double w_re = dftBasis_2N.realAt(k);
+                double w_im = dftBasis_2N.imaginaryAt(k);
+                //r = W * rot_quarter
+                double r_re = w_re * cos + w_im * sin;
+                double r_im = w_im * cos - w_re * sin;
+                result[2 * k] = u_re[k] * r_re - u_im[k] * r_im;
+                result[size - 1 - 2 * k] = -(u_re[k] * r_im + u_im[k] * r_re);
+            }
+            return result;
+        } finally {
+            arena.giveBack(u_im);
+            arena.giveBack(u_re);
+        }
+    }
+
+    /**
+     * 奇数サイズのDCT-4を, 長さ2Nの複素FFTで計算する.
+     */
+    private double[] applyInnerOdd(double[] data, GenericInnerFFTExecutor.Plan fftPlan) {
 
         int size = data.length;
 
@@ -72,15 +207,14 @@ public final class GenericDCT4Executor
         int fftSize = size * 2;
         FourierBasisComputer dftBasisComputer = this.computerSupplier.covering(2 * fftSize, FourierType.DFT);
 
-        ComplexNumber rot_quarter;
-        ComplexNumber invRot_quarter;
+        //rot_quarter = cos - i*sin, invRot_quarter = cos + i*sin
+        final double cos;
+        final double sin;
         {
             //cos, sin (pi/(4N))
             double phi = 0.5 / fftSize;
-            double cos = this.trigonometry.cospi(phi);
-            double sin = this.trigonometry.sinpi(phi);
-            rot_quarter = ComplexNumber.of(cos, -sin);
-            invRot_quarter = ComplexNumber.of(cos, sin);
+            cos = this.trigonometry.cospi(phi);
+            sin = this.trigonometry.sinpi(phi);
         }
 
         /* FFT用のデータ作成 */
@@ -88,30 +222,40 @@ public final class GenericDCT4Executor
         //前処理/後処理のための係数を得るために必要.
         FourierBasis dftBasis_4N = dftBasisComputer.getBasis(fftSize * 2);
 
-        ComplexNumber[] a = new ComplexNumber[fftSize];
-        for (int j = 0; j < size; j++) {
-            a[j] = rot_quarter
-                    .times(dftBasis_4N.valueAt(j))
-                    .timesReal(data[j]);
-        }
-        for (int j = 0; j < size; j++) {
-            //exp(-i * 2pi * (4N - j)/(4N))が位相2πになる(IndexOutOfBoundsEx)のを回避するため, 
-            //x[j]を(-1)倍し, exp(-i * 2pi * (2N - j)/(4N))の回転にする
-            a[fftSize - 1 - j] = invRot_quarter
-                    .times(dftBasis_4N.valueAt(fftSize - j))
-                    .timesReal(-data[j]);
-        }
+        ScratchArena arena = ScratchArena.current();
+        double[] a_re = arena.borrow(fftSize);
+        double[] a_im = arena.borrow(fftSize);
+        try {
+            for (int j = 0; j < size; j++) {
+                double w_re = dftBasis_4N.realAt(j);
+                double w_im = dftBasis_4N.imaginaryAt(j);
+                a_re[j] = (cos * w_re + sin * w_im) * data[j];
+                a_im[j] = (cos * w_im - sin * w_re) * data[j];
+            }
+            for (int j = 0; j < size; j++) {
+                //exp(-i * 2pi * (4N - j)/(4N))が位相2πになる(IndexOutOfBoundsEx)のを回避するため, 
+                //x[j]を(-1)倍し, exp(-i * 2pi * (2N - j)/(4N))の回転にする
+                double w_re = dftBasis_4N.realAt(fftSize - j);
+                double w_im = dftBasis_4N.imaginaryAt(fftSize - j);
+                a_re[fftSize - 1 - j] = (cos * w_re - sin * w_im) * (-data[j]);
+                a_im[fftSize - 1 - j] = (cos * w_im + sin * w_re) * (-data[j]);
+            }
 
-        /* FFT実行 */
-        ComplexNumber[] A = this.fftExecutor.compute(a, dftBasisComputer);
+            /* FFT実行 */
+            fftPlan.computeInPlace(a_re, a_im);
 
-        /* 結果をDCT-4に変換 */
-        double[] result = new double[size];
-        for (int k = 0; k < size; k++) {
-            result[k] = 0.5 * A[k].times(dftBasis_4N.valueAt(k)).real();
+            /* 結果をDCT-4に変換 */
+            //入力は使い終えたので, 結果の格納に再利用する
+            double[] result = data;
+            for (int k = 0; k < size; k++) {
+                //Re(A[k] * W)
+                result[k] = 0.5 * (a_re[k] * dftBasis_4N.realAt(k) - a_im[k] * dftBasis_4N.imaginaryAt(k));
+            }
+            return result;
+        } finally {
+            arena.giveBack(a_im);
+            arena.giveBack(a_re);
         }
-
-        return result;
     }
 
     @Override
@@ -5,17 +5,21 @@
  * http://opensource.org/licenses/mit-license.php
  */
 /*
- * 2025.5.8
+ * 2025.10.13
  */
 package matsu.num.transform.fft.dctdst.impl;
 
-import matsu.num.transform.fft.component.ComplexNumber;
+import java.util.Objects;
+import java.util.function.UnaryOperator;
+
 import matsu.num.transform.fft.component.FourierBasis;
 import matsu.num.transform.fft.component.FourierBasisComputer;
 import matsu.num.transform.fft.component.FourierType;
 import matsu.num.transform.fft.component.LinearByScalingStability;
+import matsu.num.transform.fft.component.ParallelPolicy;
+import matsu.num.transform.fft.component.ScratchArena;
 import matsu.num.transform.fft.dctdst.DST2Executor;
-import matsu.num.transform.fft.fftmodule.GenericInnerFFTExecutor;
+import matsu.num.transform.fft.fftmodule.RealInnerFFTExecutor;
 import matsu.num.transform.fft.lib.Trigonometry;
 import matsu.num.transform.fft.lib.privatelib.ArraysUtil;
 
@@ -35,7 +39,7 @@ public final class GenericDST2Executor
      */
 
     private final FourierBasisComputer.Supplier computerSupplier;
-    private final GenericInnerFFTExecutor fftExecutor;
+    private final RealInnerFFTExecutor realFFT;
 
     /**
      * DST2Executorを構築する.
@@ -45,53 +49,112 @@ public final class GenericDST2Executor
      * @throws NullPointerException 引数にnullが含まれる場合
      */
     public GenericDST2Executor(Trigonometry trigonometry, ArraysUtil arraysUtil) {
-        super(arraysUtil);
-        this.computerSupplier = new FourierBasisComputer.Supplier(trigonometry);
-        this.fftExecutor = new GenericInnerFFTExecutor(this.computerSupplier);
+        this(new FourierBasisComputer.Supplier(trigonometry), arraysUtil);
+    }
+
+    /**
+     * 基底生成器のサプライヤを指定して, DST2Executorを構築する. <br>
+     * サプライヤが持つ生成器のキャッシュは, 同じサプライヤを使う他のインスタンスと共有される.
+     * 
+     * @param computerSupplier 基底生成器のサプライヤ
+     * @param arraysUtil 配列ユーティリティ
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public GenericDST2Executor(FourierBasisComputer.Supplier computerSupplier, ArraysUtil arraysUtil) {
+        this(computerSupplier, arraysUtil, ParallelPolicy.SEQUENTIAL);
+    }
+
+    /**
+     * 基底生成器のサプライヤと並列実行の方針を指定して, DST2Executorを構築する. <br>
+     * サプライヤが持つ生成器のキャッシュは, 同じサプライヤを使う他のインスタンスと共有される.
+     * 
+     * @param computerSupplier 基底生成器のサプライヤ
+     * @param arraysUtil 配列ユーティリティ
+     * @param parallelPolicy バッチ変換の並列実行の方針
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public GenericDST2Executor(
+            FourierBasisComputer.Supplier computerSupplier, ArraysUtil arraysUtil,
+            ParallelPolicy parallelPolicy) {
+        super(arraysUtil, parallelPolicy);
+        this.computerSupplier = Objects.requireNonNull(computerSupplier);
+        this.realFFT = new RealInnerFFTExecutor(this.computerSupplier);
 
         this.dataSizeContract.bindUpperLimitSize(MAX_DATA_SIZE);
     }
 
     @Override
     protected double[] applyInner(double[] data) {
+        return this.applyInner(data, this.fftPlan(data.length));
+    }
+
+    @Override
+    protected UnaryOperator<double[]> planInner(int size) {
+        RealInnerFFTExecutor.Plan fftPlan = this.fftPlan(size);
+        return data -> this.applyInner(data, fftPlan);
+    }
+
+    /**
+     * 変換のサイズに対応する, 実数FFTのプランを構築する.
+     */
+    private RealInnerFFTExecutor.Plan fftPlan(int size) {
+        return this.realFFT.plan(size);
+    }
+
+    private double[] applyInner(double[] data, RealInnerFFTExecutor.Plan fftPlan) {
         int size = data.length;
 
         /*
-         * DST-2は2N個の実数データ点a,
-         * a[j] = x[j] (j=0,...,N-1)
-         * a[2N - 1 - j] = -x[j] (j=0,...,N-1)
-         * に対してFFTを実行し,
-         * X[k] = (i/2) * exp[-i*2pi*(k+1)/(4N)] * A[k + 1]
+         * DST-2は, 符号を交代させた入力 y[j] = (-1)^j * x[j] のDCT-2 Yにより,
+         * X[k] = Y[N-1-k]
+         * と表される.
+         * DCT-2は (Makhoulの方法により) N個の実数データ点v,
+         * v[j] = y[2j], v[N-1-j] = y[2j+1]
+         * に対して実数FFTを実行し,
+         * Y[k] = Re(exp[-i*2pi*k/(4N)] * V[k])
          * とすればよい.
+         * ただし, k > N/2 に対しては V[k] = conj(V[N-k]) である.
          */
 
-        int fftSize = size * 2;
-        FourierBasisComputer dftBasisComputer =
-                this.computerSupplier.covering(2 * fftSize, FourierType.DFT);
-
         /* FFT用のデータ作成 */
-        //fftSizeの上限が　FFTExecutor.MAX_DATA_SIZE　になっている
-        ComplexNumber[] a = new ComplexNumber[fftSize];
-        for (int i = 0; i < size; i++) {
-            a[i] = ComplexNumber.of(data[i], 0);
-        }
-        for (int i = 0; i < size; i++) {
-            a[fftSize - 1 - i] = ComplexNumber.of(-data[i], 0);
-        }
+        int halfSize = fftPlan.halfSpectrumSize();
+        ScratchArena arena = ScratchArena.current();
+        double[] v = arena.borrow(size);
+        double[] v_re = arena.borrow(halfSize);
+        double[] v_im = arena.borrow(halfSize);
+        try {
+            for (int j = 0; 2 * j < size; j++) {
+                v[j] = data[2 * j];
+            }
+            for (int j = 0; 2 * j + 1 < size; j++) {
+                v[size - 1 - j] = -data[2 * j + 1];
+            }
 
-        /* FFT実行 */
-        //前処理/後処理のための係数を得るために必要.
-        ComplexNumber[] A = this.fftExecutor.compute(a, dftBasisComputer);
+            /* FFT実行 */
+            fftPlan.forward(v, v_re, v_im);
 
-        /* 結果をDST-2に変換 */
-        //exp[-i*2pi*(k+1)/(4N)]の計算をするため, 4NサイズのDFT基底を得る
-        FourierBasis dftBasis_4N = dftBasisComputer.getBasis(2 * fftSize);
-        double[] result = new double[size];
-        for (int k = 0; k < size; k++) {
-            result[k] = -0.5 * A[k + 1].times(dftBasis_4N.valueAt(k + 1)).imaginary();
+            /* 結果をDST-2に変換 */
+            //exp[-i*2pi*k/(4N)]の計算をするため, 4NサイズのDFT基底を得る
+            //DST2サイズの4倍を表す(最大2^29).
+            int N4 = 4 * size;
+            FourierBasis dftBasis_4N = this.computerSupplier.covering(N4, FourierType.DFT).getBasis(N4);
+            //入力は使い終えたので, 結果の格納に再利用する
+            double[] result = data;
+            for (int k = 0; k < halfSize; k++) {
+                //Re(V[k] * W)
+                result[size - 1 - k] = v_re[k] * dftBasis_4N.realAt(k) - v_im[k] * dftBasis_4N.imaginaryAt(k);
+            }
+            for (int k = halfSize; k < size; k++) {
+                //Re(conj(V[N-k]) * W)
+                result[size - 1 - k] =
+                        v_re[size - k] * dftBasis_4N.realAt(k) + v_im[size - k] * dftBasis_4N.imaginaryAt(k);
+            }
+            return result;
+        } finally {
+            arena.giveBack(v_im);
+            arena.giveBack(v_re);
+            arena.giveBack(v);
         }
-
-        return result;
     }
 
     @Override
@@ -5,17 +5,21 @@
  * http://opensource.org/licenses/mit-license.php
  */
 /*
- * 2025.5.8
+ * 2025.10.13
  */
 package matsu.num.transform.fft.dctdst.impl;
 
-import matsu.num.transform.fft.component.ComplexNumber;
+import java.util.Objects;
+import java.util.function.UnaryOperator;
+
 import matsu.num.transform.fft.component.FourierBasis;
 import matsu.num.transform.fft.component.FourierBasisComputer;
 import matsu.num.transform.fft.component.FourierType;
 import matsu.num.transform.fft.component.LinearByScalingStability;
+import matsu.num.transform.fft.component.ParallelPolicy;
+import matsu.num.transform.fft.component.ScratchArena;
 import matsu.num.transform.fft.dctdst.DST3Executor;
-import matsu.num.transform.fft.fftmodule.GenericInnerFFTExecutor;
+import matsu.num.transform.fft.fftmodule.RealInnerFFTExecutor;
 import matsu.num.transform.fft.lib.Trigonometry;
 import matsu.num.transform.fft.lib.privatelib.ArraysUtil;
 
@@ -35,7 +39,7 @@ public final class GenericDST3Executor
      */
 
     private final FourierBasisComputer.Supplier computerSupplier;
-    private final GenericInnerFFTExecutor fftExecutor;
+    private final RealInnerFFTExecutor realFFT;
 
     /**
      * DST3Executorを構築する.
@@ -45,56 +49,112 @@ public final class GenericDST3Executor
      * @throws NullPointerException 引数にnullが含まれる場合
      */
     public GenericDST3Executor(Trigonometry trigonometry, ArraysUtil arraysUtil) {
-        super(arraysUtil);
-        this.computerSupplier = new FourierBasisComputer.Supplier(trigonometry);
-        this.fftExecutor = new GenericInnerFFTExecutor(this.computerSupplier);
+        this(new FourierBasisComputer.Supplier(trigonometry), arraysUtil);
+    }
+
+    /**
+     * 基底生成器のサプライヤを指定して, DST3Executorを構築する. <br>
+     * サプライヤが持つ生成器のキャッシュは, 同じサプライヤを使う他のインスタンスと共有される.
+     * 
+     * @param computerSupplier 基底生成器のサプライヤ
+     * @param arraysUtil 配列ユーティリティ
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public GenericDST3Executor(FourierBasisComputer.Supplier computerSupplier, ArraysUtil arraysUtil) {
+        this(computerSupplier, arraysUtil, ParallelPolicy.SEQUENTIAL);
+    }
+
+    /**
+     * 基底生成器のサプライヤと並列実行の方針を指定して, DST3Executorを構築する. <br>
+     * サプライヤが持つ生成器のキャッシュは, 同じサプライヤを使う他のインスタンスと共有される.
+     * 
+     * @param computerSupplier 基底生成器のサプライヤ
+     * @param arraysUtil 配列ユーティリティ
+     * @param parallelPolicy バッチ変換の並列実行の方針
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public GenericDST3Executor(
+            FourierBasisComputer.Supplier computerSupplier, ArraysUtil arraysUtil,
+            ParallelPolicy parallelPolicy) {
+        super(arraysUtil, parallelPolicy);
+        this.computerSupplier = Objects.requireNonNull(computerSupplier);
+        this.realFFT = new RealInnerFFTExecutor(this.computerSupplier);
 
         this.dataSizeContract.bindUpperLimitSize(MAX_DATA_SIZE);
     }
 
     @Override
     protected double[] applyInner(double[] data) {
+        return this.applyInner(data, this.fftPlan(data.length));
+    }
+
+    @Override
+    protected UnaryOperator<double[]> planInner(int size) {
+        RealInnerFFTExecutor.Plan fftPlan = this.fftPlan(size);
+        return data -> this.applyInner(data, fftPlan);
+    }
+
+    /**
+     * 変換のサイズに対応する, 実数FFTのプランを構築する.
+     */
+    private RealInnerFFTExecutor.Plan fftPlan(int size) {
+        return this.realFFT.plan(size);
+    }
+
+    private double[] applyInner(double[] data, RealInnerFFTExecutor.Plan fftPlan) {
         int size = data.length;
 
         /*
-         * DST-3は2N個の実数データ点a,
-         * a[0] = 0;
-         * a[j + 1] = x[j]exp[-i * 2pi * (j + 1) / (4N)] (j=0,...,N-1)
-         * a[2N - 1 - j] = x[j]exp[-i * 2pi * (2N - 1 - j) / (4N)]
-         * (j=0,...,N-2)
-         * に対してFFTを実行し,
-         * X[k] = (i/2) * A[k]
+         * DST-3は, 逆順の入力 y[j] = x[N-1-j] のDCT-3 Yにより,
+         * X[k] = (-1)^k * Y[k]
+         * と表される.
+         * DCT-3は (Makhoulの方法により)
+         * V[k] = exp[i*2pi*k/(4N)] * (y[k] - i*y[N-k]) (k=0,...,N-1, y[N] = 0)
+         * のIDFT vを用いて,
+         * Y[2j] = 0.5 * v[j], Y[2j+1] = 0.5 * v[N-1-j]
          * とすればよい.
+         * VはHermite対称であるため, IDFTは半スペクトルからの実数IFFTで計算できる.
          */
 
-        int fftSize = size * 2;
-        FourierBasisComputer dftBasisComputer =
-                this.computerSupplier.covering(2 * fftSize, FourierType.DFT);
-
         /* FFT用のデータ作成 */
-        //exp[-i*2pi*j/(4N)]型の計算をするため, 4NサイズのDFT基底を得る
-        FourierBasis dftBasis_4N = dftBasisComputer.getBasis(2 * fftSize);
-        //fftSizeの上限が　FFTExecutor.MAX_DATA_SIZE　になっている
-        ComplexNumber[] a = new ComplexNumber[fftSize];
-        a[0] = ComplexNumber.ZERO;
-        for (int j = 0; j < size; j++) {
-            a[j + 1] = dftBasis_4N.valueAt(j + 1).timesReal(data[j]);
-        }
-        for (int j = 0; j < size - 1; j++) {
-            a[fftSize - 1 - j] = dftBasis_4N.valueAt(fftSize - 1 - j).timesReal(data[j]);
-        }
+        //exp[i*2pi*k/(4N)]の計算をするため, 4NサイズのDFT基底を得る
+        //DST3サイズの4倍を表す(最大2^29).
+        int N4 = 4 * size;
+        FourierBasis dftBasis_4N = this.computerSupplier.covering(N4, FourierType.DFT).getBasis(N4);
+        int halfSize = fftPlan.halfSpectrumSize();
+        ScratchArena arena = ScratchArena.current();
+        double[] v_re = arena.borrow(halfSize);
+        double[] v_im = arena.borrow(halfSize);
+        double[] v = arena.borrow(size);
+        try {
+            for (int k = 0; k < halfSize; k++) {
+                double a = data[size - 1 - k];
+                double b = k == 0 ? 0d : data[k - 1];
+                //conj(W) * (a - ib)
+                double w_re = dftBasis_4N.realAt(k);
+                double w_im = dftBasis_4N.imaginaryAt(k);
+                v_re[k] = w_re * a - w_im * b;
+                v_im[k] = -(w_re * b + w_im * a);
+            }
 
-        /* FFT実行 */
-        //前処理/後処理のための係数を得るために必要.
-        ComplexNumber[] A = this.fftExecutor.compute(a, dftBasisComputer);
+            /* IFFT実行 */
+            fftPlan.inverse(v_re, v_im, v);
 
-        /* 結果をDST-3に変換 */
-        double[] result = new double[size];
-        for (int k = 0; k < size; k++) {
-            result[k] = -0.5 * A[k].imaginary();
+            /* 結果をDST-3に変換 */
+            //入力は使い終えたので, 結果の格納に再利用する
+            double[] result = data;
+            for (int j = 0; 2 * j < size; j++) {
+                result[2 * j] = 0.5 * v[j];
+            }
+            for (int j = 0; 2 * j + 1 < size; j++) {
+                result[2 * j + 1] = -0.5 * v[size - 1 - j];
+            }
+            return result;
+        } finally {
+            arena.giveBack(v);
+            arena.giveBack(v_im);
+            arena.giveBack(v_re);
         }
-
-        return result;
     }
 
     @Override
@@ -0,0 +1,91 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2025.10.13
+ */
+package matsu.num.transform.fft.dctdst.impl;
+
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+import matsu.num.transform.fft.component.FourierBasisComputer;
+import matsu.num.transform.fft.component.MultiDimLinearByScalingStability;
+import matsu.num.transform.fft.component.ParallelPolicy;
+import matsu.num.transform.fft.dctdst.MultiDimDCT2Executor;
+import matsu.num.transform.fft.lib.Trigonometry;
+import matsu.num.transform.fft.lib.privatelib.ArraysUtil;
+
+/**
+ * {@link MultiDimDCT2Executor} の実装.
+ * 
+ * <p>
+ * 各軸に沿ったラインを, {@link GenericDCT2Executor} の長さを固定した変換で処理する. <br>
+ * スケーリングは配列全体で1回だけ行い, ラインごとには行わない.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+public final class GenericMultiDimDCT2Executor
+        extends MultiDimLinearByScalingStability
+        implements MultiDimDCT2Executor {
+
+    private final GenericDCT2Executor lineExecutor;
+
+    /**
+     * インスタンスを構築する.
+     * 
+     * @param trigonometry 三角関数ライブラリ
+     * @param arraysUtil 配列ユーティリティ
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public GenericMultiDimDCT2Executor(Trigonometry trigonometry, ArraysUtil arraysUtil) {
+        this(new FourierBasisComputer.Supplier(trigonometry), arraysUtil);
+    }
+
+    /**
+     * 基底生成器のサプライヤを指定して, インスタンスを構築する. <br>
+     * サプライヤが持つ生成器のキャッシュは, 同じサプライヤを使う他のインスタンスと共有される.
+     * 
+     * @param computerSupplier 基底生成器のサプライヤ
+     * @param arraysUtil 配列ユーティリティ
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public GenericMultiDimDCT2Executor(FourierBasisComputer.Supplier computerSupplier, ArraysUtil arraysUtil) {
+        this(computerSupplier, arraysUtil, ParallelPolicy.SEQUENTIAL);
+    }
+
+    /**
+     * 基底生成器のサプライヤと並列実行の方針を指定して, インスタンスを構築する. <br>
+     * サプライヤが持つ生成器のキャッシュは, 同じサプライヤを使う他のインスタンスと共有される.
+     * 
+     * @param computerSupplier 基底生成器のサプライヤ
+     * @param arraysUtil 配列ユーティリティ
+     * @param parallelPolicy 多次元変換の並列実行の方針
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public GenericMultiDimDCT2Executor(
+            FourierBasisComputer.Supplier computerSupplier, ArraysUtil arraysUtil,
+            ParallelPolicy parallelPolicy) {
+        super(arraysUtil, MAX_DATA_SIZE, parallelPolicy);
+        this.lineExecutor = new GenericDCT2Executor(computerSupplier, arraysUtil);
+    }
+
+    /**
+     * 外部からの呼び出し不可.
+     */
+    @Override
+    protected Supplier<UnaryOperator<double[]>> planLine(int length) {
+        //1次元の変換のプラン(スレッドセーフ)を, 軸の長さごとに1回だけ構築する
+        UnaryOperator<double[]> line = this.lineExecutor.planInner(length);
+        return () -> line;
+    }
+
+    @Override
+    public String toString() {
+        return "GenericMultiDimDCT2Executor";
+    }
+}
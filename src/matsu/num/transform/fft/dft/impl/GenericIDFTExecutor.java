@@ -5,15 +5,18 @@
  * http://opensource.org/licenses/mit-license.php
  */
 /*
- * 2025.5.8
+ * 2025.10.13
  */
 package matsu.num.transform.fft.dft.impl;
 
+import java.util.Objects;
+import java.util.function.UnaryOperator;
+
 import matsu.num.transform.fft.IDFTExecutor;
 import matsu.num.transform.fft.component.ComplexLinearByScalingStability;
-import matsu.num.transform.fft.component.ComplexNumber;
 import matsu.num.transform.fft.component.FourierBasisComputer;
 import matsu.num.transform.fft.component.FourierType;
+import matsu.num.transform.fft.component.ParallelPolicy;
 import matsu.num.transform.fft.dto.ComplexNumberArrayDTO;
 import matsu.num.transform.fft.fftmodule.GenericInnerFFTExecutor;
 import matsu.num.transform.fft.lib.Trigonometry;
@@ -48,9 +51,36 @@ public final class GenericIDFTExecutor
      * @throws NullPointerException 引数にnullが含まれる場合
      */
     public GenericIDFTExecutor(Trigonometry trigonometry, ArraysUtil arraysUtil) {
-        super(arraysUtil);
-        this.computerSupplier = new FourierBasisComputer.Supplier(trigonometry);
-        this.innerDFTExecutor = new GenericInnerFFTExecutor(this.computerSupplier);
+        this(new FourierBasisComputer.Supplier(trigonometry), arraysUtil);
+    }
+
+    /**
+     * 基底生成器のサプライヤを指定して, IDFTExecutorを構築する. <br>
+     * サプライヤが持つ生成器のキャッシュは, 同じサプライヤを使う他のインスタンスと共有される.
+     * 
+     * @param computerSupplier 基底生成器のサプライヤ
+     * @param arraysUtil 配列ユーティリティ
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public GenericIDFTExecutor(FourierBasisComputer.Supplier computerSupplier, ArraysUtil arraysUtil) {
+        this(computerSupplier, arraysUtil, ParallelPolicy.SEQUENTIAL);
+    }
+
+    /**
+     * 基底生成器のサプライヤと並列実行の方針を指定して, IDFTExecutorを構築する. <br>
+     * サプライヤが持つ生成器のキャッシュは, 同じサプライヤを使う他のインスタンスと共有される.
+     * 
+     * @param computerSupplier 基底生成器のサプライヤ
+     * @param arraysUtil 配列ユーティリティ
+     * @param parallelPolicy 内部のFFTとバッチ変換の並列実行の方針
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public GenericIDFTExecutor(
+            FourierBasisComputer.Supplier computerSupplier, ArraysUtil arraysUtil,
+            ParallelPolicy parallelPolicy) {
+        super(arraysUtil, parallelPolicy);
+        this.computerSupplier = Objects.requireNonNull(computerSupplier);
+        this.innerDFTExecutor = new GenericInnerFFTExecutor(this.computerSupplier, parallelPolicy);
 
         this.dataSizeContract.bindUpperLimitSize(MAX_DATA_SIZE);
     }
@@ -62,21 +92,27 @@ public final class GenericIDFTExecutor
     protected ComplexNumberArrayDTO applyInner(ComplexNumberArrayDTO complexNumberArray) {
         int size = complexNumberArray.size;
 
-        //複素数の配列
-        ComplexNumber[] data =
-                ComplexNumber.from(complexNumberArray.realPart, complexNumberArray.imaginaryPart);
+        //引数の配列上で変換を実行(引数の書き換えは許されている)
+        this.innerDFTExecutor.computeInPlace(
+                complexNumberArray.realPart, complexNumberArray.imaginaryPart,
+                this.computerSupplier.covering(size, TYPE));
 
-        //変換を実行
-        ComplexNumber[] result = this.innerDFTExecutor
-                .compute(data, this.computerSupplier.covering(data.length, TYPE));
-        double[][] resultArray = ComplexNumber.separateToArrays(result);
+        return complexNumberArray;
+    }
 
-        //DTOに
-        ComplexNumberArrayDTO out = ComplexNumberArrayDTO.zeroFilledOf(size);
-        System.arraycopy(resultArray[0], 0, out.realPart, 0, size);
-        System.arraycopy(resultArray[1], 0, out.imaginaryPart, 0, size);
+    /**
+     * 外部からの呼び出し不可.
+     */
+    @Override
+    protected UnaryOperator<ComplexNumberArrayDTO> planInner(int size) {
+        //素因数分解, アルゴリズムの選択, 基底をプランとして固定する
+        GenericInnerFFTExecutor.Plan fftPlan =
+                this.innerDFTExecutor.plan(size, this.computerSupplier.covering(size, TYPE));
 
-        return out;
+        return complexNumberArray -> {
+            fftPlan.computeInPlace(complexNumberArray.realPart, complexNumberArray.imaginaryPart);
+            return complexNumberArray;
+        };
     }
 
     @Override
@@ -0,0 +1,209 @@
+/*
+ * Copyright © 2024 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2025.10.13
+ */
+package matsu.num.transform.fft.dft.impl;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import matsu.num.transform.fft.IRFFTExecutor;
+import matsu.num.transform.fft.component.DataSizeContract;
+import matsu.num.transform.fft.component.FourierBasisComputer;
+import matsu.num.transform.fft.component.ParallelPolicy;
+import matsu.num.transform.fft.dto.ComplexNumberArrayDTO;
+import matsu.num.transform.fft.fftmodule.RealInnerFFTExecutor;
+import matsu.num.transform.fft.lib.Trigonometry;
+import matsu.num.transform.fft.lib.privatelib.ArraysUtil;
+import matsu.num.transform.fft.validation.DataSizeNotMismatchException;
+import matsu.num.transform.fft.validation.StructureAcceptance;
+import matsu.num.transform.fft.validation.StructureRejected;
+
+/**
+ * {@link IRFFTExecutor} の実装. <br>
+ * 任意のサイズで実行できる.
+ * 
+ * <p>
+ * 入力は最大ノルムでスケーリングしてから変換し, 結果を復元する. <br>
+ * 対の変換では, 2個の半スペクトルをそれぞれ独立にスケーリングする.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+public final class GenericIRFFTExecutor implements IRFFTExecutor {
+
+    private static final StructureAcceptance REJECT_BY_HALF_SPECTRUM_SIZE =
+            StructureRejected.by(
+                    () -> new DataSizeNotMismatchException("半スペクトルのサイズがデータサイズと整合しない"),
+                    "REJECT_BY_HALF_SPECTRUM_SIZE");
+
+    private final DataSizeContract dataSizeContract = new DataSizeContract();
+
+    private final ArraysUtil arraysUtil;
+    private final RealInnerFFTExecutor realFFT;
+
+    /**
+     * インスタンスを構築する.
+     * 
+     * @param trigonometry 三角関数ライブラリ
+     * @param arraysUtil 配列ユーティリティ
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public GenericIRFFTExecutor(Trigonometry trigonometry, ArraysUtil arraysUtil) {
+        this(new FourierBasisComputer.Supplier(trigonometry), arraysUtil);
+    }
+
+    /**
+     * 基底生成器のサプライヤを指定して, インスタンスを構築する. <br>
+     * サプライヤが持つ生成器のキャッシュは, 同じサプライヤを使う他のインスタンスと共有される.
+     * 
+     * @param computerSupplier 基底生成器のサプライヤ
+     * @param arraysUtil 配列ユーティリティ
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public GenericIRFFTExecutor(FourierBasisComputer.Supplier computerSupplier, ArraysUtil arraysUtil) {
+        this(computerSupplier, arraysUtil, ParallelPolicy.SEQUENTIAL);
+    }
+
+    /**
+     * 基底生成器のサプライヤと並列実行の方針を指定して, インスタンスを構築する. <br>
+     * サプライヤが持つ生成器のキャッシュは, 同じサプライヤを使う他のインスタンスと共有される.
+     * 
+     * @param computerSupplier 基底生成器のサプライヤ
+     * @param arraysUtil 配列ユーティリティ
+     * @param parallelPolicy 内部のFFTの並列実行の方針
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public GenericIRFFTExecutor(
+            FourierBasisComputer.Supplier computerSupplier, ArraysUtil arraysUtil,
+            ParallelPolicy parallelPolicy) {
+        super();
+        this.arraysUtil = Objects.requireNonNull(arraysUtil);
+        this.realFFT = new RealInnerFFTExecutor(computerSupplier, parallelPolicy);
+
+        this.dataSizeContract.bindRequiredSize(1);
+        this.dataSizeContract.bindUpperLimitSize(MAX_DATA_SIZE);
+    }
+
+    @Override
+    public StructureAcceptance accepts(ComplexNumberArrayDTO halfSpectrum, int size) {
+        Objects.requireNonNull(halfSpectrum);
+
+        StructureAcceptance acceptance = this.dataSizeContract.acceptsSize(size);
+        if (!acceptance.isAcceptState()) {
+            return acceptance;
+        }
+        if (halfSpectrum.size != size / 2 + 1) {
+            return REJECT_BY_HALF_SPECTRUM_SIZE;
+        }
+        return StructureAcceptance.ACCEPTED;
+    }
+
+    @Override
+    public StructureAcceptance acceptsPair(
+            ComplexNumberArrayDTO halfSpectrum1, ComplexNumberArrayDTO halfSpectrum2, int size) {
+        StructureAcceptance acceptance = this.accepts(halfSpectrum1, size);
+        if (!acceptance.isAcceptState()) {
+            return acceptance;
+        }
+        return this.accepts(halfSpectrum2, size);
+    }
+
+    @Override
+    public double[] apply(ComplexNumberArrayDTO halfSpectrum, int size) {
+        StructureAcceptance acceptance = this.accepts(halfSpectrum, size);
+        if (!acceptance.isAcceptState()) {
+            throw acceptance.getException();
+        }
+
+        RealInnerFFTExecutor.Plan plan = this.realFFT.plan(size);
+        double[] out = new double[size];
+
+        double scale = this.scaleOf(halfSpectrum);
+
+        //不正な値が入っている場合はNaNにしてreturn
+        if (!Double.isFinite(scale)) {
+            Arrays.fill(out, Double.NaN);
+            return out;
+        }
+        //スケールを正規化し, 半スペクトルをスケーリング
+        scale = scale == 0d ? 1d : scale;
+        ComplexNumberArrayDTO scaled = scaledCopy(halfSpectrum, scale);
+
+        plan.inverse(scaled.realPart, scaled.imaginaryPart, out);
+        for (int j = 0; j < size; j++) {
+            out[j] *= scale;
+        }
+
+        return out;
+    }
+
+    @Override
+    public double[][] applyPair(
+            ComplexNumberArrayDTO halfSpectrum1, ComplexNumberArrayDTO halfSpectrum2, int size) {
+        StructureAcceptance acceptance = this.acceptsPair(halfSpectrum1, halfSpectrum2, size);
+        if (!acceptance.isAcceptState()) {
+            throw acceptance.getException();
+        }
+
+        RealInnerFFTExecutor.Plan plan = this.realFFT.plan(size);
+        double[] out1 = new double[size];
+        double[] out2 = new double[size];
+
+        double scale1 = this.scaleOf(halfSpectrum1);
+        double scale2 = this.scaleOf(halfSpectrum2);
+
+        //不正な値が入っている側はNaNとし, 残りの側は0として変換する
+        boolean finite1 = Double.isFinite(scale1);
+        boolean finite2 = Double.isFinite(scale2);
+        scale1 = !finite1 || scale1 == 0d ? 1d : scale1;
+        scale2 = !finite2 || scale2 == 0d ? 1d : scale2;
+        ComplexNumberArrayDTO scaled1 = finite1
+                ? scaledCopy(halfSpectrum1, scale1)
+                : ComplexNumberArrayDTO.zeroFilledOf(halfSpectrum1.size);
+        ComplexNumberArrayDTO scaled2 = finite2
+                ? scaledCopy(halfSpectrum2, scale2)
+                : ComplexNumberArrayDTO.zeroFilledOf(halfSpectrum2.size);
+
+        plan.inversePair(
+                scaled1.realPart, scaled1.imaginaryPart,
+                scaled2.realPart, scaled2.imaginaryPart,
+                out1, out2);
+
+        for (int j = 0; j < size; j++) {
+            out1[j] = finite1 ? out1[j] * scale1 : Double.NaN;
+            out2[j] = finite2 ? out2[j] * scale2 : Double.NaN;
+        }
+
+        return new double[][] { out1, out2 };
+    }
+
+    /**
+     * 半スペクトルの実部と虚部の最大ノルムを返す.
+     */
+    private double scaleOf(ComplexNumberArrayDTO halfSpectrum) {
+        return Math.max(
+                this.arraysUtil.normMax(halfSpectrum.realPart),
+                this.arraysUtil.normMax(halfSpectrum.imaginaryPart));
+    }
+
+    private static ComplexNumberArrayDTO scaledCopy(ComplexNumberArrayDTO halfSpectrum, double scale) {
+        final int len = halfSpectrum.size;
+        ComplexNumberArrayDTO out = ComplexNumberArrayDTO.zeroFilledOf(len);
+        for (int k = 0; k < len; k++) {
+            out.realPart[k] = halfSpectrum.realPart[k] / scale;
+            out.imaginaryPart[k] = halfSpectrum.imaginaryPart[k] / scale;
+        }
+        return out;
+    }
+
+    @Override
+    public String toString() {
+        return "GenericIRFFTExecutor";
+    }
+}
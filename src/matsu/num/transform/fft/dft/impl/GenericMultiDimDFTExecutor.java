@@ -0,0 +1,106 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2025.10.13
+ */
+package matsu.num.transform.fft.dft.impl;
+
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+import matsu.num.transform.fft.MultiDimDFTExecutor;
+import matsu.num.transform.fft.component.FourierBasisComputer;
+import matsu.num.transform.fft.component.FourierType;
+import matsu.num.transform.fft.component.MultiDimComplexLinearByScalingStability;
+import matsu.num.transform.fft.component.ParallelPolicy;
+import matsu.num.transform.fft.fftmodule.GenericInnerFFTExecutor;
+import matsu.num.transform.fft.lib.Trigonometry;
+import matsu.num.transform.fft.lib.privatelib.ArraysUtil;
+
+/**
+ * {@link MultiDimDFTExecutor} の実装. <br>
+ * 各軸の長さは任意である.
+ * 
+ * <p>
+ * 各軸に沿ったラインを, 軸の長さに固定した {@link GenericInnerFFTExecutor.Plan} で変換する. <br>
+ * ラインごとの作業用配列はタスクごとに確保して再利用する.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+public final class GenericMultiDimDFTExecutor
+        extends MultiDimComplexLinearByScalingStability
+        implements MultiDimDFTExecutor {
+
+    private final FourierBasisComputer.Supplier computerSupplier;
+    private final GenericInnerFFTExecutor innerDFTExecutor;
+
+    private static final FourierType TYPE = FourierType.DFT;
+
+    /**
+     * インスタンスを構築する.
+     * 
+     * @param trigonometry 三角関数ライブラリ
+     * @param arraysUtil 配列ユーティリティ
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public GenericMultiDimDFTExecutor(Trigonometry trigonometry, ArraysUtil arraysUtil) {
+        this(new FourierBasisComputer.Supplier(trigonometry), arraysUtil);
+    }
+
+    /**
+     * 基底生成器のサプライヤを指定して, インスタンスを構築する. <br>
+     * サプライヤが持つ生成器のキャッシュは, 同じサプライヤを使う他のインスタンスと共有される.
+     * 
+     * @param computerSupplier 基底生成器のサプライヤ
+     * @param arraysUtil 配列ユーティリティ
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public GenericMultiDimDFTExecutor(FourierBasisComputer.Supplier computerSupplier, ArraysUtil arraysUtil) {
+        this(computerSupplier, arraysUtil, ParallelPolicy.SEQUENTIAL);
+    }
+
+    /**
+     * 基底生成器のサプライヤと並列実行の方針を指定して, インスタンスを構築する. <br>
+     * サプライヤが持つ生成器のキャッシュは, 同じサプライヤを使う他のインスタンスと共有される.
+     * 
+     * @param computerSupplier 基底生成器のサプライヤ
+     * @param arraysUtil 配列ユーティリティ
+     * @param parallelPolicy 多次元変換の並列実行の方針
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public GenericMultiDimDFTExecutor(
+            FourierBasisComputer.Supplier computerSupplier, ArraysUtil arraysUtil,
+            ParallelPolicy parallelPolicy) {
+        super(arraysUtil, MAX_DATA_SIZE, parallelPolicy);
+        this.computerSupplier = Objects.requireNonNull(computerSupplier);
+        this.innerDFTExecutor = new GenericInnerFFTExecutor(this.computerSupplier);
+    }
+
+    /**
+     * 外部からの呼び出し不可.
+     */
+    @Override
+    protected Supplier<BiConsumer<double[], double[]>> planLine(int length) {
+        //素因数分解, アルゴリズムの選択, 基底を軸ごとに1回だけ固定する
+        GenericInnerFFTExecutor.Plan fftPlan =
+                this.innerDFTExecutor.plan(length, this.computerSupplier.covering(length, TYPE));
+
+        return () -> {
+            double[] workRealPart = new double[length];
+            double[] workImaginaryPart = new double[length];
+            return (realPart, imaginaryPart) -> fftPlan.computeInPlace(
+                    realPart, imaginaryPart, workRealPart, workImaginaryPart);
+        };
+    }
+
+    @Override
+    public String toString() {
+        return "GenericMultiDimDFTExecutor";
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright © 2024 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2025.10.13
+ */
+package matsu.num.transform.fft.dft.impl;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import matsu.num.transform.fft.RFFTExecutor;
+import matsu.num.transform.fft.component.DataSizeContract;
+import matsu.num.transform.fft.component.FourierBasisComputer;
+import matsu.num.transform.fft.component.ParallelPolicy;
+import matsu.num.transform.fft.dto.ComplexNumberArrayDTO;
+import matsu.num.transform.fft.fftmodule.RealInnerFFTExecutor;
+import matsu.num.transform.fft.lib.Trigonometry;
+import matsu.num.transform.fft.lib.privatelib.ArraysUtil;
+import matsu.num.transform.fft.validation.DataSizeNotMismatchException;
+import matsu.num.transform.fft.validation.StructureAcceptance;
+import matsu.num.transform.fft.validation.StructureRejected;
+
+/**
+ * {@link RFFTExecutor} の実装. <br>
+ * 任意のサイズで実行できる.
+ * 
+ * <p>
+ * 入力は最大ノルムでスケーリングしてから変換し, 結果を復元する. <br>
+ * 対の変換では, 2個の実数列をそれぞれ独立にスケーリングする.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+public final class GenericRFFTExecutor implements RFFTExecutor {
+
+    private static final StructureAcceptance REJECT_BY_SIZE_MISMATCH =
+            StructureRejected.by(
+                    () -> new DataSizeNotMismatchException("2個の実数列のサイズが一致しない"),
+                    "REJECT_BY_SIZE_MISMATCH");
+
+    private final DataSizeContract dataSizeContract = new DataSizeContract();
+
+    private final ArraysUtil arraysUtil;
+    private final RealInnerFFTExecutor realFFT;
+
+    /**
+     * インスタンスを構築する.
+     * 
+     * @param trigonometry 三角関数ライブラリ
+     * @param arraysUtil 配列ユーティリティ
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public GenericRFFTExecutor(Trigonometry trigonometry, ArraysUtil arraysUtil) {
+        this(new FourierBasisComputer.Supplier(trigonometry), arraysUtil);
+    }
+
+    /**
+     * 基底生成器のサプライヤを指定して, インスタンスを構築する. <br>
+     * サプライヤが持つ生成器のキャッシュは, 同じサプライヤを使う他のインスタンスと共有される.
+     * 
+     * @param computerSupplier 基底生成器のサプライヤ
+     * @param arraysUtil 配列ユーティリティ
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public GenericRFFTExecutor(FourierBasisComputer.Supplier computerSupplier, ArraysUtil arraysUtil) {
+        this(computerSupplier, arraysUtil, ParallelPolicy.SEQUENTIAL);
+    }
+
+    /**
+     * 基底生成器のサプライヤと並列実行の方針を指定して, インスタンスを構築する. <br>
+     * サプライヤが持つ生成器のキャッシュは, 同じサプライヤを使う他のインスタンスと共有される.
+     * 
+     * @param computerSupplier 基底生成器のサプライヤ
+     * @param arraysUtil 配列ユーティリティ
+     * @param parallelPolicy 内部のFFTの並列実行の方針
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public GenericRFFTExecutor(
+            FourierBasisComputer.Supplier computerSupplier, ArraysUtil arraysUtil,
+            ParallelPolicy parallelPolicy) {
+        super();
+        this.arraysUtil = Objects.requireNonNull(arraysUtil);
+        this.realFFT = new RealInnerFFTExecutor(computerSupplier, parallelPolicy);
+
+        this.dataSizeContract.bindRequiredSize(1);
+        this.dataSizeContract.bindUpperLimitSize(MAX_DATA_SIZE);
+    }
+
+    @Override
+    public StructureAcceptance accepts(double[] data) {
+        return this.dataSizeContract.acceptsSize(data.length);
+    }
+
+    @Override
+    public StructureAcceptance acceptsPair(double[] data1, double[] data2) {
+        if (data1.length != data2.length) {
+            return REJECT_BY_SIZE_MISMATCH;
+        }
+        return this.accepts(data1);
+    }
+
+    @Override
+    public ComplexNumberArrayDTO apply(double[] data) {
+        StructureAcceptance acceptance = this.accepts(data);
+        if (!acceptance.isAcceptState()) {
+            throw acceptance.getException();
+        }
+
+        final int size = data.length;
+        RealInnerFFTExecutor.Plan plan = this.realFFT.plan(size);
+        ComplexNumberArrayDTO out = ComplexNumberArrayDTO.zeroFilledOf(plan.halfSpectrumSize());
+
+        double scale = this.arraysUtil.normMax(data);
+
+        //不正な値が入っている場合はNaNにしてreturn
+        if (!Double.isFinite(scale)) {
+            fillNaN(out);
+            return out;
+        }
+        //スケールを正規化し, dataをスケーリング
+        scale = scale == 0d ? 1d : scale;
+        double[] scaledData = new double[size];
+        for (int j = 0; j < size; j++) {
+            scaledData[j] = data[j] / scale;
+        }
+
+        plan.forward(scaledData, out.realPart, out.imaginaryPart);
+        rescale(out, scale);
+
+        return out;
+    }
+
+    @Override
+    public ComplexNumberArrayDTO[] applyPair(double[] data1, double[] data2) {
+        StructureAcceptance acceptance = this.acceptsPair(data1, data2);
+        if (!acceptance.isAcceptState()) {
+            throw acceptance.getException();
+        }
+
+        final int size = data1.length;
+        RealInnerFFTExecutor.Plan plan = this.realFFT.plan(size);
+        ComplexNumberArrayDTO out1 = ComplexNumberArrayDTO.zeroFilledOf(plan.halfSpectrumSize());
+        ComplexNumberArrayDTO out2 = ComplexNumberArrayDTO.zeroFilledOf(plan.halfSpectrumSize());
+
+        double scale1 = this.arraysUtil.normMax(data1);
+        double scale2 = this.arraysUtil.normMax(data2);
+
+        //不正な値が入っている側はNaNとし, 残りの側は0として変換する
+        boolean finite1 = Double.isFinite(scale1);
+        boolean finite2 = Double.isFinite(scale2);
+        scale1 = !finite1 || scale1 == 0d ? 1d : scale1;
+        scale2 = !finite2 || scale2 == 0d ? 1d : scale2;
+        double[] scaledData1 = new double[size];
+        double[] scaledData2 = new double[size];
+        for (int j = 0; j < size; j++) {
+            scaledData1[j] = finite1 ? data1[j] / scale1 : 0d;
+            scaledData2[j] = finite2 ? data2[j] / scale2 : 0d;
+        }
+
+        plan.forwardPair(
+                scaledData1, scaledData2,
+                out1.realPart, out1.imaginaryPart,
+                out2.realPart, out2.imaginaryPart);
+
+        if (finite1) {
+            rescale(out1, scale1);
+        } else {
+            fillNaN(out1);
+        }
+        if (finite2) {
+            rescale(out2, scale2);
+        } else {
+            fillNaN(out2);
+        }
+
+        return new ComplexNumberArrayDTO[] { out1, out2 };
+    }
+
+    private static void rescale(ComplexNumberArrayDTO complexNumberArray, double scale) {
+        double[] realPart = complexNumberArray.realPart;
+        double[] imaginaryPart = complexNumberArray.imaginaryPart;
+        for (int k = 0, len = complexNumberArray.size; k < len; k++) {
+            realPart[k] *= scale;
+            imaginaryPart[k] *= scale;
+        }
+    }
+
+    private static void fillNaN(ComplexNumberArrayDTO complexNumberArray) {
+        Arrays.fill(complexNumberArray.realPart, Double.NaN);
+        Arrays.fill(complexNumberArray.imaginaryPart, Double.NaN);
+    }
+
+    @Override
+    public String toString() {
+        return "GenericRFFTExecutor";
+    }
+}
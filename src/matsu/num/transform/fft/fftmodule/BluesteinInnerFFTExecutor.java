@@ -0,0 +1,325 @@
+/*
+ * Copyright © 2024 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2025.10.13
+ */
+package matsu.num.transform.fft.fftmodule;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Objects;
+
+import matsu.num.transform.fft.component.FourierBasis;
+import matsu.num.transform.fft.component.FourierBasisComputer;
+import matsu.num.transform.fft.component.FourierType;
+import matsu.num.transform.fft.component.ScratchArena;
+import matsu.num.transform.fft.number.Power2Util;
+
+/**
+ * Bluestein (chirp-z) アルゴリズムにより, 3以上の奇数個の標本サイズのFFTを実行する.
+ * 
+ * <p>
+ * このクラスが提供する{@link InnerDFTExecutor#computeInPlace(double[], double[], FourierBasisComputer)}の事前条件(引数の条件)は以下である.
+ * </p>
+ * 
+ * <p>
+ * 事前条件の1番目は, 標本サイズが大きすぎないことである. <br>
+ * 標本サイズが{@link #MAX_DATA_SIZE}を超過した場合は{@link IllegalArgumentException}をスローする.
+ * </p>
+ * 
+ * <p>
+ * 事前条件の2番目は, 標本サイズが3以上の奇数であることである. <br>
+ * そうでない場合は{@link IllegalArgumentException}をスローする.
+ * </p>
+ * 
+ * <p>
+ * 標本サイズ<i>N</i>が奇数のとき, 2の逆元 <i>h</i> = (<i>N</i> + 1)/2 (mod <i>N</i>) を用いて <br>
+ * <i>jk</i> &equiv; <i>h</i>(<i>j</i><sup>2</sup> + <i>k</i><sup>2</sup> - (<i>k</i> - <i>j</i>)<sup>2</sup>)
+ * (mod <i>N</i>) <br>
+ * が成り立つ. <br>
+ * これにより, チャープ <i>c</i><sub><i>m</i></sub> = <i>W</i><sup><i>h</i><i>m</i><sup>2</sup></sup> を用いて,
+ * DFTは長さ2<i>N</i> - 1以上の2の累乗の巡回畳み込みに帰着される. <br>
+ * チャープと, 畳み込みの核のスペクトルは標本サイズとタイプごとに固定されるため,
+ * (標本サイズ, タイプ) をキーとしてプランがキャッシュされ,
+ * 2回目以降の呼び出しでは2回の2の累乗FFTで計算される. <br>
+ * キャッシュは個数とバイト数の上限を持ち,
+ * いずれかを超える場合は最も長く使われていないものから破棄される. <br>
+ * バイト数には, プランが参照し続ける巡回畳み込み用の基底の値も含まれる.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+final class BluesteinInnerFFTExecutor implements InnerDFTExecutor {
+
+    /**
+     * 扱うことができるデータサイズの最大値: 2<sup>28</sup>
+     */
+    public static final int MAX_DATA_SIZE = CyclicConvolutionModule.MAX_SEQUENCE_SIZE;
+
+    /**
+     * キャッシュするプランの個数の上限.
+     */
+    static final int MAX_CACHED_PLANS = 32;
+
+    /**
+     * キャッシュするプランの総バイト数の上限: 2<sup>26</sup> (64MiB).
+     */
+    static final long MAX_CACHED_BYTES = 1L << 26;
+
+    private final FourierBasisComputer.Supplier computerSupplier;
+    private final InnerDFTExecutor power2FFT;
+
+    /*
+     * アクセス順のLinkedHashMapによりLRUを実現する.
+     * 読み出しでも順序が変わるため, 全てのアクセスはlockで保護する.
+     * 基底の生成器はサプライヤのキャッシュから破棄されうるため, キーには用いない.
+     */
+    private final LinkedHashMap<PlanKey, Plan> planCache;
+    private long cachedBytes;
+
+    //排他処理用ロックオブジェクト
+    private final Object lock = new Object();
+
+    /**
+     * このクラスの機能を実行するインスタンスを返す.
+     * 
+     * @param computerSupplier Fourier基底コンピュータのサプライヤ
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    BluesteinInnerFFTExecutor(FourierBasisComputer.Supplier computerSupplier) {
+        super();
+        this.computerSupplier = Objects.requireNonNull(computerSupplier);
+        this.power2FFT = new Power2InnerFFTExecutor();
+        this.planCache = new LinkedHashMap<>(16, 0.75f, true);
+        this.cachedBytes = 0L;
+    }
+
+    /**
+     * @throws IllegalArgumentException {@inheritDoc}
+     * @throws NullPointerException {@inheritDoc}
+     */
+    @Override
+    public void computeInPlace(double[] realPart, double[] imaginaryPart, FourierBasisComputer basisComputer) {
+        final int N = realPart.length;
+        if (N != imaginaryPart.length) {
+            throw new IllegalArgumentException("実部と虚部のサイズが整合しない");
+        }
+        if (N > MAX_DATA_SIZE) {
+            throw new IllegalArgumentException("サイズが大きすぎる");
+        }
+        if (N < 3 || (N & 1) == 0) {
+            throw new IllegalArgumentException("3以上の奇数でない");
+        }
+
+        //ここでbasisComputerのサイズが整合しないことに対する例外をスロー
+        Plan plan = this.planOf(basisComputer.getBasis(N), basisComputer.type());
+        final int M = plan.convolutionSize;
+        final double[] c_re = plan.chirpRealPart;
+        final double[] c_im = plan.chirpImaginaryPart;
+        final double[] b_re = plan.kernelSpectrumRealPart;
+        final double[] b_im = plan.kernelSpectrumImaginaryPart;
+
+        /* a[j] = x[j] * c[j] (残りは0) */
+        ScratchArena arena = ScratchArena.current();
+        double[] a_re = arena.borrowZeroed(M);
+        double[] a_im = arena.borrowZeroed(M);
+        try {
+            for (int j = 0; j < N; j++) {
+                double x_re = realPart[j];
+                double x_im = imaginaryPart[j];
+                a_re[j] = x_re * c_re[j] - x_im * c_im[j];
+                a_im[j] = x_re * c_im[j] + x_im * c_re[j];
+            }
+
+            /* 巡回畳み込み: 核のスペクトルは計算済み(1/Mのスケールを含む) */
+            this.power2FFT.computeInPlace(a_re, a_im, plan.dftComputer);
+            for (int k = 0; k < M; k++) {
+                double v_re = a_re[k];
+                double v_im = a_im[k];
+                a_re[k] = v_re * b_re[k] - v_im * b_im[k];
+                a_im[k] = v_re * b_im[k] + v_im * b_re[k];
+            }
+            this.power2FFT.computeInPlace(a_re, a_im, plan.idftComputer);
+
+            /* X[k] = c[k] * (a * conj(c))[k] */
+            for (int k = 0; k < N; k++) {
+                double v_re = a_re[k];
+                double v_im = a_im[k];
+                realPart[k] = v_re * c_re[k] - v_im * c_im[k];
+                imaginaryPart[k] = v_re * c_im[k] + v_im * c_re[k];
+            }
+        } finally {
+            arena.giveBack(a_im);
+            arena.giveBack(a_re);
+        }
+    }
+
+    /**
+     * 基底に対応するプランを返す. <br>
+     * キャッシュされていない場合は構築する.
+     */
+    private Plan planOf(FourierBasis basis, FourierType type) {
+        PlanKey key = new PlanKey(basis.sequenceSize(), type);
+        synchronized (this.lock) {
+            Plan out = this.planCache.get(key);
+            if (Objects.nonNull(out)) {
+                return out;
+            }
+        }
+
+        //プランの構築はFFTを含むので, ロックの外で行う
+        //同一キーに対して競合した場合は, 先にキャッシュされたものを採用する
+        Plan created = new Plan(basis);
+        synchronized (this.lock) {
+            Plan out = this.planCache.get(key);
+            if (Objects.nonNull(out)) {
+                return out;
+            }
+            this.putAndEvict(key, created);
+            return created;
+        }
+    }
+
+    /**
+     * キャッシュに追加し, 上限を超えた分を破棄する. <br>
+     * ロックを取得した状態で呼ばれなければならない.
+     */
+    private void putAndEvict(PlanKey key, Plan plan) {
+        long bytes = plan.byteSize();
+        if (bytes > MAX_CACHED_BYTES) {
+            return;
+        }
+
+        this.planCache.put(key, plan);
+        this.cachedBytes += bytes;
+
+        //アクセス順の先頭が最も長く使われていない
+        Iterator<Plan> ite = this.planCache.values().iterator();
+        while (this.planCache.size() > MAX_CACHED_PLANS || this.cachedBytes > MAX_CACHED_BYTES) {
+            Plan eldest = ite.next();
+            ite.remove();
+            this.cachedBytes -= eldest.byteSize();
+        }
+    }
+
+    /**
+     * キャッシュされているプランの個数を返す. <br>
+     * テスト用.
+     */
+    int cachedPlanCount() {
+        synchronized (this.lock) {
+            return this.planCache.size();
+        }
+    }
+
+    /**
+     * 標本サイズとタイプごとに固定される, チャープと核のスペクトル.
+     */
+    private final class Plan {
+
+        final int convolutionSize;
+
+        final double[] chirpRealPart;
+        final double[] chirpImaginaryPart;
+
+        final double[] kernelSpectrumRealPart;
+        final double[] kernelSpectrumImaginaryPart;
+
+        final FourierBasisComputer dftComputer;
+        final FourierBasisComputer idftComputer;
+
+        /**
+         * 基底からプランを構築する.
+         * 
+         * @param basis 3以上の奇数の標本サイズに対する基底
+         */
+        Plan(FourierBasis basis) {
+            final int N = basis.sequenceSize();
+            assert N >= 3 && (N & 1) == 1;
+
+            //2N - 1 <= M
+            final int M = Power2Util.ceilToPower2(2 * N - 1);
+            this.convolutionSize = M;
+
+            /* c[m] = W^(h * m^2 mod N), h = (N+1)/2 */
+            final long h = (N + 1) / 2;
+            this.chirpRealPart = new double[N];
+            this.chirpImaginaryPart = new double[N];
+            for (int m = 0; m < N; m++) {
+                long m2 = ((long) m * m) % N;
+                int index = (int) ((h * m2) % N);
+                this.chirpRealPart[m] = basis.realAt(index);
+                this.chirpImaginaryPart[m] = basis.imaginaryAt(index);
+            }
+
+            this.dftComputer = BluesteinInnerFFTExecutor.this.computerSupplier.covering(M, FourierType.DFT);
+            this.idftComputer = BluesteinInnerFFTExecutor.this.computerSupplier.covering(M, FourierType.IDFT);
+
+            /* 核 b[m] = conj(c[|m|]) (巡回的に配置) のスペクトルを, 1/M倍して保持する */
+            double[] b_re = new double[M];
+            double[] b_im = new double[M];
+            b_re[0] = this.chirpRealPart[0];
+            b_im[0] = -this.chirpImaginaryPart[0];
+            for (int m = 1; m < N; m++) {
+                b_re[m] = this.chirpRealPart[m];
+                b_im[m] = -this.chirpImaginaryPart[m];
+                b_re[M - m] = b_re[m];
+                b_im[M - m] = b_im[m];
+            }
+            BluesteinInnerFFTExecutor.this.power2FFT.computeInPlace(b_re, b_im, this.dftComputer);
+            double invM = 1d / M;
+            for (int k = 0; k < M; k++) {
+                b_re[k] *= invM;
+                b_im[k] *= invM;
+            }
+            this.kernelSpectrumRealPart = b_re;
+            this.kernelSpectrumImaginaryPart = b_im;
+        }
+
+        /**
+         * プランが保持する配列のおおよそのバイト数を返す. <br>
+         * チャープと核のスペクトルに加え, 参照している巡回畳み込み用の2つの生成器 (DFT, IDFT) の基底の値を含む.
+         */
+        long byteSize() {
+            return 2L * Double.BYTES * this.chirpRealPart.length
+                    + 2L * Double.BYTES * this.convolutionSize
+                    + 2L * (2L * Double.BYTES * this.convolutionSize);
+        }
+    }
+
+    /**
+     * プランのキャッシュのキー.
+     */
+    private static final class PlanKey {
+
+        private final int sequenceSize;
+        private final FourierType type;
+
+        PlanKey(int sequenceSize, FourierType type) {
+            this.sequenceSize = sequenceSize;
+            this.type = type;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof PlanKey)) {
+                return false;
+            }
+            PlanKey target = (PlanKey) obj;
+            return this.sequenceSize == target.sequenceSize
+                    && this.type == target.type;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * this.sequenceSize + this.type.hashCode();
+        }
+    }
+}
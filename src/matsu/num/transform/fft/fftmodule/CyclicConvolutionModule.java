@@ -5,7 +5,7 @@
  * http://opensource.org/licenses/mit-license.php
  */
 /*
- * 2024.4.4
+ * 2025.10.13
  */
 package matsu.num.transform.fft.fftmodule;
 
@@ -13,6 +13,7 @@ import java.util.Arrays;
 
 import matsu.num.transform.fft.component.ComplexNumber;
 import matsu.num.transform.fft.component.FourierBasisComputer;
+import matsu.num.transform.fft.component.ScratchArena;
 import matsu.num.transform.fft.number.Power2Util;
 
 /**
@@ -50,8 +51,28 @@ public final class CyclicConvolutionModule {
      * @throws NullPointerException 引数にnullが含まれる場合
      */
     public ComplexNumber[] compute(ComplexNumber[] f, ComplexNumber[] g) {
+        double[][] arrayF = ComplexNumber.separateToArrays(f);
+        double[][] arrayG = ComplexNumber.separateToArrays(g);
+        this.computeInPlace(arrayF[0], arrayF[1], arrayG[0], arrayG[1]);
+        return ComplexNumber.from(arrayF[0], arrayF[1]);
+    }
 
-        return new CyclicConvHelper(f, g).compute();
+    /**
+     * 実部配列と虚部配列で与えられた複素数列 f, g の巡回畳み込みを計算し,
+     * 結果で f の配列を上書きする. <br>
+     * g の配列は作業領域として使われる場合があり, 内容は保証されない.
+     * 
+     * @param realPartF fの実部, 結果の実部で上書きされる
+     * @param imaginaryPartF fの虚部, 結果の虚部で上書きされる
+     * @param realPartG gの実部, 内容は保証されない
+     * @param imaginaryPartG gの虚部, 内容は保証されない
+     * @throws IllegalArgumentException 引数の長さが一致しない場合, 長さが0の場合, 長さが大きすぎる場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public void computeInPlace(
+            double[] realPartF, double[] imaginaryPartF,
+            double[] realPartG, double[] imaginaryPartG) {
+        new CyclicConvHelper(realPartF, imaginaryPartF, realPartG, imaginaryPartG).compute();
     }
 
     private final class CyclicConvHelper {
@@ -59,39 +80,74 @@ public final class CyclicConvolutionModule {
         private final int actualLength;
         private final int extendedLength;
 
-        private final ComplexNumber[] f_ext;
-        private final ComplexNumber[] g_ext;
+        private final double[] realPartF;
+        private final double[] imaginaryPartF;
+        private final double[] realPartG;
+        private final double[] imaginaryPartG;
 
         /**
          * 巡回畳み込みを生成する.
          * 
-         * @param f f
-         * @param g g
          * @throws IllegalArgumentException 引数の長さが一致しない場合, 長さが0の場合, 長さが大きすぎる場合
          * @throws NullPointerException 引数にnullが含まれる場合
          */
-        private CyclicConvHelper(ComplexNumber[] f, ComplexNumber[] g) {
-            if (f.length != g.length) {
+        private CyclicConvHelper(
+                double[] realPartF, double[] imaginaryPartF,
+                double[] realPartG, double[] imaginaryPartG) {
+            int length = realPartF.length;
+            if (imaginaryPartF.length != length
+                    || realPartG.length != length
+                    || imaginaryPartG.length != length) {
                 throw new IllegalArgumentException("長さが一致しない");
             }
-            if (f.length == 0) {
+            if (length == 0) {
                 throw new IllegalArgumentException("長さが0である");
             }
-            if (f.length > MAX_SEQUENCE_SIZE) {
+            if (length > MAX_SEQUENCE_SIZE) {
                 throw new IllegalArgumentException("長さが大きすぎる");
             }
 
-            this.actualLength = f.length;
+            this.actualLength = length;
             this.extendedLength = this.calcExtendedLength();
 
-            this.f_ext = this.f_ext(f);
-            this.g_ext = this.g_ext(g);
+            this.realPartF = realPartF;
+            this.imaginaryPartF = imaginaryPartF;
+            this.realPartG = realPartG;
+            this.imaginaryPartG = imaginaryPartG;
         }
 
-        ComplexNumber[] compute() {
-            return Arrays.copyOf(
-                    CyclicConvolutionModule.this.power2CyclicConv.compute(this.f_ext, this.g_ext),
-                    this.actualLength);
+        void compute() {
+            final Power2CyclicConvolutionModule power2CyclicConv =
+                    CyclicConvolutionModule.this.power2CyclicConv;
+
+            //2の累乗の場合は拡張が不要
+            if (this.extendedLength == this.actualLength) {
+                power2CyclicConv.computeInPlace(
+                        this.realPartF, this.imaginaryPartF, this.realPartG, this.imaginaryPartG);
+                return;
+            }
+
+            ScratchArena arena = ScratchArena.current();
+            double[] f_ext_re = arena.borrow(this.extendedLength);
+            double[] f_ext_im = arena.borrow(this.extendedLength);
+            double[] g_ext_re = arena.borrow(this.extendedLength);
+            double[] g_ext_im = arena.borrow(this.extendedLength);
+            try {
+                this.f_ext(this.realPartF, f_ext_re);
+                this.f_ext(this.imaginaryPartF, f_ext_im);
+                this.g_ext(this.realPartG, g_ext_re);
+                this.g_ext(this.imaginaryPartG, g_ext_im);
+
+                power2CyclicConv.computeInPlace(f_ext_re, f_ext_im, g_ext_re, g_ext_im);
+
+                System.arraycopy(f_ext_re, 0, this.realPartF, 0, this.actualLength);
+                System.arraycopy(f_ext_im, 0, this.imaginaryPartF, 0, this.actualLength);
+            } finally {
+                arena.giveBack(g_ext_im);
+                arena.giveBack(g_ext_re);
+                arena.giveBack(f_ext_im);
+                arena.giveBack(f_ext_re);
+            }
         }
 
         private int calcExtendedLength() {
@@ -105,32 +161,26 @@ public final class CyclicConvolutionModule {
             return Power2Util.ceilToPower2(minExtLength);
         }
 
-        private ComplexNumber[] f_ext(ComplexNumber[] f) {
+        private void f_ext(double[] f, double[] out) {
             int N = this.actualLength;
             int p = this.extendedLength - N;
 
-            ComplexNumber[] out = new ComplexNumber[this.extendedLength];
+            //[1, p] は0埋め
             out[0] = f[0];
-            Arrays.fill(out, 1, p + 1, ComplexNumber.ZERO);
+            Arrays.fill(out, 1, p + 1, 0d);
             System.arraycopy(f, 1, out, p + 1, N - 1);
-
-            return out;
         }
 
-        private ComplexNumber[] g_ext(ComplexNumber[] g) {
+        private void g_ext(double[] g, double[] out) {
             int N = this.actualLength;
             int ext_N = this.extendedLength;
 
-            ComplexNumber[] out = new ComplexNumber[this.extendedLength];
-
             int start_pos = 0;
             while (start_pos < ext_N) {
                 int l = Math.min(N, ext_N - start_pos);
                 System.arraycopy(g, 0, out, start_pos, l);
                 start_pos += N;
             }
-
-            return out;
         }
 
     }
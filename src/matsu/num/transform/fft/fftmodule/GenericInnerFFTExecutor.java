@@ -5,20 +5,24 @@
  * http://opensource.org/licenses/mit-license.php
  */
 /*
- * 2025.9.27
+ * 2025.10.13
  */
 package matsu.num.transform.fft.fftmodule;
 
-import matsu.num.transform.fft.component.ComplexNumber;
+import java.util.Objects;
+
 import matsu.num.transform.fft.component.FourierBasis;
 import matsu.num.transform.fft.component.FourierBasisComputer;
+import matsu.num.transform.fft.component.ParallelPolicy;
+import matsu.num.transform.fft.component.ScratchArena;
+import matsu.num.transform.fft.number.Power2Util;
 import matsu.num.transform.fft.number.PrimeFactorization;
 
 /**
  * 高速なDFT,IDFTの実行を扱う.
  * 
  * <p>
- * このクラスが提供する{@link InnerDFTExecutor#compute(ComplexNumber[], FourierBasisComputer)}の事前条件(引数の条件)は,
+ * このクラスが提供する{@link InnerDFTExecutor#computeInPlace(double[], double[], FourierBasisComputer)}の事前条件(引数の条件)は,
  * 標本サイズが大きすぎないことである. <br>
  * 標本サイズが{@link #MAX_DATA_SIZE}を超過した場合は{@link IllegalArgumentException}をスローする.
  * </p>
@@ -37,6 +41,29 @@ import matsu.num.transform.fft.number.PrimeFactorization;
  * </p>
  * 
  * <p>
+ * 標本サイズが2の累乗の場合は, 反復的な基数4のアルゴリズムを用いる. <br>
+ * その他の場合は, 再帰的に計算する. <br>
+ * 標本サイズが互いに素な因数に分解できる場合はGood-Thomasの素因数アルゴリズム (回転因子の乗算が不要) を,
+ * 素数の累乗の場合は混合基数のCooley-Tukey型アルゴリズムを用いる.
+ * 再帰の葉に現れる大きな素数サイズは, RaderアルゴリズムとBluesteinアルゴリズムのうち,
+ * 標本サイズから見積もられるコストが小さい方により計算する.
+ * </p>
+ * 
+ * <p>
+ * 並列実行の方針 ({@link ParallelPolicy}) を与えた場合, 分解の各段の独立な部分変換
+ * (サイズ<i>N</i><sub>1</sub>の変換<i>N</i><sub>2</sub>個と, サイズ<i>N</i><sub>2</sub>の変換<i>N</i><sub>1</sub>個)
+ * は, その段のサイズが閾値以上であれば並列に実行される. <br>
+ * 閾値以上の2の累乗のサイズは, 並列化のために
+ * 4-step (<i>N</i> = <i>N</i><sub>1</sub><i>N</i><sub>2</sub>) に分解してから反復的アルゴリズムを適用する.
+ * </p>
+ * 
+ * <p>
+ * {@link #plan(int, FourierBasisComputer)} により, 標本サイズと基底生成器を固定したプランを得ることができる. <br>
+ * プランは素因数分解, 分解の各段のアルゴリズムの選択と基底を事前に決定しており,
+ * 同じサイズの変換を繰り返す場合の準備の計算を省略できる.
+ * </p>
+ * 
+ * <p>
  * 注意: このクラスが扱う変換は, DFTとIDFTが逆関数になっておらず, 両方を作用させると全体が<i>N</i>倍になる.
  * </p>
  * 
@@ -47,21 +74,45 @@ public final class GenericInnerFFTExecutor implements InnerDFTExecutor {
     /**
      * 扱うことができるデータサイズの最大値: 2<sup>28</sup>
      */
-    public static final int MAX_DATA_SIZE = PrimeRaderInnerFFTExecutor.MAX_DATA_SIZE;
+    public static final int MAX_DATA_SIZE = PrimeInnerFFTExecutor.MAX_DATA_SIZE;
 
-    private final InnerDFTExecutor rawDFT;
+    /**
+     * 各素因数に対して使うアルゴリズム選択の閾値. <br>
+     * この値未満の場合はRaw, この値以上の場合はPrimeFFTを使う. <br>
+     * 素数DFTの都合上, この値は5以上でなければならない.
+     */
+    private static final int PRIME_FFT_THRESHOLD = 320;
+
+    private final RawInnerDFTExecutor rawDFT;
     private final InnerDFTExecutor primeFFT;
+    private final InnerDFTExecutor power2FFT;
+    private final ParallelPolicy parallelPolicy;
 
     /**
-     * このクラスの機能を実行するインスタンスを返す.
+     * このクラスの機能を逐次的に実行するインスタンスを返す.
      * 
      * @param computerSuppier Fourier基底コンピュータのサプライヤ
      * @throws NullPointerException 引数にnullが含まれる場合
      */
     public GenericInnerFFTExecutor(FourierBasisComputer.Supplier computerSuppier) {
+        this(computerSuppier, ParallelPolicy.SEQUENTIAL);
+    }
+
+    /**
+     * 並列実行の方針を指定して, このクラスの機能を実行するインスタンスを返す.
+     * 
+     * @param computerSuppier Fourier基底コンピュータのサプライヤ
+     * @param parallelPolicy 並列実行の方針
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public GenericInnerFFTExecutor(
+            FourierBasisComputer.Supplier computerSuppier, ParallelPolicy parallelPolicy) {
         super();
-        this.primeFFT = new PrimeRaderInnerFFTExecutor(computerSuppier);
+        this.parallelPolicy = Objects.requireNonNull(parallelPolicy);
+        //Raderアルゴリズムの長さN-1の巡回畳み込みは, このインスタンスで計算する
+        this.primeFFT = new PrimeInnerFFTExecutor(computerSuppier, this);
         this.rawDFT = new RawInnerDFTExecutor();
+        this.power2FFT = new Power2InnerFFTExecutor();
     }
 
     /**
@@ -69,174 +120,476 @@ public final class GenericInnerFFTExecutor implements InnerDFTExecutor {
      * @throws NullPointerException {@inheritDoc}
      */
     @Override
-    public ComplexNumber[] compute(ComplexNumber[] data, FourierBasisComputer basisComputer) {
-        if (data.length == 0) {
+    public void computeInPlace(double[] realPart, double[] imaginaryPart, FourierBasisComputer basisComputer) {
+        if (realPart.length != imaginaryPart.length) {
+            throw new IllegalArgumentException("実部と虚部のサイズが整合しない");
+        }
+
+        this.plan(realPart.length, basisComputer).computeInPlace(realPart, imaginaryPart);
+    }
+
+    /**
+     * 標本サイズと基底生成器を固定したプランを構築する.
+     * 
+     * @param size 標本サイズ
+     * @param basisComputer 基底生成器
+     * @return プラン
+     * @throws IllegalArgumentException 標本サイズが0以下の場合, 大きすぎる場合,
+     *             基底生成器が標本サイズに対応していない場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public Plan plan(int size, FourierBasisComputer basisComputer) {
+        if (size <= 0) {
             throw new IllegalArgumentException("データサイズが0である");
         }
-        if (data.length > MAX_DATA_SIZE) {
+        if (size > MAX_DATA_SIZE) {
             throw new IllegalArgumentException("サイズが大きすぎる");
         }
-        return new FFTCalculation(data, basisComputer).compute();
+
+        //基底生成メソッドを呼ぶことで, このデータサイズに整合するかを確かめる
+        basisComputer.getBasis(size);
+
+        //2の累乗は専用の反復的アルゴリズムで処理する
+        if (Power2Util.isPowerOf2(size)) {
+            return new Plan(size, basisComputer,
+                    this.parallelPolicy.parallelizes(size)
+                            ? this.createPower2FourStepNode(size, basisComputer)
+                            : null);
+        }
+        return new Plan(size, basisComputer, this.createNode(PrimeFactorization.of(size), basisComputer));
     }
 
-    private final class FFTCalculation {
+    /**
+     * 素因数分解に従い, 再帰的な変換の節を構築する.
+     */
+    private Node createNode(PrimeFactorization primeFactorization, FourierBasisComputer basisComputer) {
+        final int N = primeFactorization.original();
+        assert N > 1;
+
+        //互いに素な因数に分解できる場合は, 素因数アルゴリズムを用いる
+        PrimeFactorization coprimeRemainder = coprimeRemainder(primeFactorization);
+        if (coprimeRemainder.original() > 1) {
+            int N1 = N / coprimeRemainder.original();
+            return new PrimeFactorNode(
+                    this.createNode(PrimeFactorization.of(N1), basisComputer),
+                    this.createNode(coprimeRemainder, basisComputer),
+                    this.parallelPolicy);
+        }
 
-        /**
-         * 各素因数に対して使うアルゴリズム選択の閾値. <br>
-         * この値未満の場合はRaw, この値以上の場合はPrimeFFTを使う. <br>
-         * 素数DFTの都合上, この値は5以上でなければならない.
+        /*
+         * N1とN2に分解
+         * N1が直接DFT, N2が再帰的FFTのサイズ
          */
-        private static final int PRIME_FFT_THRESHOLD = 320;
+        PrimeFactorization primeFact_N2 = primeFactorization.child();
+        int N1 = primeFactorization.separatedValue();
+        //小さい因数は, コードレットが存在する限りまとめて処理する
+        while (primeFact_N2.original() > 1) {
+            int f = primeFact_N2.separatedValue();
+            if (!SmallDFTCodelets.supports(N1 * f)) {
+                break;
+            }
+            N1 *= f;
+            primeFact_N2 = primeFact_N2.child();
+        }
 
-        /**
-         * DFTをまとめて処理できるサイズの上限.
-         * 
-         * <p>
-         * Cooley-Tukey型では, 小さい因数は合成数であってもRawに処理したほうが良い. <br>
-         * この定数はその合成数の上界を与える. <br>
-         * Rawアルゴリズムを強制するため, この値は
-         * {@link #PRIME_FFT_THRESHOLD} 未満である必要がある.
-         * </p>
-         */
-        private static final int COMPOSITE_N1_MAX = 30;
+        // N2 = 1の場合は直接DFTで完了する
+        if (primeFact_N2.original() == 1) {
+            return this.createLeaf(N1, basisComputer);
+        }
 
-        private final int entireSize;
+        return new CooleyTukeyNode(
+                this.createLeaf(N1, basisComputer),
+                this.createNode(primeFact_N2, basisComputer),
+                basisComputer.getBasis(N),
+                this.parallelPolicy);
+    }
 
-        private final ComplexNumber[] data;
-        private final FourierBasisComputer basisComputer;
+    /**
+     * 2の累乗のサイズを N = N1 * N2 (N1 &le; N2, ともに2の累乗) に分解する,
+     * 並列実行のための節を構築する.
+     */
+    private Node createPower2FourStepNode(int size, FourierBasisComputer basisComputer) {
+        assert Power2Util.isPowerOf2(size);
+
+        int N1 = 1 << (Integer.numberOfTrailingZeros(size) / 2);
+        int N2 = size / N1;
+        return new CooleyTukeyNode(
+                new Power2Leaf(N1, basisComputer),
+                new Power2Leaf(N2, basisComputer),
+                basisComputer.getBasis(size),
+                this.parallelPolicy);
+    }
 
-        private final PrimeFactorization primeFactorization;
+    /**
+     * 直接DFTを行う葉を構築する.
+     */
+    private Node createLeaf(int length, FourierBasisComputer basisComputer) {
+        if (SmallDFTCodelets.supports(length)) {
+            return new CodeletLeaf(basisComputer.getBasis(length));
+        }
+        if (length < PRIME_FFT_THRESHOLD) {
+            return new RawLeaf(basisComputer.getBasis(length));
+        }
+        return new PrimeLeaf(length, basisComputer);
+    }
 
-        private FFTCalculation(ComplexNumber[] data, FourierBasisComputer basisComputer) {
-            assert data.length > 0 : "データサイズが0である";
-            assert data.length <= GenericInnerFFTExecutor.MAX_DATA_SIZE : "サイズが大きすぎる";
+    /**
+     * 素因数分解を, 互いに素な N1 * N2 に分ける. <br>
+     * N1は最小の素因数の累乗 (をコードレットが存在する限り次の素数の累乗とまとめたもの) であり,
+     * 戻り値はN2の素因数分解である. <br>
+     * 素数の累乗であり分けられない場合は, 1の素因数分解を返す.
+     */
+    private static PrimeFactorization coprimeRemainder(PrimeFactorization primeFactorization) {
+        //素因数は昇順に分離されるので, 同じ素因数は連続する
+        PrimeFactorization remainder = skipPrimePower(primeFactorization);
+        if (remainder.original() == 1) {
+            return remainder;
+        }
 
-            this.data = data.clone();
-            this.basisComputer = basisComputer;
+        int N1 = primeFactorization.original() / remainder.original();
+        while (true) {
+            PrimeFactorization next = skipPrimePower(remainder);
+            if (next.original() == 1) {
+                break;
+            }
+            int block = remainder.original() / next.original();
+            if (!SmallDFTCodelets.supports(N1 * block)) {
+                break;
+            }
+            N1 *= block;
+            remainder = next;
+        }
+        return remainder;
+    }
+
+    /**
+     * 先頭の素因数をその重複度の分だけ分離した残りを返す.
+     */
+    private static PrimeFactorization skipPrimePower(PrimeFactorization primeFactorization) {
+        int p = primeFactorization.separatedValue();
+        PrimeFactorization out = primeFactorization.child();
+        while (out.original() > 1 && out.separatedValue() == p) {
+            out = out.child();
+        }
+        return out;
+    }
 
-            this.entireSize = this.data.length;
+    /**
+     * 標本サイズと基底生成器を固定した変換のプラン. <br>
+     * イミュータブルであり, スレッドセーフである.
+     * 
+     * <p>
+     * 作業用配列は実行ごとに確保する
+     * (呼び出し側が作業用配列を与えるメソッドも用意されている).
+     * </p>
+     * 
+     * <p>
+     * 並列実行の方針に従って構築されたプランでは, 閾値以上のサイズの段の部分変換は並列に実行される.
+     * </p>
+     */
+    public final class Plan {
+
+        private final int size;
+        private final FourierBasisComputer basisComputer;
 
-            //基底生成メソッドを呼ぶことで, このデータサイズに整合するかを確かめる
-            this.basisComputer.getBasis(this.entireSize);
+        //逐次実行の2の累乗の場合はnull
+        private final Node root;
 
-            this.primeFactorization = PrimeFactorization.of(this.entireSize);
+        private Plan(int size, FourierBasisComputer basisComputer, Node root) {
+            this.size = size;
+            this.basisComputer = basisComputer;
+            this.root = root;
         }
 
-        ComplexNumber[] compute() {
-            return this.fftRecursion(this.data, this.primeFactorization);
+        /**
+         * このプランの標本サイズを返す.
+         * 
+         * @return 標本サイズ
+         */
+        public int size() {
+            return this.size;
         }
 
         /**
+         * 実部配列と虚部配列で与えられた複素数列に対して変換を実行し, 結果で上書きする.
          * 
-         * 再帰的にFFTを実行する.
+         * @param realPart 実部, 結果で上書きされる
+         * @param imaginaryPart 虚部, 結果で上書きされる
+         * @throws IllegalArgumentException 配列の長さがプランの標本サイズと一致しない場合
+         * @throws NullPointerException 引数にnullが含まれる場合
+         */
+        public void computeInPlace(double[] realPart, double[] imaginaryPart) {
+            if (realPart.length != this.size || imaginaryPart.length != this.size) {
+                throw new IllegalArgumentException("サイズがプランと整合しない");
+            }
+
+            if (Objects.isNull(this.root)) {
+                GenericInnerFFTExecutor.this.power2FFT.computeInPlace(
+                        realPart, imaginaryPart, this.basisComputer);
+                return;
+            }
+
+            ScratchArena arena = ScratchArena.current();
+            double[] work_re = arena.borrow(this.size);
+            double[] work_im = arena.borrow(this.size);
+            try {
+                this.root.compute(realPart, imaginaryPart, work_re, work_im, 0);
+            } finally {
+                arena.giveBack(work_im);
+                arena.giveBack(work_re);
+            }
+        }
+
+        /**
+         * 実部配列と虚部配列で与えられた複素数列に対して, 与えた作業用配列を使って変換を実行し, 結果で上書きする. <br>
+         * 作業用配列の値は書き換えられる (変換前後で意味のある値は持たない).
          * 
          * <p>
-         * dataの中身がどこから参照されているかわからないので, 中身を書き換える処理を行ってはいけない
+         * 分解に大きな素数が現れない場合 (例えば素因数が2, 3, 5のみの場合),
+         * 逐次実行ではこのメソッドは配列を確保しない.
          * </p>
          * 
-         * @param currentData
-         * @param primeFactorization
-         * @return
+         * @param realPart 実部, 結果で上書きされる
+         * @param imaginaryPart 虚部, 結果で上書きされる
+         * @param workRealPart 作業用配列
+         * @param workImaginaryPart 作業用配列
+         * @throws IllegalArgumentException 配列の長さがプランの標本サイズと一致しない場合,
+         *             作業用配列の長さがプランの標本サイズに満たない場合
+         * @throws NullPointerException 引数にnullが含まれる場合
          */
-        private ComplexNumber[] fftRecursion(ComplexNumber[] currentData, PrimeFactorization primeFactorization) {
-            assert currentData.length == primeFactorization.original();
+        public void computeInPlace(
+                double[] realPart, double[] imaginaryPart,
+                double[] workRealPart, double[] workImaginaryPart) {
+            if (realPart.length != this.size || imaginaryPart.length != this.size) {
+                throw new IllegalArgumentException("サイズがプランと整合しない");
+            }
+            if (workRealPart.length < this.size || workImaginaryPart.length < this.size) {
+                throw new IllegalArgumentException("作業用配列のサイズが足りない");
+            }
 
-            if (currentData.length == 1) {
-                return currentData;
+            if (Objects.isNull(this.root)) {
+                GenericInnerFFTExecutor.this.power2FFT.computeInPlace(
+                        realPart, imaginaryPart, this.basisComputer);
+                return;
             }
 
-            /*
-             * N1とN2に分解
-             * N1が直接DFT, N2が再帰的FFTのサイズ
-             */
-            int N = primeFactorization.original();
-
-            // mergeN1Max < PRIME_FFT_THRESHOLD が必要
-            PrimeFactorization primeFact_N2;
-            int N2;
-            int N1;
-            { // このブロックで, N1 * N2 = N となるN1, N2を決定する
-                primeFact_N2 = primeFactorization.child();
-                int currentN1 = primeFactorization.separatedValue();
-                while (primeFact_N2.original() > 1) {
-                    int f = primeFact_N2.separatedValue();
-                    if (currentN1 * f > COMPOSITE_N1_MAX) {
-                        break;
-                    }
-                    currentN1 *= f;
-                    primeFact_N2 = primeFact_N2.child();
-                }
+            this.root.compute(realPart, imaginaryPart, workRealPart, workImaginaryPart, 0);
+        }
+    }
 
-                N2 = primeFact_N2.original();
-                N1 = N / N2;
-            }
+    /**
+     * 再帰的な変換の節.
+     */
+    private abstract static class Node {
 
-            /* dataからN2飛ばしでデータ抽出し, サイズN1の系列をN2個作る */
-            ComplexNumber[][] b = new ComplexNumber[N2][];
-            for (int j2 = 0; j2 < N2; j2++) {
-                ComplexNumber[] b_j2 = new ComplexNumber[N1];
+        final int size;
 
-                for (int j1 = 0; j1 < N1; j1++) {
-                    b_j2[j1] = currentData[N2 * j1 + j2];
-                }
+        Node(int size) {
+            this.size = size;
+        }
 
-                b[j2] = b_j2;
-            }
+        /**
+         * [offset]から[offset + size - 1]の範囲をDFTし, 結果で上書きする. <br>
+         * 作業用配列は同じ範囲のみが使われる.
+         */
+        abstract void compute(
+                double[] re, double[] im, double[] work_re, double[] work_im, int offset);
+    }
 
-            /* 横方向のDFT (サイズN1をN2個) */
-            for (int j2 = 0; j2 < N2; j2++) {
-                b[j2] = this.fftLocal(b[j2]);
+    /**
+     * コードレットによる直接DFT.
+     */
+    private static final class CodeletLeaf extends Node {
+
+        private final FourierBasis basis;
+
+        CodeletLeaf(FourierBasis basis) {
+            super(basis.sequenceSize());
+            this.basis = basis;
+        }
+
+        @Override
+        void compute(double[] re, double[] im, double[] work_re, double[] work_im, int offset) {
+            SmallDFTCodelets.compute(re, im, work_re, work_im, offset, this.size, this.basis);
+        }
+    }
+
+    /**
+     * 定義式による直接DFT.
+     */
+    private final class RawLeaf extends Node {
+
+        private final FourierBasis basis;
+
+        RawLeaf(FourierBasis basis) {
+            super(basis.sequenceSize());
+            this.basis = basis;
+        }
+
+        @Override
+        void compute(double[] re, double[] im, double[] work_re, double[] work_im, int offset) {
+            GenericInnerFFTExecutor.this.rawDFT.computeSegment(
+                    re, im, work_re, work_im, offset, this.size, this.basis);
+        }
+    }
+
+    /**
+     * 大きな素数に対するFFT.
+     */
+    private final class PrimeLeaf extends Node {
+
+        private final FourierBasisComputer basisComputer;
+
+        PrimeLeaf(int size, FourierBasisComputer basisComputer) {
+            super(size);
+            this.basisComputer = basisComputer;
+        }
+
+        @Override
+        void compute(double[] re, double[] im, double[] work_re, double[] work_im, int offset) {
+            final int length = this.size;
+            ScratchArena arena = ScratchArena.current();
+            double[] local_re = arena.borrow(length);
+            double[] local_im = arena.borrow(length);
+            try {
+                System.arraycopy(re, offset, local_re, 0, length);
+                System.arraycopy(im, offset, local_im, 0, length);
+                GenericInnerFFTExecutor.this.primeFFT.computeInPlace(local_re, local_im, this.basisComputer);
+                System.arraycopy(local_re, 0, re, offset, length);
+                System.arraycopy(local_im, 0, im, offset, length);
+            } finally {
+                arena.giveBack(local_im);
+                arena.giveBack(local_re);
             }
+        }
+    }
 
-            // N2 = 1の場合はDFTが完了している
-            if (N2 == 1) {
-                return b[0];
+    /**
+     * 2の累乗のサイズに対する反復的FFT (4-stepの分解の部分変換に用いる).
+     */
+    private final class Power2Leaf extends Node {
+
+        private final FourierBasisComputer basisComputer;
+
+        Power2Leaf(int size, FourierBasisComputer basisComputer) {
+            super(size);
+            this.basisComputer = basisComputer;
+        }
+
+        @Override
+        void compute(double[] re, double[] im, double[] work_re, double[] work_im, int offset) {
+            final int length = this.size;
+            ScratchArena arena = ScratchArena.current();
+            double[] local_re = arena.borrow(length);
+            double[] local_im = arena.borrow(length);
+            try {
+                System.arraycopy(re, offset, local_re, 0, length);
+                System.arraycopy(im, offset, local_im, 0, length);
+                GenericInnerFFTExecutor.this.power2FFT.computeInPlace(local_re, local_im, this.basisComputer);
+                System.arraycopy(local_re, 0, re, offset, length);
+                System.arraycopy(local_im, 0, im, offset, length);
+            } finally {
+                arena.giveBack(local_im);
+                arena.giveBack(local_re);
             }
+        }
+    }
 
-            //回転
-            FourierBasis basis_N = this.basisComputer.getBasis(N);
+    /**
+     * Cooley-Tukey型の分解 N = N1 * N2 (N1は直接DFT, N2は再帰的FFT).
+     */
+    private static final class CooleyTukeyNode extends Node {
+
+        private final Node leaf_N1;
+        private final Node node_N2;
+        private final FourierBasis basis_N;
+        private final ParallelPolicy parallelPolicy;
+
+        CooleyTukeyNode(Node leaf_N1, Node node_N2, FourierBasis basis_N, ParallelPolicy parallelPolicy) {
+            super(leaf_N1.size * node_N2.size);
+            this.leaf_N1 = leaf_N1;
+            this.node_N2 = node_N2;
+            this.basis_N = basis_N;
+            this.parallelPolicy = parallelPolicy;
+        }
+
+        @Override
+        void compute(double[] re, double[] im, double[] work_re, double[] work_im, int offset) {
+            final int N = this.size;
+            final int N1 = this.leaf_N1.size;
+            final int N2 = this.node_N2.size;
+
+            /* dataからN2飛ばしでデータ抽出し, サイズN1の系列をN2個作る(作業配列へ) */
             for (int j2 = 0; j2 < N2; j2++) {
-                ComplexNumber[] b_j2 = b[j2];
-                for (int k1 = 0; k1 < N1; k1++) {
-                    ComplexNumber a = b_j2[k1];
-                    ComplexNumber W = basis_N.valueAt(j2 * k1);
-                    b_j2[k1] = a.times(W);
+                int pos_b = offset + j2 * N1;
+                for (int j1 = 0; j1 < N1; j1++) {
+                    work_re[pos_b + j1] = re[offset + N2 * j1 + j2];
+                    work_im[pos_b + j1] = im[offset + N2 * j1 + j2];
                 }
             }
 
+            /* 横方向のDFT (サイズN1をN2個), 元の配列はここで作業用に回る */
+            this.parallelPolicy.forEach(N, N2,
+                    j2 -> this.leaf_N1.compute(work_re, work_im, re, im, offset + j2 * N1));
+
+            //回転
+            SplitComplexArrays.rotate(work_re, work_im, offset, N1, N2, this.basis_N);
+
             /* 転置: (サイズN1をN2個)→(サイズN2をN1個) */
-            ComplexNumber[][] d = new ComplexNumber[N1][N2];
-            for (int j2 = 0; j2 < N2; j2++) {
-                ComplexNumber[] b_j2 = b[j2];
-                for (int k1 = 0; k1 < N1; k1++) {
-                    d[k1][j2] = b_j2[k1];
-                }
-            }
+            SplitComplexArrays.transpose(work_re, work_im, re, im, offset, N2, N1);
 
-            /* d(サイズN2をN1個)に対して再帰的FFT */
-            for (int k1 = 0; k1 < N1; k1++) {
-                d[k1] = this.fftRecursion(d[k1], primeFact_N2);
-            }
+            /* (サイズN2をN1個)に対して再帰的FFT */
+            this.parallelPolicy.forEach(N, N1,
+                    k1 -> this.node_N2.compute(re, im, work_re, work_im, offset + k1 * N2));
 
             //転置
-            ComplexNumber[] result = new ComplexNumber[N];
-            for (int k1 = 0; k1 < N1; k1++) {
-                ComplexNumber[] d_k1 = d[k1];
-                for (int k2 = 0; k2 < N2; k2++) {
-                    result[N1 * k2 + k1] = d_k1[k2];
-                }
-            }
+            SplitComplexArrays.transpose(re, im, work_re, work_im, offset, N1, N2);
+            System.arraycopy(work_re, offset, re, offset, N);
+            System.arraycopy(work_im, offset, im, offset, N);
+        }
+    }
+
+    /**
+     * Good-Thomasの素因数アルゴリズムによる分解 N = N1 * N2 (N1とN2は互いに素). <br>
+     * 添え字の写像のみで2次元のDFTに帰着されるため, 回転因子の乗算は不要である.
+     */
+    private static final class PrimeFactorNode extends Node {
+
+        private final Node node_N1;
+        private final Node node_N2;
+        private final ParallelPolicy parallelPolicy;
 
-            return result;
+        PrimeFactorNode(Node node_N1, Node node_N2, ParallelPolicy parallelPolicy) {
+            super(node_N1.size * node_N2.size);
+            this.node_N1 = node_N1;
+            this.node_N2 = node_N2;
+            this.parallelPolicy = parallelPolicy;
         }
 
-        private ComplexNumber[] fftLocal(ComplexNumber[] localData) {
+        @Override
+        void compute(double[] re, double[] im, double[] work_re, double[] work_im, int offset) {
+            final int N = this.size;
+            final int N1 = this.node_N1.size;
+            final int N2 = this.node_N2.size;
 
-            if (localData.length < PRIME_FFT_THRESHOLD) {
-                return GenericInnerFFTExecutor.this.rawDFT.compute(localData, this.basisComputer);
-            }
+            /* 入力の写像により, サイズN1の系列をN2個作る(作業配列へ) */
+            SplitComplexArrays.gatherPrimeFactorInput(re, im, work_re, work_im, offset, N1, N2);
+
+            /* 横方向のDFT (サイズN1をN2個), 元の配列はここで作業用に回る */
+            this.parallelPolicy.forEach(N, N2,
+                    n2 -> this.node_N1.compute(work_re, work_im, re, im, offset + n2 * N1));
+
+            /* 転置: (サイズN1をN2個)→(サイズN2をN1個) */
+            SplitComplexArrays.transpose(work_re, work_im, re, im, offset, N2, N1);
+
+            /* (サイズN2をN1個)に対して再帰的FFT */
+            this.parallelPolicy.forEach(N, N1,
+                    k1 -> this.node_N2.compute(re, im, work_re, work_im, offset + k1 * N2));
 
-            return GenericInnerFFTExecutor.this.primeFFT.compute(localData, this.basisComputer);
+            /* 出力の写像により並べ替える */
+            SplitComplexArrays.scatterPrimeFactorOutput(re, im, work_re, work_im, offset, N1, N2);
+            System.arraycopy(work_re, offset, re, offset, N);
+            System.arraycopy(work_im, offset, im, offset, N);
         }
     }
 }
@@ -5,7 +5,7 @@
  * http://opensource.org/licenses/mit-license.php
  */
 /*
- * 2024.4.4
+ * 2025.10.1
  */
 package matsu.num.transform.fft.fftmodule;
 
@@ -17,6 +17,14 @@ import matsu.num.transform.fft.component.FourierBasisComputer;
  * パッケージプライベート予定.
  * 
  * <p>
+ * 計算の本体は, 複素数列を実部配列と虚部配列に分けて扱う
+ * {@link #computeInPlace(double[], double[], FourierBasisComputer)} である. <br>
+ * {@link #compute(ComplexNumber[], FourierBasisComputer)} はそれを呼ぶアダプタであり,
+ * 複素数オブジェクトの生成は入出力の変換時にしか生じない.
+ * </p>
+ * 
+ * <p>
+ * {@link #computeInPlace(double[], double[], FourierBasisComputer)},
  * {@link #compute(ComplexNumber[], FourierBasisComputer)}メソッドでは,
  * 対応不可なdataを与えられた場合には,
  * {@link IllegalArgumentException}のサブクラスを追加でスローしても良い.
@@ -53,6 +61,26 @@ interface InnerDFTExecutor {
      *             その他クラスの説明文に定義された条件の場合
      * @throws NullPointerException 引数にnullが含まれる場合
      */
-    public abstract ComplexNumber[] compute(ComplexNumber[] data, FourierBasisComputer basisComputer);
+    public default ComplexNumber[] compute(ComplexNumber[] data, FourierBasisComputer basisComputer) {
+        double[][] arrays = ComplexNumber.separateToArrays(data);
+        this.computeInPlace(arrays[0], arrays[1], basisComputer);
+        return ComplexNumber.from(arrays[0], arrays[1]);
+    }
+
+    /**
+     * 実部配列と虚部配列で与えられたデータに対してDFT/IDFTをcomputeし,
+     * 結果で引数の配列を上書きする.
+     * 
+     * @param realPart 実部, 結果の実部で上書きされる
+     * @param imaginaryPart 虚部, 結果の虚部で上書きされる
+     * @param basisComputer Fourier基底生成器
+     * @throws IllegalArgumentException 実部と虚部のサイズが整合しない場合,
+     *             サイズが0の場合, サイズが大きすぎる場合,
+     *             基底生成器がサイズに対応していない場合,
+     *             その他クラスの説明文に定義された条件の場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public abstract void computeInPlace(
+            double[] realPart, double[] imaginaryPart, FourierBasisComputer basisComputer);
 
 }
@@ -5,7 +5,7 @@
  * http://opensource.org/licenses/mit-license.php
  */
 /*
- * 2024.4.4
+ * 2025.10.1
  */
 package matsu.num.transform.fft.fftmodule;
 
@@ -47,7 +47,31 @@ public final class Power2CyclicConvolutionModule {
      * @throws NullPointerException 引数にnullが含まれる場合
      */
     public ComplexNumber[] compute(ComplexNumber[] f, ComplexNumber[] g) {
-        return new CyclicConvHelper(f, g, this.computerSupplier).compute();
+        double[][] arrayF = ComplexNumber.separateToArrays(f);
+        double[][] arrayG = ComplexNumber.separateToArrays(g);
+        this.computeInPlace(arrayF[0], arrayF[1], arrayG[0], arrayG[1]);
+        return ComplexNumber.from(arrayF[0], arrayF[1]);
+    }
+
+    /**
+     * 実部配列と虚部配列で与えられた複素数列 f, g の巡回畳み込みを計算し,
+     * 結果で f の配列を上書きする. <br>
+     * g の配列は作業領域として使われ, 内容は書き換えられる.
+     * 
+     * @param realPartF fの実部, 結果の実部で上書きされる
+     * @param imaginaryPartF fの虚部, 結果の虚部で上書きされる
+     * @param realPartG gの実部, 内容は保証されない
+     * @param imaginaryPartG gの虚部, 内容は保証されない
+     * @throws IllegalArgumentException 引数の長さが一致しない場合, 長さが2の累乗でない場合,
+     *             長さが大きすぎる場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public void computeInPlace(
+            double[] realPartF, double[] imaginaryPartF,
+            double[] realPartG, double[] imaginaryPartG) {
+        new CyclicConvHelper(
+                realPartF, imaginaryPartF, realPartG, imaginaryPartG, this.computerSupplier)
+                        .compute();
     }
 
     private final class CyclicConvHelper {
@@ -57,62 +81,78 @@ public final class Power2CyclicConvolutionModule {
 
         private final int length;
 
-        private final ComplexNumber[] f;
-        private final ComplexNumber[] g;
+        private final double[] realPartF;
+        private final double[] imaginaryPartF;
+        private final double[] realPartG;
+        private final double[] imaginaryPartG;
 
         /**
          * 巡回畳み込みを生成する. <br>
          * 2の累乗に対するDFTとIDFTの生成器キャッシュを渡す.
          * 
-         * @param f f
-         * @param g g
          * @param computerSupplier Fourier基底コンピュータのサプライヤ
          * @throws IllegalArgumentException 引数の長さが一致しない場合, 長さが2の累乗でない場合,
          *             長さが大きすぎる場合
          * @throws NullPointerException 引数にnullが含まれる場合
          */
-        CyclicConvHelper(ComplexNumber[] f, ComplexNumber[] g, FourierBasisComputer.Supplier computerSupplier) {
-            if (f.length != g.length) {
+        CyclicConvHelper(
+                double[] realPartF, double[] imaginaryPartF,
+                double[] realPartG, double[] imaginaryPartG,
+                FourierBasisComputer.Supplier computerSupplier) {
+            int length = realPartF.length;
+            if (imaginaryPartF.length != length
+                    || realPartG.length != length
+                    || imaginaryPartG.length != length) {
                 throw new IllegalArgumentException("長さが一致しない");
             }
-            if (!Power2Util.isPowerOf2(f.length)) {
+            if (!Power2Util.isPowerOf2(length)) {
                 throw new IllegalArgumentException("長さが2の累乗でない");
             }
-            if (f.length > MAX_SEQUENCE_SIZE) {
+            if (length > MAX_SEQUENCE_SIZE) {
                 throw new IllegalArgumentException("長さが大きすぎる");
             }
 
-            this.length = f.length;
+            this.length = length;
 
-            this.f = f;
-            this.g = g;
+            this.realPartF = realPartF;
+            this.imaginaryPartF = imaginaryPartF;
+            this.realPartG = realPartG;
+            this.imaginaryPartG = imaginaryPartG;
 
             this.dftComputer = computerSupplier.covering(this.length, FourierType.DFT);
             this.idftComputer = computerSupplier.covering(this.length, FourierType.IDFT);
 
         }
 
-        ComplexNumber[] compute() {
+        void compute() {
+            final InnerDFTExecutor fft = Power2CyclicConvolutionModule.this.power2FFT;
+            final double[] f_re = this.realPartF;
+            final double[] f_im = this.imaginaryPartF;
+            final double[] g_re = this.realPartG;
+            final double[] g_im = this.imaginaryPartG;
 
             //フーリエ変換
-            ComplexNumber[] f_fourier = Power2CyclicConvolutionModule.this.power2FFT.compute(this.f, this.dftComputer);
-            ComplexNumber[] g_fourier = Power2CyclicConvolutionModule.this.power2FFT.compute(this.g, this.dftComputer);
+            fft.computeInPlace(f_re, f_im, this.dftComputer);
+            fft.computeInPlace(g_re, g_im, this.dftComputer);
 
             //フーリエ係数の乗算
-            ComplexNumber[] h_fourier = new ComplexNumber[this.length];
             for (int j = 0; j < this.length; j++) {
-                h_fourier[j] = f_fourier[j].times(g_fourier[j]);
+                double a_re = f_re[j];
+                double a_im = f_im[j];
+                double b_re = g_re[j];
+                double b_im = g_im[j];
+                f_re[j] = a_re * b_re - a_im * b_im;
+                f_im[j] = a_re * b_im + a_im * b_re;
             }
 
             //フーリエ逆変換
-            ComplexNumber[] h_ext = Power2CyclicConvolutionModule.this.power2FFT.compute(h_fourier, this.idftComputer);
+            fft.computeInPlace(f_re, f_im, this.idftComputer);
 
             double invM = 1d / this.length;
             for (int j = 0; j < this.length; j++) {
-                h_ext[j] = h_ext[j].timesReal(invM);
+                f_re[j] *= invM;
+                f_im[j] *= invM;
             }
-
-            return h_ext;
         }
 
     }
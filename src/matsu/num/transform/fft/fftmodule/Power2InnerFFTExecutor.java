@@ -5,10 +5,14 @@
  * http://opensource.org/licenses/mit-license.php
  */
 /*
- * 2025.9.28
+ * 2025.10.3
  */
 package matsu.num.transform.fft.fftmodule;
 
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+
 import matsu.num.transform.fft.component.ComplexNumber;
 import matsu.num.transform.fft.component.FourierBasis;
 import matsu.num.transform.fft.component.FourierBasisComputer;
@@ -18,23 +22,38 @@ import matsu.num.transform.fft.number.Power2Util;
  * 2の累乗の要素数に関するFFT型変換を扱う.
  * 
  * <p>
- * このクラスが提供する{@link InnerDFTExecutor#compute(ComplexNumber[], FourierBasisComputer)}では,
+ * このクラスが提供する{@link InnerDFTExecutor#computeInPlace(double[], double[], FourierBasisComputer)}では,
  * 例外スロー条件として次を追加する. <br>
  * サイズが2の塁乗でない場合に{@link IllegalArgumentException}をスローする.
  * </p>
  * 
+ * <p>
+ * 変換は, ビット反転による並べ替えの後に基数4の時間間引き段を繰り返す,
+ * 反復的なin-placeアルゴリズムで行う
+ * (log<sub>2</sub><i>N</i>が奇数の場合は, 最初に基数2の段を1回行う). <br>
+ * 各段の回転因子は段ごとに連続した配列として事前計算され,
+ * 基底 ({@link FourierBasis}) ごとにキャッシュされる.
+ * </p>
+ * 
  * @author Matsuura Y.
  */
 final class Power2InnerFFTExecutor implements InnerDFTExecutor {
 
-    private final RawInnerDFTExecutor rawDFT;
+    /*
+     * 基底はFourierBasisComputerにキャッシュされ, その生成器はサプライヤにキャッシュされる.
+     * 回転因子表はそれらと寿命を揃えるため, 基底を弱参照のキーとして保持する.
+     */
+    private final Map<FourierBasis, StageTwiddles> twiddlesCache;
+
+    //排他処理用ロックオブジェクト
+    private final Object lock = new Object();
 
     /**
      * このクラスのインスタンスを構築する.
      */
     Power2InnerFFTExecutor() {
         super();
-        this.rawDFT = new RawInnerDFTExecutor();
+        this.twiddlesCache = new WeakHashMap<>();
     }
 
     /**
@@ -43,142 +62,233 @@ final class Power2InnerFFTExecutor implements InnerDFTExecutor {
      */
     @Override
     public ComplexNumber[] compute(ComplexNumber[] data, FourierBasisComputer basisComputer) {
-        return new Power2FFTHelper(data, basisComputer).compute();
+        //配列への分離の前にサイズを検証する
+        if (!Power2Util.isPowerOf2(data.length)) {
+            throw new IllegalArgumentException("2の累乗でない");
+        }
+        return InnerDFTExecutor.super.compute(data, basisComputer);
     }
 
-    private final class Power2FFTHelper {
+    /**
+     * @throws IllegalArgumentException {@inheritDoc}
+     * @throws NullPointerException {@inheritDoc}
+     */
+    @Override
+    public void computeInPlace(double[] realPart, double[] imaginaryPart, FourierBasisComputer basisComputer) {
+        final int N = realPart.length;
+        if (N != imaginaryPart.length) {
+            throw new IllegalArgumentException("実部と虚部のサイズが整合しない");
+        }
+
+        //isPowerOf2の呼び出しで1以上かどうかをバリデーションする
+        if (!Power2Util.isPowerOf2(N)) {
+            throw new IllegalArgumentException("2の累乗でない");
+        }
 
-        /**
-         * DFTをまとめて処理できるサイズの上限.
-         * 
-         * <p>
-         * Cooley-Tukey型では, 小さい因数は合成数であってもRawに処理したほうが良い. <br>
-         * この定数はその合成数の上界を与える. <br>
-         * 2の累乗であることが必要.
-         * </p>
-         */
-        private static final int COMPOSITE_N1_MAX = 1 << 4;
+        if (!basisComputer.support(N)) {
+            throw new IllegalArgumentException("基底関数がサイズに対応していない");
+        }
 
-        private final FourierBasisComputer fourierBasisComputer;
-        private final ComplexNumber[] data;
+        if (N == 1) {
+            return;
+        }
 
-        /**
-         * 2の累乗の要素数に関するFFTを構築する.
-         * 
-         * @param data 変換を行うデータ
-         * @param basisComputer 基底関数の生成器
-         * @throws IllegalArgumentException サイズが2の累乗でない場合,
-         *             基底関数の生成器がdataのサイズに対応していない場合
-         * @throws NullPointerException 引数にnullが含まれる場合
-         * @see FourierBasisComputer#support(int)
-         */
-        private Power2FFTHelper(ComplexNumber[] data, FourierBasisComputer basisComputer) {
-            //isPowerOf2の呼び出しで1以上かどうかをバリデーションする
-            if (!Power2Util.isPowerOf2(data.length)) {
-                throw new IllegalArgumentException("2の累乗でない");
+        StageTwiddles twiddles = this.twiddlesOf(basisComputer.getBasis(N));
+
+        bitReverse(realPart, imaginaryPart);
+
+        int m = 1;
+        if (twiddles.radix2First) {
+            radix2FirstStage(realPart, imaginaryPart);
+            m = 2;
+        }
+        for (int stage = 0; m < N; stage++, m *= 4) {
+            radix4Stage(realPart, imaginaryPart, m, twiddles.stageTables[stage], twiddles.quarterSign);
+        }
+    }
+
+    /**
+     * 基底に対応する回転因子表を返す. <br>
+     * キャッシュされていない場合は構築する.
+     */
+    private StageTwiddles twiddlesOf(FourierBasis basis) {
+        StageTwiddles out;
+        synchronized (this.lock) {
+            out = this.twiddlesCache.get(basis);
+        }
+        if (Objects.nonNull(out)) {
+            return out;
+        }
+
+        //表の構築はO(N)なので, ロックの外で行う
+        StageTwiddles created = new StageTwiddles(basis);
+        synchronized (this.lock) {
+            out = this.twiddlesCache.get(basis);
+            if (Objects.nonNull(out)) {
+                return out;
             }
+            this.twiddlesCache.put(basis, created);
+            return created;
+        }
+    }
 
-            if (!basisComputer.support(data.length)) {
-                throw new IllegalArgumentException("基底関数がサイズに対応していない");
+    /**
+     * ビット反転による並べ替えを行う.
+     */
+    private static void bitReverse(double[] re, double[] im) {
+        final int N = re.length;
+        for (int i = 0, j = 0; i < N; i++) {
+            if (i < j) {
+                double t_re = re[i];
+                double t_im = im[i];
+                re[i] = re[j];
+                im[i] = im[j];
+                re[j] = t_re;
+                im[j] = t_im;
             }
 
-            this.fourierBasisComputer = basisComputer;
-            this.data = data;
+            //jを (ビット反転の意味で) インクリメント
+            int bit = N >> 1;
+            while ((j & bit) != 0) {
+                j ^= bit;
+                bit >>= 1;
+            }
+            j |= bit;
         }
+    }
 
-        /**
-         * 結果を返す.
-         * 
-         * @return DFT/IDFTの結果
-         */
-        ComplexNumber[] compute() {
-            return this.fftRecursion(this.data);
+    /**
+     * 長さ1の系列から長さ2のDFTを作る, 回転因子なしの基数2の段.
+     */
+    private static void radix2FirstStage(double[] re, double[] im) {
+        final int N = re.length;
+        for (int k = 0; k < N; k += 2) {
+            double a_re = re[k];
+            double a_im = im[k];
+            double b_re = re[k + 1];
+            double b_im = im[k + 1];
+            re[k] = a_re + b_re;
+            im[k] = a_im + b_im;
+            re[k + 1] = a_re - b_re;
+            im[k + 1] = a_im - b_im;
         }
+    }
 
-        /**
-         * 再帰によるFFT処理. <br>
-         * [position]から[position + length - 1]の範囲をDFTする.
-         * 
-         * @param real real
-         * @param imaginary imaginary
-         * @param position position
-         * @param length length
-         */
-        private ComplexNumber[] fftRecursion(ComplexNumber[] currentData) {
+    /**
+     * 長さmのDFT4個 (ビット反転順に並んでいる) から, 長さ4mのDFTを作る基数4の段.
+     * 
+     * <p>
+     * ビット反転順において, [k, k + 4m) の4つのブロックは,
+     * 長さ4mの系列の剰余 0, 2, 1, 3 (mod 4) の部分列のDFTである.
+     * </p>
+     * 
+     * @param table (W<sup>j</sup>, W<sup>2j</sup>, W<sup>3j</sup>)
+     *            (<i>W</i> = <i>W</i><sub>4m</sub>)
+     *            をjごとに実部, 虚部の順で並べた長さ6mの配列
+     * @param quarterSign <i>W</i><sub>4</sub> = i * quarterSign
+     */
+    private static void radix4Stage(double[] re, double[] im, int m, double[] table, double quarterSign) {
+        final int N = re.length;
+        final int m4 = 4 * m;
 
-            int N = currentData.length;
+        for (int k = 0; k < N; k += m4) {
+            for (int j = 0, t = 0; j < m; j++, t += 6) {
+                int i0 = k + j;
+                int i1 = i0 + m;
+                int i2 = i1 + m;
+                int i3 = i2 + m;
 
-            /* 標本サイズが小さい場合は直接DFTを呼ぶ */
-            if (N <= COMPOSITE_N1_MAX) {
-                return Power2InnerFFTExecutor.this.rawDFT
-                        .compute(currentData, this.fourierBasisComputer);
-            }
+                double w1_re = table[t];
+                double w1_im = table[t + 1];
+                double w2_re = table[t + 2];
+                double w2_im = table[t + 3];
+                double w3_re = table[t + 4];
+                double w3_im = table[t + 5];
 
-            /* 標本サイズが8以上の場合は再帰的FFT */
-            /* N1が直接DFT, N2が再帰的FFTのサイズ */
-            int N1 = COMPOSITE_N1_MAX;
-            //N2は2以上である
-            int N2 = N / COMPOSITE_N1_MAX;
+                //c0 = A0, c1 = A1 * W^j, c2 = A2 * W^2j, c3 = A3 * W^3j
+                //ブロックは A0, A2, A1, A3 の順に並ぶ
+                double c0_re = re[i0];
+                double c0_im = im[i0];
 
-            /* dataからN2飛ばしでデータ抽出し, サイズN1の系列をN2個作る */
-            ComplexNumber[][] b = new ComplexNumber[N2][];
-            for (int j2 = 0; j2 < N2; j2++) {
-                ComplexNumber[] b_j2 = new ComplexNumber[N1];
+                double a_re = re[i2];
+                double a_im = im[i2];
+                double c1_re = a_re * w1_re - a_im * w1_im;
+                double c1_im = a_re * w1_im + a_im * w1_re;
 
-                for (int j1 = 0; j1 < N1; j1++) {
-                    b_j2[j1] = currentData[N2 * j1 + j2];
-                }
+                a_re = re[i1];
+                a_im = im[i1];
+                double c2_re = a_re * w2_re - a_im * w2_im;
+                double c2_im = a_re * w2_im + a_im * w2_re;
 
-                b[j2] = b_j2;
-            }
+                a_re = re[i3];
+                a_im = im[i3];
+                double c3_re = a_re * w3_re - a_im * w3_im;
+                double c3_im = a_re * w3_im + a_im * w3_re;
 
-            /* 横方向のDFT (サイズN1をN2個) */
-            for (int j2 = 0; j2 < N2; j2++) {
-                b[j2] = Power2InnerFFTExecutor.this.compute(b[j2], this.fourierBasisComputer);
-            }
+                double s02_re = c0_re + c2_re;
+                double s02_im = c0_im + c2_im;
+                double d02_re = c0_re - c2_re;
+                double d02_im = c0_im - c2_im;
+                double s13_re = c1_re + c3_re;
+                double s13_im = c1_im + c3_im;
+                //(c1 - c3) * W_4
+                double d13_re = -quarterSign * (c1_im - c3_im);
+                double d13_im = quarterSign * (c1_re - c3_re);
 
-            // N2 = 1の場合はDFTが完了している
-            if (N2 == 1) {
-                return b[0];
+                re[i0] = s02_re + s13_re;
+                im[i0] = s02_im + s13_im;
+                re[i1] = d02_re + d13_re;
+                im[i1] = d02_im + d13_im;
+                re[i2] = s02_re - s13_re;
+                im[i2] = s02_im - s13_im;
+                re[i3] = d02_re - d13_re;
+                im[i3] = d02_im - d13_im;
             }
+        }
+    }
 
-            //回転
-            FourierBasis basis_N = this.fourierBasisComputer.getBasis(N);
-            for (int j2 = 0; j2 < N2; j2++) {
-                ComplexNumber[] b_j2 = b[j2];
-                for (int k1 = 0; k1 < N1; k1++) {
-                    ComplexNumber a = b_j2[k1];
-                    ComplexNumber W = basis_N.valueAt(j2 * k1);
-                    b_j2[k1] = a.times(W);
-                }
-            }
+    /**
+     * 基数4の各段の回転因子表.
+     */
+    private static final class StageTwiddles {
 
-            /* 転置: (サイズN1をN2個)→(サイズN2をN1個) */
-            ComplexNumber[][] d = new ComplexNumber[N1][N2];
-            for (int j2 = 0; j2 < N2; j2++) {
-                ComplexNumber[] b_j2 = b[j2];
-                for (int k1 = 0; k1 < N1; k1++) {
-                    d[k1][j2] = b_j2[k1];
-                }
-            }
+        final boolean radix2First;
+        final double quarterSign;
+        final double[][] stageTables;
 
-            /* d(サイズN2をN1個)に対して再帰的FFT */
-            for (int k1 = 0; k1 < N1; k1++) {
-                d[k1] = this.fftRecursion(d[k1]);
-            }
+        /**
+         * 基底から回転因子表を構築する.
+         * 
+         * @param basis 長さ2以上の2の累乗に対する基底
+         */
+        StageTwiddles(FourierBasis basis) {
+            final int N = basis.sequenceSize();
+            assert N >= 2 && Power2Util.isPowerOf2(N);
 
-            //転置
-            ComplexNumber[] result = new ComplexNumber[N];
-            for (int k1 = 0; k1 < N1; k1++) {
-                ComplexNumber[] d_k1 = d[k1];
-                for (int k2 = 0; k2 < N2; k2++) {
-                    result[N1 * k2 + k1] = d_k1[k2];
-                }
-            }
+            int log2N = Power2Util.floorLog2(N);
+            this.radix2First = (log2N & 1) == 1;
 
-            return result;
+            //W_4 = W_N^(N/4) は, DFTならば -i, IDFTならば i
+            this.quarterSign = N >= 4 ? basis.imaginaryAt(N / 4) : 0d;
 
+            int stageCount = log2N / 2;
+            this.stageTables = new double[stageCount][];
+            int m = this.radix2First ? 2 : 1;
+            for (int stage = 0; stage < stageCount; stage++, m *= 4) {
+                //W_4m^r = W_N^(r * N/(4m))
+                int stride = N / (4 * m);
+                double[] table = new double[6 * m];
+                for (int j = 0, t = 0; j < m; j++, t += 6) {
+                    int idx = j * stride;
+                    table[t] = basis.realAt(idx);
+                    table[t + 1] = basis.imaginaryAt(idx);
+                    table[t + 2] = basis.realAt(2 * idx);
+                    table[t + 3] = basis.imaginaryAt(2 * idx);
+                    table[t + 4] = basis.realAt(3 * idx);
+                    table[t + 5] = basis.imaginaryAt(3 * idx);
+                }
+                this.stageTables[stage] = table;
+            }
         }
     }
-
 }
@@ -0,0 +1,123 @@
+/*
+ * Copyright © 2024 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2025.10.13
+ */
+package matsu.num.transform.fft.fftmodule;
+
+import java.util.Objects;
+
+import matsu.num.transform.fft.component.FourierBasisComputer;
+
+/**
+ * 3以上の素数個の標本サイズのFFTを, Raderアルゴリズム又はBluesteinアルゴリズムにより実行する.
+ * 
+ * <p>
+ * どちらのアルゴリズムを用いるかは, 標本サイズ<i>N</i>のみから決定的に定まる. <br>
+ * Raderアルゴリズムは長さ<i>N</i> - 1の巡回畳み込みに,
+ * Bluesteinアルゴリズムは長さ2<i>N</i> - 1以上の2の累乗の巡回畳み込みに帰着する. <br>
+ * <i>N</i> - 1が2の累乗と小さな奇数 ({@link #RADER_MAX_ODD_PART}以下) の積である場合,
+ * 長さ<i>N</i> - 1の変換はほぼ2の累乗の変換であり, Bluesteinの約半分以下の長さで済むため, Raderを選ぶ. <br>
+ * それ以外の場合, Raderは混合基数の変換か2の累乗への拡張を要し,
+ * 添え字の置換を伴う分だけBluesteinと同等以上のコストとなるため, Bluesteinを選ぶ.
+ * </p>
+ * 
+ * <p>
+ * 選択は実行時間の計測に依らないため, 同じ入力に対する結果は実行ごと, プロセスごとに一致する.
+ * </p>
+ * 
+ * <p>
+ * このクラスが提供する{@link InnerDFTExecutor#computeInPlace(double[], double[], FourierBasisComputer)}の事前条件は,
+ * {@link PrimeRaderInnerFFTExecutor}と同等である.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+final class PrimeInnerFFTExecutor implements InnerDFTExecutor {
+
+    /**
+     * 扱うことができるデータサイズの最大値: 2<sup>28</sup>
+     */
+    public static final int MAX_DATA_SIZE =
+            Math.min(PrimeRaderInnerFFTExecutor.MAX_DATA_SIZE, BluesteinInnerFFTExecutor.MAX_DATA_SIZE);
+
+    /**
+     * Raderアルゴリズムを選ぶ, <i>N</i> - 1の奇数部分 (2の累乗を除いた因数) の最大値.
+     */
+    static final int RADER_MAX_ODD_PART = 9;
+
+    private final InnerDFTExecutor raderFFT;
+    private final InnerDFTExecutor bluesteinFFT;
+
+    /**
+     * このクラスの機能を実行するインスタンスを返す.
+     * 
+     * @param computerSuppier Fourier基底コンピュータのサプライヤ
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    PrimeInnerFFTExecutor(FourierBasisComputer.Supplier computerSuppier) {
+        this(
+                new PrimeRaderInnerFFTExecutor(computerSuppier),
+                new BluesteinInnerFFTExecutor(computerSuppier));
+    }
+
+    /**
+     * Raderアルゴリズムの巡回畳み込みに使う混合基数のFFTを指定して, インスタンスを構築する.
+     * 
+     * @param computerSuppier Fourier基底コンピュータのサプライヤ
+     * @param mixedRadixFFT 任意の長さのFFT
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    PrimeInnerFFTExecutor(FourierBasisComputer.Supplier computerSuppier, InnerDFTExecutor mixedRadixFFT) {
+        this(
+                new PrimeRaderInnerFFTExecutor(computerSuppier, mixedRadixFFT),
+                new BluesteinInnerFFTExecutor(computerSuppier));
+    }
+
+    /**
+     * 2種類のアルゴリズムを指定して, インスタンスを構築する.
+     */
+    PrimeInnerFFTExecutor(InnerDFTExecutor raderFFT, InnerDFTExecutor bluesteinFFT) {
+        super();
+        this.raderFFT = Objects.requireNonNull(raderFFT);
+        this.bluesteinFFT = Objects.requireNonNull(bluesteinFFT);
+    }
+
+    /**
+     * @throws IllegalArgumentException {@inheritDoc}
+     * @throws NullPointerException {@inheritDoc}
+     */
+    @Override
+    public void computeInPlace(double[] realPart, double[] imaginaryPart, FourierBasisComputer basisComputer) {
+        final int N = realPart.length;
+        if (N != imaginaryPart.length) {
+            throw new IllegalArgumentException("実部と虚部のサイズが整合しない");
+        }
+        if (N > MAX_DATA_SIZE) {
+            throw new IllegalArgumentException("サイズが大きすぎる");
+        }
+        if (N < 3) {
+            throw new IllegalArgumentException("3以上でない");
+        }
+
+        //ここで素数でないことや基底のサイズ不整合に対する例外がスローされる
+        InnerDFTExecutor executor = prefersRader(N) ? this.raderFFT : this.bluesteinFFT;
+        executor.computeInPlace(realPart, imaginaryPart, basisComputer);
+    }
+
+    /**
+     * 3以上の標本サイズに対し, Raderアルゴリズムを選ぶかどうかを判定する.
+     * 
+     * @param N 標本サイズ
+     * @return Raderアルゴリズムを選ぶ場合はtrue
+     */
+    static boolean prefersRader(int N) {
+        assert N >= 3;
+        int L = N - 1;
+        return (L >>> Integer.numberOfTrailingZeros(L)) <= RADER_MAX_ODD_PART;
+    }
+}
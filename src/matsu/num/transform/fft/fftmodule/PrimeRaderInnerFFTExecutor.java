@@ -5,20 +5,27 @@
  * http://opensource.org/licenses/mit-license.php
  */
 /*
- * 2025.9.28
+ * 2025.10.13
  */
 package matsu.num.transform.fft.fftmodule;
 
-import matsu.num.transform.fft.component.ComplexNumber;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Objects;
+
 import matsu.num.transform.fft.component.FourierBasis;
 import matsu.num.transform.fft.component.FourierBasisComputer;
+import matsu.num.transform.fft.component.FourierType;
+import matsu.num.transform.fft.component.ScratchArena;
+import matsu.num.transform.fft.number.Power2Util;
+import matsu.num.transform.fft.number.PrimeFactorization;
 import matsu.num.transform.fft.number.PrimitiveRootOfPrimeNumber;
 
 /**
  * Raderアルゴリズムにより, 3以上の素数個の標本サイズのFFTを実行する.
  * 
  * <p>
- * このクラスが提供する{@link InnerDFTExecutor#compute(ComplexNumber[], FourierBasisComputer)}の事前条件(引数の条件)は以下である.
+ * このクラスが提供する{@link InnerDFTExecutor#computeInPlace(double[], double[], FourierBasisComputer)}の事前条件(引数の条件)は以下である.
  * </p>
  * 
  * <p>
@@ -34,6 +41,18 @@ import matsu.num.transform.fft.number.PrimitiveRootOfPrimeNumber;
  * ただし, 例外がスローされなかったとしても, 事後条件(戻り値が正しい結果であること)は保証されない.
  * </p>
  * 
+ * <p>
+ * 原始根による添え字の置換表と, 巡回畳み込みの核のスペクトルは素数とタイプごとに固定されるため,
+ * (素数, タイプ) をキーとしてプランがキャッシュされる. <br>
+ * プランが存在する場合, 1回の変換は巡回畳み込みのための2回のFFTで計算される. <br>
+ * 巡回畳み込みの長さ<i>N</i> - 1が小さな素因数のみを持つ場合は, 混合基数のFFTにより長さ<i>N</i> - 1のまま計算し,
+ * 大きな素因数を持つ場合は, 2の累乗の長さに拡張して計算する. <br>
+ * キャッシュは個数とバイト数の上限を持ち,
+ * いずれかを超える場合は最も長く使われていないものから破棄される. <br>
+ * バイト数には, プランが参照し続ける巡回畳み込み用の基底の値も含まれる. <br>
+ * プランは基底関数を参照しないため, 呼び出し元の (大きな) 基底の値をキャッシュが保持し続けることはない.
+ * </p>
+ * 
  * @author Matsuura Y.
  */
 final class PrimeRaderInnerFFTExecutor implements InnerDFTExecutor {
@@ -43,7 +62,36 @@ final class PrimeRaderInnerFFTExecutor implements InnerDFTExecutor {
      */
     public static final int MAX_DATA_SIZE = CyclicConvolutionModule.MAX_SEQUENCE_SIZE;
 
-    private final CyclicConvolutionModule cyclicConvolution;
+    /**
+     * キャッシュするプランの個数の上限.
+     */
+    static final int MAX_CACHED_PLANS = 32;
+
+    /**
+     * キャッシュするプランの総バイト数の上限: 2<sup>26</sup> (64MiB).
+     */
+    static final long MAX_CACHED_BYTES = 1L << 26;
+
+    /**
+     * 巡回畳み込みを拡張せずに長さ<i>N</i> - 1で計算する, 素因数の最大値. <br>
+     * <i>N</i> - 1の素因数の最大値がこの値を超える場合は, 2の累乗の長さに拡張する.
+     */
+    static final int DIRECT_CONVOLUTION_FACTOR_LIMIT = 64;
+
+    private final FourierBasisComputer.Supplier computerSupplier;
+    private final InnerDFTExecutor power2FFT;
+    private final InnerDFTExecutor mixedRadixFFT;
+
+    /*
+     * アクセス順のLinkedHashMapによりLRUを実現する.
+     * 読み出しでも順序が変わるため, 全てのアクセスはlockで保護する.
+     * 基底は生成器ごとに異なるインスタンスであり, かつ生成器全体の値を共有するため, キーには用いない.
+     */
+    private final LinkedHashMap<PlanKey, RaderPlan> planCache;
+    private long cachedBytes;
+
+    //排他処理用ロックオブジェクト
+    private final Object lock = new Object();
 
     /**
      * このクラスの機能を実行するインスタンスを返す.
@@ -52,8 +100,24 @@ final class PrimeRaderInnerFFTExecutor implements InnerDFTExecutor {
      * @throws NullPointerException 引数にnullが含まれる場合
      */
     PrimeRaderInnerFFTExecutor(FourierBasisComputer.Supplier computerSuppier) {
+        this(computerSuppier, new GenericInnerFFTExecutor(computerSuppier));
+    }
+
+    /**
+     * 長さ<i>N</i> - 1の巡回畳み込みに使う混合基数のFFTを指定して, インスタンスを構築する. <br>
+     * {@link GenericInnerFFTExecutor}が自身を渡すために用いる.
+     * 
+     * @param computerSuppier Fourier基底コンピュータのサプライヤ
+     * @param mixedRadixFFT 任意の長さのFFT
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    PrimeRaderInnerFFTExecutor(FourierBasisComputer.Supplier computerSuppier, InnerDFTExecutor mixedRadixFFT) {
         super();
-        this.cyclicConvolution = new CyclicConvolutionModule(computerSuppier);
+        this.computerSupplier = Objects.requireNonNull(computerSuppier);
+        this.power2FFT = new Power2InnerFFTExecutor();
+        this.mixedRadixFFT = Objects.requireNonNull(mixedRadixFFT);
+        this.planCache = new LinkedHashMap<>(16, 0.75f, true);
+        this.cachedBytes = 0L;
     }
 
     /**
@@ -61,46 +125,266 @@ final class PrimeRaderInnerFFTExecutor implements InnerDFTExecutor {
      * @throws NullPointerException {@inheritDoc}
      */
     @Override
-    public ComplexNumber[] compute(ComplexNumber[] data, FourierBasisComputer basisComputer) {
-        if (data.length > MAX_DATA_SIZE) {
+    public void computeInPlace(double[] realPart, double[] imaginaryPart, FourierBasisComputer basisComputer) {
+        final int N = realPart.length;
+        if (N != imaginaryPart.length) {
+            throw new IllegalArgumentException("実部と虚部のサイズが整合しない");
+        }
+        if (N > MAX_DATA_SIZE) {
             throw new IllegalArgumentException("サイズが大きすぎる");
         }
 
-        int N = data.length;
-        FourierBasis basis = basisComputer.getBasis(N);
+        //プランの構築時に3以上の素数かどうかを判定する
+        RaderPlan plan = this.planOf(basisComputer.getBasis(N), basisComputer.type());
 
-        //ここで3以上の素数かどうか, 素数かどうかを判定する
-        PrimitiveRootOfPrimeNumber primitiveRoot = PrimitiveRootOfPrimeNumber.of(N);
+        final int L = N - 1;
+        final int M = plan.convolutionSize;
+        final int shift = M - L;
+        final int[] powers = plan.powers;
+        final InnerDFTExecutor fft = plan.convolutionFFT;
+        final double[] b_re = plan.kernelSpectrumRealPart;
+        final double[] b_im = plan.kernelSpectrumImaginaryPart;
 
-        ComplexNumber[] out = new ComplexNumber[N];
+        /*
+         * 巡回畳み込みの準備
+         * a[0] = x[g^0], a[j] = x[g^(-j)] = x[g^(N-1-j)] (j = 1,...,N-2)
+         * a[j] (j >= 1) は拡張後の [shift + j] に置き, 間は0埋めとする
+         */
+        ScratchArena arena = ScratchArena.current();
+        double[] a_re = arena.borrowZeroed(M);
+        double[] a_im = arena.borrowZeroed(M);
+        try {
+            a_re[0] = realPart[1];
+            a_im[0] = imaginaryPart[1];
+            for (int j = 1; j < L; j++) {
+                int index = powers[L - j];
+                a_re[shift + j] = realPart[index];
+                a_im[shift + j] = imaginaryPart[index];
+            }
 
-        /* A(0) */
-        out[0] = ComplexNumber.sum(data);
+            /* A(0) */
+            double x0_re = realPart[0];
+            double x0_im = imaginaryPart[0];
+            double sum_re = 0d;
+            double sum_im = 0d;
+            for (int j = 0; j < N; j++) {
+                sum_re += realPart[j];
+                sum_im += imaginaryPart[j];
+            }
 
-        /* 巡回畳み込みの準備 */
-        //a
-        ComplexNumber[] a = new ComplexNumber[N - 1];
-        // 原始根の累乗をaに代入する, N-1のみ別処理(powerメソッドの引数要件の都合)
-        // Nは3以上なのでdata[1]は成功
-        a[0] = data[1];
-        for (int j = 1; j < N - 1; j++) {
-            a[j] = data[primitiveRoot.power(N - 1 - j)];
+            /* 巡回畳み込み: 核のスペクトルは計算済み(1/Mのスケールを含む) */
+            fft.computeInPlace(a_re, a_im, plan.dftComputer);
+            for (int k = 0; k < M; k++) {
+                double v_re = a_re[k];
+                double v_im = a_im[k];
+                a_re[k] = v_re * b_re[k] - v_im * b_im[k];
+                a_im[k] = v_re * b_im[k] + v_im * b_re[k];
+            }
+            fft.computeInPlace(a_re, a_im, plan.idftComputer);
+
+            realPart[0] = sum_re;
+            imaginaryPart[0] = sum_im;
+            for (int q = 0; q < L; q++) {
+                int index = powers[q];
+                realPart[index] = a_re[q] + x0_re;
+                imaginaryPart[index] = a_im[q] + x0_im;
+            }
+        } finally {
+            arena.giveBack(a_im);
+            arena.giveBack(a_re);
         }
+    }
 
-        //W
-        ComplexNumber[] w = new ComplexNumber[N - 1];
-        // 原始根の累乗をaに代入する, N-1のみ別処理(powerメソッドの引数要件の都合)
-        // Nは3以上なのでdata[1]は成功
-        for (int j = 0; j < N - 1; j++) {
-            w[j] = basis.valueAt(primitiveRoot.power(j));
+    /**
+     * 基底に対応するプランを返す. <br>
+     * キャッシュされていない場合は構築する.
+     * 
+     * @throws IllegalArgumentException 基底のサイズが3以上の素数でない場合
+     */
+    private RaderPlan planOf(FourierBasis basis, FourierType type) {
+        PlanKey key = new PlanKey(basis.sequenceSize(), type);
+        synchronized (this.lock) {
+            RaderPlan out = this.planCache.get(key);
+            if (Objects.nonNull(out)) {
+                return out;
+            }
         }
 
-        ComplexNumber[] y = this.cyclicConvolution.compute(a, w);
-        for (int q = 0; q < N - 1; q++) {
-            ComplexNumber A_q = y[q].plus(data[0]);
-            out[primitiveRoot.power(q)] = A_q;
+        //プランの構築はFFTを含むので, ロックの外で行う
+        //同一キーに対して競合した場合は, 先にキャッシュされたものを採用する
+        RaderPlan created = new RaderPlan(basis);
+        synchronized (this.lock) {
+            RaderPlan out = this.planCache.get(key);
+            if (Objects.nonNull(out)) {
+                return out;
+            }
+            this.putAndEvict(key, created);
+            return created;
         }
+    }
+
+    /**
+     * キャッシュに追加し, 上限を超えた分を破棄する. <br>
+     * ロックを取得した状態で呼ばれなければならない.
+     */
+    private void putAndEvict(PlanKey key, RaderPlan plan) {
+        long bytes = plan.byteSize();
+        if (bytes > MAX_CACHED_BYTES) {
+            return;
+        }
+
+        this.planCache.put(key, plan);
+        this.cachedBytes += bytes;
+
+        //アクセス順の先頭が最も長く使われていない
+        Iterator<RaderPlan> ite = this.planCache.values().iterator();
+        while (this.planCache.size() > MAX_CACHED_PLANS || this.cachedBytes > MAX_CACHED_BYTES) {
+            RaderPlan eldest = ite.next();
+            ite.remove();
+            this.cachedBytes -= eldest.byteSize();
+        }
+    }
 
+    /**
+     * キャッシュされているプランの個数を返す. <br>
+     * テスト用.
+     */
+    int cachedPlanCount() {
+        synchronized (this.lock) {
+            return this.planCache.size();
+        }
+    }
+
+    /**
+     * 2以上の整数の, 最大の素因数を返す.
+     */
+    private static int largestPrimeFactor(int n) {
+        //素因数は昇順に分離されるが, 規定されていないので全て走査する
+        int out = 1;
+        for (PrimeFactorization pf = PrimeFactorization.of(n); pf.original() > 1; pf = pf.child()) {
+            out = Math.max(out, pf.separatedValue());
+        }
         return out;
     }
+
+    /**
+     * 素数とタイプごとに固定される, 原始根の累乗表と巡回畳み込みの核のスペクトル.
+     */
+    private final class RaderPlan {
+
+        /**
+         * 巡回畳み込みの長さ (拡張しない場合はN-1).
+         */
+        final int convolutionSize;
+
+        /**
+         * 巡回畳み込みに使うFFT.
+         */
+        final InnerDFTExecutor convolutionFFT;
+
+        /**
+         * g<sup>q</sup> mod N (q = 0,...,N-2).
+         */
+        final int[] powers;
+
+        final double[] kernelSpectrumRealPart;
+        final double[] kernelSpectrumImaginaryPart;
+
+        final FourierBasisComputer dftComputer;
+        final FourierBasisComputer idftComputer;
+
+        /**
+         * 基底からプランを構築する.
+         * 
+         * @throws IllegalArgumentException 基底のサイズが3以上の素数でない場合
+         */
+        RaderPlan(FourierBasis basis) {
+            final int N = basis.sequenceSize();
+
+            //ここで3以上の素数かどうか, 素数かどうかを判定する
+            PrimitiveRootOfPrimeNumber primitiveRoot = PrimitiveRootOfPrimeNumber.of(N);
+
+            final int L = N - 1;
+            this.powers = new int[L];
+            for (int q = 0; q < L; q++) {
+                this.powers[q] = primitiveRoot.power(q);
+            }
+
+            //2の累乗の場合, 又は小さな素因数のみを持つ場合は拡張が不要
+            final int M;
+            if (Power2Util.isPowerOf2(L)) {
+                M = L;
+                this.convolutionFFT = PrimeRaderInnerFFTExecutor.this.power2FFT;
+            } else if (largestPrimeFactor(L) <= DIRECT_CONVOLUTION_FACTOR_LIMIT) {
+                M = L;
+                this.convolutionFFT = PrimeRaderInnerFFTExecutor.this.mixedRadixFFT;
+            } else {
+                M = Power2Util.ceilToPower2(2 * L - 1);
+                this.convolutionFFT = PrimeRaderInnerFFTExecutor.this.power2FFT;
+            }
+            this.convolutionSize = M;
+
+            this.dftComputer = PrimeRaderInnerFFTExecutor.this.computerSupplier.covering(M, FourierType.DFT);
+            this.idftComputer = PrimeRaderInnerFFTExecutor.this.computerSupplier.covering(M, FourierType.IDFT);
+
+            /* 核 w[j] = W^(g^j) を周期的に拡張し, そのスペクトルを1/M倍して保持する */
+            double[] w_re = new double[M];
+            double[] w_im = new double[M];
+            for (int j = 0; j < M; j++) {
+                int index = this.powers[j % L];
+                w_re[j] = basis.realAt(index);
+                w_im[j] = basis.imaginaryAt(index);
+            }
+            this.convolutionFFT.computeInPlace(w_re, w_im, this.dftComputer);
+            double invM = 1d / M;
+            for (int k = 0; k < M; k++) {
+                w_re[k] *= invM;
+                w_im[k] *= invM;
+            }
+            this.kernelSpectrumRealPart = w_re;
+            this.kernelSpectrumImaginaryPart = w_im;
+        }
+
+        /**
+         * プランが保持する配列のおおよそのバイト数を返す. <br>
+         * 核のスペクトルに加え, 参照している巡回畳み込み用の2つの生成器 (DFT, IDFT) の基底の値を含む.
+         */
+        long byteSize() {
+            return 2L * Double.BYTES * this.convolutionSize
+                    + 2L * (2L * Double.BYTES * this.convolutionSize)
+                    + (long) Integer.BYTES * this.powers.length;
+        }
+    }
+
+    /**
+     * プランのキャッシュのキー.
+     */
+    private static final class PlanKey {
+
+        private final int sequenceSize;
+        private final FourierType type;
+
+        PlanKey(int sequenceSize, FourierType type) {
+            this.sequenceSize = sequenceSize;
+            this.type = type;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof PlanKey)) {
+                return false;
+            }
+            PlanKey target = (PlanKey) obj;
+            return this.sequenceSize == target.sequenceSize
+                    && this.type == target.type;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * this.sequenceSize + this.type.hashCode();
+        }
+    }
 }
@@ -5,13 +5,13 @@
  * http://opensource.org/licenses/mit-license.php
  */
 /*
- * 2024.4.4
+ * 2025.10.13
  */
 package matsu.num.transform.fft.fftmodule;
 
-import matsu.num.transform.fft.component.ComplexNumber;
 import matsu.num.transform.fft.component.FourierBasis;
 import matsu.num.transform.fft.component.FourierBasisComputer;
+import matsu.num.transform.fft.component.ScratchArena;
 
 /**
  * 直接的な離散Fourier変換/逆変換を扱う.
@@ -32,21 +32,66 @@ final class RawInnerDFTExecutor implements InnerDFTExecutor {
      * @throws NullPointerException {@inheritDoc}
      */
     @Override
-    public ComplexNumber[] compute(ComplexNumber[] data, FourierBasisComputer basisComputer) {
+    public void computeInPlace(double[] realPart, double[] imaginaryPart, FourierBasisComputer basisComputer) {
+        int N = realPart.length;
+        if (N != imaginaryPart.length) {
+            throw new IllegalArgumentException("実部と虚部のサイズが整合しない");
+        }
 
         //ここでbasisComputerのサイズが整合しないことに対する例外をスロー
-        FourierBasis basis = basisComputer.getBasis(data.length);
+        FourierBasis basis = basisComputer.getBasis(N);
 
-        int N = data.length;
+        ScratchArena arena = ScratchArena.current();
+        double[] work_re = arena.borrow(N);
+        double[] work_im = arena.borrow(N);
+        try {
+            this.computeSegment(realPart, imaginaryPart, work_re, work_im, 0, N, basis);
+        } finally {
+            arena.giveBack(work_im);
+            arena.giveBack(work_re);
+        }
+    }
 
-        ComplexNumber[] A = new ComplexNumber[N];
+    /**
+     * 配列の [offset, offset + length) の範囲に対して直接的なDFT/IDFTを実行し, 結果で上書きする. <br>
+     * 作業用配列は同じ範囲が使われる.
+     * 
+     * <p>
+     * 引数の整合性は呼び出し側で保証しなければならない.
+     * </p>
+     * 
+     * @param realPart 実部
+     * @param imaginaryPart 虚部
+     * @param workRealPart 作業用配列(実部)
+     * @param workImaginaryPart 作業用配列(虚部)
+     * @param offset 範囲の先頭
+     * @param length 範囲の長さ
+     * @param basis 長さlengthに対する基底
+     */
+    void computeSegment(
+            double[] realPart, double[] imaginaryPart,
+            double[] workRealPart, double[] workImaginaryPart,
+            int offset, int length, FourierBasis basis) {
+
+        assert basis.sequenceSize() == length;
+
+        final int N = length;
+        System.arraycopy(realPart, offset, workRealPart, offset, N);
+        System.arraycopy(imaginaryPart, offset, workImaginaryPart, offset, N);
 
         for (int k = 0; k < N; k++) {
-            ComplexNumber[] w = new ComplexNumber[N];
+            double re = 0d;
+            double im = 0d;
 
             int jk_mod_N = 0;
             for (int j = 0; j < N; j++) {
-                w[j] = basis.valueAt(jk_mod_N);
+                double a_re = workRealPart[offset + j];
+                double a_im = workImaginaryPart[offset + j];
+                double w_re = basis.realAt(jk_mod_N);
+                double w_im = basis.imaginaryAt(jk_mod_N);
+
+                re += a_re * w_re - a_im * w_im;
+                im += a_re * w_im + a_im * w_re;
 
                 jk_mod_N += k;
                 if (jk_mod_N >= N) {
@@ -54,9 +99,8 @@ final class RawInnerDFTExecutor implements InnerDFTExecutor {
                 }
             }
 
-            A[k] = ComplexNumber.sumProduct(data, w);
+            realPart[offset + k] = re;
+            imaginaryPart[offset + k] = im;
         }
-
-        return A;
     }
 }
@@ -0,0 +1,345 @@
+/*
+ * Copyright © 2024 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2025.10.13
+ */
+package matsu.num.transform.fft.fftmodule;
+
+import matsu.num.transform.fft.component.FourierBasisComputer;
+import matsu.num.transform.fft.component.ParallelPolicy;
+import matsu.num.transform.fft.component.ScratchArena;
+
+/**
+ * 実数列の巡回畳み込みを扱う.
+ * 
+ * <p>
+ * 長さ<i>N</i>の実数列 <i>f</i>, <i>g</i> を <i>f</i> + i<i>g</i> として1回の長さ<i>N</i>の複素FFTで同時に変換し,
+ * Hermite対称性により半スペクトル (floor(<i>N</i>/2) + 1 個) のみで係数の積を計算する. <br>
+ * 逆変換は半スペクトルからの実数IFFTによる
+ * ({@link RealInnerFFTExecutor} を参照). <br>
+ * 任意のサイズのFFTを用いるため, 2の累乗への拡張は行わない.
+ * </p>
+ * 
+ * <p>
+ * 同じ仕組みで, 共役積による巡回相互相関と巡回自己相関も扱う.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+public final class RealCyclicConvolutionModule {
+
+    /**
+     * 扱うことができるデータサイズの最大値: 2<sup>28</sup>
+     */
+    public static final int MAX_SEQUENCE_SIZE = RealInnerFFTExecutor.MAX_DATA_SIZE;
+
+    private final RealInnerFFTExecutor realFFT;
+
+    /**
+     * このクラスの機能を逐次的に実行するインスタンスを返す.
+     * 
+     * @param computerSupplier Fourier基底コンピュータのサプライヤ
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public RealCyclicConvolutionModule(FourierBasisComputer.Supplier computerSupplier) {
+        this(computerSupplier, ParallelPolicy.SEQUENTIAL);
+    }
+
+    /**
+     * 並列実行の方針を指定して, このクラスの機能を実行するインスタンスを返す.
+     * 
+     * @param computerSupplier Fourier基底コンピュータのサプライヤ
+     * @param parallelPolicy 並列実行の方針
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public RealCyclicConvolutionModule(
+            FourierBasisComputer.Supplier computerSupplier, ParallelPolicy parallelPolicy) {
+        super();
+        this.realFFT = new RealInnerFFTExecutor(computerSupplier, parallelPolicy);
+    }
+
+    /**
+     * 巡回畳み込みを計算する.
+     * 
+     * @param f f
+     * @param g g
+     * @return 巡回畳み込みの結果
+     * @throws IllegalArgumentException 引数の長さが一致しない場合, 長さが0の場合, 長さが大きすぎる場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public double[] compute(double[] f, double[] g) {
+        if (f.length != g.length) {
+            throw new IllegalArgumentException("長さが一致しない");
+        }
+        return this.plan(f.length).compute(f, g);
+    }
+
+    /**
+     * 長さを固定したプランを構築する.
+     * 
+     * @param length 長さ
+     * @return プラン
+     * @throws IllegalArgumentException 長さが0以下の場合, 長さが大きすぎる場合
+     */
+    public Plan plan(int length) {
+        if (length <= 0) {
+            throw new IllegalArgumentException("長さが0である");
+        }
+        if (length > MAX_SEQUENCE_SIZE) {
+            throw new IllegalArgumentException("長さが大きすぎる");
+        }
+        return new Plan(this.realFFT.plan(length));
+    }
+
+    /**
+     * 長さを固定した, 実数列の巡回畳み込みのプラン.
+     * 
+     * <p>
+     * 作業用配列はスレッドごとの領域 ({@link ScratchArena}) から借りる.
+     * </p>
+     */
+    public static final class Plan {
+
+        private final RealInnerFFTExecutor.Plan fftPlan;
+
+        private Plan(RealInnerFFTExecutor.Plan fftPlan) {
+            this.fftPlan = fftPlan;
+        }
+
+        /**
+         * このプランの長さを返す.
+         * 
+         * @return 長さ
+         */
+        public int length() {
+            return this.fftPlan.size();
+        }
+
+        /**
+         * 巡回畳み込みを計算する.
+         * 
+         * @param f f
+         * @param g g
+         * @return 巡回畳み込みの結果
+         * @throws IllegalArgumentException 引数の長さがプランと一致しない場合
+         * @throws NullPointerException 引数にnullが含まれる場合
+         */
+        public double[] compute(double[] f, double[] g) {
+            final RealInnerFFTExecutor.Plan plan = this.fftPlan;
+            final int half = plan.halfSpectrumSize();
+
+            //フーリエ変換(f, gを1回の複素FFTで同時に変換)
+            ScratchArena arena = ScratchArena.current();
+            double[] f_re = arena.borrow(half);
+            double[] f_im = arena.borrow(half);
+            double[] g_re = arena.borrow(half);
+            double[] g_im = arena.borrow(half);
+            try {
+                plan.forwardPair(f, g, f_re, f_im, g_re, g_im);
+
+                //フーリエ係数の乗算(半スペクトルのみ)
+                multiplyInPlace(f_re, f_im, g_re, g_im);
+
+                //フーリエ逆変換
+                return inverseNormalized(plan, f_re, f_im);
+            } finally {
+                arena.giveBack(g_im);
+                arena.giveBack(g_re);
+                arena.giveBack(f_im);
+                arena.giveBack(f_re);
+            }
+        }
+
+        /**
+         * 巡回相互相関 <i>r</i><sub><i>k</i></sub> =
+         * &Sigma;<sub><i>j</i></sub> <i>f</i><sub><i>j</i></sub> <i>g</i><sub><i>j</i> + <i>k</i></sub>
+         * (添え字は <i>N</i> を法とする) を計算する. <br>
+         * <i>f</i>, <i>g</i> を1回の複素FFTで同時に変換し, 共役積 <i>F</i><sup>*</sup><i>G</i> を逆変換する.
+         * 
+         * @param f f
+         * @param g g
+         * @return 巡回相互相関の結果
+         * @throws IllegalArgumentException 引数の長さがプランと一致しない場合
+         * @throws NullPointerException 引数にnullが含まれる場合
+         */
+        public double[] computeCorrelation(double[] f, double[] g) {
+            final RealInnerFFTExecutor.Plan plan = this.fftPlan;
+            final int half = plan.halfSpectrumSize();
+
+            ScratchArena arena = ScratchArena.current();
+            double[] f_re = arena.borrow(half);
+            double[] f_im = arena.borrow(half);
+            double[] g_re = arena.borrow(half);
+            double[] g_im = arena.borrow(half);
+            try {
+                plan.forwardPair(f, g, f_re, f_im, g_re, g_im);
+
+                //共役積 conj(F)G を gに書き込む
+                for (int k = 0; k < half; k++) {
+                    double a_re = f_re[k];
+                    double a_im = -f_im[k];
+                    double b_re = g_re[k];
+                    double b_im = g_im[k];
+                    g_re[k] = a_re * b_re - a_im * b_im;
+                    g_im[k] = a_re * b_im + a_im * b_re;
+                }
+
+                return inverseNormalized(plan, g_re, g_im);
+            } finally {
+                arena.giveBack(g_im);
+                arena.giveBack(g_re);
+                arena.giveBack(f_im);
+                arena.giveBack(f_re);
+            }
+        }
+
+        /**
+         * 巡回自己相関 <i>r</i><sub><i>k</i></sub> =
+         * &Sigma;<sub><i>j</i></sub> <i>f</i><sub><i>j</i></sub> <i>f</i><sub><i>j</i> + <i>k</i></sub>
+         * (添え字は <i>N</i> を法とする) を計算する. <br>
+         * 1回の実数FFTでパワースペクトル |<i>F</i>|<sup>2</sup> を求め, 逆変換する.
+         * 
+         * @param f f
+         * @return 巡回自己相関の結果
+         * @throws IllegalArgumentException 引数の長さがプランと一致しない場合
+         * @throws NullPointerException 引数にnullが含まれる場合
+         */
+        public double[] computeAutoCorrelation(double[] f) {
+            final RealInnerFFTExecutor.Plan plan = this.fftPlan;
+            final int half = plan.halfSpectrumSize();
+
+            ScratchArena arena = ScratchArena.current();
+            double[] f_re = arena.borrow(half);
+            double[] f_im = arena.borrow(half);
+            try {
+                plan.forward(f, f_re, f_im);
+
+                for (int k = 0; k < half; k++) {
+                    f_re[k] = f_re[k] * f_re[k] + f_im[k] * f_im[k];
+                    f_im[k] = 0d;
+                }
+
+                return inverseNormalized(plan, f_re, f_im);
+            } finally {
+                arena.giveBack(f_im);
+                arena.giveBack(f_re);
+            }
+        }
+
+        /**
+         * 畳み込みの一方 (カーネル) <i>g</i> を固定し, その半スペクトルを保持したものを返す. <br>
+         * 戻り値の {@link PreparedKernel#compute(double[])} では,
+         * 実行ごとに1回の実数FFTと1回の実数IFFTのみを行う.
+         * 
+         * @param g カーネル
+         * @return カーネルを固定した巡回畳み込み
+         * @throws IllegalArgumentException 引数の長さがプランと一致しない場合
+         * @throws NullPointerException 引数にnullが含まれる場合
+         */
+        public PreparedKernel prepare(double[] g) {
+            final RealInnerFFTExecutor.Plan plan = this.fftPlan;
+            if (g.length != plan.size()) {
+                throw new IllegalArgumentException("長さが一致しない");
+            }
+
+            final int half = plan.halfSpectrumSize();
+            double[] g_re = new double[half];
+            double[] g_im = new double[half];
+            plan.forward(g, g_re, g_im);
+            return new PreparedKernel(plan, g_re, g_im);
+        }
+    }
+
+    /**
+     * カーネル <i>g</i> の半スペクトルを保持した, 長さを固定した巡回畳み込み.
+     * 
+     * <p>
+     * このクラスはイミュータブルであり, スレッドセーフである. <br>
+     * 作業用配列はスレッドごとの領域 ({@link ScratchArena}) から借りる.
+     * </p>
+     */
+    public static final class PreparedKernel {
+
+        private final RealInnerFFTExecutor.Plan fftPlan;
+        private final double[] kernelRe;
+        private final double[] kernelIm;
+
+        private PreparedKernel(RealInnerFFTExecutor.Plan fftPlan, double[] kernelRe, double[] kernelIm) {
+            this.fftPlan = fftPlan;
+            this.kernelRe = kernelRe;
+            this.kernelIm = kernelIm;
+        }
+
+        /**
+         * 長さを返す.
+         * 
+         * @return 長さ
+         */
+        public int length() {
+            return this.fftPlan.size();
+        }
+
+        /**
+         * 保持しているカーネルとの巡回畳み込みを計算する.
+         * 
+         * @param f f
+         * @return 巡回畳み込みの結果
+         * @throws IllegalArgumentException 引数の長さが一致しない場合
+         * @throws NullPointerException 引数にnullが含まれる場合
+         */
+        public double[] compute(double[] f) {
+            final RealInnerFFTExecutor.Plan plan = this.fftPlan;
+            if (f.length != plan.size()) {
+                throw new IllegalArgumentException("長さが一致しない");
+            }
+
+            final int half = plan.halfSpectrumSize();
+            ScratchArena arena = ScratchArena.current();
+            double[] f_re = arena.borrow(half);
+            double[] f_im = arena.borrow(half);
+            try {
+                plan.forward(f, f_re, f_im);
+
+                multiplyInPlace(f_re, f_im, this.kernelRe, this.kernelIm);
+
+                return inverseNormalized(plan, f_re, f_im);
+            } finally {
+                arena.giveBack(f_im);
+                arena.giveBack(f_re);
+            }
+        }
+    }
+
+    /**
+     * 半スペクトル a に b を (複素数として) 乗算する.
+     */
+    private static void multiplyInPlace(double[] a_re, double[] a_im, double[] b_re, double[] b_im) {
+        for (int k = 0, len = a_re.length; k < len; k++) {
+            double ar = a_re[k];
+            double ai = a_im[k];
+            double br = b_re[k];
+            double bi = b_im[k];
+            a_re[k] = ar * br - ai * bi;
+            a_im[k] = ar * bi + ai * br;
+        }
+    }
+
+    /**
+     * 半スペクトルから実数IFFTを実行し, 1/<i>N</i> で正規化する.
+     */
+    private static double[] inverseNormalized(RealInnerFFTExecutor.Plan plan, double[] re, double[] im) {
+        final int N = plan.size();
+        double[] out = new double[N];
+        plan.inverse(re, im, out);
+
+        double invN = 1d / N;
+        for (int j = 0; j < N; j++) {
+            out[j] *= invN;
+        }
+        return out;
+    }
+}
@@ -0,0 +1,573 @@
+/*
+ * Copyright © 2024 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2025.10.13
+ */
+package matsu.num.transform.fft.fftmodule;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import matsu.num.transform.fft.component.FourierBasis;
+import matsu.num.transform.fft.component.FourierBasisComputer;
+import matsu.num.transform.fft.component.FourierType;
+import matsu.num.transform.fft.component.ParallelPolicy;
+import matsu.num.transform.fft.component.ScratchArena;
+
+/**
+ * 実数列のDFTと, Hermite対称なスペクトルのIDFTを扱う.
+ * 
+ * <p>
+ * 標本サイズを<i>N</i>とし, <i>M</i> = floor(<i>N</i>/2) とする. <br>
+ * 実数列のDFTはHermite対称 (<i>X</i><sub><i>N</i> - <i>k</i></sub> =
+ * <i>X</i><sub><i>k</i></sub><sup>*</sup>) であるから,
+ * <i>X</i><sub>0</sub>, ... , <i>X</i><sub><i>M</i></sub> の<i>M</i> + 1 個のみを扱う
+ * (以下, 半スペクトルという).
+ * </p>
+ * 
+ * <p>
+ * <i>N</i>が偶数の場合, 偶数番目と奇数番目の標本を実部と虚部に詰めた長さ<i>N</i>/2の複素数列に対してFFTを実行し,
+ * 回転因子を用いた後処理で半スペクトルを得る (逆変換はその逆の手順である). <br>
+ * <i>N</i>が奇数の場合は, 長さ<i>N</i>の複素FFTによる.
+ * </p>
+ * 
+ * <p>
+ * 2個の実数列 <i>x</i>, <i>y</i> を <i>x</i> + i<i>y</i> として1回の長さ<i>N</i>の複素FFTで同時に変換する,
+ * 対のモードも扱う.
+ * </p>
+ * 
+ * <p>
+ * 注意: このクラスが扱う変換は正規化されておらず, DFTの後にIDFTを作用させると全体が<i>N</i>倍になる. <br>
+ * IDFTにおいて, <i>X</i><sub>0</sub> の虚部と,
+ * (<i>N</i>が偶数の場合の) <i>X</i><sub><i>M</i></sub> の虚部は無視される.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+public final class RealInnerFFTExecutor {
+
+    /**
+     * 扱うことができるデータサイズの最大値: 2<sup>28</sup>
+     */
+    public static final int MAX_DATA_SIZE = GenericInnerFFTExecutor.MAX_DATA_SIZE;
+
+    private final FourierBasisComputer.Supplier computerSupplier;
+    private final GenericInnerFFTExecutor complexFFT;
+
+    /**
+     * このクラスの機能を逐次的に実行するインスタンスを返す.
+     * 
+     * @param computerSupplier Fourier基底コンピュータのサプライヤ
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public RealInnerFFTExecutor(FourierBasisComputer.Supplier computerSupplier) {
+        this(computerSupplier, ParallelPolicy.SEQUENTIAL);
+    }
+
+    /**
+     * 並列実行の方針を指定して, このクラスの機能を実行するインスタンスを返す. <br>
+     * 方針は内部の複素FFT ({@link GenericInnerFFTExecutor}) に適用される.
+     * 
+     * @param computerSupplier Fourier基底コンピュータのサプライヤ
+     * @param parallelPolicy 並列実行の方針
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public RealInnerFFTExecutor(
+            FourierBasisComputer.Supplier computerSupplier, ParallelPolicy parallelPolicy) {
+        super();
+        this.computerSupplier = Objects.requireNonNull(computerSupplier);
+        this.complexFFT = new GenericInnerFFTExecutor(this.computerSupplier, parallelPolicy);
+    }
+
+    /**
+     * 標本サイズを固定したプランを構築する.
+     * 
+     * @param size 標本サイズ
+     * @return プラン
+     * @throws IllegalArgumentException 標本サイズが0以下の場合, 大きすぎる場合
+     */
+    public Plan plan(int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("データサイズが0である");
+        }
+        if (size > MAX_DATA_SIZE) {
+            throw new IllegalArgumentException("サイズが大きすぎる");
+        }
+
+        return new Plan(size);
+    }
+
+    /**
+     * 標本サイズ<i>N</i>を固定した, 実数列のDFTとIDFTのプラン.
+     * 
+     * <p>
+     * 作業用配列は実行ごとに確保する. <br>
+     * ただし, {@link #createWorkspace()} で得た作業領域を与えるメソッドでは,
+     * 作業用配列は確保しない
+     * (長さ<i>N</i>(奇数の場合)または<i>N</i>/2(偶数の場合)の分解に大きな素数が現れない場合). <br>
+     * 半スペクトルを表す配列の長さは floor(<i>N</i>/2) + 1 である.
+     * </p>
+     */
+    public final class Plan {
+
+        private final int size;
+        private final int halfSpectrumSize;
+
+        //長さNの複素FFT(対のモード, 奇数の場合の変換で使用)
+        private final GenericInnerFFTExecutor.Plan fullPlan;
+
+        //長さN/2の複素FFT, 奇数の場合はnull
+        private final GenericInnerFFTExecutor.Plan halfPlan;
+
+        //W^k (k = 0,...,N/2), 奇数の場合はnull
+        private final double[] twiddleRealPart;
+        private final double[] twiddleImaginaryPart;
+
+        private Plan(int size) {
+            this.size = size;
+            this.halfSpectrumSize = size / 2 + 1;
+
+            //長さNとN/2の両方に対応する基底生成器
+            FourierBasisComputer computer =
+                    RealInnerFFTExecutor.this.computerSupplier.covering(size, FourierType.DFT);
+            this.fullPlan = RealInnerFFTExecutor.this.complexFFT.plan(size, computer);
+
+            if ((size & 1) == 1) {
+                this.halfPlan = null;
+                this.twiddleRealPart = null;
+                this.twiddleImaginaryPart = null;
+                return;
+            }
+
+            final int M = size / 2;
+            this.halfPlan = RealInnerFFTExecutor.this.complexFFT.plan(M, computer);
+
+            FourierBasis basis = computer.getBasis(size);
+            this.twiddleRealPart = new double[M + 1];
+            this.twiddleImaginaryPart = new double[M + 1];
+            for (int k = 0; k <= M; k++) {
+                this.twiddleRealPart[k] = basis.realAt(k);
+                this.twiddleImaginaryPart[k] = basis.imaginaryAt(k);
+            }
+        }
+
+        /**
+         * このプランの標本サイズを返す.
+         * 
+         * @return 標本サイズ
+         */
+        public int size() {
+            return this.size;
+        }
+
+        /**
+         * このプランの半スペクトルの長さ (floor(<i>N</i>/2) + 1) を返す.
+         * 
+         * @return 半スペクトルの長さ
+         */
+        public int halfSpectrumSize() {
+            return this.halfSpectrumSize;
+        }
+
+        /**
+         * このプラン専用の作業領域を生成する.
+         * 
+         * @return 作業領域
+         */
+        public Workspace createWorkspace() {
+            return new Workspace(this);
+        }
+
+        /**
+         * 実数列のDFTを実行し, 半スペクトルを出力配列に書き込む.
+         * 
+         * @param data 実数列
+         * @param outRealPart 半スペクトルの実部の出力先
+         * @param outImaginaryPart 半スペクトルの虚部の出力先
+         * @throws IllegalArgumentException 配列の長さがプランと整合しない場合
+         * @throws NullPointerException 引数にnullが含まれる場合
+         */
+        public void forward(double[] data, double[] outRealPart, double[] outImaginaryPart) {
+            ScratchArena arena = ScratchArena.current();
+            Workspace workspace = new Workspace(this, arena);
+            try {
+                this.forward(data, outRealPart, outImaginaryPart, workspace);
+            } finally {
+                workspace.giveBackTo(arena);
+            }
+        }
+
+        /**
+         * 与えた作業領域を使って実数列のDFTを実行し, 半スペクトルを出力配列に書き込む.
+         * 
+         * @param data 実数列
+         * @param outRealPart 半スペクトルの実部の出力先
+         * @param outImaginaryPart 半スペクトルの虚部の出力先
+         * @param workspace このプランの作業領域
+         * @throws IllegalArgumentException 配列の長さがプランと整合しない場合,
+         *             作業領域がこのプランのものでない場合
+         * @throws NullPointerException 引数にnullが含まれる場合
+         */
+        public void forward(
+                double[] data, double[] outRealPart, double[] outImaginaryPart, Workspace workspace) {
+            this.validateReal(data);
+            this.validateHalf(outRealPart, outImaginaryPart);
+            this.validateWorkspace(workspace);
+
+            if (Objects.isNull(this.halfPlan)) {
+                this.forwardOdd(data, outRealPart, outImaginaryPart, workspace);
+                return;
+            }
+
+            final int M = this.size / 2;
+            final double[] w_re = this.twiddleRealPart;
+            final double[] w_im = this.twiddleImaginaryPart;
+
+            /* z[j] = x[2j] + i x[2j+1] */
+            final double[] z_re = workspace.z_re;
+            final double[] z_im = workspace.z_im;
+            for (int j = 0; j < M; j++) {
+                z_re[j] = data[2 * j];
+                z_im[j] = data[2 * j + 1];
+            }
+            this.halfPlan.computeInPlace(z_re, z_im, workspace.work_re, workspace.work_im);
+
+            /*
+             * E[k] = (Z[k] + conj(Z[M-k]))/2, O[k] = (Z[k] - conj(Z[M-k]))/(2i)
+             * X[k] = E[k] + W^k O[k]
+             */
+            for (int k = 0; k <= M; k++) {
+                int k1 = k == M ? 0 : k;
+                int k2 = k == 0 ? 0 : M - k;
+                double a_re = z_re[k1];
+                double a_im = z_im[k1];
+                double b_re = z_re[k2];
+                double b_im = -z_im[k2];
+
+                double e_re = 0.5 * (a_re + b_re);
+                double e_im = 0.5 * (a_im + b_im);
+                double o_re = 0.5 * (a_im - b_im);
+                double o_im = -0.5 * (a_re - b_re);
+
+                outRealPart[k] = e_re + (w_re[k] * o_re - w_im[k] * o_im);
+                outImaginaryPart[k] = e_im + (w_re[k] * o_im + w_im[k] * o_re);
+            }
+        }
+
+        /**
+         * 奇数サイズの実数列のDFTを, 長さNの複素FFTで実行する.
+         */
+        private void forwardOdd(
+                double[] data, double[] outRealPart, double[] outImaginaryPart, Workspace workspace) {
+            final double[] z_re = workspace.z_re;
+            final double[] z_im = workspace.z_im;
+            System.arraycopy(data, 0, z_re, 0, this.size);
+            Arrays.fill(z_im, 0d);
+            this.fullPlan.computeInPlace(z_re, z_im, workspace.work_re, workspace.work_im);
+
+            System.arraycopy(z_re, 0, outRealPart, 0, this.halfSpectrumSize);
+            System.arraycopy(z_im, 0, outImaginaryPart, 0, this.halfSpectrumSize);
+        }
+
+        /**
+         * 半スペクトルで表されたHermite対称な複素数列のIDFTを実行し, 実数列を出力配列に書き込む.
+         * 
+         * @param realPart 半スペクトルの実部
+         * @param imaginaryPart 半スペクトルの虚部
+         * @param out 実数列の出力先
+         * @throws IllegalArgumentException 配列の長さがプランと整合しない場合
+         * @throws NullPointerException 引数にnullが含まれる場合
+         */
+        public void inverse(double[] realPart, double[] imaginaryPart, double[] out) {
+            ScratchArena arena = ScratchArena.current();
+            Workspace workspace = new Workspace(this, arena);
+            try {
+                this.inverse(realPart, imaginaryPart, out, workspace);
+            } finally {
+                workspace.giveBackTo(arena);
+            }
+        }
+
+        /**
+         * 与えた作業領域を使って, 半スペクトルで表されたHermite対称な複素数列のIDFTを実行し,
+         * 実数列を出力配列に書き込む.
+         * 
+         * @param realPart 半スペクトルの実部
+         * @param imaginaryPart 半スペクトルの虚部
+         * @param out 実数列の出力先
+         * @param workspace このプランの作業領域
+         * @throws IllegalArgumentException 配列の長さがプランと整合しない場合,
+         *             作業領域がこのプランのものでない場合
+         * @throws NullPointerException 引数にnullが含まれる場合
+         */
+        public void inverse(double[] realPart, double[] imaginaryPart, double[] out, Workspace workspace) {
+            this.validateHalf(realPart, imaginaryPart);
+            this.validateReal(out);
+            this.validateWorkspace(workspace);
+
+            if (Objects.isNull(this.halfPlan)) {
+                this.inverseOdd(realPart, imaginaryPart, out, workspace);
+                return;
+            }
+
+            final int M = this.size / 2;
+            final double[] w_re = this.twiddleRealPart;
+            final double[] w_im = this.twiddleImaginaryPart;
+
+            /*
+             * Z[k] = (X[k] + conj(X[M-k])) + i W^(-k) (X[k] - conj(X[M-k]))
+             * とすると, Zの長さMのIDFTの実部と虚部が, 偶数番目と奇数番目の標本になる.
+             * IDFTは, 共役をとってDFTを実行し, 再び共役をとることで計算する.
+             */
+            final double[] z_re = workspace.z_re;
+            final double[] z_im = workspace.z_im;
+            for (int k = 0; k < M; k++) {
+                double a_re = realPart[k];
+                double a_im = k == 0 ? 0d : imaginaryPart[k];
+                double b_re = realPart[M - k];
+                double b_im = k == 0 ? 0d : -imaginaryPart[M - k];
+
+                double e_re = a_re + b_re;
+                double e_im = a_im + b_im;
+                double d_re = a_re - b_re;
+                double d_im = a_im - b_im;
+
+                //O = D * conj(W^k)
+                double o_re = d_re * w_re[k] + d_im * w_im[k];
+                double o_im = d_im * w_re[k] - d_re * w_im[k];
+
+                z_re[k] = e_re - o_im;
+                z_im[k] = -(e_im + o_re);
+            }
+            this.halfPlan.computeInPlace(z_re, z_im, workspace.work_re, workspace.work_im);
+
+            for (int j = 0; j < M; j++) {
+                out[2 * j] = z_re[j];
+                out[2 * j + 1] = -z_im[j];
+            }
+        }
+
+        /**
+         * 奇数サイズのIDFTを, Hermite対称に拡張した長さNの複素数列に対して実行する.
+         */
+        private void inverseOdd(
+                double[] realPart, double[] imaginaryPart, double[] out, Workspace workspace) {
+            //共役をとったHermite拡張
+            final double[] z_re = workspace.z_re;
+            final double[] z_im = workspace.z_im;
+            this.fillConjugateHermitian(realPart, imaginaryPart, z_re, z_im);
+            this.fullPlan.computeInPlace(z_re, z_im, workspace.work_re, workspace.work_im);
+
+            System.arraycopy(z_re, 0, out, 0, this.size);
+        }
+
+        /**
+         * 2個の実数列のDFTを, 1回の長さNの複素FFTで実行し, それぞれの半スペクトルを出力配列に書き込む.
+         * 
+         * @param data1 実数列1
+         * @param data2 実数列2
+         * @param outRealPart1 実数列1の半スペクトルの実部の出力先
+         * @param outImaginaryPart1 実数列1の半スペクトルの虚部の出力先
+         * @param outRealPart2 実数列2の半スペクトルの実部の出力先
+         * @param outImaginaryPart2 実数列2の半スペクトルの虚部の出力先
+         * @throws IllegalArgumentException 配列の長さがプランと整合しない場合
+         * @throws NullPointerException 引数にnullが含まれる場合
+         */
+        public void forwardPair(
+                double[] data1, double[] data2,
+                double[] outRealPart1, double[] outImaginaryPart1,
+                double[] outRealPart2, double[] outImaginaryPart2) {
+            this.validateReal(data1);
+            this.validateReal(data2);
+            this.validateHalf(outRealPart1, outImaginaryPart1);
+            this.validateHalf(outRealPart2, outImaginaryPart2);
+
+            final int N = this.size;
+
+            /* z = x + i y */
+            ScratchArena arena = ScratchArena.current();
+            double[] z_re = arena.borrow(N);
+            double[] z_im = arena.borrow(N);
+            try {
+                System.arraycopy(data1, 0, z_re, 0, N);
+                System.arraycopy(data2, 0, z_im, 0, N);
+                this.fullPlan.computeInPlace(z_re, z_im);
+
+                /* X[k] = (Z[k] + conj(Z[N-k]))/2, Y[k] = (Z[k] - conj(Z[N-k]))/(2i) */
+                for (int k = 0; k < this.halfSpectrumSize; k++) {
+                    int k2 = k == 0 ? 0 : N - k;
+                    double a_re = z_re[k];
+                    double a_im = z_im[k];
+                    double b_re = z_re[k2];
+                    double b_im = -z_im[k2];
+
+                    outRealPart1[k] = 0.5 * (a_re + b_re);
+                    outImaginaryPart1[k] = 0.5 * (a_im + b_im);
+                    outRealPart2[k] = 0.5 * (a_im - b_im);
+                    outImaginaryPart2[k] = -0.5 * (a_re - b_re);
+                }
+            } finally {
+                arena.giveBack(z_im);
+                arena.giveBack(z_re);
+            }
+        }
+
+        /**
+         * 半スペクトルで表された2個のHermite対称な複素数列のIDFTを, 1回の長さNの複素FFTで実行し,
+         * それぞれの実数列を出力配列に書き込む.
+         * 
+         * @param realPart1 半スペクトル1の実部
+         * @param imaginaryPart1 半スペクトル1の虚部
+         * @param realPart2 半スペクトル2の実部
+         * @param imaginaryPart2 半スペクトル2の虚部
+         * @param out1 実数列1の出力先
+         * @param out2 実数列2の出力先
+         * @throws IllegalArgumentException 配列の長さがプランと整合しない場合
+         * @throws NullPointerException 引数にnullが含まれる場合
+         */
+        public void inversePair(
+                double[] realPart1, double[] imaginaryPart1,
+                double[] realPart2, double[] imaginaryPart2,
+                double[] out1, double[] out2) {
+            this.validateHalf(realPart1, imaginaryPart1);
+            this.validateHalf(realPart2, imaginaryPart2);
+            this.validateReal(out1);
+            this.validateReal(out2);
+
+            final int N = this.size;
+
+            /*
+             * Z = A + iB (A, BはHermite拡張) の共役
+             * conj(Z) = conj(A) - i conj(B) をDFTし, 共役をとるとIDFTになる.
+             */
+            ScratchArena arena = ScratchArena.current();
+            double[] z_re = arena.borrow(N);
+            double[] z_im = arena.borrow(N);
+            double[] t_re = arena.borrow(N);
+            double[] t_im = arena.borrow(N);
+            try {
+                this.fillConjugateHermitian(realPart1, imaginaryPart1, z_re, z_im);
+                this.fillConjugateHermitian(realPart2, imaginaryPart2, t_re, t_im);
+                //-i conj(B)
+                for (int k = 0; k < N; k++) {
+                    z_re[k] += t_im[k];
+                    z_im[k] -= t_re[k];
+                }
+                this.fullPlan.computeInPlace(z_re, z_im);
+
+                for (int j = 0; j < N; j++) {
+                    out1[j] = z_re[j];
+                    out2[j] = -z_im[j];
+                }
+            } finally {
+                arena.giveBack(t_im);
+                arena.giveBack(t_re);
+                arena.giveBack(z_im);
+                arena.giveBack(z_re);
+            }
+        }
+
+        /**
+         * 半スペクトルをHermite対称に長さNに拡張し, その共役を書き込む. <br>
+         * X[0] と (偶数の場合の) X[N/2] の虚部は無視する.
+         */
+        private void fillConjugateHermitian(
+                double[] realPart, double[] imaginaryPart,
+                double[] z_re, double[] z_im) {
+            final int N = this.size;
+            final int H = this.halfSpectrumSize;
+
+            z_re[0] = realPart[0];
+            z_im[0] = 0d;
+            for (int k = 1; k < H; k++) {
+                z_re[k] = realPart[k];
+                z_im[k] = -imaginaryPart[k];
+                z_re[N - k] = realPart[k];
+                z_im[N - k] = imaginaryPart[k];
+            }
+            if ((N & 1) == 0) {
+                z_im[N / 2] = 0d;
+            }
+        }
+
+        private void validateReal(double[] data) {
+            if (data.length != this.size) {
+                throw new IllegalArgumentException("サイズがプランと整合しない");
+            }
+        }
+
+        private void validateHalf(double[] realPart, double[] imaginaryPart) {
+            if (realPart.length != this.halfSpectrumSize || imaginaryPart.length != this.halfSpectrumSize) {
+                throw new IllegalArgumentException("サイズがプランと整合しない");
+            }
+        }
+
+        private void validateWorkspace(Workspace workspace) {
+            if (workspace.owner != this) {
+                throw new IllegalArgumentException("作業領域がプランと整合しない");
+            }
+        }
+    }
+
+    /**
+     * {@link Plan} の変換で使う作業領域. <br>
+     * {@link Plan#createWorkspace()} で生成する.
+     * 
+     * <p>
+     * このクラスはミュータブルであり, スレッドセーフでない. <br>
+     * 同時に複数の変換で共有してはいけない.
+     * </p>
+     */
+    public static final class Workspace {
+
+        private final Plan owner;
+
+        //複素FFTの対象(偶数の場合は長さN/2, 奇数の場合は長さN)
+        private final double[] z_re;
+        private final double[] z_im;
+        private final double[] work_re;
+        private final double[] work_im;
+
+        private Workspace(Plan owner) {
+            this.owner = owner;
+
+            final int length = lengthOf(owner);
+            this.z_re = new double[length];
+            this.z_im = new double[length];
+            this.work_re = new double[length];
+            this.work_im = new double[length];
+        }
+
+        /**
+         * 配列をスレッドの領域から借りて作業領域を構成する. <br>
+         * 使用後は {@link #giveBackTo(ScratchArena)} で返す.
+         */
+        private Workspace(Plan owner, ScratchArena arena) {
+            this.owner = owner;
+
+            final int length = lengthOf(owner);
+            this.z_re = arena.borrow(length);
+            this.z_im = arena.borrow(length);
+            this.work_re = arena.borrow(length);
+            this.work_im = arena.borrow(length);
+        }
+
+        private static int lengthOf(Plan owner) {
+            return Objects.isNull(owner.halfPlan) ? owner.size : owner.size / 2;
+        }
+
+        /**
+         * 借りた配列を領域に返す.
+         */
+        private void giveBackTo(ScratchArena arena) {
+            arena.giveBack(this.work_im);
+            arena.giveBack(this.work_re);
+            arena.giveBack(this.z_im);
+            arena.giveBack(this.z_re);
+        }
+    }
+}
@@ -0,0 +1,520 @@
+/*
+ * Copyright © 2024 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2025.10.4
+ */
+package matsu.num.transform.fft.fftmodule;
+
+import matsu.num.transform.fft.component.FourierBasis;
+
+/**
+ * 小さい標本サイズに対する, 展開済みのDFT/IDFT (コードレット) を扱う.
+ * 
+ * <p>
+ * 対応する標本サイズは, 2, 3, 4, 5, 6, 7, 8, 9, 10, 12, 15, 16, 32, 64 である. <br>
+ * 2, 3, 4, 5, 7, 8 は直線的に展開されたコードで計算する. <br>
+ * その他のサイズは, 互いに素な分解 (6, 10, 12, 15) では回転因子を持たない素因数アルゴリズム (Good-Thomas) で,
+ * それ以外 (9, 16, 32, 64) では回転因子を持つCooley-Tukey型で, 展開済みのコードレットを組み合わせて計算する.
+ * インデックスの写像は事前計算されている.
+ * </p>
+ * 
+ * <p>
+ * 定数 (cos, sin の値) は, 与えられた基底から取得する. <br>
+ * したがって, DFTとIDFTの区別は基底によって決まる.
+ * </p>
+ * 
+ * <p>
+ * 引数の整合性は呼び出し側で保証しなければならない.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+final class SmallDFTCodelets {
+
+    /**
+     * コードレットが扱う標本サイズの最大値.
+     */
+    static final int MAX_SIZE = 64;
+
+    private static final Composite[] COMPOSITES = new Composite[MAX_SIZE + 1];
+
+    static {
+        COMPOSITES[6] = Composite.primeFactor(2, 3);
+        COMPOSITES[10] = Composite.primeFactor(2, 5);
+        COMPOSITES[12] = Composite.primeFactor(4, 3);
+        COMPOSITES[15] = Composite.primeFactor(3, 5);
+        COMPOSITES[9] = Composite.cooleyTukey(3, 3);
+        COMPOSITES[16] = Composite.cooleyTukey(4, 4);
+        COMPOSITES[32] = Composite.cooleyTukey(4, 8);
+        COMPOSITES[64] = Composite.cooleyTukey(8, 8);
+    }
+
+    private SmallDFTCodelets() {
+        //インスタンス化不可
+        throw new AssertionError();
+    }
+
+    /**
+     * 与えた標本サイズに対するコードレットが存在するかを判定する.
+     * 
+     * @param n 標本サイズ
+     * @return コードレットが存在するならtrue
+     */
+    static boolean supports(int n) {
+        return isPrimitive(n) || (0 < n && n <= MAX_SIZE && COMPOSITES[n] != null);
+    }
+
+    /**
+     * 直線的に展開されたコードレットかを判定する.
+     */
+    private static boolean isPrimitive(int n) {
+        switch (n) {
+            case 1:
+            case 2:
+            case 3:
+            case 4:
+            case 5:
+            case 7:
+            case 8:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * 配列の [offset, offset + n) の範囲に対してDFT/IDFTを実行し, 結果で上書きする. <br>
+     * 作業用配列は同じ範囲が使われる.
+     * 
+     * @param realPart 実部
+     * @param imaginaryPart 虚部
+     * @param workRealPart 作業用配列(実部)
+     * @param workImaginaryPart 作業用配列(虚部)
+     * @param offset 範囲の先頭
+     * @param n 範囲の長さ, {@link #supports(int)} がtrueであること
+     * @param basis 長さnに対する基底
+     */
+    static void compute(
+            double[] realPart, double[] imaginaryPart,
+            double[] workRealPart, double[] workImaginaryPart,
+            int offset, int n, FourierBasis basis) {
+
+        assert supports(n);
+        assert basis.sequenceSize() == n;
+
+        if (isPrimitive(n)) {
+            primitive(realPart, imaginaryPart, offset, n, basis, 1);
+            return;
+        }
+        COMPOSITES[n].compute(realPart, imaginaryPart, workRealPart, workImaginaryPart, offset, basis);
+    }
+
+    /**
+     * 直線的に展開されたコードレットを実行する.
+     * 
+     * @param basis 長さ n * step に対する基底,
+     *            W<sub>n</sub><sup>r</sup> = basis(r * step) として使う
+     */
+    private static void primitive(double[] re, double[] im, int o, int n, FourierBasis basis, int step) {
+        switch (n) {
+            case 1:
+                return;
+            case 2:
+                dft2(re, im, o);
+                return;
+            case 3:
+                dft3(re, im, o, basis, step);
+                return;
+            case 4:
+                dft4(re, im, o, basis.imaginaryAt(step));
+                return;
+            case 5:
+                dft5(re, im, o, basis, step);
+                return;
+            case 7:
+                dft7(re, im, o, basis, step);
+                return;
+            case 8:
+                dft8(re, im, o, basis.realAt(step), basis.imaginaryAt(2 * step));
+                return;
+            default:
+                throw new AssertionError("Bug: unreachable");
+        }
+    }
+
+    private static void dft2(double[] re, double[] im, int o) {
+        double x0_re = re[o];
+        double x0_im = im[o];
+        double x1_re = re[o + 1];
+        double x1_im = im[o + 1];
+
+        re[o] = x0_re + x1_re;
+        im[o] = x0_im + x1_im;
+        re[o + 1] = x0_re - x1_re;
+        im[o + 1] = x0_im - x1_im;
+    }
+
+    private static void dft3(double[] re, double[] im, int o, FourierBasis basis, int step) {
+        //W = c + is
+        final double c = basis.realAt(step);
+        final double s = basis.imaginaryAt(step);
+
+        double x0_re = re[o];
+        double x0_im = im[o];
+        double x1_re = re[o + 1];
+        double x1_im = im[o + 1];
+        double x2_re = re[o + 2];
+        double x2_im = im[o + 2];
+
+        double t_re = x1_re + x2_re;
+        double t_im = x1_im + x2_im;
+        double u_re = x1_re - x2_re;
+        double u_im = x1_im - x2_im;
+
+        double m_re = x0_re + c * t_re;
+        double m_im = x0_im + c * t_im;
+        //i * s * u
+        double v_re = -s * u_im;
+        double v_im = s * u_re;
+
+        re[o] = x0_re + t_re;
+        im[o] = x0_im + t_im;
+        re[o + 1] = m_re + v_re;
+        im[o + 1] = m_im + v_im;
+        re[o + 2] = m_re - v_re;
+        im[o + 2] = m_im - v_im;
+    }
+
+    /**
+     * @param sign W<sub>4</sub> = i * sign
+     */
+    private static void dft4(double[] re, double[] im, int o, double sign) {
+        double x0_re = re[o];
+        double x0_im = im[o];
+        double x1_re = re[o + 1];
+        double x1_im = im[o + 1];
+        double x2_re = re[o + 2];
+        double x2_im = im[o + 2];
+        double x3_re = re[o + 3];
+        double x3_im = im[o + 3];
+
+        double s02_re = x0_re + x2_re;
+        double s02_im = x0_im + x2_im;
+        double d02_re = x0_re - x2_re;
+        double d02_im = x0_im - x2_im;
+        double s13_re = x1_re + x3_re;
+        double s13_im = x1_im + x3_im;
+        //(x1 - x3) * W_4
+        double d13_re = -sign * (x1_im - x3_im);
+        double d13_im = sign * (x1_re - x3_re);
+
+        re[o] = s02_re + s13_re;
+        im[o] = s02_im + s13_im;
+        re[o + 1] = d02_re + d13_re;
+        im[o + 1] = d02_im + d13_im;
+        re[o + 2] = s02_re - s13_re;
+        im[o + 2] = s02_im - s13_im;
+        re[o + 3] = d02_re - d13_re;
+        im[o + 3] = d02_im - d13_im;
+    }
+
+    private static void dft5(double[] re, double[] im, int o, FourierBasis basis, int step) {
+        //W^r = c_r + i s_r
+        final double c1 = basis.realAt(step);
+        final double s1 = basis.imaginaryAt(step);
+        final double c2 = basis.realAt(2 * step);
+        final double s2 = basis.imaginaryAt(2 * step);
+
+        double x0_re = re[o];
+        double x0_im = im[o];
+
+        //t_r = x_r + x_(5-r), u_r = x_r - x_(5-r)
+        double t1_re = re[o + 1] + re[o + 4];
+        double t1_im = im[o + 1] + im[o + 4];
+        double u1_re = re[o + 1] - re[o + 4];
+        double u1_im = im[o + 1] - im[o + 4];
+        double t2_re = re[o + 2] + re[o + 3];
+        double t2_im = im[o + 2] + im[o + 3];
+        double u2_re = re[o + 2] - re[o + 3];
+        double u2_im = im[o + 2] - im[o + 3];
+
+        //k = 1: (c1, c2), (s1, s2)
+        double m1_re = x0_re + c1 * t1_re + c2 * t2_re;
+        double m1_im = x0_im + c1 * t1_im + c2 * t2_im;
+        double n1_re = -(s1 * u1_im + s2 * u2_im);
+        double n1_im = s1 * u1_re + s2 * u2_re;
+
+        //k = 2: (c2, c1), (s2, -s1)
+        double m2_re = x0_re + c2 * t1_re + c1 * t2_re;
+        double m2_im = x0_im + c2 * t1_im + c1 * t2_im;
+        double n2_re = -(s2 * u1_im - s1 * u2_im);
+        double n2_im = s2 * u1_re - s1 * u2_re;
+
+        re[o] = x0_re + t1_re + t2_re;
+        im[o] = x0_im + t1_im + t2_im;
+        re[o + 1] = m1_re + n1_re;
+        im[o + 1] = m1_im + n1_im;
+        re[o + 4] = m1_re - n1_re;
+        im[o + 4] = m1_im - n1_im;
+        re[o + 2] = m2_re + n2_re;
+        im[o + 2] = m2_im + n2_im;
+        re[o + 3] = m2_re - n2_re;
+        im[o + 3] = m2_im - n2_im;
+    }
+
+    private static void dft7(double[] re, double[] im, int o, FourierBasis basis, int step) {
+        //W^r = c_r + i s_r
+        final double c1 = basis.realAt(step);
+        final double s1 = basis.imaginaryAt(step);
+        final double c2 = basis.realAt(2 * step);
+        final double s2 = basis.imaginaryAt(2 * step);
+        final double c3 = basis.realAt(3 * step);
+        final double s3 = basis.imaginaryAt(3 * step);
+
+        double x0_re = re[o];
+        double x0_im = im[o];
+
+        //t_r = x_r + x_(7-r), u_r = x_r - x_(7-r)
+        double t1_re = re[o + 1] + re[o + 6];
+        double t1_im = im[o + 1] + im[o + 6];
+        double u1_re = re[o + 1] - re[o + 6];
+        double u1_im = im[o + 1] - im[o + 6];
+        double t2_re = re[o + 2] + re[o + 5];
+        double t2_im = im[o + 2] + im[o + 5];
+        double u2_re = re[o + 2] - re[o + 5];
+        double u2_im = im[o + 2] - im[o + 5];
+        double t3_re = re[o + 3] + re[o + 4];
+        double t3_im = im[o + 3] + im[o + 4];
+        double u3_re = re[o + 3] - re[o + 4];
+        double u3_im = im[o + 3] - im[o + 4];
+
+        //k = 1: (c1, c2, c3), (s1, s2, s3)
+        double m1_re = x0_re + c1 * t1_re + c2 * t2_re + c3 * t3_re;
+        double m1_im = x0_im + c1 * t1_im + c2 * t2_im + c3 * t3_im;
+        double n1_re = -(s1 * u1_im + s2 * u2_im + s3 * u3_im);
+        double n1_im = s1 * u1_re + s2 * u2_re + s3 * u3_re;
+
+        //k = 2: (c2, c3, c1), (s2, -s3, -s1)
+        double m2_re = x0_re + c2 * t1_re + c3 * t2_re + c1 * t3_re;
+        double m2_im = x0_im + c2 * t1_im + c3 * t2_im + c1 * t3_im;
+        double n2_re = -(s2 * u1_im - s3 * u2_im - s1 * u3_im);
+        double n2_im = s2 * u1_re - s3 * u2_re - s1 * u3_re;
+
+        //k = 3: (c3, c1, c2), (s3, -s1, s2)
+        double m3_re = x0_re + c3 * t1_re + c1 * t2_re + c2 * t3_re;
+        double m3_im = x0_im + c3 * t1_im + c1 * t2_im + c2 * t3_im;
+        double n3_re = -(s3 * u1_im - s1 * u2_im + s2 * u3_im);
+        double n3_im = s3 * u1_re - s1 * u2_re + s2 * u3_re;
+
+        re[o] = x0_re + t1_re + t2_re + t3_re;
+        im[o] = x0_im + t1_im + t2_im + t3_im;
+        re[o + 1] = m1_re + n1_re;
+        im[o + 1] = m1_im + n1_im;
+        re[o + 6] = m1_re - n1_re;
+        im[o + 6] = m1_im - n1_im;
+        re[o + 2] = m2_re + n2_re;
+        im[o + 2] = m2_im + n2_im;
+        re[o + 5] = m2_re - n2_re;
+        im[o + 5] = m2_im - n2_im;
+        re[o + 3] = m3_re + n3_re;
+        im[o + 3] = m3_im + n3_im;
+        re[o + 4] = m3_re - n3_re;
+        im[o + 4] = m3_im - n3_im;
+    }
+
+    /**
+     * @param h cos(&pi;/4)
+     * @param sign W<sub>4</sub> = i * sign
+     */
+    private static void dft8(double[] re, double[] im, int o, double h, double sign) {
+        /* 偶数番目と奇数番目に対する長さ4のDFT */
+        double a02_re = re[o] + re[o + 4];
+        double a02_im = im[o] + im[o + 4];
+        double b02_re = re[o] - re[o + 4];
+        double b02_im = im[o] - im[o + 4];
+        double a13_re = re[o + 2] + re[o + 6];
+        double a13_im = im[o + 2] + im[o + 6];
+        double b13_re = -sign * (im[o + 2] - im[o + 6]);
+        double b13_im = sign * (re[o + 2] - re[o + 6]);
+
+        double e0_re = a02_re + a13_re;
+        double e0_im = a02_im + a13_im;
+        double e1_re = b02_re + b13_re;
+        double e1_im = b02_im + b13_im;
+        double e2_re = a02_re - a13_re;
+        double e2_im = a02_im - a13_im;
+        double e3_re = b02_re - b13_re;
+        double e3_im = b02_im - b13_im;
+
+        a02_re = re[o + 1] + re[o + 5];
+        a02_im = im[o + 1] + im[o + 5];
+        b02_re = re[o + 1] - re[o + 5];
+        b02_im = im[o + 1] - im[o + 5];
+        a13_re = re[o + 3] + re[o + 7];
+        a13_im = im[o + 3] + im[o + 7];
+        b13_re = -sign * (im[o + 3] - im[o + 7]);
+        b13_im = sign * (re[o + 3] - re[o + 7]);
+
+        double f0_re = a02_re + a13_re;
+        double f0_im = a02_im + a13_im;
+        double f1_re = b02_re + b13_re;
+        double f1_im = b02_im + b13_im;
+        double f2_re = a02_re - a13_re;
+        double f2_im = a02_im - a13_im;
+        double f3_re = b02_re - b13_re;
+        double f3_im = b02_im - b13_im;
+
+        /* 回転: W_8 = h(1 + i * sign), W_8^2 = i * sign, W_8^3 = h(-1 + i * sign) */
+        double g1_re = h * (f1_re - sign * f1_im);
+        double g1_im = h * (f1_im + sign * f1_re);
+        double g2_re = -sign * f2_im;
+        double g2_im = sign * f2_re;
+        double g3_re = -h * (f3_re + sign * f3_im);
+        double g3_im = h * (sign * f3_re - f3_im);
+
+        re[o] = e0_re + f0_re;
+        im[o] = e0_im + f0_im;
+        re[o + 4] = e0_re - f0_re;
+        im[o + 4] = e0_im - f0_im;
+        re[o + 1] = e1_re + g1_re;
+        im[o + 1] = e1_im + g1_im;
+        re[o + 5] = e1_re - g1_re;
+        im[o + 5] = e1_im - g1_im;
+        re[o + 2] = e2_re + g2_re;
+        im[o + 2] = e2_im + g2_im;
+        re[o + 6] = e2_re - g2_re;
+        im[o + 6] = e2_im - g2_im;
+        re[o + 3] = e3_re + g3_re;
+        im[o + 3] = e3_im + g3_im;
+        re[o + 7] = e3_re - g3_re;
+        im[o + 7] = e3_im - g3_im;
+    }
+
+    /**
+     * 展開済みのコードレット2つを組み合わせた, n = n1 * n2 のコードレット.
+     */
+    private static final class Composite {
+
+        private final int n;
+        private final int n1;
+        private final int n2;
+
+        /**
+         * inputMap[j2 * n1 + j1] が (j1, j2) に対応する入力のインデックス.
+         */
+        private final int[] inputMap;
+
+        /**
+         * outputMap[k1 * n2 + k2] が (k1, k2) に対応する出力のインデックス.
+         */
+        private final int[] outputMap;
+
+        /**
+         * 回転因子 W<sub>n</sub><sup>j2 * k1</sup> を乗じる必要があるかどうか.
+         */
+        private final boolean twiddle;
+
+        private Composite(int n1, int n2, int[] inputMap, int[] outputMap, boolean twiddle) {
+            this.n = n1 * n2;
+            this.n1 = n1;
+            this.n2 = n2;
+            this.inputMap = inputMap;
+            this.outputMap = outputMap;
+            this.twiddle = twiddle;
+        }
+
+        /**
+         * 互いに素なn1, n2による素因数アルゴリズム.
+         */
+        static Composite primeFactor(int n1, int n2) {
+            int n = n1 * n2;
+
+            //入力: j = (n2 * j1 + n1 * j2) mod n
+            int[] inputMap = new int[n];
+            for (int j2 = 0; j2 < n2; j2++) {
+                for (int j1 = 0; j1 < n1; j1++) {
+                    inputMap[j2 * n1 + j1] = (n2 * j1 + n1 * j2) % n;
+                }
+            }
+
+            //出力: k = k1 (mod n1), k = k2 (mod n2) を満たすk (中国剰余定理)
+            int[] outputMap = new int[n];
+            for (int k = 0; k < n; k++) {
+                outputMap[(k % n1) * n2 + (k % n2)] = k;
+            }
+
+            return new Composite(n1, n2, inputMap, outputMap, false);
+        }
+
+        /**
+         * Cooley-Tukey型.
+         */
+        static Composite cooleyTukey(int n1, int n2) {
+            int n = n1 * n2;
+
+            //入力: j = n2 * j1 + j2
+            int[] inputMap = new int[n];
+            for (int j2 = 0; j2 < n2; j2++) {
+                for (int j1 = 0; j1 < n1; j1++) {
+                    inputMap[j2 * n1 + j1] = n2 * j1 + j2;
+                }
+            }
+
+            //出力: k = k1 + n1 * k2
+            int[] outputMap = new int[n];
+            for (int k1 = 0; k1 < n1; k1++) {
+                for (int k2 = 0; k2 < n2; k2++) {
+                    outputMap[k1 * n2 + k2] = k1 + n1 * k2;
+                }
+            }
+
+            return new Composite(n1, n2, inputMap, outputMap, true);
+        }
+
+        void compute(
+                double[] re, double[] im, double[] work_re, double[] work_im,
+                int offset, FourierBasis basis) {
+
+            final int n = this.n;
+            final int n1 = this.n1;
+            final int n2 = this.n2;
+
+            /* 入力の並べ替え: サイズn1の系列をn2個(作業配列へ) */
+            for (int p = 0; p < n; p++) {
+                work_re[offset + p] = re[offset + this.inputMap[p]];
+                work_im[offset + p] = im[offset + this.inputMap[p]];
+            }
+
+            /* 横方向のDFT (サイズn1をn2個) */
+            //W_n1 = W_n^n2
+            for (int j2 = 0; j2 < n2; j2++) {
+                primitive(work_re, work_im, offset + j2 * n1, n1, basis, n2);
+            }
+
+            if (this.twiddle) {
+                SplitComplexArrays.rotate(work_re, work_im, offset, n1, n2, basis);
+            }
+
+            /* 転置: (サイズn1をn2個)→(サイズn2をn1個) */
+            SplitComplexArrays.transpose(work_re, work_im, re, im, offset, n2, n1);
+
+            /* 縦方向のDFT (サイズn2をn1個) */
+            //W_n2 = W_n^n1
+            for (int k1 = 0; k1 < n1; k1++) {
+                primitive(re, im, offset + k1 * n2, n2, basis, n1);
+            }
+
+            /* 出力の並べ替え */
+            for (int p = 0; p < n; p++) {
+                work_re[offset + this.outputMap[p]] = re[offset + p];
+                work_im[offset + this.outputMap[p]] = im[offset + p];
+            }
+            System.arraycopy(work_re, offset, re, offset, n);
+            System.arraycopy(work_im, offset, im, offset, n);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright © 2024 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2025.10.8
+ */
+package matsu.num.transform.fft.fftmodule;
+
+import matsu.num.transform.fft.component.FourierBasis;
+
+/**
+ * 実部配列と虚部配列に分けて表現された複素数列に対する, FFT内部の共通操作を扱う.
+ * 
+ * <p>
+ * 引数の整合性は呼び出し側で保証しなければならない.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+final class SplitComplexArrays {
+
+    private SplitComplexArrays() {
+        //インスタンス化不可
+        throw new AssertionError();
+    }
+
+    /**
+     * [offset]から始まる (サイズN1をN2個) の行列の各要素に,
+     * 回転因子 W<sub>N</sub><sup>j2 * k1</sup> を乗算する.
+     */
+    static void rotate(double[] re, double[] im, int offset, int N1, int N2, FourierBasis basis_N) {
+        for (int j2 = 1; j2 < N2; j2++) {
+            int pos = offset + j2 * N1;
+            int j2k1 = 0;
+            for (int k1 = 0; k1 < N1; k1++) {
+                double a_re = re[pos + k1];
+                double a_im = im[pos + k1];
+                double w_re = basis_N.realAt(j2k1);
+                double w_im = basis_N.imaginaryAt(j2k1);
+                re[pos + k1] = a_re * w_re - a_im * w_im;
+                im[pos + k1] = a_re * w_im + a_im * w_re;
+                j2k1 += j2;
+            }
+        }
+    }
+
+    /**
+     * [offset]から始まる (サイズcolsをrows個) の行列を転置し,
+     * 出力先の同じ範囲に (サイズrowsをcols個) として書き込む.
+     */
+    static void transpose(
+            double[] src_re, double[] src_im, double[] dst_re, double[] dst_im,
+            int offset, int rows, int cols) {
+        for (int r = 0; r < rows; r++) {
+            int pos_src = offset + r * cols;
+            for (int c = 0; c < cols; c++) {
+                dst_re[offset + c * rows + r] = src_re[pos_src + c];
+                dst_im[offset + c * rows + r] = src_im[pos_src + c];
+            }
+        }
+    }
+
+    /**
+     * Good-Thomasのアルゴリズムの入力の添え字写像により, [offset]から始まる長さN = N1 * N2の系列を
+     * (サイズN1をN2個) の行列に並べ替え, 出力先の同じ範囲に書き込む. <br>
+     * 行n2の要素n1には, 元の系列の (N2 * n1 + N1 * n2) mod N 番目が入る. <br>
+     * N1とN2は互いに素でなければならない.
+     */
+    static void gatherPrimeFactorInput(
+            double[] src_re, double[] src_im, double[] dst_re, double[] dst_im,
+            int offset, int N1, int N2) {
+        final int N = N1 * N2;
+        for (int n2 = 0, start = 0; n2 < N2; n2++, start += N1) {
+            int pos_dst = offset + n2 * N1;
+            //index = (N2 * n1 + start) mod N
+            int index = start;
+            for (int n1 = 0; n1 < N1; n1++) {
+                dst_re[pos_dst + n1] = src_re[offset + index];
+                dst_im[pos_dst + n1] = src_im[offset + index];
+                index += N2;
+                if (index >= N) {
+                    index -= N;
+                }
+            }
+        }
+    }
+
+    /**
+     * Good-Thomasのアルゴリズムの出力の添え字写像 (中国剰余定理) により,
+     * [offset]から始まる (サイズN2をN1個) の行列を長さN = N1 * N2の系列に並べ替え,
+     * 出力先の同じ範囲に書き込む. <br>
+     * 行k1の要素k2は, <i>k</i> &equiv; k1 (mod N1), <i>k</i> &equiv; k2 (mod N2) を満たす
+     * <i>k</i>番目に入る. <br>
+     * N1とN2は互いに素でなければならない.
+     */
+    static void scatterPrimeFactorOutput(
+            double[] src_re, double[] src_im, double[] dst_re, double[] dst_im,
+            int offset, int N1, int N2) {
+        final int N = N1 * N2;
+
+        //e1 = 1 (mod N1), 0 (mod N2), e2 = 0 (mod N1), 1 (mod N2)
+        final int e1 = (int) ((long) N2 * inverseMod(N2 % N1, N1) % N);
+        final int e2 = (int) ((long) N1 * inverseMod(N1 % N2, N2) % N);
+
+        for (int k1 = 0, start = 0; k1 < N1; k1++) {
+            int pos_src = offset + k1 * N2;
+            //index = (k1 * e1 + k2 * e2) mod N
+            int index = start;
+            for (int k2 = 0; k2 < N2; k2++) {
+                dst_re[offset + index] = src_re[pos_src + k2];
+                dst_im[offset + index] = src_im[pos_src + k2];
+                index += e2;
+                if (index >= N) {
+                    index -= N;
+                }
+            }
+            start += e1;
+            if (start >= N) {
+                start -= N;
+            }
+        }
+    }
+
+    /**
+     * mを法とするaの逆元を, 0以上m未満で返す. <br>
+     * aとmは互いに素でなければならない (m = 1の場合は0を返す).
+     */
+    private static int inverseMod(int a, int m) {
+        //拡張ユークリッドの互除法
+        int r0 = m;
+        int r1 = a;
+        int s0 = 0;
+        int s1 = 1;
+        while (r1 != 0) {
+            int q = r0 / r1;
+            int r2 = r0 - q * r1;
+            r0 = r1;
+            r1 = r2;
+            int s2 = s0 - q * s1;
+            s0 = s1;
+            s1 = s2;
+        }
+        assert r0 == 1 : "互いに素でない";
+
+        int out = s0 % m;
+        return out < 0 ? out + m : out;
+    }
+}
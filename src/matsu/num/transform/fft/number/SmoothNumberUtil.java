@@ -0,0 +1,76 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2025.10.13
+ */
+package matsu.num.transform.fft.number;
+
+/**
+ * 素因数が2, 3, 5のみである整数 (5-smooth数) に関する計算補助. <br>
+ * 5-smooth数のサイズのFFTは, 分解の各段が小さな基数のみとなり高速である.
+ * 
+ * @author Matsuura Y.
+ */
+public final class SmoothNumberUtil {
+
+    private SmoothNumberUtil() {
+        //インスタンス化不可
+        throw new AssertionError();
+    }
+
+    /**
+     * 整数が5-smooth数 (素因数が2, 3, 5のみ) かどうかを判定する.
+     * 
+     * @param n n
+     * @return nが5-smooth数ならtrue
+     * @throws IllegalArgumentException nが0以下の場合
+     */
+    public static boolean is5Smooth(int n) {
+        if (n <= 0) {
+            throw new IllegalArgumentException("自然数(1以上)でない");
+        }
+
+        for (int p : new int[] { 2, 3, 5 }) {
+            while (n % p == 0) {
+                n /= p;
+            }
+        }
+        return n == 1;
+    }
+
+    /**
+     * 整数nに対して, n以上の最小の5-smooth数を返す.
+     * 
+     * @param n n
+     * @return n以上の最小の5-smooth数
+     * @throws IllegalArgumentException nが0以下の場合, nが2^30を超える場合
+     */
+    public static int ceilTo5Smooth(int n) {
+        if (n <= 0) {
+            throw new IllegalArgumentException("自然数(1以上)でない");
+        }
+        if (n > 0x4000_0000) {
+            throw new IllegalArgumentException("2の30乗を超えている");
+        }
+
+        //3^a 5^b を列挙し, 2の累乗を掛けてn以上にした最小値を探す
+        //2^30 は候補であるから, 探索はlongで行えばオーバーフローしない
+        long best = Power2Util.ceilToPower2(n);
+        for (long p5 = 1; p5 < best; p5 *= 5) {
+            for (long p35 = p5; p35 < best; p35 *= 3) {
+                long candidate = p35;
+                while (candidate < n) {
+                    candidate <<= 1;
+                }
+                if (candidate < best) {
+                    best = candidate;
+                }
+            }
+        }
+        return (int) best;
+    }
+}
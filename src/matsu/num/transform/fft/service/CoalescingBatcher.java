@@ -0,0 +1,595 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+/*
+ * 2025.10.13
+ */
+package matsu.num.transform.fft.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import matsu.num.transform.fft.BiLinearTransform;
+import matsu.num.transform.fft.ComplexLinearTransform;
+import matsu.num.transform.fft.LinearTransform;
+import matsu.num.transform.fft.dto.ComplexNumberArrayDTO;
+
+/**
+ * 同じエグゼキュータ・同じサイズの独立な変換の要求をまとめて, バッチ変換として実行するフロントエンド.
+ * 
+ * <p>
+ * {@link #submit(ExecutorType, double[])} などにより変換を要求すると,
+ * 要求は ({@link ExecutorType}, サイズ) ごとに保留される. <br>
+ * 保留された要求は, 最初の要求から一定時間 ({@link Builder#replacedMaxDelay(Duration)}) が経過するか,
+ * 保留数が上限 ({@link Builder#replacedMaxBatchSize(int)}) に達した時点で,
+ * 1回のバッチ変換 ({@code applyBatch}) としてまとめて実行される. <br>
+ * バッチ変換ではサイズに依存する準備の計算が1回で済むため,
+ * 少数のサイズの小さな変換が高頻度で要求される場合の, 呼び出しあたりのオーバーヘッドが削減される.
+ * </p>
+ * 
+ * <p>
+ * 各要求の結果は {@link CompletableFuture} として返され,
+ * 変換の結果は同じエグゼキュータの {@code apply} と同等である. <br>
+ * サイズがrejectされる場合, 戻り値は {@link IllegalArgumentException} により例外的に完了する. <br>
+ * 戻り値が完了するまで, 引数の配列を書き換えてはいけない.
+ * </p>
+ * 
+ * <p>
+ * 保留数やバッチサイズの統計は {@link #metrics()} により取得できる. <br>
+ * 使用後は {@link #close()} を呼ぶ必要がある.
+ * 保留されている要求は実行され, 以降の要求は受け付けられない.
+ * </p>
+ * 
+ * <p>
+ * このクラスはスレッドセーフである.
+ * </p>
+ * 
+ * @author Matsuura Y.
+ */
+public final class CoalescingBatcher implements AutoCloseable {
+
+    private final FFTModuleExecutorProvider provider;
+    private final int maxBatchSize;
+    private final long maxDelayNanos;
+    private final Executor executor;
+
+    //保留の期限を管理する, このインスタンスが所有するスケジューラ
+    private final ScheduledThreadPoolExecutor scheduler;
+
+    //以下, ロックの下で操作する
+    private final Map<Key, Pending<?, ?>> pendingMap;
+    private int pendingCount;
+    private boolean closed;
+
+    private long submittedCount;
+    private long dispatchedBatchCount;
+    private int maxDispatchedBatchSize;
+
+    //排他処理用ロックオブジェクト
+    private final Object lock = new Object();
+
+    /**
+     * ビルダから呼ばれる.
+     */
+    private CoalescingBatcher(Builder builder) {
+        super();
+        this.provider = builder.provider;
+        this.maxBatchSize = builder.maxBatchSize;
+        this.maxDelayNanos = builder.maxDelay.toNanos();
+        this.executor = builder.executor;
+
+        this.scheduler = new ScheduledThreadPoolExecutor(1, r -> {
+            Thread thread = new Thread(r, "matsu.num.transform.fft-coalescing-batcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler.setRemoveOnCancelPolicy(true);
+
+        this.pendingMap = new HashMap<>();
+    }
+
+    /**
+     * 実数列の線形変換を要求する.
+     * 
+     * @param type エグゼキュータタイプ
+     * @param data 実数列
+     * @return 変換後の実数列を結果とする {@link CompletableFuture}
+     * @throws IllegalStateException このインスタンスがクローズされている場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public CompletableFuture<double[]> submit(
+            ExecutorType<? extends LinearTransform> type, double[] data) {
+        Objects.requireNonNull(data);
+        LinearTransform transform = this.provider.get(type);
+        return this.enqueue(
+                new Key(type, data.length), data,
+                inputs -> Arrays.asList(transform.applyBatch(inputs.toArray(new double[0][]))));
+    }
+
+    /**
+     * 複素数列の線形変換を要求する.
+     * 
+     * @param type エグゼキュータタイプ
+     * @param complexNumberArray 複素数列
+     * @return 変換後の複素数列を結果とする {@link CompletableFuture}
+     * @throws IllegalStateException このインスタンスがクローズされている場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public CompletableFuture<ComplexNumberArrayDTO> submit(
+            ExecutorType<? extends ComplexLinearTransform> type, ComplexNumberArrayDTO complexNumberArray) {
+        Objects.requireNonNull(complexNumberArray);
+        ComplexLinearTransform transform = this.provider.get(type);
+        return this.enqueue(
+                new Key(type, complexNumberArray.size), complexNumberArray,
+                inputs -> Arrays.asList(
+                        transform.applyBatch(inputs.toArray(new ComplexNumberArrayDTO[0]))));
+    }
+
+    /**
+     * 2系列の実数列の変換 (巡回畳み込みなど) を要求する. <br>
+     * f と g のサイズが整合しない場合, 戻り値は {@link IllegalArgumentException} により例外的に完了する.
+     * 
+     * @param type エグゼキュータタイプ
+     * @param f 実数列f
+     * @param g 実数列g
+     * @return 変換後の実数列を結果とする {@link CompletableFuture}
+     * @throws IllegalStateException このインスタンスがクローズされている場合
+     * @throws NullPointerException 引数にnullが含まれる場合
+     */
+    public CompletableFuture<double[]> submit(
+            ExecutorType<? extends BiLinearTransform> type, double[] f, double[] g) {
+        Objects.requireNonNull(f);
+        Objects.requireNonNull(g);
+        BiLinearTransform transform = this.provider.get(type);
+        if (f.length != g.length) {
+            //サイズが整合しない要求はバッチに混ぜない
+            return CompletableFuture.failedFuture(transform.accepts(f, g).getException());
+        }
+        return this.enqueue(
+                new Key(type, f.length), new double[][] { f, g },
+                inputs -> {
+                    final int count = inputs.size();
+                    double[][] fBatch = new double[count][];
+                    double[][] gBatch = new double[count][];
+                    for (int i = 0; i < count; i++) {
+                        fBatch[i] = inputs.get(i)[0];
+                        gBatch[i] = inputs.get(i)[1];
+                    }
+                    return Arrays.asList(transform.applyBatch(fBatch, gBatch));
+                });
+    }
+
+    /**
+     * 要求を保留に加え, 必要ならバッチを実行する.
+     */
+    private <I, O> CompletableFuture<O> enqueue(
+            Key key, I input, Function<List<I>, List<O>> batchFunction) {
+        CompletableFuture<O> out = new CompletableFuture<>();
+        Pending<I, O> ready = null;
+
+        synchronized (this.lock) {
+            if (this.closed) {
+                throw new IllegalStateException("クローズされている");
+            }
+
+            @SuppressWarnings("unchecked")
+            Pending<I, O> pending = (Pending<I, O>) this.pendingMap.get(key);
+            if (Objects.isNull(pending)) {
+                pending = new Pending<>(key, batchFunction);
+                this.pendingMap.put(key, pending);
+                if (this.maxBatchSize > 1) {
+                    Pending<I, O> scheduled = pending;
+                    pending.timeout = this.scheduler.schedule(
+                            () -> this.flush(scheduled), this.maxDelayNanos, TimeUnit.NANOSECONDS);
+                }
+            }
+            pending.add(input, out);
+            this.pendingCount++;
+            this.submittedCount++;
+
+            if (pending.size() >= this.maxBatchSize) {
+                this.detach(pending);
+                ready = pending;
+            }
+        }
+
+        if (Objects.nonNull(ready)) {
+            this.dispatch(ready);
+        }
+        return out;
+    }
+
+    /**
+     * 期限に達した保留を実行する. <br>
+     * 既に上限到達により実行されている場合は何もしない.
+     */
+    private void flush(Pending<?, ?> pending) {
+        synchronized (this.lock) {
+            if (this.pendingMap.get(pending.key) != pending) {
+                return;
+            }
+            this.detach(pending);
+        }
+        this.dispatch(pending);
+    }
+
+    /**
+     * 保留をマップから外し, 実行されるバッチとして統計に加える. <br>
+     * ロックの下で呼ばれる.
+     */
+    private void detach(Pending<?, ?> pending) {
+        assert Thread.holdsLock(this.lock);
+
+        this.pendingMap.remove(pending.key);
+        this.pendingCount -= pending.size();
+        this.dispatchedBatchCount++;
+        this.maxDispatchedBatchSize = Math.max(this.maxDispatchedBatchSize, pending.size());
+        if (Objects.nonNull(pending.timeout)) {
+            pending.timeout.cancel(false);
+        }
+    }
+
+    /**
+     * バッチをエグゼキュータで実行する.
+     */
+    private void dispatch(Pending<?, ?> pending) {
+        try {
+            this.executor.execute(pending::run);
+        } catch (RuntimeException e) {
+            //エグゼキュータが受け付けない場合(シャットダウン済みなど)
+            pending.fail(e);
+        }
+    }
+
+    /**
+     * 現在の統計のスナップショットを返す.
+     * 
+     * @return 統計
+     */
+    public Metrics metrics() {
+        synchronized (this.lock) {
+            return new Metrics(
+                    this.pendingCount, this.submittedCount,
+                    this.dispatchedBatchCount, this.maxDispatchedBatchSize);
+        }
+    }
+
+    /**
+     * 保留されている要求を全て実行し, 以降の要求を受け付けなくする. <br>
+     * 実行中のバッチの完了は待たない.
+     */
+    @Override
+    public void close() {
+        List<Pending<?, ?>> remaining;
+        synchronized (this.lock) {
+            if (this.closed) {
+                return;
+            }
+            this.closed = true;
+            remaining = new ArrayList<>(this.pendingMap.values());
+            for (Pending<?, ?> pending : remaining) {
+                this.detach(pending);
+            }
+        }
+        this.scheduler.shutdownNow();
+        for (Pending<?, ?> pending : remaining) {
+            this.dispatch(pending);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "CoalescingBatcher(maxBatchSize=%s, maxDelay=%sns)",
+                this.maxBatchSize, this.maxDelayNanos);
+    }
+
+    /**
+     * 保留のキー: エグゼキュータタイプとサイズ.
+     */
+    private static final class Key {
+
+        private final ExecutorType<?> type;
+        private final int size;
+
+        Key(ExecutorType<?> type, int size) {
+            this.type = Objects.requireNonNull(type);
+            this.size = size;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key target = (Key) obj;
+            return this.type.equals(target.type) && this.size == target.size;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * this.type.hashCode() + this.size;
+        }
+    }
+
+    /**
+     * 同じキーに対する, 未実行の要求の集まり.
+     * 
+     * @param <I> 入力の型
+     * @param <O> 出力の型
+     */
+    private static final class Pending<I, O> {
+
+        final Key key;
+        private final Function<List<I>, List<O>> batchFunction;
+        private final List<I> inputs = new ArrayList<>();
+        private final List<CompletableFuture<O>> futures = new ArrayList<>();
+
+        //期限のタスク, 保留の生成と同時にロックの下で設定される
+        ScheduledFuture<?> timeout;
+
+        Pending(Key key, Function<List<I>, List<O>> batchFunction) {
+            this.key = key;
+            this.batchFunction = batchFunction;
+        }
+
+        void add(I input, CompletableFuture<O> future) {
+            this.inputs.add(input);
+            this.futures.add(future);
+        }
+
+        int size() {
+            return this.inputs.size();
+        }
+
+        /**
+         * バッチ変換を実行し, 各要求を完了させる. <br>
+         * 保留がマップから外された後に呼ばれる.
+         */
+        void run() {
+            List<O> results;
+            try {
+                results = this.batchFunction.apply(this.inputs);
+            } catch (RuntimeException e) {
+                this.fail(e);
+                return;
+            } catch (Error e) {
+                //要求を未完了のまま残さないよう完了させた上で, エラーは伝播させる
+                this.fail(e);
+                throw e;
+            }
+            for (int i = 0, len = this.futures.size(); i < len; i++) {
+                this.futures.get(i).complete(results.get(i));
+            }
+        }
+
+        void fail(Throwable cause) {
+            for (CompletableFuture<O> future : this.futures) {
+                future.completeExceptionally(cause);
+            }
+        }
+    }
+
+    /**
+     * {@link CoalescingBatcher} の統計のスナップショット. <br>
+     * イミュータブルである.
+     */
+    public static final class Metrics {
+
+        private final int queueDepth;
+        private final long submittedCount;
+        private final long dispatchedBatchCount;
+        private final int maxBatchSize;
+
+        private Metrics(int queueDepth, long submittedCount, long dispatchedBatchCount, int maxBatchSize) {
+            this.queueDepth = queueDepth;
+            this.submittedCount = submittedCount;
+            this.dispatchedBatchCount = dispatchedBatchCount;
+            this.maxBatchSize = maxBatchSize;
+        }
+
+        /**
+         * 保留されている (まだバッチとして実行されていない) 要求の数を返す.
+         * 
+         * @return 保留数
+         */
+        public int queueDepth() {
+            return this.queueDepth;
+        }
+
+        /**
+         * 受け付けた要求の総数を返す.
+         * 
+         * @return 要求の総数
+         */
+        public long submittedCount() {
+            return this.submittedCount;
+        }
+
+        /**
+         * 実行されたバッチの総数を返す.
+         * 
+         * @return バッチの総数
+         */
+        public long dispatchedBatchCount() {
+            return this.dispatchedBatchCount;
+        }
+
+        /**
+         * 実行されたバッチの平均サイズを返す. <br>
+         * バッチが実行されていない場合は0を返す.
+         * 
+         * @return バッチの平均サイズ
+         */
+        public double averageBatchSize() {
+            long dispatchedRequests = this.submittedCount - this.queueDepth;
+            return this.dispatchedBatchCount == 0
+                    ? 0d
+                    : (double) dispatchedRequests / this.dispatchedBatchCount;
+        }
+
+        /**
+         * 実行されたバッチのサイズの最大値を返す.
+         * 
+         * @return バッチサイズの最大値
+         */
+        public int maxBatchSize() {
+            return this.maxBatchSize;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(
+                    "Metrics(queueDepth=%s, submitted=%s, batches=%s, averageBatchSize=%s, maxBatchSize=%s)",
+                    this.queueDepth, this.submittedCount, this.dispatchedBatchCount,
+                    this.averageBatchSize(), this.maxBatchSize);
+        }
+    }
+
+    /**
+     * {@link CoalescingBatcher} のイミュータブルビルダ.
+     * 
+     * <p>
+     * 基本となるビルダインスタンスは, {@link #of(FFTModuleExecutorProvider)} により取得する. <br>
+     * 初期状態は, バッチサイズの上限が {@link #DEFAULT_MAX_BATCH_SIZE},
+     * 保留時間の上限が {@link #DEFAULT_MAX_DELAY},
+     * バッチを実行するエグゼキュータが {@link ForkJoinPool#commonPool()} である. <br>
+     * ビルダインスタンスはイミュータブルであるため, 戻り値を受け取る必要がある
+     * (ただし, メソッドチェーンは書ける).
+     * </p>
+     */
+    public static final class Builder {
+
+        /**
+         * バッチサイズの上限のデフォルト値.
+         */
+        public static final int DEFAULT_MAX_BATCH_SIZE = 64;
+
+        /**
+         * 保留時間の上限のデフォルト値.
+         */
+        public static final Duration DEFAULT_MAX_DELAY = Duration.ofNanos(200_000L);
+
+        /**
+         * 保留時間の上限として指定できる最大値: 1日.
+         */
+        public static final Duration UPPER_LIMIT_OF_MAX_DELAY = Duration.ofDays(1L);
+
+        private final FFTModuleExecutorProvider provider;
+        private int maxBatchSize;
+        private Duration maxDelay;
+        private Executor executor;
+
+        private Builder(FFTModuleExecutorProvider provider) {
+            super();
+            this.provider = provider;
+            this.maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
+            this.maxDelay = DEFAULT_MAX_DELAY;
+            this.executor = ForkJoinPool.commonPool();
+        }
+
+        /**
+         * 内部から呼ばれるコピーコンストラクタ.
+         * 
+         * @param src ソース
+         */
+        private Builder(Builder src) {
+            this.provider = src.provider;
+            this.maxBatchSize = src.maxBatchSize;
+            this.maxDelay = src.maxDelay;
+            this.executor = src.executor;
+        }
+
+        /**
+         * エグゼキュータを提供するプロバイダを与えて, 初期状態のビルダを返す.
+         * 
+         * @param provider プロバイダ
+         * @return 初期ビルダ
+         * @throws NullPointerException 引数にnullが含まれる場合
+         */
+        public static Builder of(FFTModuleExecutorProvider provider) {
+            return new Builder(Objects.requireNonNull(provider));
+        }
+
+        /**
+         * バッチサイズの上限を置き換え, 新しいビルダインスタンスとして返す. <br>
+         * 保留数がこの値に達すると, 保留時間によらずバッチが実行される. <br>
+         * 1を与えた場合, 要求はまとめられずに直ちに実行される.
+         * 
+         * @param maxBatchSize バッチサイズの上限
+         * @return 置き換え後の新しいビルダ
+         * @throws IllegalArgumentException 引数が1以上でない場合
+         */
+        public Builder replacedMaxBatchSize(int maxBatchSize) {
+            if (maxBatchSize < 1) {
+                throw new IllegalArgumentException("バッチサイズの上限が1以上でない");
+            }
+            Builder out = new Builder(this);
+            out.maxBatchSize = maxBatchSize;
+            return out;
+        }
+
+        /**
+         * 保留時間の上限 (最初の要求からバッチの実行までの最大の待ち時間) を置き換え,
+         * 新しいビルダインスタンスとして返す.
+         * 
+         * @param maxDelay 保留時間の上限
+         * @return 置き換え後の新しいビルダ
+         * @throws IllegalArgumentException 引数が負の場合,
+         *             {@link #UPPER_LIMIT_OF_MAX_DELAY} を超える場合
+         * @throws NullPointerException 引数にnullが含まれる場合
+         */
+        public Builder replacedMaxDelay(Duration maxDelay) {
+            if (maxDelay.isNegative()) {
+                throw new IllegalArgumentException("保留時間の上限が負である");
+            }
+            if (maxDelay.compareTo(UPPER_LIMIT_OF_MAX_DELAY) > 0) {
+                throw new IllegalArgumentException("保留時間の上限が大きすぎる: maxDelay = " + maxDelay);
+            }
+            Builder out = new Builder(this);
+            out.maxDelay = maxDelay;
+            return out;
+        }
+
+        /**
+         * バッチ変換を実行するエグゼキュータを置き換え, 新しいビルダインスタンスとして返す.
+         * 
+         * @param executor エグゼキュータ
+         * @return 置き換え後の新しいビルダ
+         * @throws NullPointerException 引数にnullが含まれる場合
+         */
+        public Builder replacedExecutor(Executor executor) {
+            Builder out = new Builder(this);
+            out.executor = Objects.requireNonNull(executor);
+            return out;
+        }
+
+        /**
+         * {@link CoalescingBatcher} をビルドする. <br>
+         * 呼ぶたびに新しいインスタンスが生成される.
+         * 
+         * @return ビルドされたインスタンス
+         */
+        public CoalescingBatcher build() {
+            return new CoalescingBatcher(this);
+        }
+    }
+}
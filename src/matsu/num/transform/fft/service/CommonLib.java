@@ -5,12 +5,15 @@
  * http://opensource.org/licenses/mit-license.php
  */
 /*
- * 2024.12.21
+ * 2025.10.13
  */
 package matsu.num.transform.fft.service;
 
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
 
+import matsu.num.transform.fft.component.FourierBasisComputer;
+import matsu.num.transform.fft.component.ParallelPolicy;
 import matsu.num.transform.fft.lib.Trigonometry;
 import matsu.num.transform.fft.lib.privatelib.ArraysUtil;
 
@@ -54,6 +57,21 @@ public abstract class CommonLib {
      */
     abstract ArraysUtil arrayUtil();
 
+    /**
+     * Fourier基底生成器のサプライヤを返す. <br>
+     * このライブラリから生成される全てのExecutorで共有される.
+     * 
+     * @return 基底生成器のサプライヤ
+     */
+    abstract FourierBasisComputer.Supplier basisComputerSupplier();
+
+    /**
+     * Executorの内部のFFT, 及びバッチ変換と多次元変換の並列実行の方針を返す.
+     * 
+     * @return 並列実行の方針
+     */
+    abstract ParallelPolicy parallelPolicy();
+
     /**
      * デフォルトライブラリを返す.
      * 
@@ -100,6 +118,23 @@ public abstract class CommonLib {
      * 
      * </blockquote>
      * 
+     * <p>
+     * Fourier基底の生成器 (三角関数の値のテーブル) は,
+     * ビルドされたライブラリごとにキャッシュされ, Executorの呼び出し間で再利用される. <br>
+     * キャッシュは最も長く使われていないものから破棄され,
+     * その上限 (個数とバイト数) は
+     * {@link #replacedBasisCacheCapacity(int)},
+     * {@link #replacedBasisCacheByteLimit(long)}
+     * で置き換えられる.
+     * </p>
+     * 
+     * <p>
+     * デフォルトでは, Executorの内部のFFTは呼び出しスレッドで逐次的に実行される. <br>
+     * {@link #replacedForkJoinPool(ForkJoinPool)} でプールを与えると,
+     * サイズが閾値 ({@link #replacedParallelThreshold(int)} で置き換え可能) 以上の変換について,
+     * FFTの独立な部分変換がそのプールで並列に実行される.
+     * </p>
+     * 
      */
     public static final class Builder {
 
@@ -107,6 +142,12 @@ public abstract class CommonLib {
 
         private Trigonometry trigonometry;
         private ArraysUtil arraysUtil;
+        private int basisCacheCapacity;
+        private long basisCacheByteLimit;
+
+        //逐次実行の場合はnull
+        private ForkJoinPool forkJoinPool;
+        private int parallelThreshold;
 
         /**
          * このビルダの状態でビルドされたインスタンス.
@@ -122,6 +163,10 @@ public abstract class CommonLib {
             CommonLib defaultInstance = CommonLibDefaultHolder.DEFAULT_INSTANCE;
             this.trigonometry = defaultInstance.trigonometry();
             this.arraysUtil = defaultInstance.arrayUtil();
+            this.basisCacheCapacity = FourierBasisComputer.Supplier.DEFAULT_MAX_CACHED_COMPUTERS;
+            this.basisCacheByteLimit = FourierBasisComputer.Supplier.DEFAULT_MAX_CACHED_BYTES;
+            this.forkJoinPool = null;
+            this.parallelThreshold = ParallelPolicy.DEFAULT_THRESHOLD;
         }
 
         /**
@@ -132,6 +177,10 @@ public abstract class CommonLib {
         private Builder(Builder src) {
             this.trigonometry = src.trigonometry;
             this.arraysUtil = src.arraysUtil;
+            this.basisCacheCapacity = src.basisCacheCapacity;
+            this.basisCacheByteLimit = src.basisCacheByteLimit;
+            this.forkJoinPool = src.forkJoinPool;
+            this.parallelThreshold = src.parallelThreshold;
         }
 
         /**
@@ -148,6 +197,79 @@ public abstract class CommonLib {
             return out;
         }
 
+        /**
+         * Fourier基底の生成器のキャッシュ個数の上限を置き換え, 新しいビルダインスタンスとして返す. <br>
+         * 0を与えた場合, キャッシュは無効になる. <br>
+         * メソッドチェーンが可能だが, 最後に呼び出し元で戻り値を受け取る必要がある.
+         * 
+         * @param maxComputers キャッシュする生成器の個数の上限
+         * @return 置き換え後の新しいビルダ
+         * @throws IllegalArgumentException 引数が0以上でない場合
+         */
+        public Builder replacedBasisCacheCapacity(int maxComputers) {
+            if (maxComputers < 0) {
+                throw new IllegalArgumentException("キャッシュ個数の上限が0以上でない");
+            }
+            Builder out = new Builder(this);
+            out.basisCacheCapacity = maxComputers;
+            return out;
+        }
+
+        /**
+         * Fourier基底の生成器のキャッシュが保持する値の総バイト数の上限を置き換え,
+         * 新しいビルダインスタンスとして返す. <br>
+         * 単独でこの上限を超える生成器はキャッシュされない. <br>
+         * メソッドチェーンが可能だが, 最後に呼び出し元で戻り値を受け取る必要がある.
+         * 
+         * @param maxBytes キャッシュする値の総バイト数の上限
+         * @return 置き換え後の新しいビルダ
+         * @throws IllegalArgumentException 引数が0以上でない場合
+         */
+        public Builder replacedBasisCacheByteLimit(long maxBytes) {
+            if (maxBytes < 0) {
+                throw new IllegalArgumentException("キャッシュバイト数の上限が0以上でない");
+            }
+            Builder out = new Builder(this);
+            out.basisCacheByteLimit = maxBytes;
+            return out;
+        }
+
+        /**
+         * Executorの内部のFFTを並列に実行するプールを置き換え, 新しいビルダインスタンスとして返す. <br>
+         * バッチ変換や多次元変換で並列実行が要求された場合も, このプールと閾値が用いられる
+         * (プールが与えられていない場合, それらは共通プールで実行される). <br>
+         * プールの寿命 (シャットダウン) は呼び出し元が管理する. <br>
+         * メソッドチェーンが可能だが, 最後に呼び出し元で戻り値を受け取る必要がある.
+         * 
+         * @param pool 並列実行に用いるプール
+         * @return 置き換え後の新しいビルダ
+         * @throws NullPointerException 引数にnullが含まれる場合
+         */
+        public Builder replacedForkJoinPool(ForkJoinPool pool) {
+            Builder out = new Builder(this);
+            out.forkJoinPool = Objects.requireNonNull(pool);
+            return out;
+        }
+
+        /**
+         * 並列実行を行う変換のサイズの閾値を置き換え, 新しいビルダインスタンスとして返す. <br>
+         * この値未満のサイズの変換は, プールが与えられていても逐次的に実行される. <br>
+         * プールが与えられていない場合, この値は意味を持たない. <br>
+         * メソッドチェーンが可能だが, 最後に呼び出し元で戻り値を受け取る必要がある.
+         * 
+         * @param minSize 並列実行を行うサイズの閾値
+         * @return 置き換え後の新しいビルダ
+         * @throws IllegalArgumentException 引数が1以上でない場合
+         */
+        public Builder replacedParallelThreshold(int minSize) {
+            if (minSize < 1) {
+                throw new IllegalArgumentException("並列実行の閾値が1以上でない");
+            }
+            Builder out = new Builder(this);
+            out.parallelThreshold = minSize;
+            return out;
+        }
+
         /**
          * {@link CommonLib} をビルドする.
          * 
@@ -180,6 +302,8 @@ public abstract class CommonLib {
 
             private final Trigonometry trigonometry;
             private final ArraysUtil arraysUtil;
+            private final FourierBasisComputer.Supplier basisComputerSupplier;
+            private final ParallelPolicy parallelPolicy;
 
             /**
              * ビルダから呼ばれる.
@@ -188,6 +312,11 @@ public abstract class CommonLib {
                 super();
                 this.trigonometry = builder.trigonometry;
                 this.arraysUtil = builder.arraysUtil;
+                this.basisComputerSupplier = new FourierBasisComputer.Supplier(
+                        this.trigonometry, builder.basisCacheCapacity, builder.basisCacheByteLimit);
+                this.parallelPolicy = Objects.isNull(builder.forkJoinPool)
+                        ? ParallelPolicy.SEQUENTIAL
+                        : ParallelPolicy.of(builder.forkJoinPool, builder.parallelThreshold);
             }
 
             @Override
@@ -200,6 +329,16 @@ public abstract class CommonLib {
                 return this.arraysUtil;
             }
 
+            @Override
+            FourierBasisComputer.Supplier basisComputerSupplier() {
+                return this.basisComputerSupplier;
+            }
+
+            @Override
+            ParallelPolicy parallelPolicy() {
+                return this.parallelPolicy;
+            }
+
             @Override
             public String toString() {
                 return "CommonLib(byBuilder)";
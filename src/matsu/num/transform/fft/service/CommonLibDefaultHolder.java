@@ -5,10 +5,12 @@
  * http://opensource.org/licenses/mit-license.php
  */
 /*
- * 2024.4.4
+ * 2025.10.13
  */
 package matsu.num.transform.fft.service;
 
+import matsu.num.transform.fft.component.FourierBasisComputer;
+import matsu.num.transform.fft.component.ParallelPolicy;
 import matsu.num.transform.fft.lib.Trigonometry;
 import matsu.num.transform.fft.lib.privatelib.ArraysUtil;
 
@@ -29,11 +31,13 @@ final class CommonLibDefaultHolder {
 
         private final Trigonometry trigonometry;
         private final ArraysUtil arraysUtil;
+        private final FourierBasisComputer.Supplier basisComputerSupplier;
 
         CommonLibImpl() {
             super();
             this.trigonometry = new TrigonometryMath();
             this.arraysUtil = new ArrayUtilSimpleImpl();
+            this.basisComputerSupplier = new FourierBasisComputer.Supplier(this.trigonometry);
         }
 
         @Override
@@ -46,6 +50,16 @@ final class CommonLibDefaultHolder {
             return this.arraysUtil;
         }
 
+        @Override
+        FourierBasisComputer.Supplier basisComputerSupplier() {
+            return this.basisComputerSupplier;
+        }
+
+        @Override
+        ParallelPolicy parallelPolicy() {
+            return ParallelPolicy.SEQUENTIAL;
+        }
+
         @Override
         public String toString() {
             return "CommonLib(default)";
@@ -0,0 +1,63 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+
+/*
+ * 2025.10.13
+ */
+package matsu.num.transform.fft.service;
+
+import matsu.num.transform.fft.convolution.AutoCorrelationExecutor;
+import matsu.num.transform.fft.convolution.CrossCorrelationExecutor;
+import matsu.num.transform.fft.convolution.impl.GenericAutoCorrelationExecutor;
+import matsu.num.transform.fft.convolution.impl.GenericCrossCorrelationExecutor;
+
+/**
+ * {@link ExecutorType} 型の相関 (相互相関, 自己相関) に関する定数を取りまとめるクラス.
+ * 
+ * @author Matsuura Y.
+ */
+public final class CorrelationExecutors {
+
+    private CorrelationExecutors() {
+        //インスタンス化不可
+        throw new AssertionError();
+    }
+
+    /**
+     * 任意サイズの実数列に対応する相互相関の実行手段を表す.
+     * 
+     * <p>
+     * 受け入れられる入力は, {@link CrossCorrelationExecutor} と同一である.
+     * </p>
+     */
+    public static final ExecutorType<CrossCorrelationExecutor> GENERIC_CROSS_CORRELATION_EXECUTOR;
+
+    /**
+     * 任意サイズの実数列に対応する自己相関の実行手段を表す.
+     * 
+     * <p>
+     * 受け入れられる入力は, {@link AutoCorrelationExecutor} と同一である.
+     * </p>
+     */
+    public static final ExecutorType<AutoCorrelationExecutor> GENERIC_AUTO_CORRELATION_EXECUTOR;
+
+    static {
+        GENERIC_CROSS_CORRELATION_EXECUTOR =
+                new ExecutorType<>(
+                        "GENERIC_CROSS_CORRELATION_EXECUTOR",
+                        CrossCorrelationExecutor.class,
+                        p -> new GenericCrossCorrelationExecutor(
+                                p.lib().basisComputerSupplier(), p.lib().arrayUtil(), p.lib().parallelPolicy()));
+
+        GENERIC_AUTO_CORRELATION_EXECUTOR =
+                new ExecutorType<>(
+                        "GENERIC_AUTO_CORRELATION_EXECUTOR",
+                        AutoCorrelationExecutor.class,
+                        p -> new GenericAutoCorrelationExecutor(
+                                p.lib().basisComputerSupplier(), p.lib().arrayUtil(), p.lib().parallelPolicy()));
+    }
+}
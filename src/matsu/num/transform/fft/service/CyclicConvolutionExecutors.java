@@ -6,7 +6,7 @@
  */
 
 /*
- * 2025.6.21
+ * 2025.10.13
  */
 package matsu.num.transform.fft.service;
 
@@ -55,13 +55,13 @@ public final class CyclicConvolutionExecutors {
                         "GENERIC_CYCLIC_CONVOLUTION_EXECUTOR",
                         CyclicConvolutionExecutor.class,
                         p -> new GenericCyclicConvolutionExecutor(
-                                p.lib().trigonometry(), p.lib().arrayUtil()));
+                                p.lib().basisComputerSupplier(), p.lib().arrayUtil(), p.lib().parallelPolicy()));
 
         POWER2_CYCLIC_CONVOLUTION_EXECUTOR =
                 new ExecutorType<>(
                         "POWER2_CYCLIC_CONVOLUTION_EXECUTOR",
                         CyclicConvolutionExecutor.class,
                         p -> new Power2CyclicConvolutionExecutor(
-                                p.lib().trigonometry(), p.lib().arrayUtil()));
+                                p.lib().basisComputerSupplier(), p.lib().arrayUtil(), p.lib().parallelPolicy()));
     }
 }
@@ -5,7 +5,7 @@
  * http://opensource.org/licenses/mit-license.php
  */
 /*
- * 2025.6.20
+ * 2025.10.13
  */
 package matsu.num.transform.fft.service;
 
@@ -59,13 +59,13 @@ public final class CyclicConvolutionTypes {
                         "GENERIC_CYCLIC_CONVOLUTION_EXECUTOR",
                         matsu.num.transform.fft.convolution.GenericCyclicConvolutionExecutor.class,
                         p -> new GenericCyclicConvolutionExecutor(
-                                p.lib().trigonometry(), p.lib().arrayUtil()));
+                                p.lib().basisComputerSupplier(), p.lib().arrayUtil(), p.lib().parallelPolicy()));
 
         POWER2_CYCLIC_CONVOLUTION_EXECUTOR =
                 new ExecutorType<>(
                         "POWER2_CYCLIC_CONVOLUTION_EXECUTOR",
                         matsu.num.transform.fft.convolution.Power2CyclicConvolutionExecutor.class,
                         p -> new Power2CyclicConvolutionExecutor(
-                                p.lib().trigonometry(), p.lib().arrayUtil()));
+                                p.lib().basisComputerSupplier(), p.lib().arrayUtil(), p.lib().parallelPolicy()));
     }
 }
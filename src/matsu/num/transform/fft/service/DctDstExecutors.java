@@ -6,7 +6,7 @@
  */
 
 /*
- * 2025.6.21
+ * 2025.10.13
  */
 package matsu.num.transform.fft.service;
 
@@ -18,6 +18,9 @@ import matsu.num.transform.fft.dctdst.DST1Executor;
 import matsu.num.transform.fft.dctdst.DST2Executor;
 import matsu.num.transform.fft.dctdst.DST3Executor;
 import matsu.num.transform.fft.dctdst.DST4Executor;
+import matsu.num.transform.fft.dctdst.MultiDimDCT2Executor;
+import matsu.num.transform.fft.dctdst.MultiDimDCT3Executor;
+import matsu.num.transform.fft.dctdst.MultiDimDST1Executor;
 import matsu.num.transform.fft.dctdst.impl.GenericDCT1Executor;
 import matsu.num.transform.fft.dctdst.impl.GenericDCT2Executor;
 import matsu.num.transform.fft.dctdst.impl.GenericDCT3Executor;
@@ -26,6 +29,9 @@ import matsu.num.transform.fft.dctdst.impl.GenericDST1Executor;
 import matsu.num.transform.fft.dctdst.impl.GenericDST2Executor;
 import matsu.num.transform.fft.dctdst.impl.GenericDST3Executor;
 import matsu.num.transform.fft.dctdst.impl.GenericDST4Executor;
+import matsu.num.transform.fft.dctdst.impl.GenericMultiDimDCT2Executor;
+import matsu.num.transform.fft.dctdst.impl.GenericMultiDimDCT3Executor;
+import matsu.num.transform.fft.dctdst.impl.GenericMultiDimDST1Executor;
 
 /**
  * {@link ExecutorType} 型の離散cosine/sine変換に関する定数を取りまとめるクラス.
@@ -127,37 +133,95 @@ public final class DctDstExecutors {
      */
     public static final ExecutorType<DST4Executor> GENERIC_DST4_EXECUTOR;
 
+    /**
+     * 各軸の長さが任意の, 2次元または3次元のDCT-2の実行手段を表す.
+     * 
+     * <p>
+     * {@link MultiDimDCT2Executor#accepts(double[], int[])}
+     * で受け入れられる入力は, <br>
+     * {@link MultiDimDCT2Executor} と同一である.
+     * </p>
+     */
+    public static final ExecutorType<MultiDimDCT2Executor> GENERIC_MULTI_DIM_DCT2_EXECUTOR;
+
+    /**
+     * 各軸の長さが任意の, 2次元または3次元のDCT-3の実行手段を表す.
+     * 
+     * <p>
+     * {@link MultiDimDCT3Executor#accepts(double[], int[])}
+     * で受け入れられる入力は, <br>
+     * {@link MultiDimDCT3Executor} と同一である.
+     * </p>
+     */
+    public static final ExecutorType<MultiDimDCT3Executor> GENERIC_MULTI_DIM_DCT3_EXECUTOR;
+
+    /**
+     * 各軸の長さが任意の, 2次元または3次元のDST-1の実行手段を表す.
+     * 
+     * <p>
+     * {@link MultiDimDST1Executor#accepts(double[], int[])}
+     * で受け入れられる入力は, <br>
+     * {@link MultiDimDST1Executor} と同一である.
+     * </p>
+     */
+    public static final ExecutorType<MultiDimDST1Executor> GENERIC_MULTI_DIM_DST1_EXECUTOR;
+
     static {
         GENERIC_DCT1_EXECUTOR = new ExecutorType<>(
                 "GENERIC_DCT1_EXECUTOR", DCT1Executor.class,
-                p -> new GenericDCT1Executor(p.lib().trigonometry(), p.lib().arrayUtil()));
+                p -> new GenericDCT1Executor(
+                        p.lib().basisComputerSupplier(), p.lib().arrayUtil(), p.lib().parallelPolicy()));
 
         GENERIC_DCT2_EXECUTOR = new ExecutorType<>(
                 "GENERIC_DCT2_EXECUTOR", DCT2Executor.class,
-                p -> new GenericDCT2Executor(p.lib().trigonometry(), p.lib().arrayUtil()));
+                p -> new GenericDCT2Executor(
+                        p.lib().basisComputerSupplier(), p.lib().arrayUtil(), p.lib().parallelPolicy()));
 
         GENERIC_DCT3_EXECUTOR = new ExecutorType<>(
                 "GENERIC_DCT3_EXECUTOR", DCT3Executor.class,
-                p -> new GenericDCT3Executor(p.lib().trigonometry(), p.lib().arrayUtil()));
+                p -> new GenericDCT3Executor(
+                        p.lib().basisComputerSupplier(), p.lib().arrayUtil(), p.lib().parallelPolicy()));
 
         GENERIC_DCT4_EXECUTOR = new ExecutorType<>(
                 "GENERIC_DCT4_EXECUTOR", DCT4Executor.class,
-                p -> new GenericDCT4Executor(p.lib().trigonometry(), p.lib().arrayUtil()));
+                p -> new GenericDCT4Executor(
+                        p.lib().trigonometry(), p.lib().basisComputerSupplier(), p.lib().arrayUtil(),
+                        p.lib().parallelPolicy()));
 
         GENERIC_DST1_EXECUTOR = new ExecutorType<>(
                 "GENERIC_DST1_EXECUTOR", DST1Executor.class,
-                p -> new GenericDST1Executor(p.lib().trigonometry(), p.lib().arrayUtil()));
+                p -> new GenericDST1Executor(
+                        p.lib().basisComputerSupplier(), p.lib().arrayUtil(), p.lib().parallelPolicy()));
 
         GENERIC_DST2_EXECUTOR = new ExecutorType<>(
                 "GENERIC_DST2_EXECUTOR", DST2Executor.class,
-                p -> new GenericDST2Executor(p.lib().trigonometry(), p.lib().arrayUtil()));
+                p -> new GenericDST2Executor(
+                        p.lib().basisComputerSupplier(), p.lib().arrayUtil(), p.lib().parallelPolicy()));
 
         GENERIC_DST3_EXECUTOR = new ExecutorType<>(
                 "GENERIC_DST3_EXECUTOR", DST3Executor.class,
-                p -> new GenericDST3Executor(p.lib().trigonometry(), p.lib().arrayUtil()));
+                p -> new GenericDST3Executor(
+                        p.lib().basisComputerSupplier(), p.lib().arrayUtil(), p.lib().parallelPolicy()));
 
         GENERIC_DST4_EXECUTOR = new ExecutorType<>(
                 "GENERIC_DST4_EXECUTOR", DST4Executor.class,
-                p -> new GenericDST4Executor(p.lib().trigonometry(), p.lib().arrayUtil()));
+                p -> new GenericDST4Executor(
+                        p.lib().trigonometry(), p.lib().basisComputerSupplier(), p.lib().arrayUtil(),
+                        p.lib().parallelPolicy()));
+
+        GENERIC_MULTI_DIM_DCT2_EXECUTOR = new ExecutorType<>(
+                "GENERIC_MULTI_DIM_DCT2_EXECUTOR", MultiDimDCT2Executor.class,
+                p -> new GenericMultiDimDCT2Executor(
+                        p.lib().basisComputerSupplier(), p.lib().arrayUtil(), p.lib().parallelPolicy()));
+
+        GENERIC_MULTI_DIM_DCT3_EXECUTOR = new ExecutorType<>(
+                "GENERIC_MULTI_DIM_DCT3_EXECUTOR", MultiDimDCT3Executor.class,
+                p -> new GenericMultiDimDCT3Executor(
+                        p.lib().basisComputerSupplier(), p.lib().arrayUtil(), p.lib().parallelPolicy()));
+
+        GENERIC_MULTI_DIM_DST1_EXECUTOR = new ExecutorType<>(
+                "GENERIC_MULTI_DIM_DST1_EXECUTOR", MultiDimDST1Executor.class,
+                p -> new GenericMultiDimDST1Executor(
+                        p.lib().basisComputerSupplier(), p.lib().arrayUtil(), p.lib().parallelPolicy()));
     }
 }
@@ -5,7 +5,7 @@
  * http://opensource.org/licenses/mit-license.php
  */
 /*
- * 2025.6.20
+ * 2025.10.13
  */
 package matsu.num.transform.fft.service;
 
@@ -131,34 +131,44 @@ public final class DctDstTypes {
     static {
         GENERIC_DCT1_EXECUTOR = new ExecutorType<>(
                 "GENERIC_DCT1_EXECUTOR", matsu.num.transform.fft.dctdst.GenericDCT1Executor.class,
-                p -> new GenericDCT1Executor(p.lib().trigonometry(), p.lib().arrayUtil()));
+                p -> new GenericDCT1Executor(
+                        p.lib().basisComputerSupplier(), p.lib().arrayUtil(), p.lib().parallelPolicy()));
 
         GENERIC_DCT2_EXECUTOR = new ExecutorType<>(
                 "GENERIC_DCT2_EXECUTOR", matsu.num.transform.fft.dctdst.GenericDCT2Executor.class,
-                p -> new GenericDCT2Executor(p.lib().trigonometry(), p.lib().arrayUtil()));
+                p -> new GenericDCT2Executor(
+                        p.lib().basisComputerSupplier(), p.lib().arrayUtil(), p.lib().parallelPolicy()));
 
         GENERIC_DCT3_EXECUTOR = new ExecutorType<>(
                 "GENERIC_DCT3_EXECUTOR", matsu.num.transform.fft.dctdst.GenericDCT3Executor.class,
-                p -> new GenericDCT3Executor(p.lib().trigonometry(), p.lib().arrayUtil()));
+                p -> new GenericDCT3Executor(
+                        p.lib().basisComputerSupplier(), p.lib().arrayUtil(), p.lib().parallelPolicy()));
 
         GENERIC_DCT4_EXECUTOR = new ExecutorType<>(
                 "GENERIC_DCT4_EXECUTOR", matsu.num.transform.fft.dctdst.GenericDCT4Executor.class,
-                p -> new GenericDCT4Executor(p.lib().trigonometry(), p.lib().arrayUtil()));
+                p -> new GenericDCT4Executor(
+                        p.lib().trigonometry(), p.lib().basisComputerSupplier(), p.lib().arrayUtil(),
+                        p.lib().parallelPolicy()));
 
         GENERIC_DST1_EXECUTOR = new ExecutorType<>(
                 "GENERIC_DST1_EXECUTOR", matsu.num.transform.fft.dctdst.GenericDST1Executor.class,
-                p -> new GenericDST1Executor(p.lib().trigonometry(), p.lib().arrayUtil()));
+                p -> new GenericDST1Executor(
+                        p.lib().basisComputerSupplier(), p.lib().arrayUtil(), p.lib().parallelPolicy()));
 
         GENERIC_DST2_EXECUTOR = new ExecutorType<>(
                 "GENERIC_DST2_EXECUTOR", matsu.num.transform.fft.dctdst.GenericDST2Executor.class,
-                p -> new GenericDST2Executor(p.lib().trigonometry(), p.lib().arrayUtil()));
+                p -> new GenericDST2Executor(
+                        p.lib().basisComputerSupplier(), p.lib().arrayUtil(), p.lib().parallelPolicy()));
 
         GENERIC_DST3_EXECUTOR = new ExecutorType<>(
                 "GENERIC_DST3_EXECUTOR", matsu.num.transform.fft.dctdst.GenericDST3Executor.class,
-                p -> new GenericDST3Executor(p.lib().trigonometry(), p.lib().arrayUtil()));
+                p -> new GenericDST3Executor(
+                        p.lib().basisComputerSupplier(), p.lib().arrayUtil(), p.lib().parallelPolicy()));
 
         GENERIC_DST4_EXECUTOR = new ExecutorType<>(
                 "GENERIC_DST4_EXECUTOR", matsu.num.transform.fft.dctdst.GenericDST4Executor.class,
-                p -> new GenericDST4Executor(p.lib().trigonometry(), p.lib().arrayUtil()));
+                p -> new GenericDST4Executor(
+                        p.lib().trigonometry(), p.lib().basisComputerSupplier(), p.lib().arrayUtil(),
+                        p.lib().parallelPolicy()));
     }
 }
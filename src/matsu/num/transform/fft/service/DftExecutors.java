@@ -5,14 +5,22 @@
  * http://opensource.org/licenses/mit-license.php
  */
 /*
- * 2025.6.21
+ * 2025.10.13
  */
 package matsu.num.transform.fft.service;
 
 import matsu.num.transform.fft.DFTExecutor;
 import matsu.num.transform.fft.IDFTExecutor;
+import matsu.num.transform.fft.IRFFTExecutor;
+import matsu.num.transform.fft.MultiDimDFTExecutor;
+import matsu.num.transform.fft.MultiDimIDFTExecutor;
+import matsu.num.transform.fft.RFFTExecutor;
 import matsu.num.transform.fft.dft.impl.GenericDFTExecutor;
 import matsu.num.transform.fft.dft.impl.GenericIDFTExecutor;
+import matsu.num.transform.fft.dft.impl.GenericIRFFTExecutor;
+import matsu.num.transform.fft.dft.impl.GenericMultiDimDFTExecutor;
+import matsu.num.transform.fft.dft.impl.GenericMultiDimIDFTExecutor;
+import matsu.num.transform.fft.dft.impl.GenericRFFTExecutor;
 import matsu.num.transform.fft.dto.ComplexNumberArrayDTO;
 
 /**
@@ -49,13 +57,79 @@ public final class DftExecutors {
      */
     public static final ExecutorType<IDFTExecutor> GENERIC_IDFT_EXECUTOR;
 
+    /**
+     * 任意サイズに対応する, 実数列のDFT (半スペクトルを返す) の実行手段を表す.
+     * 
+     * <p>
+     * {@link RFFTExecutor#accepts(double[])}
+     * で受け入れられる入力は, <br>
+     * {@link RFFTExecutor} と同一である.
+     * </p>
+     */
+    public static final ExecutorType<RFFTExecutor> GENERIC_RFFT_EXECUTOR;
+
+    /**
+     * 任意サイズに対応する, 半スペクトルから実数列へのIDFTの実行手段を表す.
+     * 
+     * <p>
+     * {@link IRFFTExecutor#accepts(ComplexNumberArrayDTO, int)}
+     * で受け入れられる入力は, <br>
+     * {@link IRFFTExecutor} と同一である.
+     * </p>
+     */
+    public static final ExecutorType<IRFFTExecutor> GENERIC_IRFFT_EXECUTOR;
+
+    /**
+     * 各軸の長さが任意の, 2次元または3次元のDFTの実行手段を表す.
+     * 
+     * <p>
+     * {@link MultiDimDFTExecutor#accepts(ComplexNumberArrayDTO, int[])}
+     * で受け入れられる入力は, <br>
+     * {@link MultiDimDFTExecutor} と同一である.
+     * </p>
+     */
+    public static final ExecutorType<MultiDimDFTExecutor> GENERIC_MULTI_DIM_DFT_EXECUTOR;
+
+    /**
+     * 各軸の長さが任意の, 2次元または3次元のIDFTの実行手段を表す.
+     * 
+     * <p>
+     * {@link MultiDimIDFTExecutor#accepts(ComplexNumberArrayDTO, int[])}
+     * で受け入れられる入力は, <br>
+     * {@link MultiDimIDFTExecutor} と同一である.
+     * </p>
+     */
+    public static final ExecutorType<MultiDimIDFTExecutor> GENERIC_MULTI_DIM_IDFT_EXECUTOR;
+
     static {
         GENERIC_DFT_EXECUTOR = new ExecutorType<>(
                 "GENERIC_DFT_EXECUTOR", DFTExecutor.class,
-                p -> new GenericDFTExecutor(p.lib().trigonometry(), p.lib().arrayUtil()));
+                p -> new GenericDFTExecutor(
+                        p.lib().basisComputerSupplier(), p.lib().arrayUtil(), p.lib().parallelPolicy()));
 
         GENERIC_IDFT_EXECUTOR = new ExecutorType<>(
                 "GENERIC_IDFT_EXECUTOR", IDFTExecutor.class,
-                p -> new GenericIDFTExecutor(p.lib().trigonometry(), p.lib().arrayUtil()));
+                p -> new GenericIDFTExecutor(
+                        p.lib().basisComputerSupplier(), p.lib().arrayUtil(), p.lib().parallelPolicy()));
+
+        GENERIC_RFFT_EXECUTOR = new ExecutorType<>(
+                "GENERIC_RFFT_EXECUTOR", RFFTExecutor.class,
+                p -> new GenericRFFTExecutor(
+                        p.lib().basisComputerSupplier(), p.lib().arrayUtil(), p.lib().parallelPolicy()));
+
+        GENERIC_IRFFT_EXECUTOR = new ExecutorType<>(
+                "GENERIC_IRFFT_EXECUTOR", IRFFTExecutor.class,
+                p -> new GenericIRFFTExecutor(
+                        p.lib().basisComputerSupplier(), p.lib().arrayUtil(), p.lib().parallelPolicy()));
+
+        GENERIC_MULTI_DIM_DFT_EXECUTOR = new ExecutorType<>(
+                "GENERIC_MULTI_DIM_DFT_EXECUTOR", MultiDimDFTExecutor.class,
+                p -> new GenericMultiDimDFTExecutor(
+                        p.lib().basisComputerSupplier(), p.lib().arrayUtil(), p.lib().parallelPolicy()));
+
+        GENERIC_MULTI_DIM_IDFT_EXECUTOR = new ExecutorType<>(
+                "GENERIC_MULTI_DIM_IDFT_EXECUTOR", MultiDimIDFTExecutor.class,
+                p -> new GenericMultiDimIDFTExecutor(
+                        p.lib().basisComputerSupplier(), p.lib().arrayUtil(), p.lib().parallelPolicy()));
     }
 }
@@ -5,7 +5,7 @@
  * http://opensource.org/licenses/mit-license.php
  */
 /*
- * 2025.6.20
+ * 2025.10.13
  */
 package matsu.num.transform.fft.service;
 
@@ -54,10 +54,12 @@ public final class DftTypes {
     static {
         GENERIC_DFT_EXECUTOR = new ExecutorType<>(
                 "GENERIC_DFT_EXECUTOR", matsu.num.transform.fft.GenericDFTExecutor.class,
-                p -> new GenericDFTExecutor(p.lib().trigonometry(), p.lib().arrayUtil()));
+                p -> new GenericDFTExecutor(
+                        p.lib().basisComputerSupplier(), p.lib().arrayUtil(), p.lib().parallelPolicy()));
 
         GENERIC_IDFT_EXECUTOR = new ExecutorType<>(
                 "GENERIC_IDFT_EXECUTOR", matsu.num.transform.fft.GenericIDFTExecutor.class,
-                p -> new GenericIDFTExecutor(p.lib().trigonometry(), p.lib().arrayUtil()));
+                p -> new GenericIDFTExecutor(
+                        p.lib().basisComputerSupplier(), p.lib().arrayUtil(), p.lib().parallelPolicy()));
     }
 }
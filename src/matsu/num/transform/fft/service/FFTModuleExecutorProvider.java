@@ -5,7 +5,7 @@
  * http://opensource.org/licenses/mit-license.php
  */
 /*
- * 2024.12.21
+ * 2025.10.13
  */
 package matsu.num.transform.fft.service;
 
@@ -14,6 +14,7 @@ import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 
 import matsu.num.transform.fft.FFTModuleExecutor;
+import matsu.num.transform.fft.component.ScratchArena;
 
 /**
  * <p>
@@ -40,6 +41,8 @@ import matsu.num.transform.fft.FFTModuleExecutor;
  * <li>{@link DftExecutors}</li>
  * <li>{@link DctDstExecutors}</li>
  * <li>{@link CyclicConvolutionExecutors}</li>
+ * <li>{@link LinearConvolutionExecutors}</li>
+ * <li>{@link CorrelationExecutors}</li>
  * </ul>
  * 
  * @author Matsuura Y.
@@ -136,4 +139,26 @@ public final class FFTModuleExecutorProvider {
     public static FFTModuleExecutorProvider byDefaultLib() {
         return DEFAULT_INSTANCE;
     }
+
+    /**
+     * 各スレッドが保持している, 変換の作業用配列を解放する.
+     * 
+     * <p>
+     * 変換の内部で使われる作業用配列は, 同じサイズの変換を繰り返す際に再利用するため,
+     * スレッドごとに保持されている
+     * (保持される量は, そのスレッドで同時に使われた作業用配列の最大量に限られ,
+     * さらに1スレッド当たり {@link ScratchArena#MAX_RETAINED_TOTAL_LENGTH} 要素以下である). <br>
+     * 大きなサイズの変換を行った後, 以降に同程度の変換を行わない場合は,
+     * このメソッドにより保持されている配列を解放できる.
+     * </p>
+     * 
+     * <p>
+     * 現在のスレッドが保持している配列は直ちに解放される. <br>
+     * 並列実行や非同期実行に使われた他のスレッドが保持している配列は,
+     * そのスレッドが次に変換を行う時点で解放される.
+     * </p>
+     */
+    public static void trimThreadLocalWorkspace() {
+        ScratchArena.trimAll();
+    }
 }
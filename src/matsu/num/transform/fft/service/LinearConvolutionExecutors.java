@@ -0,0 +1,47 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+
+/*
+ * 2025.10.13
+ */
+package matsu.num.transform.fft.service;
+
+import matsu.num.transform.fft.convolution.LinearConvolutionExecutor;
+import matsu.num.transform.fft.convolution.impl.GenericLinearConvolutionExecutor;
+
+/**
+ * {@link ExecutorType} 型の線形 (非巡回) 畳み込みに関する定数を取りまとめるクラス.
+ * 
+ * @author Matsuura Y.
+ */
+public final class LinearConvolutionExecutors {
+
+    private LinearConvolutionExecutors() {
+        //インスタンス化不可
+        throw new AssertionError();
+    }
+
+    /**
+     * 任意の長さの2系列の実数列に対応する線形畳み込みの実行手段を表す.
+     * 
+     * <p>
+     * {@link LinearConvolutionExecutor#accepts(double[], double[])}
+     * で受け入れられる入力は, <br>
+     * {@link LinearConvolutionExecutor} と同一である.
+     * </p>
+     */
+    public static final ExecutorType<LinearConvolutionExecutor> GENERIC_LINEAR_CONVOLUTION_EXECUTOR;
+
+    static {
+        GENERIC_LINEAR_CONVOLUTION_EXECUTOR =
+                new ExecutorType<>(
+                        "GENERIC_LINEAR_CONVOLUTION_EXECUTOR",
+                        LinearConvolutionExecutor.class,
+                        p -> new GenericLinearConvolutionExecutor(
+                                p.lib().basisComputerSupplier(), p.lib().arrayUtil(), p.lib().parallelPolicy()));
+    }
+}
@@ -17,6 +17,8 @@ import org.junit.experimental.theories.Theories;
 import org.junit.experimental.theories.Theory;
 import org.junit.runner.RunWith;
 
+import matsu.num.transform.fft.lib.TrigonometryForTesting;
+
 /**
  * {@link FourierBasisComputer}クラスのテスト.
  */
@@ -117,4 +119,51 @@ final class FourierBasisComputerTest {
             DEFAULT_SUPPLIER.covering(size, FourierType.IDFT).getBasis(size);
         }
     }
+
+    public static class サプライヤのキャッシュのテスト {
+
+        @Test
+        public void test_同一キーでは同一の生成器が返る() {
+            FourierBasisComputer.Supplier supplier =
+                    new FourierBasisComputer.Supplier(TrigonometryForTesting.INSTANCE);
+
+            assertThat(
+                    supplier.covering(12, FourierType.DFT),
+                    is(sameInstance(supplier.covering(12, FourierType.DFT))));
+            assertThat(
+                    supplier.covering(12, FourierType.DFT),
+                    is(not(sameInstance(supplier.covering(12, FourierType.IDFT)))));
+        }
+
+        @Test
+        public void test_個数上限を超えると最も古いものが破棄される() {
+            FourierBasisComputer.Supplier supplier =
+                    new FourierBasisComputer.Supplier(TrigonometryForTesting.INSTANCE, 2, Long.MAX_VALUE);
+
+            FourierBasisComputer c4 = supplier.covering(4, FourierType.DFT);
+            FourierBasisComputer c8 = supplier.covering(8, FourierType.DFT);
+            //4を最近使ったものにする
+            supplier.covering(4, FourierType.DFT);
+            supplier.covering(16, FourierType.DFT);
+
+            assertThat(supplier.covering(4, FourierType.DFT), is(sameInstance(c4)));
+            assertThat(supplier.covering(8, FourierType.DFT), is(not(sameInstance(c8))));
+        }
+
+        @Test
+        public void test_バイト数上限を超える生成器はキャッシュされない() {
+            //サイズ8の生成器は 2 * 8 * 8 = 128 バイト
+            FourierBasisComputer.Supplier supplier =
+                    new FourierBasisComputer.Supplier(TrigonometryForTesting.INSTANCE, 16, 127);
+
+            assertThat(
+                    supplier.covering(8, FourierType.DFT),
+                    is(not(sameInstance(supplier.covering(8, FourierType.DFT)))));
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_負の上限は不可() {
+            new FourierBasisComputer.Supplier(TrigonometryForTesting.INSTANCE, -1, 0);
+        }
+    }
 }
@@ -0,0 +1,225 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+package matsu.num.transform.fft.component;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+
+/**
+ * {@link ScratchArena} クラスのテスト.
+ */
+@RunWith(Enclosed.class)
+final class ScratchArenaTest {
+
+    public static final Class<?> TEST_CLASS = ScratchArena.class;
+
+    public static class 貸し出しの検証 {
+
+        private ScratchArena arena;
+
+        @Before
+        public void before_領域を初期化() {
+            this.arena = ScratchArena.current();
+            this.arena.trim();
+        }
+
+        @Test
+        public void test_指定した長さの配列が借りられる() {
+            double[] array = this.arena.borrow(10);
+            assertThat(array.length, is(10));
+            this.arena.giveBack(array);
+        }
+
+        @Test
+        public void test_返した配列は同じ長さの借用で再利用される() {
+            double[] array = this.arena.borrow(16);
+            this.arena.giveBack(array);
+            assertThat(this.arena.borrow(16), is(sameInstance(array)));
+        }
+
+        @Test
+        public void test_異なる長さの借用では再利用されない() {
+            double[] array = this.arena.borrow(16);
+            this.arena.giveBack(array);
+            assertThat(this.arena.borrow(17), is(not(sameInstance(array))));
+        }
+
+        @Test
+        public void test_貸し出し中の配列は重複して貸し出されない() {
+            double[] array1 = this.arena.borrow(8);
+            double[] array2 = this.arena.borrow(8);
+            assertThat(array2, is(not(sameInstance(array1))));
+            this.arena.giveBack(array2);
+            this.arena.giveBack(array1);
+        }
+
+        @Test
+        public void test_0埋めの借用では値が0である() {
+            double[] array = this.arena.borrow(4);
+            array[2] = 3d;
+            this.arena.giveBack(array);
+            assertThat(this.arena.borrowZeroed(4), is(new double[4]));
+        }
+
+        @Test
+        public void test_上限を超える長さは保持されない() {
+            double[] array = this.arena.borrow(ScratchArena.MAX_RETAINED_LENGTH + 1);
+            this.arena.giveBack(array);
+            assertThat(this.arena.retainedLength(), is(0L));
+        }
+    }
+
+    public static class 保持量の検証 {
+
+        private ScratchArena arena;
+
+        @Before
+        public void before_領域を初期化() {
+            this.arena = ScratchArena.current();
+            this.arena.trim();
+        }
+
+        @Test
+        public void test_保持量は同時に貸し出した最大量である() {
+            double[] array1 = this.arena.borrow(8);
+            double[] array2 = this.arena.borrow(8);
+            this.arena.giveBack(array1);
+            this.arena.giveBack(array2);
+            assertThat(this.arena.retainedLength(), is(16L));
+
+            //貸し出しと返却を繰り返しても保持量は増えない
+            for (int i = 0; i < 10; i++) {
+                this.arena.giveBack(this.arena.borrow(8));
+            }
+            assertThat(this.arena.retainedLength(), is(16L));
+        }
+
+        @Test
+        public void test_借りていない配列は保持されない() {
+            this.arena.giveBack(new double[8]);
+            assertThat(this.arena.retainedLength(), is(0L));
+        }
+
+        @Test
+        public void test_trimにより保持している配列が解放される() {
+            this.arena.giveBack(this.arena.borrow(8));
+            this.arena.trim();
+            assertThat(this.arena.retainedLength(), is(0L));
+        }
+
+        @Test
+        public void test_trimより前に借りた配列は保持されない() {
+            double[] array = this.arena.borrow(8);
+            this.arena.trim();
+            this.arena.giveBack(array);
+            assertThat(this.arena.retainedLength(), is(0L));
+        }
+
+        @Test
+        public void test_長さの種類が上限を超えると最も古い長さが破棄される() {
+            double[] first = this.arena.borrow(1);
+            this.arena.giveBack(first);
+            long expected = 0L;
+            for (int length = 2; length <= ScratchArena.MAX_POOL_COUNT + 1; length++) {
+                this.arena.giveBack(this.arena.borrow(length));
+                expected += length;
+            }
+            assertThat(this.arena.retainedLength(), is(expected));
+            assertThat(this.arena.borrow(1), is(not(sameInstance(first))));
+        }
+
+        @Test
+        public void test_最近使われた長さは破棄されない() {
+            double[] first = this.arena.borrow(1);
+            this.arena.giveBack(first);
+            for (int length = 2; length <= ScratchArena.MAX_POOL_COUNT + 1; length++) {
+                //長さ1を使い続ける
+                this.arena.giveBack(this.arena.borrow(1));
+                this.arena.giveBack(this.arena.borrow(length));
+            }
+            assertThat(this.arena.borrow(1), is(sameInstance(first)));
+        }
+
+        @Test
+        public void test_保持量の合計は上限を超えない() {
+            int length = ScratchArena.MAX_RETAINED_LENGTH;
+            double[] array1 = this.arena.borrow(length);
+            double[] array2 = this.arena.borrow(length);
+            double[] array3 = this.arena.borrow(length);
+            this.arena.giveBack(array1);
+            this.arena.giveBack(array2);
+            this.arena.giveBack(array3);
+            assertThat(this.arena.retainedLength(), is(ScratchArena.MAX_RETAINED_TOTAL_LENGTH));
+            this.arena.trim();
+        }
+    }
+
+    public static class 全体の解放の検証 {
+
+        @Test
+        public void test_他のスレッドの領域も解放される() throws Exception {
+            ExecutorService service = Executors.newSingleThreadExecutor();
+            try {
+                long retained = service.submit(() -> {
+                    ScratchArena arena = ScratchArena.current();
+                    arena.giveBack(arena.borrow(8));
+                    return arena.retainedLength();
+                }).get();
+                assertThat(retained, is(greaterThan(0L)));
+
+                ScratchArena.trimAll();
+                assertThat(service.submit(() -> ScratchArena.current().retainedLength()).get(), is(0L));
+            } finally {
+                service.shutdown();
+            }
+        }
+
+        @Test
+        public void test_現在のスレッドの領域は直ちに解放される() {
+            ScratchArena arena = ScratchArena.current();
+            arena.giveBack(arena.borrow(8));
+            ScratchArena.trimAll();
+            assertThat(arena.retainedLength(), is(0L));
+        }
+    }
+
+    public static class スレッドごとの領域の検証 {
+
+        @Test
+        public void test_スレッドごとに異なる領域である() {
+            ScratchArena other = CompletableFuture.supplyAsync(ScratchArena::current).join();
+            assertThat(other, is(not(sameInstance(ScratchArena.current()))));
+        }
+
+        @Test
+        public void test_同一スレッドでは同一の領域である() {
+            assertThat(ScratchArena.current(), is(sameInstance(ScratchArena.current())));
+        }
+    }
+
+    public static class toString表示の検証 {
+
+        @Test
+        public void test_toString表示() {
+            ScratchArena arena = ScratchArena.current();
+            arena.giveBack(arena.borrow(8));
+
+            System.out.println(TEST_CLASS.getName());
+            System.out.println(arena);
+            System.out.println();
+        }
+    }
+}
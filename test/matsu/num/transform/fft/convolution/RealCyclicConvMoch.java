@@ -49,6 +49,24 @@ public final class RealCyclicConvMoch
         return h;
     }
 
+    @Override
+    public PreparedConvolution prepare(double[] g) {
+        double[] kernel = g.clone();
+        this.plan(kernel.length);
+        return new PreparedConvolution() {
+
+            @Override
+            public int size() {
+                return kernel.length;
+            }
+
+            @Override
+            public double[] apply(double[] f) {
+                return RealCyclicConvMoch.this.apply(f, kernel);
+            }
+        };
+    }
+
     public static CyclicConvolutionExecutor instance() {
         return INSTANCE;
     }
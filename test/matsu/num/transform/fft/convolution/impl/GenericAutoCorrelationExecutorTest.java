@@ -0,0 +1,118 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+package matsu.num.transform.fft.convolution.impl;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.util.Random;
+
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.experimental.theories.DataPoints;
+import org.junit.experimental.theories.Theories;
+import org.junit.experimental.theories.Theory;
+import org.junit.runner.RunWith;
+
+import matsu.num.transform.fft.convolution.AutoCorrelationExecutor;
+import matsu.num.transform.fft.lib.TrigonometryForTesting;
+import matsu.num.transform.fft.lib.privatelib.ArraysUtilForTesting;
+import matsu.num.transform.fft.validation.NotRequiredDataSizeException;
+
+/**
+ * {@link GenericAutoCorrelationExecutor}クラスのテスト.
+ */
+@RunWith(Enclosed.class)
+final class GenericAutoCorrelationExecutorTest {
+
+    public static final Class<?> TEST_CLASS = GenericAutoCorrelationExecutor.class;
+
+    public static final AutoCorrelationExecutor EXECUTOR =
+            new GenericAutoCorrelationExecutor(TrigonometryForTesting.INSTANCE, ArraysUtilForTesting.INSTANCE);
+
+    private static double[] randomArray(int size, long seed) {
+        Random random = new Random(seed);
+        double[] out = new double[size];
+        for (int j = 0; j < size; j++) {
+            out[j] = random.nextDouble() - 0.5;
+        }
+        return out;
+    }
+
+    public static class 事前条件テスト {
+
+        @Test(expected = NotRequiredDataSizeException.class)
+        public void test_サイズ0の場合はNRDSEx() {
+            EXECUTOR.applyCyclic(new double[0]);
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_最大ラグが負の場合は例外() {
+            EXECUTOR.applyLinear(new double[3], -1);
+        }
+    }
+
+    @RunWith(Theories.class)
+    public static class 巡回自己相関テスト {
+
+        @DataPoints
+        public static final int[] sizes = { 1, 2, 7, 16, 105 };
+
+        @Theory
+        public void test(int size) {
+            double[] f = randomArray(size, size);
+
+            double[] result = EXECUTOR.applyCyclic(f);
+            for (int k = 0; k < size; k++) {
+                double expected = 0;
+                for (int j = 0; j < size; j++) {
+                    expected += f[j] * f[(j + k) % size];
+                }
+                assertThat(result[k], is(closeTo(expected, 1E-12 * size)));
+            }
+        }
+    }
+
+    @RunWith(Theories.class)
+    public static class 線形自己相関テスト {
+
+        /**
+         * [N, maxLag]
+         */
+        @DataPoints
+        public static final int[][] sizes = {
+                { 1, 0 }, { 1, 4 }, { 9, 20 }, { 40, 5 }, { 300, 299 }, { 257, 16 }
+        };
+
+        @Theory
+        public void test(int[] size) {
+            final int N = size[0];
+            final int L = size[1];
+            double[] f = randomArray(N, N);
+
+            double[] result = EXECUTOR.applyLinear(f, L);
+            assertThat(result.length, is(L + 1));
+            for (int k = 0; k <= L; k++) {
+                double expected = 0;
+                for (int j = 0; j + k < N; j++) {
+                    expected += f[j] * f[j + k];
+                }
+                assertThat(result[k], is(closeTo(expected, 1E-12 * N)));
+            }
+        }
+    }
+
+    public static class toString表示の検証 {
+
+        @Test
+        public void test_toString表示() {
+            System.out.println(TEST_CLASS.getName());
+            System.out.println(EXECUTOR);
+            System.out.println();
+        }
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+package matsu.num.transform.fft.convolution.impl;
+
+import static matsu.num.transform.fft.lib.privatelib.ArraysUtilStaticForTestModule.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.util.Random;
+
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.experimental.theories.DataPoints;
+import org.junit.experimental.theories.Theories;
+import org.junit.experimental.theories.Theory;
+import org.junit.runner.RunWith;
+
+import matsu.num.transform.fft.convolution.CrossCorrelationExecutor;
+import matsu.num.transform.fft.lib.TrigonometryForTesting;
+import matsu.num.transform.fft.lib.privatelib.ArraysUtilForTesting;
+import matsu.num.transform.fft.validation.DataSizeNotMismatchException;
+import matsu.num.transform.fft.validation.NotRequiredDataSizeException;
+
+/**
+ * {@link GenericCrossCorrelationExecutor}クラスのテスト.
+ */
+@RunWith(Enclosed.class)
+final class GenericCrossCorrelationExecutorTest {
+
+    public static final Class<?> TEST_CLASS = GenericCrossCorrelationExecutor.class;
+
+    public static final CrossCorrelationExecutor EXECUTOR =
+            new GenericCrossCorrelationExecutor(TrigonometryForTesting.INSTANCE, ArraysUtilForTesting.INSTANCE);
+
+    private static double[] randomArray(int size, long seed) {
+        Random random = new Random(seed);
+        double[] out = new double[size];
+        for (int j = 0; j < size; j++) {
+            out[j] = random.nextDouble() - 0.5;
+        }
+        return out;
+    }
+
+    public static class 事前条件テスト {
+
+        @Test(expected = DataSizeNotMismatchException.class)
+        public void test_巡回でサイズが整合しない場合はDSNMEx() {
+            EXECUTOR.applyCyclic(new double[4], new double[5]);
+        }
+
+        @Test(expected = NotRequiredDataSizeException.class)
+        public void test_線形でサイズ0の場合はNRDSEx() {
+            EXECUTOR.applyLinear(new double[0], new double[5], 1);
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_最大ラグが負の場合は例外() {
+            EXECUTOR.applyLinear(new double[3], new double[5], -1);
+        }
+    }
+
+    @RunWith(Theories.class)
+    public static class 巡回相互相関テスト {
+
+        @DataPoints
+        public static final int[] sizes = { 1, 2, 7, 16, 105 };
+
+        @Theory
+        public void test(int size) {
+            double[] f = randomArray(size, size);
+            double[] g = randomArray(size, size + 1000);
+
+            double[] result = EXECUTOR.applyCyclic(f, g);
+            for (int k = 0; k < size; k++) {
+                double expected = 0;
+                for (int j = 0; j < size; j++) {
+                    expected += f[j] * g[(j + k) % size];
+                }
+                assertThat(result[k], is(closeTo(expected, 1E-12 * size)));
+            }
+        }
+    }
+
+    @RunWith(Theories.class)
+    public static class 線形相互相関テスト {
+
+        /**
+         * [m, n, maxLag]
+         */
+        @DataPoints
+        public static final int[][] sizes = {
+                { 1, 1, 0 }, { 1, 1, 3 }, { 5, 9, 20 }, { 40, 33, 5 }, { 100, 7, 50 }, { 64, 200, 300 }
+        };
+
+        @Theory
+        public void test(int[] size) {
+            final int m = size[0];
+            final int n = size[1];
+            final int L = size[2];
+            double[] f = randomArray(m, m);
+            double[] g = randomArray(n, n + 1000);
+
+            double[] result = EXECUTOR.applyLinear(f, g, L);
+            assertThat(result.length, is(2 * L + 1));
+            for (int k = -L; k <= L; k++) {
+                double expected = 0;
+                for (int j = 0; j < m; j++) {
+                    if (0 <= j + k && j + k < n) {
+                        expected += f[j] * g[j + k];
+                    }
+                }
+                assertThat(result[k + L], is(closeTo(expected, 1E-12 * Math.min(m, n))));
+            }
+        }
+
+        @Test
+        public void test_遅延の推定() {
+            double[] f = randomArray(500, 1);
+            double[] g = new double[600];
+            System.arraycopy(f, 0, g, 37, 500);
+
+            double[] result = EXECUTOR.applyLinear(f, g, 100);
+            int argMax = 0;
+            for (int i = 0; i < result.length; i++) {
+                argMax = result[i] > result[argMax] ? i : argMax;
+            }
+            assertThat(argMax - 100, is(37));
+        }
+    }
+
+    public static class 不正値の検証 {
+
+        @Test
+        public void test_不正値を含む場合はNaN() {
+            double[] f = randomArray(8, 1);
+            f[2] = Double.NEGATIVE_INFINITY;
+            for (double v : EXECUTOR.applyLinear(f, randomArray(5, 2), 3)) {
+                assertThat(v, is(Double.NaN));
+            }
+            assertThat(normMax(EXECUTOR.applyCyclic(f, randomArray(8, 2))), is(Double.NaN));
+        }
+    }
+
+    public static class toString表示の検証 {
+
+        @Test
+        public void test_toString表示() {
+            System.out.println(TEST_CLASS.getName());
+            System.out.println(EXECUTOR);
+            System.out.println();
+        }
+    }
+}
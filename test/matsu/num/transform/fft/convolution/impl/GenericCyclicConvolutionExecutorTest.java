@@ -11,6 +11,9 @@ import static matsu.num.transform.fft.lib.privatelib.ArraysUtilStaticForTestModu
 import static org.hamcrest.MatcherAssert.*;
 import static org.hamcrest.Matchers.*;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
 import org.junit.BeforeClass;
 import org.junit.Test;
 import org.junit.Test.None;
@@ -99,6 +102,157 @@ final class GenericCyclicConvolutionExecutorTest {
         }
     }
 
+    public static class プランの検証 {
+
+        @Test
+        public void test_プランの実行結果はapplyと一致() {
+            for (int size : new int[] { 1, 5, 8, 300 }) {
+                double[] f = createArrayData(size);
+                double[] g = createArrayData(size);
+                CyclicConvolutionExecutor.Plan plan = EXECUTOR_NEW.plan(size);
+                assertThat(plan.size(), is(size));
+                assertThat(plan.execute(f, g), is(EXECUTOR_NEW.apply(f, g)));
+            }
+        }
+
+        @Test(expected = DataSizeNotMismatchException.class)
+        public void test_サイズが整合しない場合はDSNMEx() {
+            EXECUTOR_NEW.plan(8).execute(new double[8], new double[4]);
+        }
+    }
+
+    public static class カーネル固定の検証 {
+
+        @Test
+        public void test_カーネル固定の結果は畳み込みと一致() {
+            for (int size : new int[] { 1, 5, 8, 300 }) {
+                double[] g = createArrayData(size);
+                CyclicConvolutionExecutor.PreparedConvolution prepared = EXECUTOR_NEW.prepare(g);
+                assertThat(prepared.size(), is(size));
+
+                for (int c = 0; c < 3; c++) {
+                    double[] f = createArrayData(size);
+                    double[] expected = RealCyclicConvMoch.instance().apply(f, g);
+                    double[] res = prepared.apply(f);
+                    ArraysUtilStaticForTestModule.subtract(res, expected);
+
+                    double norm = normMax(f) * normMax(g);
+                    assertThat(normMax(res), is(lessThan(1E-12 * norm + 1E-100)));
+                }
+            }
+        }
+
+        @Test
+        public void test_不正値を含むカーネルの結果はNaN() {
+            double[] g = createArrayData(8);
+            g[3] = Double.POSITIVE_INFINITY;
+            double[] result = EXECUTOR_NEW.prepare(g).apply(createArrayData(8));
+            for (double v : result) {
+                assertThat(v, is(Double.NaN));
+            }
+        }
+
+        @Test(expected = DataSizeNotMismatchException.class)
+        public void test_サイズが整合しない場合はDSNMEx() {
+            EXECUTOR_NEW.prepare(new double[8]).apply(new double[4]);
+        }
+    }
+
+    public static class バッチ変換の検証 {
+
+        @Test
+        public void test_バッチ変換の結果はapplyと一致() {
+            for (boolean parallel : new boolean[] { false, true }) {
+                for (int size : new int[] { 1, 5, 8, 300 }) {
+                    double[][] fBatch = new double[5][];
+                    double[][] gBatch = new double[5][];
+                    for (int i = 0; i < fBatch.length; i++) {
+                        fBatch[i] = createArrayData(size);
+                        gBatch[i] = createArrayData(size);
+                    }
+
+                    double[][] result = EXECUTOR_NEW.applyBatch(fBatch, gBatch, parallel);
+                    assertThat(result.length, is(fBatch.length));
+                    for (int i = 0; i < fBatch.length; i++) {
+                        assertThat(result[i], is(EXECUTOR_NEW.apply(fBatch[i], gBatch[i])));
+                    }
+                }
+            }
+        }
+
+        @Test(expected = DataSizeNotMismatchException.class)
+        public void test_fとgのサイズが整合しない場合はDSNMEx() {
+            EXECUTOR_NEW.applyBatch(new double[][] { new double[8] }, new double[][] { new double[4] });
+        }
+
+        @Test(expected = DataSizeNotMismatchException.class)
+        public void test_要素数が整合しない場合はDSNMEx() {
+            EXECUTOR_NEW.applyBatch(new double[2][8], new double[3][8]);
+        }
+    }
+
+    public static class 非同期変換の検証 {
+
+        @Test
+        public void test_非同期変換の結果はapplyと一致() {
+            for (int size : new int[] { 1, 5, 8, 300 }) {
+                double[] f = createArrayData(size);
+                double[] g = createArrayData(size);
+                CompletableFuture<double[]> future = EXECUTOR_NEW.applyAsync(f, g);
+                assertThat(future.join(), is(EXECUTOR_NEW.apply(f, g)));
+            }
+        }
+
+        @Test
+        public void test_fとgのサイズが整合しない場合は例外的に完了する() {
+            try {
+                EXECUTOR_NEW.applyAsync(new double[8], new double[4], Runnable::run).join();
+            } catch (CompletionException e) {
+                assertThat(e.getCause(), is(instanceOf(DataSizeNotMismatchException.class)));
+                return;
+            }
+            throw new AssertionError("例外的に完了していない");
+        }
+    }
+
+    public static class 出力配列を与える変換の検証 {
+
+        @Test
+        public void test_出力配列への変換はapplyと一致() {
+            for (int size : new int[] { 1, 5, 8, 300 }) {
+                double[] f = createArrayData(size);
+                double[] g = createArrayData(size);
+                double[] expected = EXECUTOR_NEW.apply(f, g);
+
+                double[] out = new double[size];
+                EXECUTOR_NEW.applyInto(f, g, out);
+                assertThat(out, is(expected));
+
+                double[] gCopy = g.clone();
+                EXECUTOR_NEW.applyInto(f, gCopy, gCopy);
+                assertThat(gCopy, is(expected));
+
+                double[] gOriginal = g.clone();
+                EXECUTOR_NEW.applyInPlace(f, g);
+                assertThat(f, is(expected));
+                assertThat(g, is(gOriginal));
+            }
+        }
+
+        @Test(expected = DataSizeNotMismatchException.class)
+        public void test_出力配列のサイズが整合しない場合はDSNMEx() {
+            EXECUTOR_NEW.applyInto(new double[8], new double[8], new double[4]);
+        }
+
+        @Test
+        public void test_fとgが同一の配列の場合の上書き変換はapplyと一致() {
+            double[] f = createArrayData(8);
+            double[] expected = EXECUTOR_NEW.apply(f, f);
+            EXECUTOR_NEW.applyInPlace(f, f);
+            assertThat(f, is(expected));
+        }
+    }
+
     public static class toString表示の検証 {
 
         @Test
@@ -0,0 +1,266 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+package matsu.num.transform.fft.convolution.impl;
+
+import static matsu.num.transform.fft.NumberArrayDataCreator.*;
+import static matsu.num.transform.fft.lib.privatelib.ArraysUtilStaticForTestModule.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+import org.junit.Test.None;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.experimental.theories.DataPoints;
+import org.junit.experimental.theories.Theories;
+import org.junit.experimental.theories.Theory;
+import org.junit.runner.RunWith;
+
+import matsu.num.transform.fft.convolution.LinearConvolutionExecutor;
+import matsu.num.transform.fft.convolution.StreamingConvolver;
+import matsu.num.transform.fft.lib.TrigonometryForTesting;
+import matsu.num.transform.fft.lib.privatelib.ArraysUtilForTesting;
+import matsu.num.transform.fft.validation.NotRequiredDataSizeException;
+
+/**
+ * {@link GenericLinearConvolutionExecutor}クラスのテスト.
+ */
+@RunWith(Enclosed.class)
+final class GenericLinearConvolutionExecutorTest {
+
+    public static final Class<?> TEST_CLASS = GenericLinearConvolutionExecutor.class;
+
+    public static final LinearConvolutionExecutor EXECUTOR =
+            new GenericLinearConvolutionExecutor(TrigonometryForTesting.INSTANCE, ArraysUtilForTesting.INSTANCE);
+
+    public static class 事前条件テスト {
+
+        @Test(expected = NotRequiredDataSizeException.class)
+        public void test_fが0の場合はNRDSEx() {
+            EXECUTOR.apply(new double[0], new double[3]);
+        }
+
+        @Test(expected = NotRequiredDataSizeException.class)
+        public void test_gが0の場合はNRDSEx() {
+            EXECUTOR.apply(new double[3], new double[0]);
+        }
+
+        @Test(expected = None.class)
+        public void test_1の場合は例外なし() {
+            EXECUTOR.apply(new double[1], new double[1]);
+        }
+    }
+
+    @RunWith(Theories.class)
+    public static class 線形畳み込みテスト {
+
+        /**
+         * [m, n]
+         */
+        @DataPoints
+        public static final int[][] sizes = {
+                { 1, 1 }, { 5, 3 }, { 3, 40 }, { 40, 33 }, { 100, 257 }, { 1000, 37 }
+        };
+
+        @Theory
+        public void test(int[] size) {
+            double[] f = createArrayData(size[0]);
+            double[] g = createArrayData(size[1]);
+
+            double[] expected = new double[f.length + g.length - 1];
+            for (int i = 0; i < f.length; i++) {
+                for (int k = 0; k < g.length; k++) {
+                    expected[i + k] += f[i] * g[k];
+                }
+            }
+
+            double[] result = EXECUTOR.apply(f, g);
+            assertThat(result.length, is(expected.length));
+
+            double norm = normMax(f) * normMax(g) * Math.min(f.length, g.length);
+            subtract(result, expected);
+            assertThat(normMax(result), is(lessThan(1E-12 * norm + 1E-100)));
+        }
+    }
+
+    public static class 不正値の検証 {
+
+        @Test
+        public void test_不正値を含む場合はNaN() {
+            double[] f = createArrayData(50);
+            f[7] = Double.NaN;
+            double[] result = EXECUTOR.apply(f, createArrayData(60));
+            assertThat(result.length, is(109));
+            for (double v : result) {
+                assertThat(v, is(Double.NaN));
+            }
+        }
+    }
+
+    @RunWith(Theories.class)
+    public static class ストリームの畳み込みテスト {
+
+        /**
+         * [kernelSize, blockSize]
+         */
+        @DataPoints
+        public static final int[][] sizes = {
+                { 1, 1 }, { 1, 16 }, { 7, 1 }, { 5, 8 }, { 33, 10 }, { 100, 64 }, { 257, 300 }
+        };
+
+        @Theory
+        public void test(int[] size) {
+            final int K = size[0];
+            final int B = size[1];
+            final int blockCount = 5;
+
+            Random random = new Random(K * 1000 + B);
+            double[] kernel = new double[K];
+            for (int i = 0; i < K; i++) {
+                kernel[i] = random.nextDouble() - 0.5;
+            }
+            double[] stream = new double[B * blockCount];
+            for (int t = 0; t < stream.length; t++) {
+                stream[t] = random.nextDouble() - 0.5;
+            }
+
+            StreamingConvolver convolver = EXECUTOR.createStreamingConvolver(kernel, B);
+            assertThat(convolver.kernelSize(), is(K));
+            assertThat(convolver.blockSize(), is(B));
+
+            double[] expected = EXECUTOR.apply(stream, kernel);
+            double[] out = new double[B];
+            for (int c = 0; c < blockCount; c++) {
+                double[] in = Arrays.copyOfRange(stream, c * B, (c + 1) * B);
+                convolver.process(in, out);
+                for (int j = 0; j < B; j++) {
+                    assertThat(out[j], is(closeTo(expected[c * B + j], 1E-12 * K)));
+                }
+            }
+        }
+    }
+
+    public static class ストリームの状態の検証 {
+
+        @Test
+        public void test_入出力が同一配列でも正しい_resetで初期化される() {
+            double[] kernel = { 1, 2, 3 };
+            StreamingConvolver convolver = EXECUTOR.createStreamingConvolver(kernel, 4);
+
+            double[] block = { 1, 0, 0, 0 };
+            convolver.process(block, block);
+            assertThat(block[0], is(closeTo(1, 1E-14)));
+            assertThat(block[1], is(closeTo(2, 1E-14)));
+            assertThat(block[2], is(closeTo(3, 1E-14)));
+            assertThat(block[3], is(closeTo(0, 1E-14)));
+
+            double[] next = { 0, 0, 0, 0 };
+            double[] out = new double[4];
+            convolver.process(new double[] { 0, 0, 0, 1 }, out);
+            assertThat(out[3], is(closeTo(1, 1E-14)));
+
+            convolver.reset();
+            convolver.process(next, out);
+            for (double v : out) {
+                assertThat(v, is(closeTo(0, 1E-14)));
+            }
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_ブロック長と異なる場合は例外() {
+            EXECUTOR.createStreamingConvolver(new double[3], 4).process(new double[3], new double[3]);
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_カーネルが空の場合は例外() {
+            EXECUTOR.createStreamingConvolver(new double[0], 4);
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_ブロック長が0の場合は例外() {
+            EXECUTOR.createStreamingConvolver(new double[3], 0);
+        }
+    }
+
+    @RunWith(Theories.class)
+    public static class 分割畳み込みテスト {
+
+        /**
+         * [kernelSize, blockSize, maxPartitionSize]
+         */
+        @DataPoints
+        public static final int[][] sizes = {
+                { 1, 1, 1 }, { 10, 4, 4 }, { 100, 8, 8 }, { 5, 8, 64 },
+                { 200, 4, 32 }, { 1000, 16, 128 }, { 333, 3, 48 }, { 64, 1, 16 }
+        };
+
+        @Theory
+        public void test(int[] size) {
+            final int K = size[0];
+            final int B = size[1];
+            final int blockCount = (2 * K + 4 * size[2]) / B + 3;
+
+            Random random = new Random(K * 1000 + B);
+            double[] kernel = new double[K];
+            for (int i = 0; i < K; i++) {
+                kernel[i] = random.nextDouble() - 0.5;
+            }
+            double[] stream = new double[B * blockCount];
+            for (int t = 0; t < stream.length; t++) {
+                stream[t] = random.nextDouble() - 0.5;
+            }
+
+            StreamingConvolver convolver = EXECUTOR.createPartitionedConvolver(kernel, B, size[2]);
+            assertThat(convolver.kernelSize(), is(K));
+            assertThat(convolver.blockSize(), is(B));
+
+            double[] expected = EXECUTOR.apply(stream, kernel);
+            double[] out = new double[B];
+            for (int c = 0; c < blockCount; c++) {
+                double[] in = Arrays.copyOfRange(stream, c * B, (c + 1) * B);
+                convolver.process(in, out);
+                for (int j = 0; j < B; j++) {
+                    assertThat(out[j], is(closeTo(expected[c * B + j], 1E-12 * K)));
+                }
+            }
+
+            //resetにより, 新しいストリームとして扱われる
+            convolver.reset();
+            convolver.process(Arrays.copyOf(stream, B), out);
+            for (int j = 0; j < B; j++) {
+                assertThat(out[j], is(closeTo(expected[j], 1E-12 * K)));
+            }
+        }
+    }
+
+    public static class 分割畳み込みの事前条件 {
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_最大長がブロック長の2の累乗倍でない場合は例外() {
+            EXECUTOR.createPartitionedConvolver(new double[10], 4, 12);
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_最大長がブロック長より小さい場合は例外() {
+            EXECUTOR.createPartitionedConvolver(new double[10], 4, 2);
+        }
+    }
+
+    public static class toString表示の検証 {
+
+        @Test
+        public void test_toString表示() {
+            System.out.println(TEST_CLASS.getName());
+            System.out.println(EXECUTOR);
+            System.out.println(EXECUTOR.createStreamingConvolver(new double[100], 64));
+            System.out.println(EXECUTOR.createPartitionedConvolver(new double[100_000], 64, 4096));
+            System.out.println();
+        }
+    }
+}
@@ -103,6 +103,48 @@ final class Power2CyclicConvolutionExecutorTest {
         }
     }
 
+    public static class カーネル固定の検証 {
+
+        @Test
+        public void test_カーネル固定の結果は畳み込みと一致() {
+            for (int size : new int[] { 1, 8, 256 }) {
+                double[] g = createArrayData(size);
+                CyclicConvolutionExecutor.PreparedConvolution prepared = EXECUTOR_NEW.prepare(g);
+                assertThat(prepared.size(), is(size));
+
+                for (int c = 0; c < 3; c++) {
+                    double[] f = createArrayData(size);
+                    double[] expected = RealCyclicConvMoch.instance().apply(f, g);
+                    double[] res = prepared.apply(f);
+                    ArraysUtilStaticForTestModule.subtract(res, expected);
+
+                    double norm = normMax(f) * normMax(g);
+                    assertThat(normMax(res), is(lessThan(1E-12 * norm + 1E-100)));
+                }
+            }
+        }
+
+        @Test
+        public void test_不正値を含むカーネルの結果はNaN() {
+            double[] g = createArrayData(8);
+            g[3] = Double.POSITIVE_INFINITY;
+            double[] result = EXECUTOR_NEW.prepare(g).apply(createArrayData(8));
+            for (double v : result) {
+                assertThat(v, is(Double.NaN));
+            }
+        }
+
+        @Test(expected = DataSizeNotMismatchException.class)
+        public void test_サイズが整合しない場合はDSNMEx() {
+            EXECUTOR_NEW.prepare(new double[8]).apply(new double[4]);
+        }
+
+        @Test(expected = DataSizeNotMismatchException.class)
+        public void test_2の累乗でない場合はDSNMEx() {
+            EXECUTOR_NEW.prepare(new double[6]);
+        }
+    }
+
     public static class toString表示の検証 {
 
         @Test
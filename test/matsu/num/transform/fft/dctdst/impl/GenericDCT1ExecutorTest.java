@@ -60,6 +60,10 @@ final class GenericDCT1ExecutorTest {
         public static double[] data1;
         @DataPoint
         public static double[] data2;
+        @DataPoint
+        public static double[] data3;
+        @DataPoint
+        public static double[] data4;
 
         @BeforeClass
         public static void before_data1_サイズ10() {
@@ -71,6 +75,16 @@ final class GenericDCT1ExecutorTest {
             data2 = createArrayData(49);
         }
 
+        @BeforeClass
+        public static void before_data3_サイズ2() {
+            data3 = createArrayData(2);
+        }
+
+        @BeforeClass
+        public static void before_data4_サイズ64() {
+            data4 = createArrayData(64);
+        }
+
         @Theory
         public void test_DCT1の実行(DCT1Executor executor, double[] data) {
             double[] result = executor.apply(data);
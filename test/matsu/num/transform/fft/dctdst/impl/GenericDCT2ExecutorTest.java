@@ -11,6 +11,10 @@ import static matsu.num.transform.fft.lib.privatelib.ArraysUtilStaticForTestModu
 import static org.hamcrest.MatcherAssert.*;
 import static org.hamcrest.Matchers.*;
 
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 import org.junit.BeforeClass;
 import org.junit.Test;
 import org.junit.Test.None;
@@ -24,6 +28,7 @@ import matsu.num.transform.fft.dctdst.DCT2Executor;
 import matsu.num.transform.fft.dctdst.DCT2Moch;
 import matsu.num.transform.fft.lib.TrigonometryForTesting;
 import matsu.num.transform.fft.lib.privatelib.ArraysUtilForTesting;
+import matsu.num.transform.fft.validation.DataSizeNotMismatchException;
 import matsu.num.transform.fft.validation.NotRequiredDataSizeException;
 
 /**
@@ -59,6 +64,10 @@ final class GenericDCT2ExecutorTest {
         public static double[] data1;
         @DataPoint
         public static double[] data2;
+        @DataPoint
+        public static double[] data3;
+        @DataPoint
+        public static double[] data4;
 
         @BeforeClass
         public static void before_data1_サイズ10() {
@@ -70,6 +79,16 @@ final class GenericDCT2ExecutorTest {
             data2 = createArrayData(49);
         }
 
+        @BeforeClass
+        public static void before_data3_サイズ3() {
+            data3 = createArrayData(3);
+        }
+
+        @BeforeClass
+        public static void before_data4_サイズ64() {
+            data4 = createArrayData(64);
+        }
+
         @Theory
         public void test_DCT2の実行(DCT2Executor executor, double[] data) {
             double[] result = executor.apply(data);
@@ -84,6 +103,102 @@ final class GenericDCT2ExecutorTest {
         }
     }
 
+    public static class プランの検証 {
+
+        @Test
+        public void test_プランの実行結果はapplyと一致() {
+            for (int size : new int[] { 1, 10, 49, 500 }) {
+                double[] data = createArrayData(size);
+                DCT2Executor.Plan plan = EXECUTOR_NEW.plan(size);
+                assertThat(plan.size(), is(size));
+                assertThat(plan.execute(data), is(EXECUTOR_NEW.apply(data)));
+            }
+        }
+
+        @Test(expected = DataSizeNotMismatchException.class)
+        public void test_サイズが整合しない場合はDSNMEx() {
+            EXECUTOR_NEW.plan(10).execute(new double[12]);
+        }
+    }
+
+    public static class バッチ変換の検証 {
+
+        @Test
+        public void test_バッチ変換の結果はapplyと一致() {
+            for (boolean parallel : new boolean[] { false, true }) {
+                for (int size : new int[] { 1, 10, 49, 500 }) {
+                    double[][] batch = new double[5][];
+                    for (int i = 0; i < batch.length; i++) {
+                        batch[i] = createArrayData(size);
+                    }
+
+                    double[][] result = EXECUTOR_NEW.applyBatch(batch, parallel);
+                    assertThat(result.length, is(batch.length));
+                    for (int i = 0; i < batch.length; i++) {
+                        assertThat(result[i], is(EXECUTOR_NEW.apply(batch[i])));
+                    }
+                }
+            }
+        }
+
+        @Test(expected = DataSizeNotMismatchException.class)
+        public void test_サイズが整合しない場合はDSNMEx() {
+            EXECUTOR_NEW.applyBatch(new double[][] { new double[10], new double[12] });
+        }
+    }
+
+    public static class 非同期変換の検証 {
+
+        @Test
+        public void test_非同期変換の結果はapplyと一致() {
+            ExecutorService service = Executors.newFixedThreadPool(2);
+            try {
+                for (int size : new int[] { 1, 10, 49, 500 }) {
+                    double[] data = createArrayData(size);
+                    double[] expected = EXECUTOR_NEW.apply(data);
+                    assertThat(EXECUTOR_NEW.applyAsync(data).join(), is(expected));
+                    assertThat(EXECUTOR_NEW.applyAsync(data, service).join(), is(expected));
+                }
+            } finally {
+                service.shutdown();
+            }
+        }
+
+        @Test
+        public void test_rejectされる場合は例外的に完了する() {
+            try {
+                EXECUTOR_NEW.applyAsync(new double[0]).join();
+            } catch (CompletionException e) {
+                assertThat(e.getCause(), is(instanceOf(NotRequiredDataSizeException.class)));
+                return;
+            }
+            throw new AssertionError("例外的に完了していない");
+        }
+    }
+
+    public static class 出力配列を与える変換の検証 {
+
+        @Test
+        public void test_出力配列への変換はapplyと一致() {
+            for (int size : new int[] { 1, 10, 49, 500 }) {
+                double[] data = createArrayData(size);
+                double[] expected = EXECUTOR_NEW.apply(data);
+
+                double[] out = new double[size];
+                EXECUTOR_NEW.applyInto(data, out);
+                assertThat(out, is(expected));
+
+                EXECUTOR_NEW.applyInPlace(data);
+                assertThat(data, is(expected));
+            }
+        }
+
+        @Test(expected = DataSizeNotMismatchException.class)
+        public void test_出力配列のサイズが整合しない場合はDSNMEx() {
+            EXECUTOR_NEW.applyInto(new double[8], new double[4]);
+        }
+    }
+
     public static class toString表示の検証 {
 
         @Test
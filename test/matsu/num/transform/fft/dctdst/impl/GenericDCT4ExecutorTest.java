@@ -59,6 +59,10 @@ final class GenericDCT4ExecutorTest {
         public static double[] data1;
         @DataPoint
         public static double[] data2;
+        @DataPoint
+        public static double[] data3;
+        @DataPoint
+        public static double[] data4;
 
         @BeforeClass
         public static void before_data1_サイズ10() {
@@ -70,6 +74,16 @@ final class GenericDCT4ExecutorTest {
             data2 = createArrayData(49);
         }
 
+        @BeforeClass
+        public static void before_data3_サイズ3() {
+            data3 = createArrayData(3);
+        }
+
+        @BeforeClass
+        public static void before_data4_サイズ64() {
+            data4 = createArrayData(64);
+        }
+
         @Theory
         public void test_DCT4の実行(DCT4Executor executor, double[] data) {
             double[] result = executor.apply(data);
@@ -59,6 +59,10 @@ final class GenericDST1ExecutorTest {
         public static double[] data1;
         @DataPoint
         public static double[] data2;
+        @DataPoint
+        public static double[] data3;
+        @DataPoint
+        public static double[] data4;
 
         @BeforeClass
         public static void before_data1_サイズ10() {
@@ -70,6 +74,16 @@ final class GenericDST1ExecutorTest {
             data2 = createArrayData(49);
         }
 
+        @BeforeClass
+        public static void before_data3_サイズ3() {
+            data3 = createArrayData(3);
+        }
+
+        @BeforeClass
+        public static void before_data4_サイズ64() {
+            data4 = createArrayData(64);
+        }
+
         @Theory
         public void test_DST1の実行(DST1Executor executor, double[] data) {
             double[] result = executor.apply(data);
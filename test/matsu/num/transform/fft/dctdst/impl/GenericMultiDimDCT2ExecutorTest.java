@@ -0,0 +1,118 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+package matsu.num.transform.fft.dctdst.impl;
+
+import static matsu.num.transform.fft.NumberArrayDataCreator.*;
+import static matsu.num.transform.fft.lib.privatelib.ArraysUtilStaticForTestModule.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+
+import matsu.num.transform.fft.dctdst.DCT2Moch;
+import matsu.num.transform.fft.dctdst.MultiDimDCT2Executor;
+import matsu.num.transform.fft.lib.TrigonometryForTesting;
+import matsu.num.transform.fft.lib.privatelib.ArraysUtilForTesting;
+import matsu.num.transform.fft.validation.DataSizeNotMismatchException;
+
+/**
+ * {@link GenericMultiDimDCT2Executor}クラスのテスト.
+ */
+@RunWith(Enclosed.class)
+final class GenericMultiDimDCT2ExecutorTest {
+
+    public static final Class<?> TEST_CLASS = GenericMultiDimDCT2Executor.class;
+    private static final MultiDimDCT2Executor EXECUTOR_NEW =
+            new GenericMultiDimDCT2Executor(TrigonometryForTesting.INSTANCE, ArraysUtilForTesting.INSTANCE);
+
+    public static class 形状の検証 {
+
+        @Test(expected = DataSizeNotMismatchException.class)
+        public void test_データサイズが形状と整合しない場合はDSNMEx() {
+            EXECUTOR_NEW.apply(new double[12], new int[] { 3, 5 });
+        }
+    }
+
+    public static class 多次元DCT2検証 {
+
+        @Test
+        public void test_多次元DCT2は1次元DCT2の合成と一致() {
+            for (int[] shape : new int[][] { { 2, 2 }, { 3, 10 }, { 17, 20 }, { 2, 3, 4 }, { 5, 2, 19 } }) {
+                int size = 1;
+                for (int n : shape) {
+                    size *= n;
+                }
+                double[] data = createArrayData(size);
+                double[] result = EXECUTOR_NEW.apply(data, shape);
+                double[] expected = separableBy1D(data, shape);
+
+                double[] res = result.clone();
+                subtract(res, expected);
+                assertThat(normMax(res), is(lessThan(1E-12 * normMax(expected) + 1E-100)));
+            }
+        }
+
+        @Test
+        public void test_並列実行の結果は逐次実行と一致() {
+            int[] shape = { 30, 20, 11 };
+            double[] data = createArrayData(30 * 20 * 11);
+            assertThat(EXECUTOR_NEW.apply(data, shape, true), is(EXECUTOR_NEW.apply(data, shape, false)));
+        }
+
+        @Test
+        public void test_不正値を含む場合はNaN() {
+            double[] data = createArrayData(12);
+            data[7] = Double.NEGATIVE_INFINITY;
+            for (double v : EXECUTOR_NEW.apply(data, new int[] { 4, 3 })) {
+                assertThat(v, is(Double.NaN));
+            }
+        }
+
+        /**
+         * 各軸に沿って1次元の素朴なDCT2を適用する.
+         */
+        private static double[] separableBy1D(double[] data, int[] shape) {
+            double[] out = data.clone();
+            for (int axis = 0; axis < shape.length; axis++) {
+                int outer = 1;
+                for (int d = 0; d < axis; d++) {
+                    outer *= shape[d];
+                }
+                int inner = 1;
+                for (int d = axis + 1; d < shape.length; d++) {
+                    inner *= shape[d];
+                }
+                int n = shape[axis];
+                for (int o = 0; o < outer; o++) {
+                    for (int i = 0; i < inner; i++) {
+                        double[] line = new double[n];
+                        for (int j = 0; j < n; j++) {
+                            line[j] = out[(o * n + j) * inner + i];
+                        }
+                        double[] transformed = new DCT2Moch().apply(line);
+                        for (int j = 0; j < n; j++) {
+                            out[(o * n + j) * inner + i] = transformed[j];
+                        }
+                    }
+                }
+            }
+            return out;
+        }
+    }
+
+    public static class toString表示の検証 {
+
+        @Test
+        public void test_toString表示() {
+            System.out.println(TEST_CLASS.getName());
+            System.out.println(EXECUTOR_NEW);
+            System.out.println();
+        }
+    }
+}
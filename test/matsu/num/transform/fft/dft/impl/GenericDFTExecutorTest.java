@@ -11,6 +11,9 @@ import static matsu.num.transform.fft.lib.privatelib.ArraysUtilStaticForTestModu
 import static org.hamcrest.MatcherAssert.*;
 import static org.hamcrest.Matchers.*;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 import org.junit.BeforeClass;
 import org.junit.Test;
 import org.junit.Test.None;
@@ -28,6 +31,7 @@ import matsu.num.transform.fft.component.FourierType;
 import matsu.num.transform.fft.dto.ComplexNumberArrayDTO;
 import matsu.num.transform.fft.lib.TrigonometryForTesting;
 import matsu.num.transform.fft.lib.privatelib.ArraysUtilForTesting;
+import matsu.num.transform.fft.validation.DataSizeNotMismatchException;
 import matsu.num.transform.fft.validation.NotRequiredDataSizeException;
 
 /**
@@ -99,6 +103,150 @@ final class GenericDFTExecutorTest {
         }
     }
 
+    public static class プランの検証 {
+
+        @Test
+        public void test_プランの実行結果はapplyと一致() {
+            for (int size : new int[] { 1, 10, 49, 64, 1000 }) {
+                ComplexNumberArrayDTO dataDTO = createComplexArrayDTO(size);
+                DFTExecutor.Plan plan = EXECUTOR_NEW.plan(size);
+                assertThat(plan.size(), is(size));
+
+                ComplexNumberArrayDTO expected = EXECUTOR_NEW.apply(dataDTO);
+                ComplexNumberArrayDTO result = plan.execute(dataDTO);
+                assertThat(result.realPart, is(expected.realPart));
+                assertThat(result.imaginaryPart, is(expected.imaginaryPart));
+
+                double[] realData = dataDTO.realPart;
+                ComplexNumberArrayDTO expectedReal = EXECUTOR_NEW.applyReal(realData);
+                ComplexNumberArrayDTO resultReal = plan.executeReal(realData);
+                assertThat(resultReal.realPart, is(expectedReal.realPart));
+                assertThat(resultReal.imaginaryPart, is(expectedReal.imaginaryPart));
+            }
+        }
+
+        @Test(expected = NotRequiredDataSizeException.class)
+        public void test_サイズ0のプランはNRDSEx() {
+            EXECUTOR_NEW.plan(0);
+        }
+
+        @Test(expected = DataSizeNotMismatchException.class)
+        public void test_サイズが整合しない場合はDSNMEx() {
+            EXECUTOR_NEW.plan(10).execute(ComplexNumberArrayDTO.zeroFilledOf(12));
+        }
+    }
+
+    public static class バッチ変換の検証 {
+
+        @Test
+        public void test_バッチ変換の結果はapplyと一致() {
+            for (boolean parallel : new boolean[] { false, true }) {
+                for (int size : new int[] { 1, 10, 49, 64 }) {
+                    ComplexNumberArrayDTO[] batch = new ComplexNumberArrayDTO[5];
+                    double[][] realBatch = new double[batch.length][];
+                    for (int i = 0; i < batch.length; i++) {
+                        batch[i] = createComplexArrayDTO(size);
+                        realBatch[i] = batch[i].realPart;
+                    }
+
+                    ComplexNumberArrayDTO[] result = EXECUTOR_NEW.applyBatch(batch, parallel);
+                    ComplexNumberArrayDTO[] resultReal = EXECUTOR_NEW.applyRealBatch(realBatch, parallel);
+                    assertThat(result.length, is(batch.length));
+                    assertThat(resultReal.length, is(batch.length));
+                    for (int i = 0; i < batch.length; i++) {
+                        ComplexNumberArrayDTO expected = EXECUTOR_NEW.apply(batch[i]);
+                        assertThat(result[i].realPart, is(expected.realPart));
+                        assertThat(result[i].imaginaryPart, is(expected.imaginaryPart));
+
+                        ComplexNumberArrayDTO expectedReal = EXECUTOR_NEW.applyReal(realBatch[i]);
+                        assertThat(resultReal[i].realPart, is(expectedReal.realPart));
+                        assertThat(resultReal[i].imaginaryPart, is(expectedReal.imaginaryPart));
+                    }
+                }
+            }
+        }
+
+        @Test
+        public void test_空のバッチは空の配列を返す() {
+            assertThat(EXECUTOR_NEW.applyBatch(new ComplexNumberArrayDTO[0]).length, is(0));
+            assertThat(EXECUTOR_NEW.applyRealBatch(new double[0][]).length, is(0));
+        }
+
+        @Test(expected = DataSizeNotMismatchException.class)
+        public void test_サイズが整合しない場合はDSNMEx() {
+            EXECUTOR_NEW.applyBatch(new ComplexNumberArrayDTO[] {
+                    ComplexNumberArrayDTO.zeroFilledOf(10), ComplexNumberArrayDTO.zeroFilledOf(12) });
+        }
+
+        @Test(expected = NotRequiredDataSizeException.class)
+        public void test_サイズ0のバッチはNRDSEx() {
+            EXECUTOR_NEW.applyRealBatch(new double[][] { new double[0] });
+        }
+    }
+
+    public static class 非同期変換の検証 {
+
+        @Test
+        public void test_非同期変換の結果はapplyと一致() {
+            ExecutorService service = Executors.newFixedThreadPool(2);
+            try {
+                for (int size : new int[] { 1, 10, 49, 64 }) {
+                    ComplexNumberArrayDTO data = createComplexArrayDTO(size);
+                    ComplexNumberArrayDTO expected = EXECUTOR_NEW.apply(data);
+
+                    ComplexNumberArrayDTO result = EXECUTOR_NEW.applyAsync(data).join();
+                    assertThat(result.realPart, is(expected.realPart));
+                    assertThat(result.imaginaryPart, is(expected.imaginaryPart));
+
+                    ComplexNumberArrayDTO resultByService = EXECUTOR_NEW.applyAsync(data, service).join();
+                    assertThat(resultByService.realPart, is(expected.realPart));
+                    assertThat(resultByService.imaginaryPart, is(expected.imaginaryPart));
+                }
+            } finally {
+                service.shutdown();
+            }
+        }
+    }
+
+    public static class 出力を与える変換の検証 {
+
+        @Test
+        public void test_出力への変換はapplyと一致() {
+            for (int size : new int[] { 1, 10, 49, 64 }) {
+                ComplexNumberArrayDTO data = createComplexArrayDTO(size);
+                ComplexNumberArrayDTO expected = EXECUTOR_NEW.apply(data);
+
+                ComplexNumberArrayDTO out = ComplexNumberArrayDTO.zeroFilledOf(size);
+                EXECUTOR_NEW.applyInto(data, out);
+                assertThat(out.realPart, is(expected.realPart));
+                assertThat(out.imaginaryPart, is(expected.imaginaryPart));
+
+                EXECUTOR_NEW.applyInPlace(data);
+                assertThat(data.realPart, is(expected.realPart));
+                assertThat(data.imaginaryPart, is(expected.imaginaryPart));
+            }
+        }
+
+        @Test
+        public void test_実数列の出力への変換はapplyRealと一致() {
+            for (int size : new int[] { 1, 10, 49, 64 }) {
+                double[] data = createArrayData(size);
+                ComplexNumberArrayDTO expected = EXECUTOR_NEW.applyReal(data);
+
+                ComplexNumberArrayDTO out = createComplexArrayDTO(size);
+                EXECUTOR_NEW.applyRealInto(data, out);
+                assertThat(out.realPart, is(expected.realPart));
+                assertThat(out.imaginaryPart, is(expected.imaginaryPart));
+            }
+        }
+
+        @Test(expected = DataSizeNotMismatchException.class)
+        public void test_出力のサイズが整合しない場合はDSNMEx() {
+            EXECUTOR_NEW.applyInto(
+                    ComplexNumberArrayDTO.zeroFilledOf(8), ComplexNumberArrayDTO.zeroFilledOf(4));
+        }
+    }
+
     public static class toString表示の検証 {
 
         @Test
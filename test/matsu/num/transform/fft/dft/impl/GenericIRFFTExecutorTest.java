@@ -0,0 +1,148 @@
+/*
+ * Copyright © 2024 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+package matsu.num.transform.fft.dft.impl;
+
+import static matsu.num.transform.fft.NumberArrayDataCreator.*;
+import static matsu.num.transform.fft.lib.privatelib.ArraysUtilStaticForTestModule.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import org.junit.Test;
+import org.junit.Test.None;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.experimental.theories.DataPoints;
+import org.junit.experimental.theories.Theories;
+import org.junit.experimental.theories.Theory;
+import org.junit.runner.RunWith;
+
+import matsu.num.transform.fft.IRFFTExecutor;
+import matsu.num.transform.fft.RFFTExecutor;
+import matsu.num.transform.fft.component.ComplexNumber;
+import matsu.num.transform.fft.component.FourierBasisComputer;
+import matsu.num.transform.fft.component.FourierBasisComputerSupplierDefaultHolder;
+import matsu.num.transform.fft.component.FourierType;
+import matsu.num.transform.fft.dto.ComplexNumberArrayDTO;
+import matsu.num.transform.fft.lib.TrigonometryForTesting;
+import matsu.num.transform.fft.lib.privatelib.ArraysUtilForTesting;
+import matsu.num.transform.fft.validation.DataSizeNotMismatchException;
+import matsu.num.transform.fft.validation.NotRequiredDataSizeException;
+
+/**
+ * {@link GenericIRFFTExecutor}クラスのテスト.
+ */
+@RunWith(Enclosed.class)
+final class GenericIRFFTExecutorTest {
+
+    public static final Class<?> TEST_CLASS = GenericIRFFTExecutor.class;
+    public static final IRFFTExecutor EXECUTOR_NEW = new GenericIRFFTExecutor(
+            TrigonometryForTesting.INSTANCE, ArraysUtilForTesting.INSTANCE);
+    private static final RFFTExecutor RFFT_EXECUTOR = new GenericRFFTExecutor(
+            TrigonometryForTesting.INSTANCE, ArraysUtilForTesting.INSTANCE);
+
+    private static final FourierBasisComputer.Supplier COMPUTER_SUPPLIER =
+            FourierBasisComputerSupplierDefaultHolder.INSTANCE;
+    private static final RawDFTExecutorForTesting RAW_DFT_EXECUTOR = new RawDFTExecutorForTesting();
+
+    public static class 入力サイズの検証 {
+
+        @Test(expected = NotRequiredDataSizeException.class)
+        public void test_データサイズが0でNRDSEx() {
+            EXECUTOR_NEW.apply(ComplexNumberArrayDTO.zeroFilledOf(1), 0);
+        }
+
+        @Test(expected = None.class)
+        public void test_データサイズが1で正常() {
+            EXECUTOR_NEW.apply(ComplexNumberArrayDTO.zeroFilledOf(1), 1);
+        }
+
+        @Test(expected = DataSizeNotMismatchException.class)
+        public void test_半スペクトルのサイズが整合しないとDSNMEx() {
+            EXECUTOR_NEW.apply(ComplexNumberArrayDTO.zeroFilledOf(5), 10);
+        }
+
+        @Test(expected = None.class)
+        public void test_奇数サイズの半スペクトルのサイズ() {
+            EXECUTOR_NEW.apply(ComplexNumberArrayDTO.zeroFilledOf(6), 11);
+        }
+    }
+
+    @RunWith(Theories.class)
+    public static class IRFFTの実行を検証 {
+
+        @DataPoints
+        public static final int[] sizes = { 1, 2, 3, 10, 49, 64, 1000, 829 };
+
+        @Theory
+        public void test_Hermite拡張のIDFTと一致(int size) {
+            ComplexNumberArrayDTO halfSpectrum = createComplexArrayDTO(size / 2 + 1);
+            double[] result = EXECUTOR_NEW.apply(halfSpectrum, size);
+
+            assertClose(result, expected(halfSpectrum, size));
+        }
+
+        @Theory
+        public void test_RFFTとの往復でN倍(int size) {
+            double[] data = createArrayData(size);
+            double[] result = EXECUTOR_NEW.apply(RFFT_EXECUTOR.apply(data), size);
+
+            double[] expected = data.clone();
+            multiply(expected, size);
+            assertClose(result, expected);
+        }
+
+        @Theory
+        public void test_対の変換は個別の変換と一致(int size) {
+            ComplexNumberArrayDTO halfSpectrum1 = createComplexArrayDTO(size / 2 + 1);
+            ComplexNumberArrayDTO halfSpectrum2 = createComplexArrayDTO(size / 2 + 1);
+
+            double[][] result = EXECUTOR_NEW.applyPair(halfSpectrum1, halfSpectrum2, size);
+            assertThat(result.length, is(2));
+
+            assertClose(result[0], expected(halfSpectrum1, size));
+            assertClose(result[1], expected(halfSpectrum2, size));
+        }
+    }
+
+    public static class toString表示の検証 {
+
+        @Test
+        public void test_toString表示() {
+            System.out.println(TEST_CLASS.getName());
+            System.out.println(EXECUTOR_NEW);
+            System.out.println();
+        }
+    }
+
+    /**
+     * 半スペクトルをHermite対称に拡張し, RawなIDFTの実部として期待値を計算する.
+     */
+    private static double[] expected(ComplexNumberArrayDTO halfSpectrum, int size) {
+        double[] re = new double[size];
+        double[] im = new double[size];
+        re[0] = halfSpectrum.realPart[0];
+        for (int k = 1; k < halfSpectrum.size; k++) {
+            re[k] = halfSpectrum.realPart[k];
+            im[k] = halfSpectrum.imaginaryPart[k];
+            re[size - k] = halfSpectrum.realPart[k];
+            im[size - k] = -halfSpectrum.imaginaryPart[k];
+        }
+        if (size % 2 == 0) {
+            im[size / 2] = 0d;
+        }
+
+        FourierBasisComputer basisComputer = COMPUTER_SUPPLIER.covering(size, FourierType.IDFT);
+        return ComplexNumber.separateToArrays(
+                RAW_DFT_EXECUTOR.compute(ComplexNumber.from(re, im), basisComputer))[0];
+    }
+
+    private static void assertClose(double[] result, double[] expected) {
+        double[] res = result.clone();
+        subtract(res, expected);
+
+        assertThat(normMax(res), is(lessThan(1E-12 * normMax(expected) + 1E-100)));
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+package matsu.num.transform.fft.dft.impl;
+
+import static matsu.num.transform.fft.NumberArrayDataCreator.*;
+import static matsu.num.transform.fft.lib.privatelib.ArraysUtilStaticForTestModule.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+
+import matsu.num.transform.fft.DFTExecutor;
+import matsu.num.transform.fft.MultiDimDFTExecutor;
+import matsu.num.transform.fft.dto.ComplexNumberArrayDTO;
+import matsu.num.transform.fft.lib.TrigonometryForTesting;
+import matsu.num.transform.fft.lib.privatelib.ArraysUtilForTesting;
+import matsu.num.transform.fft.validation.DataSizeNotMismatchException;
+import matsu.num.transform.fft.validation.DataSizeTooLargeException;
+import matsu.num.transform.fft.validation.NotRequiredDataSizeException;
+
+/**
+ * {@link GenericMultiDimDFTExecutor} クラスのテスト.
+ */
+@RunWith(Enclosed.class)
+final class GenericMultiDimDFTExecutorTest {
+
+    public static final Class<?> TEST_CLASS = GenericMultiDimDFTExecutor.class;
+    private static final MultiDimDFTExecutor EXECUTOR_NEW = new GenericMultiDimDFTExecutor(
+            TrigonometryForTesting.INSTANCE, ArraysUtilForTesting.INSTANCE);
+
+    private static final DFTExecutor DFT_1D = new GenericDFTExecutor(
+            TrigonometryForTesting.INSTANCE, ArraysUtilForTesting.INSTANCE);
+
+    public static class 形状の検証 {
+
+        @Test(expected = DataSizeNotMismatchException.class)
+        public void test_次元が1の場合はDSNMEx() {
+            EXECUTOR_NEW.apply(ComplexNumberArrayDTO.zeroFilledOf(8), new int[] { 8 });
+        }
+
+        @Test(expected = DataSizeNotMismatchException.class)
+        public void test_次元が4の場合はDSNMEx() {
+            EXECUTOR_NEW.apply(ComplexNumberArrayDTO.zeroFilledOf(16), new int[] { 2, 2, 2, 2 });
+        }
+
+        @Test(expected = NotRequiredDataSizeException.class)
+        public void test_軸の長さが0の場合はNRDSEx() {
+            EXECUTOR_NEW.apply(ComplexNumberArrayDTO.zeroFilledOf(0), new int[] { 4, 0 });
+        }
+
+        @Test(expected = DataSizeNotMismatchException.class)
+        public void test_データサイズが形状と整合しない場合はDSNMEx() {
+            EXECUTOR_NEW.apply(ComplexNumberArrayDTO.zeroFilledOf(12), new int[] { 3, 5 });
+        }
+
+        @Test(expected = DataSizeTooLargeException.class)
+        public void test_全要素数が大きすぎる場合はDSTLEx() {
+            EXECUTOR_NEW.apply(ComplexNumberArrayDTO.zeroFilledOf(1), new int[] { 0x1_0000, 0x1_0000 });
+        }
+    }
+
+    public static class 多次元DFTの実行を検証 {
+
+        @Test
+        public void test_2次元DFTは1次元DFTの合成と一致() {
+            for (int[] shape : new int[][] { { 1, 1 }, { 1, 7 }, { 6, 1 }, { 5, 12 }, { 33, 20 } }) {
+                check(shape);
+            }
+        }
+
+        @Test
+        public void test_3次元DFTは1次元DFTの合成と一致() {
+            for (int[] shape : new int[][] { { 2, 3, 4 }, { 7, 1, 18 }, { 5, 17, 3 } }) {
+                check(shape);
+            }
+        }
+
+        @Test
+        public void test_並列実行の結果は逐次実行と一致() {
+            int[] shape = { 24, 40, 9 };
+            ComplexNumberArrayDTO data = createComplexArrayDTO(24 * 40 * 9);
+            ComplexNumberArrayDTO expected = EXECUTOR_NEW.apply(data, shape, false);
+            ComplexNumberArrayDTO result = EXECUTOR_NEW.apply(data, shape, true);
+            assertThat(result.realPart, is(expected.realPart));
+            assertThat(result.imaginaryPart, is(expected.imaginaryPart));
+        }
+
+        @Test
+        public void test_不正値を含む場合はNaN() {
+            ComplexNumberArrayDTO data = createComplexArrayDTO(12);
+            data.imaginaryPart[5] = Double.NaN;
+            ComplexNumberArrayDTO result = EXECUTOR_NEW.apply(data, new int[] { 3, 4 });
+            for (int k = 0; k < result.size; k++) {
+                assertThat(result.realPart[k], is(Double.NaN));
+                assertThat(result.imaginaryPart[k], is(Double.NaN));
+            }
+        }
+
+        private static void check(int[] shape) {
+            int size = 1;
+            for (int n : shape) {
+                size *= n;
+            }
+            ComplexNumberArrayDTO data = createComplexArrayDTO(size);
+            ComplexNumberArrayDTO result = EXECUTOR_NEW.apply(data, shape);
+            ComplexNumberArrayDTO expected = separableBy1D(data, shape);
+
+            double[] resReal = result.realPart.clone();
+            double[] resImag = result.imaginaryPart.clone();
+            subtract(resReal, expected.realPart);
+            subtract(resImag, expected.imaginaryPart);
+
+            double resNorm = Math.max(normMax(resReal), normMax(resImag));
+            double norm = Math.max(normMax(expected.realPart), normMax(expected.imaginaryPart));
+            assertThat(resNorm, is(lessThan(1E-12 * norm + 1E-100)));
+        }
+
+        /**
+         * 各軸に沿って1次元DFTを素朴に適用する.
+         */
+        private static ComplexNumberArrayDTO separableBy1D(ComplexNumberArrayDTO data, int[] shape) {
+            double[] re = data.realPart.clone();
+            double[] im = data.imaginaryPart.clone();
+            for (int axis = 0; axis < shape.length; axis++) {
+                int outer = 1;
+                for (int d = 0; d < axis; d++) {
+                    outer *= shape[d];
+                }
+                int inner = 1;
+                for (int d = axis + 1; d < shape.length; d++) {
+                    inner *= shape[d];
+                }
+                int n = shape[axis];
+                for (int o = 0; o < outer; o++) {
+                    for (int i = 0; i < inner; i++) {
+                        ComplexNumberArrayDTO line = ComplexNumberArrayDTO.zeroFilledOf(n);
+                        for (int j = 0; j < n; j++) {
+                            line.realPart[j] = re[(o * n + j) * inner + i];
+                            line.imaginaryPart[j] = im[(o * n + j) * inner + i];
+                        }
+                        ComplexNumberArrayDTO transformed = DFT_1D.apply(line);
+                        for (int j = 0; j < n; j++) {
+                            re[(o * n + j) * inner + i] = transformed.realPart[j];
+                            im[(o * n + j) * inner + i] = transformed.imaginaryPart[j];
+                        }
+                    }
+                }
+            }
+
+            ComplexNumberArrayDTO out = ComplexNumberArrayDTO.zeroFilledOf(data.size);
+            System.arraycopy(re, 0, out.realPart, 0, data.size);
+            System.arraycopy(im, 0, out.imaginaryPart, 0, data.size);
+            return out;
+        }
+    }
+
+    public static class toString表示の検証 {
+
+        @Test
+        public void test_toString表示() {
+            System.out.println(TEST_CLASS.getName());
+            System.out.println(EXECUTOR_NEW);
+            System.out.println();
+        }
+    }
+}
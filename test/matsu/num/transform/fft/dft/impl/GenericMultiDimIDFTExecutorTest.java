@@ -0,0 +1,72 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+package matsu.num.transform.fft.dft.impl;
+
+import static matsu.num.transform.fft.NumberArrayDataCreator.*;
+import static matsu.num.transform.fft.lib.privatelib.ArraysUtilStaticForTestModule.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+
+import matsu.num.transform.fft.MultiDimDFTExecutor;
+import matsu.num.transform.fft.MultiDimIDFTExecutor;
+import matsu.num.transform.fft.dto.ComplexNumberArrayDTO;
+import matsu.num.transform.fft.lib.TrigonometryForTesting;
+import matsu.num.transform.fft.lib.privatelib.ArraysUtilForTesting;
+
+/**
+ * {@link GenericMultiDimIDFTExecutor} クラスのテスト.
+ */
+@RunWith(Enclosed.class)
+final class GenericMultiDimIDFTExecutorTest {
+
+    public static final Class<?> TEST_CLASS = GenericMultiDimIDFTExecutor.class;
+    private static final MultiDimIDFTExecutor EXECUTOR_NEW = new GenericMultiDimIDFTExecutor(
+            TrigonometryForTesting.INSTANCE, ArraysUtilForTesting.INSTANCE);
+
+    private static final MultiDimDFTExecutor DFT = new GenericMultiDimDFTExecutor(
+            TrigonometryForTesting.INSTANCE, ArraysUtilForTesting.INSTANCE);
+
+    public static class 多次元IDFTの実行を検証 {
+
+        @Test
+        public void test_DFTとIDFTで全要素数倍に戻る() {
+            for (int[] shape : new int[][] { { 4, 6 }, { 13, 10 }, { 3, 5, 7 }, { 8, 2, 16 } }) {
+                int size = 1;
+                for (int n : shape) {
+                    size *= n;
+                }
+                ComplexNumberArrayDTO data = createComplexArrayDTO(size);
+                ComplexNumberArrayDTO result = EXECUTOR_NEW.apply(DFT.apply(data, shape), shape, true);
+
+                double[] resReal = result.realPart.clone();
+                double[] resImag = result.imaginaryPart.clone();
+                multiply(resReal, 1d / size);
+                multiply(resImag, 1d / size);
+                subtract(resReal, data.realPart);
+                subtract(resImag, data.imaginaryPart);
+
+                double resNorm = Math.max(normMax(resReal), normMax(resImag));
+                double norm = Math.max(normMax(data.realPart), normMax(data.imaginaryPart));
+                assertThat(resNorm, is(lessThan(1E-12 * norm + 1E-100)));
+            }
+        }
+    }
+
+    public static class toString表示の検証 {
+
+        @Test
+        public void test_toString表示() {
+            System.out.println(TEST_CLASS.getName());
+            System.out.println(EXECUTOR_NEW);
+            System.out.println();
+        }
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright © 2024 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+package matsu.num.transform.fft.dft.impl;
+
+import static matsu.num.transform.fft.NumberArrayDataCreator.*;
+import static matsu.num.transform.fft.lib.privatelib.ArraysUtilStaticForTestModule.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+import org.junit.Test.None;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.experimental.theories.DataPoints;
+import org.junit.experimental.theories.Theories;
+import org.junit.experimental.theories.Theory;
+import org.junit.runner.RunWith;
+
+import matsu.num.transform.fft.RFFTExecutor;
+import matsu.num.transform.fft.component.ComplexNumber;
+import matsu.num.transform.fft.component.FourierBasisComputer;
+import matsu.num.transform.fft.component.FourierBasisComputerSupplierDefaultHolder;
+import matsu.num.transform.fft.component.FourierType;
+import matsu.num.transform.fft.dto.ComplexNumberArrayDTO;
+import matsu.num.transform.fft.lib.TrigonometryForTesting;
+import matsu.num.transform.fft.lib.privatelib.ArraysUtilForTesting;
+import matsu.num.transform.fft.validation.DataSizeNotMismatchException;
+import matsu.num.transform.fft.validation.NotRequiredDataSizeException;
+
+/**
+ * {@link GenericRFFTExecutor}クラスのテスト.
+ */
+@RunWith(Enclosed.class)
+final class GenericRFFTExecutorTest {
+
+    public static final Class<?> TEST_CLASS = GenericRFFTExecutor.class;
+    public static final RFFTExecutor EXECUTOR_NEW = new GenericRFFTExecutor(
+            TrigonometryForTesting.INSTANCE, ArraysUtilForTesting.INSTANCE);
+
+    private static final FourierBasisComputer.Supplier COMPUTER_SUPPLIER =
+            FourierBasisComputerSupplierDefaultHolder.INSTANCE;
+    private static final RawDFTExecutorForTesting RAW_DFT_EXECUTOR = new RawDFTExecutorForTesting();
+
+    public static class 入力サイズの検証 {
+
+        @Test(expected = NotRequiredDataSizeException.class)
+        public void test_入力サイズが0でNRDSEx() {
+            EXECUTOR_NEW.apply(new double[0]);
+        }
+
+        @Test(expected = None.class)
+        public void test_入力サイズが1で正常() {
+            EXECUTOR_NEW.apply(new double[1]);
+        }
+
+        @Test(expected = DataSizeNotMismatchException.class)
+        public void test_対の入力サイズが異なるとDSNMEx() {
+            EXECUTOR_NEW.applyPair(new double[4], new double[5]);
+        }
+    }
+
+    @RunWith(Theories.class)
+    public static class RFFTの実行を検証 {
+
+        @DataPoints
+        public static final int[] sizes = { 1, 2, 3, 10, 49, 64, 1000, 829 };
+
+        @Theory
+        public void test_DFTの前半と一致(int size) {
+            double[] data = createArrayData(size);
+            ComplexNumberArrayDTO result = EXECUTOR_NEW.apply(data);
+            assertThat(result.size, is(size / 2 + 1));
+
+            assertClose(result, expectedHalfSpectrum(data));
+        }
+
+        @Theory
+        public void test_対の変換は個別の変換と一致(int size) {
+            double[] data1 = createArrayData(size);
+            double[] data2 = createArrayData(size);
+            //スケールの異なる系列を組み合わせる
+            multiply(data2, 1E-8);
+
+            ComplexNumberArrayDTO[] result = EXECUTOR_NEW.applyPair(data1, data2);
+            assertThat(result.length, is(2));
+
+            assertClose(result[0], expectedHalfSpectrum(data1));
+            assertClose(result[1], expectedHalfSpectrum(data2));
+        }
+    }
+
+    public static class 不正値の検証 {
+
+        @Test
+        public void test_非数を含むとNaN() {
+            double[] data = createArrayData(10);
+            data[3] = Double.NaN;
+            ComplexNumberArrayDTO result = EXECUTOR_NEW.apply(data);
+            assertThat(Double.isNaN(result.realPart[0]), is(true));
+            assertThat(Double.isNaN(result.imaginaryPart[5]), is(true));
+        }
+
+        @Test
+        public void test_対の変換では非数を含む側のみNaN() {
+            double[] data1 = createArrayData(10);
+            double[] data2 = createArrayData(10);
+            data1[3] = Double.POSITIVE_INFINITY;
+            ComplexNumberArrayDTO[] result = EXECUTOR_NEW.applyPair(data1, data2);
+            assertThat(Double.isNaN(result[0].realPart[0]), is(true));
+            assertClose(result[1], expectedHalfSpectrum(data2));
+        }
+    }
+
+    public static class toString表示の検証 {
+
+        @Test
+        public void test_toString表示() {
+            System.out.println(TEST_CLASS.getName());
+            System.out.println(EXECUTOR_NEW);
+            System.out.println();
+        }
+    }
+
+    /**
+     * RawなDFTにより, 半スペクトルの期待値を計算する.
+     */
+    private static double[][] expectedHalfSpectrum(double[] data) {
+        int size = data.length;
+        ComplexNumber[] complexData = ComplexNumber.from(data, new double[size]);
+        FourierBasisComputer basisComputer = COMPUTER_SUPPLIER.covering(size, FourierType.DFT);
+        double[][] full = ComplexNumber.separateToArrays(RAW_DFT_EXECUTOR.compute(complexData, basisComputer));
+        return new double[][] {
+                Arrays.copyOf(full[0], size / 2 + 1),
+                Arrays.copyOf(full[1], size / 2 + 1) };
+    }
+
+    private static void assertClose(ComplexNumberArrayDTO result, double[][] expected) {
+        double[] resReal = result.realPart.clone();
+        double[] resImag = result.imaginaryPart.clone();
+        subtract(resReal, expected[0]);
+        subtract(resImag, expected[1]);
+
+        double resNorm = Math.max(normMax(resReal), normMax(resImag));
+        double norm = Math.max(normMax(expected[0]), normMax(expected[1]));
+
+        assertThat(resNorm, is(lessThan(1E-12 * norm + 1E-100)));
+    }
+}
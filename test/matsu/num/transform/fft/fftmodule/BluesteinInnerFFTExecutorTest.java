@@ -0,0 +1,151 @@
+/*
+ * Copyright © 2024 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+package matsu.num.transform.fft.fftmodule;
+
+import static matsu.num.transform.fft.NumberArrayDataCreator.*;
+import static matsu.num.transform.fft.lib.privatelib.ArraysUtilStaticForTestModule.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.experimental.theories.DataPoint;
+import org.junit.experimental.theories.Theories;
+import org.junit.experimental.theories.Theory;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+
+import matsu.num.transform.fft.component.ComplexNumber;
+import matsu.num.transform.fft.component.FourierBasisComputer;
+import matsu.num.transform.fft.component.FourierBasisComputerSupplierDefaultHolder;
+import matsu.num.transform.fft.component.FourierType;
+
+/**
+ * {@link BluesteinInnerFFTExecutor}クラスのテスト.
+ */
+@RunWith(Enclosed.class)
+final class BluesteinInnerFFTExecutorTest {
+
+    public static final Class<?> TEST_CLASS = BluesteinInnerFFTExecutor.class;
+
+    private static final FourierBasisComputer.Supplier COMPUTER_SUPPLIER =
+            FourierBasisComputerSupplierDefaultHolder.INSTANCE;
+    private static final BluesteinInnerFFTExecutor BLUESTEIN_FFT_EXECUTOR = new BluesteinInnerFFTExecutor(COMPUTER_SUPPLIER);
+    private static final RawInnerDFTExecutor RAW_DFT_EXECUTOR = new RawInnerDFTExecutor();
+
+    @RunWith(Theories.class)
+    public static class FFT検証 {
+
+        @DataPoint
+        public static ComplexNumber[] data_size_3;
+        @DataPoint
+        public static ComplexNumber[] data_size_13;
+        @DataPoint
+        public static ComplexNumber[] data_size_225;
+        @DataPoint
+        public static ComplexNumber[] data_size_829;
+
+        @DataPoint
+        public static final FourierType DFT = FourierType.DFT;
+        @DataPoint
+        public static final FourierType IDFT = FourierType.IDFT;
+
+        @BeforeClass
+        public static void before_データを作成() {
+            data_size_3 = createComplexArrayData(3);
+            data_size_13 = createComplexArrayData(13);
+            data_size_225 = createComplexArrayData(225);
+            data_size_829 = createComplexArrayData(829);
+        }
+
+        @Theory
+        public void test_FFTの実行(ComplexNumber[] data, FourierType type) {
+            FourierBasisComputer basisComputer = COMPUTER_SUPPLIER.covering(data.length, type);
+            double[][] resultArray = ComplexNumber.separateToArrays(
+                    BLUESTEIN_FFT_EXECUTOR.compute(data, basisComputer));
+            double[][] expectedArray = ComplexNumber.separateToArrays(
+                    RAW_DFT_EXECUTOR.compute(data, basisComputer));
+
+            double[] resReal = resultArray[0].clone();
+            subtract(resReal, expectedArray[0]);
+            double[] resImag = resultArray[1].clone();
+            subtract(resImag, expectedArray[1]);
+
+            double norm = Math.max(
+                    normMax(expectedArray[0]), normMax(expectedArray[1]));
+            double normRes = Math.max(
+                    normMax(resReal), normMax(resImag));
+
+            assertThat(normRes, is(lessThan(1E-12 * norm + 1E-100)));
+        }
+    }
+
+    public static class プランのキャッシュのテスト {
+
+        /*
+         * 全体の標本サイズが異なる生成器から得た基底でも, 標本サイズとタイプが同じならプランが共有されることを確かめる.
+         */
+        @Test
+        public void test_生成器が異なる同一サイズの変換の繰り返し() {
+            final int n = 829;
+            BluesteinInnerFFTExecutor executor = new BluesteinInnerFFTExecutor(COMPUTER_SUPPLIER);
+            ComplexNumber[] data = createComplexArrayData(n);
+
+            for (FourierType type : FourierType.values()) {
+                double[][] expectedArray = ComplexNumber.separateToArrays(
+                        RAW_DFT_EXECUTOR.compute(data, COMPUTER_SUPPLIER.covering(n, type)));
+                double norm = Math.max(
+                        normMax(expectedArray[0]), normMax(expectedArray[1]));
+
+                for (int k = 1; k <= 4; k++) {
+                    FourierBasisComputer basisComputer = COMPUTER_SUPPLIER.covering(n * k, type);
+                    double[][] resultArray = ComplexNumber.separateToArrays(
+                            executor.compute(data, basisComputer));
+
+                    subtract(resultArray[0], expectedArray[0]);
+                    subtract(resultArray[1], expectedArray[1]);
+                    double normRes = Math.max(
+                            normMax(resultArray[0]), normMax(resultArray[1]));
+
+                    assertThat(normRes, is(lessThan(1E-12 * norm + 1E-100)));
+                }
+            }
+            assertThat(executor.cachedPlanCount(), is(2));
+        }
+
+        @Test
+        public void test_プランの個数は上限を超えない() {
+            BluesteinInnerFFTExecutor executor = new BluesteinInnerFFTExecutor(COMPUTER_SUPPLIER);
+            for (int k = 0; k < 2 * BluesteinInnerFFTExecutor.MAX_CACHED_PLANS; k++) {
+                int n = 2 * k + 3;
+                executor.computeInPlace(new double[n], new double[n], COMPUTER_SUPPLIER.covering(n, FourierType.DFT));
+            }
+            assertThat(executor.cachedPlanCount(), is(BluesteinInnerFFTExecutor.MAX_CACHED_PLANS));
+        }
+    }
+
+    public static class 例外のテスト {
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_偶数サイズは例外() {
+            BLUESTEIN_FFT_EXECUTOR.computeInPlace(
+                    new double[8], new double[8], COMPUTER_SUPPLIER.covering(8, FourierType.DFT));
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_サイズ1は例外() {
+            BLUESTEIN_FFT_EXECUTOR.computeInPlace(
+                    new double[1], new double[1], COMPUTER_SUPPLIER.covering(1, FourierType.DFT));
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_実部と虚部のサイズ不整合は例外() {
+            BLUESTEIN_FFT_EXECUTOR.computeInPlace(
+                    new double[13], new double[15], COMPUTER_SUPPLIER.covering(15, FourierType.DFT));
+        }
+    }
+}
@@ -11,6 +11,9 @@ import static matsu.num.transform.fft.lib.privatelib.ArraysUtilStaticForTestModu
 import static org.hamcrest.MatcherAssert.*;
 import static org.hamcrest.Matchers.*;
 
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.AfterClass;
 import org.junit.BeforeClass;
 import org.junit.experimental.runners.Enclosed;
 import org.junit.experimental.theories.DataPoint;
@@ -22,6 +25,7 @@ import matsu.num.transform.fft.component.ComplexNumber;
 import matsu.num.transform.fft.component.FourierBasisComputer;
 import matsu.num.transform.fft.component.FourierBasisComputerSupplierDefaultHolder;
 import matsu.num.transform.fft.component.FourierType;
+import matsu.num.transform.fft.component.ParallelPolicy;
 
 /**
  * {@link GenericInnerFFTExecutor}クラスのテスト.
@@ -47,6 +51,10 @@ final class GenericInnerFFTExecutorTest {
         public static ComplexNumber[] data_size_100;
         @DataPoint
         public static ComplexNumber[] data_size_2_41_43;
+        @DataPoint
+        public static ComplexNumber[] data_size_8_125;
+        @DataPoint
+        public static ComplexNumber[] data_size_16_15_7;
 
         @BeforeClass
         public static void before_data_size_8_ノコギリ波のデータを作成() {
@@ -63,6 +71,12 @@ final class GenericInnerFFTExecutorTest {
             data_size_2_41_43 = createComplexArrayData(2 * 41 * 43);
         }
 
+        @BeforeClass
+        public static void before_data_size_互いに素な因数を持つデータを作成() {
+            data_size_8_125 = createComplexArrayData(8 * 125);
+            data_size_16_15_7 = createComplexArrayData(16 * 15 * 7);
+        }
+
         @Theory
         public void test_FFTの実行(ComplexNumber[] data) {
             FourierBasisComputer basisComputer = COMPUTER_SUPPLIER.covering(data.length, FourierType.DFT);
@@ -84,4 +98,126 @@ final class GenericInnerFFTExecutorTest {
             assertThat(normRes, is(lessThan(1E-12 * norm + 1E-100)));
         }
     }
+
+    @RunWith(Theories.class)
+    public static class 配列上のFFT検証 {
+
+        @DataPoint
+        public static ComplexNumber[] data_size_12;
+        @DataPoint
+        public static ComplexNumber[] data_size_2_331;
+
+        @BeforeClass
+        public static void before_data_size_12_データを作成() {
+            data_size_12 = createComplexArrayData(12);
+        }
+
+        @BeforeClass
+        public static void before_data_size_2_331_データを作成() {
+            data_size_2_331 = createComplexArrayData(2 * 331);
+        }
+
+        @Theory
+        public void test_配列上でのFFTの実行(ComplexNumber[] data) {
+            FourierBasisComputer basisComputer = COMPUTER_SUPPLIER.covering(data.length, FourierType.IDFT);
+            double[][] resultArray = ComplexNumber.separateToArrays(data);
+            GENERIC_INNER_FFT_EXECUTOR.computeInPlace(resultArray[0], resultArray[1], basisComputer);
+            double[][] expectedArray = ComplexNumber.separateToArrays(
+                    RAW_DFT_EXECUTOR.compute(data, basisComputer));
+
+            double[] resReal = resultArray[0].clone();
+            subtract(resReal, expectedArray[0]);
+            double[] resImag = resultArray[1].clone();
+            subtract(resImag, expectedArray[1]);
+
+            double norm = Math.max(
+                    normMax(expectedArray[0]), normMax(expectedArray[1]));
+            double normRes = Math.max(
+                    normMax(resReal), normMax(resImag));
+
+            assertThat(normRes, is(lessThan(1E-12 * norm + 1E-100)));
+        }
+    }
+
+    @RunWith(Theories.class)
+    public static class 並列実行の検証 {
+
+        private static ForkJoinPool pool;
+        private static GenericInnerFFTExecutor parallelExecutor;
+
+        @DataPoint
+        public static ComplexNumber[] data_size_1024;
+        @DataPoint
+        public static ComplexNumber[] data_size_2048;
+        @DataPoint
+        public static ComplexNumber[] data_size_2_41_43;
+        @DataPoint
+        public static ComplexNumber[] data_size_16_15_7;
+        @DataPoint
+        public static ComplexNumber[] data_size_3_641;
+
+        @BeforeClass
+        public static void before_閾値の小さい並列実行の方針を用意() {
+            pool = new ForkJoinPool(4);
+            parallelExecutor = new GenericInnerFFTExecutor(
+                    COMPUTER_SUPPLIER, ParallelPolicy.of(pool, 16));
+        }
+
+        @BeforeClass
+        public static void before_データを作成() {
+            data_size_1024 = createComplexArrayData(1024);
+            data_size_2048 = createComplexArrayData(2048);
+            data_size_2_41_43 = createComplexArrayData(2 * 41 * 43);
+            data_size_16_15_7 = createComplexArrayData(16 * 15 * 7);
+            data_size_3_641 = createComplexArrayData(3 * 641);
+        }
+
+        @AfterClass
+        public static void after_プールの終了() {
+            pool.shutdown();
+        }
+
+        @Theory
+        public void test_並列実行の結果は直接DFTと一致(ComplexNumber[] data) {
+            FourierBasisComputer basisComputer = COMPUTER_SUPPLIER.covering(data.length, FourierType.DFT);
+            double[][] resultArray = ComplexNumber.separateToArrays(data);
+            parallelExecutor.plan(data.length, basisComputer)
+                    .computeInPlace(resultArray[0], resultArray[1]);
+            double[][] expectedArray = ComplexNumber.separateToArrays(
+                    RAW_DFT_EXECUTOR.compute(data, basisComputer));
+
+            double[] resReal = resultArray[0].clone();
+            subtract(resReal, expectedArray[0]);
+            double[] resImag = resultArray[1].clone();
+            subtract(resImag, expectedArray[1]);
+
+            double norm = Math.max(
+                    normMax(expectedArray[0]), normMax(expectedArray[1]));
+            double normRes = Math.max(
+                    normMax(resReal), normMax(resImag));
+
+            assertThat(normRes, is(lessThan(1E-12 * norm + 1E-100)));
+        }
+
+        @Theory
+        public void test_並列実行と逐次実行の結果は一致(ComplexNumber[] data) {
+            FourierBasisComputer basisComputer = COMPUTER_SUPPLIER.covering(data.length, FourierType.IDFT);
+            double[][] resultArray = ComplexNumber.separateToArrays(data);
+            parallelExecutor.computeInPlace(resultArray[0], resultArray[1], basisComputer);
+            double[][] expectedArray = ComplexNumber.separateToArrays(data);
+            GENERIC_INNER_FFT_EXECUTOR.computeInPlace(expectedArray[0], expectedArray[1], basisComputer);
+
+            double[] resReal = resultArray[0].clone();
+            subtract(resReal, expectedArray[0]);
+            double[] resImag = resultArray[1].clone();
+            subtract(resImag, expectedArray[1]);
+
+            double norm = Math.max(
+                    normMax(expectedArray[0]), normMax(expectedArray[1]));
+            double normRes = Math.max(
+                    normMax(resReal), normMax(resImag));
+
+            assertThat(normRes, is(lessThan(1E-12 * norm + 1E-100)));
+        }
+    }
 }
@@ -58,6 +58,10 @@ final class Power2InnerFFTExecutorTest {
         public static ComplexNumber[] data_size_8;
         @DataPoint
         public static ComplexNumber[] data_size_16;
+        @DataPoint
+        public static ComplexNumber[] data_size_32;
+        @DataPoint
+        public static ComplexNumber[] data_size_1024;
 
         @BeforeClass
         public static void before_data_size_4_複素数のデータを作成() {
@@ -79,6 +83,16 @@ final class Power2InnerFFTExecutorTest {
             data_size_16 = createComplexArrayData(16);
         }
 
+        @BeforeClass
+        public static void before_data_size_32_複素数のデータを作成() {
+            data_size_32 = createComplexArrayData(32);
+        }
+
+        @BeforeClass
+        public static void before_data_size_1024_複素数のデータを作成() {
+            data_size_1024 = createComplexArrayData(1024);
+        }
+
         @Theory
         public void test_FFTの実行(ComplexNumber[] data) {
             FourierBasisComputer basisComputer = COMPUTER_SUPPLIER.covering(data.length, FourierType.DFT);
@@ -0,0 +1,131 @@
+/*
+ * Copyright © 2024 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+package matsu.num.transform.fft.fftmodule;
+
+import static matsu.num.transform.fft.NumberArrayDataCreator.*;
+import static matsu.num.transform.fft.lib.privatelib.ArraysUtilStaticForTestModule.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.experimental.theories.DataPoint;
+import org.junit.experimental.theories.Theories;
+import org.junit.experimental.theories.Theory;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+
+import matsu.num.transform.fft.component.ComplexNumber;
+import matsu.num.transform.fft.component.FourierBasisComputer;
+import matsu.num.transform.fft.component.FourierBasisComputerSupplierDefaultHolder;
+import matsu.num.transform.fft.component.FourierType;
+
+/**
+ * {@link PrimeInnerFFTExecutor}クラスのテスト.
+ */
+@RunWith(Enclosed.class)
+final class PrimeInnerFFTExecutorTest {
+
+    public static final Class<?> TEST_CLASS = PrimeInnerFFTExecutor.class;
+
+    private static final FourierBasisComputer.Supplier COMPUTER_SUPPLIER =
+            FourierBasisComputerSupplierDefaultHolder.INSTANCE;
+    private static final PrimeInnerFFTExecutor PRIME_FFT_EXECUTOR = new PrimeInnerFFTExecutor(COMPUTER_SUPPLIER);
+    private static final RawInnerDFTExecutor RAW_DFT_EXECUTOR = new RawInnerDFTExecutor();
+
+    @RunWith(Theories.class)
+    public static class FFT検証 {
+
+        @DataPoint
+        public static ComplexNumber[] data_size_13;
+        @DataPoint
+        public static ComplexNumber[] data_size_829;
+
+        @DataPoint
+        public static final FourierType DFT = FourierType.DFT;
+        @DataPoint
+        public static final FourierType IDFT = FourierType.IDFT;
+
+        @BeforeClass
+        public static void before_データを作成() {
+            data_size_13 = createComplexArrayData(13);
+            data_size_829 = createComplexArrayData(829);
+        }
+
+        /*
+         * 13はRader, 829はBluesteinで実行される.
+         */
+        @Theory
+        public void test_FFTの実行(ComplexNumber[] data, FourierType type) {
+            FourierBasisComputer basisComputer = COMPUTER_SUPPLIER.covering(data.length, type);
+            PRIME_FFT_EXECUTOR.compute(data, basisComputer);
+            double[][] resultArray = ComplexNumber.separateToArrays(
+                    PRIME_FFT_EXECUTOR.compute(data, basisComputer));
+            double[][] expectedArray = ComplexNumber.separateToArrays(
+                    RAW_DFT_EXECUTOR.compute(data, basisComputer));
+
+            double[] resReal = resultArray[0].clone();
+            subtract(resReal, expectedArray[0]);
+            double[] resImag = resultArray[1].clone();
+            subtract(resImag, expectedArray[1]);
+
+            double norm = Math.max(
+                    normMax(expectedArray[0]), normMax(expectedArray[1]));
+            double normRes = Math.max(
+                    normMax(resReal), normMax(resImag));
+
+            assertThat(normRes, is(lessThan(1E-12 * norm + 1E-100)));
+        }
+    }
+
+    public static class アルゴリズムの選択の検証 {
+
+        @Test
+        public void test_N_1が2の累乗と小さな奇数の積ならばRader() {
+            assertThat(PrimeInnerFFTExecutor.prefersRader(3), is(true));
+            assertThat(PrimeInnerFFTExecutor.prefersRader(13), is(true));
+            assertThat(PrimeInnerFFTExecutor.prefersRader(65537), is(true));
+            assertThat(PrimeInnerFFTExecutor.prefersRader(786433), is(true));
+            assertThat(PrimeInnerFFTExecutor.prefersRader(1179649), is(true));
+        }
+
+        @Test
+        public void test_N_1の奇数部分が大きければBluestein() {
+            assertThat(PrimeInnerFFTExecutor.prefersRader(829), is(false));
+            assertThat(PrimeInnerFFTExecutor.prefersRader(1531), is(false));
+            assertThat(PrimeInnerFFTExecutor.prefersRader(100003), is(false));
+        }
+
+        @Test
+        public void test_選択は呼び出しによらず一定で結果は一致する() {
+            ComplexNumber[] data = createComplexArrayData(829);
+            FourierBasisComputer basisComputer = COMPUTER_SUPPLIER.covering(data.length, FourierType.DFT);
+            PrimeInnerFFTExecutor executor1 = new PrimeInnerFFTExecutor(COMPUTER_SUPPLIER);
+            PrimeInnerFFTExecutor executor2 = new PrimeInnerFFTExecutor(COMPUTER_SUPPLIER);
+
+            double[][] result1 = ComplexNumber.separateToArrays(executor1.compute(data, basisComputer));
+            double[][] result2 = ComplexNumber.separateToArrays(executor2.compute(data, basisComputer));
+            assertThat(result2[0], is(result1[0]));
+            assertThat(result2[1], is(result1[1]));
+        }
+    }
+
+    public static class 例外のテスト {
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_サイズ1は例外() {
+            PRIME_FFT_EXECUTOR.computeInPlace(
+                    new double[1], new double[1], COMPUTER_SUPPLIER.covering(1, FourierType.DFT));
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_偶数サイズは例外() {
+            PRIME_FFT_EXECUTOR.computeInPlace(
+                    new double[8], new double[8], COMPUTER_SUPPLIER.covering(8, FourierType.DFT));
+        }
+    }
+}
@@ -12,6 +12,8 @@ import static org.hamcrest.MatcherAssert.*;
 import static org.hamcrest.Matchers.*;
 
 import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
 import org.junit.experimental.theories.DataPoint;
 import org.junit.experimental.theories.Theories;
 import org.junit.experimental.theories.Theory;
@@ -25,6 +27,7 @@ import matsu.num.transform.fft.component.FourierType;
 /**
  * {@link PrimeRaderInnerFFTExecutor}クラスのテスト.
  */
+@RunWith(Enclosed.class)
 final class PrimeRaderInnerFFTExecutorTest {
 
     public static final Class<?> TEST_CLASS = PrimeRaderInnerFFTExecutor.class;
@@ -41,6 +44,8 @@ final class PrimeRaderInnerFFTExecutorTest {
         public static ComplexNumber[] data_size_13;
         @DataPoint
         public static ComplexNumber[] data_size_829;
+        @DataPoint
+        public static ComplexNumber[] data_size_1487;
 
         @BeforeClass
         public static void before_data_size_13_ノコギリ波のデータを作成() {
@@ -52,6 +57,15 @@ final class PrimeRaderInnerFFTExecutorTest {
             data_size_829 = createComplexArrayData(829);
         }
 
+        /*
+         * 1486 = 2 * 743 は大きな素因数を持つので, 2の累乗に拡張した巡回畳み込みが使われる.
+         * (829の場合は, 828 = 2^2 * 3^2 * 23 のまま計算される.)
+         */
+        @BeforeClass
+        public static void before_data_size_1487_データを作成() {
+            data_size_1487 = createComplexArrayData(1487);
+        }
+
         @Theory
         public void test_FFTの実行(ComplexNumber[] data) {
             FourierBasisComputer basisComputer = COMPUTER_SUPPLIER.covering(data.length, FourierType.DFT);
@@ -73,4 +87,70 @@ final class PrimeRaderInnerFFTExecutorTest {
             assertThat(normRes, is(lessThan(1E-12 * norm + 1E-100)));
         }
     }
+
+    public static class プランのキャッシュのテスト {
+
+        /*
+         * キャッシュ上限を超える個数の素数を処理した後も, 結果が正しいことを確かめる.
+         */
+        @Test
+        public void test_上限を超える素数の変換() {
+            int[] primes = {
+                    3, 5, 7, 11, 13, 17, 19, 23, 29, 31, 37, 41, 43, 47, 53, 59, 61, 67, 71, 73,
+                    79, 83, 89, 97, 101, 103, 107, 109, 113, 127, 131, 137, 139, 149, 151, 157 };
+            assertThat(primes.length, is(greaterThan(PrimeRaderInnerFFTExecutor.MAX_CACHED_PLANS)));
+
+            PrimeRaderInnerFFTExecutor executor = new PrimeRaderInnerFFTExecutor(COMPUTER_SUPPLIER);
+            for (int round = 0; round < 2; round++) {
+                for (int p : primes) {
+                    for (FourierType type : FourierType.values()) {
+                        ComplexNumber[] data = createComplexArrayData(p);
+                        FourierBasisComputer basisComputer = COMPUTER_SUPPLIER.covering(p, type);
+                        double[][] resultArray = ComplexNumber.separateToArrays(
+                                executor.compute(data, basisComputer));
+                        double[][] expectedArray = ComplexNumber.separateToArrays(
+                                RAW_DFT_EXECUTOR.compute(data, basisComputer));
+
+                        subtract(resultArray[0], expectedArray[0]);
+                        subtract(resultArray[1], expectedArray[1]);
+                        double norm = Math.max(
+                                normMax(expectedArray[0]), normMax(expectedArray[1]));
+                        double normRes = Math.max(
+                                normMax(resultArray[0]), normMax(resultArray[1]));
+
+                        assertThat(normRes, is(lessThan(1E-12 * norm + 1E-100)));
+                    }
+                }
+            }
+        }
+
+        /*
+         * 混合基数のFFTでは, 素因数の基底は全体の標本サイズの生成器から得られ, その値を共有する.
+         * 全体の標本サイズが異なる変換を繰り返しても, 素数とタイプが同じならプランが共有されることを確かめる.
+         */
+        @Test
+        public void test_全体の標本サイズが異なる混合基数の変換の繰り返し() {
+            final int p = 1153;
+            PrimeRaderInnerFFTExecutor executor = new PrimeRaderInnerFFTExecutor(COMPUTER_SUPPLIER);
+            ComplexNumber[] data = createComplexArrayData(p);
+            double[][] expectedArray = ComplexNumber.separateToArrays(
+                    RAW_DFT_EXECUTOR.compute(data, COMPUTER_SUPPLIER.covering(p, FourierType.DFT)));
+            double norm = Math.max(
+                    normMax(expectedArray[0]), normMax(expectedArray[1]));
+
+            for (int k = 1; k <= 2 * PrimeRaderInnerFFTExecutor.MAX_CACHED_PLANS; k++) {
+                FourierBasisComputer basisComputer = COMPUTER_SUPPLIER.covering(p * k, FourierType.DFT);
+                double[][] resultArray = ComplexNumber.separateToArrays(
+                        executor.compute(data, basisComputer));
+
+                subtract(resultArray[0], expectedArray[0]);
+                subtract(resultArray[1], expectedArray[1]);
+                double normRes = Math.max(
+                        normMax(resultArray[0]), normMax(resultArray[1]));
+
+                assertThat(normRes, is(lessThan(1E-12 * norm + 1E-100)));
+            }
+            assertThat(executor.cachedPlanCount(), is(1));
+        }
+    }
 }
@@ -0,0 +1,109 @@
+/*
+ * Copyright © 2024 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+package matsu.num.transform.fft.fftmodule;
+
+import static matsu.num.transform.fft.lib.privatelib.ArraysUtilStaticForTestModule.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.util.Random;
+
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.experimental.theories.DataPoints;
+import org.junit.experimental.theories.Theories;
+import org.junit.experimental.theories.Theory;
+import org.junit.runner.RunWith;
+
+import matsu.num.transform.fft.component.ComplexNumber;
+import matsu.num.transform.fft.component.FourierBasisComputerSupplierDefaultHolder;
+
+/**
+ * {@link RealCyclicConvolutionModule}クラスのテスト.
+ */
+@RunWith(Enclosed.class)
+final class RealCyclicConvolutionModuleTest {
+
+    public static final Class<?> TEST_CLASS = RealCyclicConvolutionModule.class;
+
+    private static final RealCyclicConvolutionModule REAL_CYCLIC_CONVOLUTION_MODULE =
+            new RealCyclicConvolutionModule(FourierBasisComputerSupplierDefaultHolder.INSTANCE);
+
+    @RunWith(Theories.class)
+    public static class 畳み込み検証 {
+
+        @DataPoints
+        public static final int[] sizes = { 1, 2, 4, 7, 12, 64, 105, 331 };
+
+        @Theory
+        public void test_畳み込みの実行(int size) {
+            Random random = new Random(size);
+            double[] f = new double[size];
+            double[] g = new double[size];
+            for (int j = 0; j < size; j++) {
+                f[j] = random.nextDouble() - 0.5;
+                g[j] = random.nextDouble() - 0.5;
+            }
+
+            double[] result = REAL_CYCLIC_CONVOLUTION_MODULE.compute(f, g);
+            double[] expected = ComplexNumber.separateToArrays(
+                    new CyclicConvolutionMoch(
+                            ComplexNumber.from(f, new double[size]),
+                            ComplexNumber.from(g, new double[size])).computeConvolution())[0];
+
+            double[] res = result.clone();
+            subtract(res, expected);
+
+            double norm = normMax(f) * normMax(g) * size;
+            assertThat(normMax(res), is(lessThan(1E-12 * norm + 1E-100)));
+        }
+
+        @Theory
+        public void test_プランの実行は同一結果(int size) {
+            double[] f = new double[size];
+            double[] g = new double[size];
+            for (int j = 0; j < size; j++) {
+                f[j] = j;
+                g[j] = size - j;
+            }
+
+            assertThat(
+                    REAL_CYCLIC_CONVOLUTION_MODULE.plan(size).compute(f, g),
+                    is(REAL_CYCLIC_CONVOLUTION_MODULE.compute(f, g)));
+        }
+
+        @Theory
+        public void test_カーネル固定の実行(int size) {
+            Random random = new Random(size + 1);
+            double[] f = new double[size];
+            double[] g = new double[size];
+            for (int j = 0; j < size; j++) {
+                f[j] = random.nextDouble() - 0.5;
+                g[j] = random.nextDouble() - 0.5;
+            }
+
+            double[] res = REAL_CYCLIC_CONVOLUTION_MODULE.plan(size).prepare(g).compute(f);
+            subtract(res, REAL_CYCLIC_CONVOLUTION_MODULE.compute(f, g));
+
+            double norm = normMax(f) * normMax(g) * size;
+            assertThat(normMax(res), is(lessThan(1E-12 * norm + 1E-100)));
+        }
+    }
+
+    public static class 例外の検証 {
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_長さが異なると例外() {
+            REAL_CYCLIC_CONVOLUTION_MODULE.compute(new double[4], new double[5]);
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_長さ0で例外() {
+            REAL_CYCLIC_CONVOLUTION_MODULE.plan(0);
+        }
+    }
+}
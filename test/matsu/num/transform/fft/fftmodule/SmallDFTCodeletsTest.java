@@ -0,0 +1,95 @@
+/*
+ * Copyright © 2024 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+package matsu.num.transform.fft.fftmodule;
+
+import static matsu.num.transform.fft.NumberArrayDataCreator.*;
+import static matsu.num.transform.fft.lib.privatelib.ArraysUtilStaticForTestModule.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.experimental.theories.DataPoints;
+import org.junit.experimental.theories.Theories;
+import org.junit.experimental.theories.Theory;
+import org.junit.runner.RunWith;
+
+import matsu.num.transform.fft.component.ComplexNumber;
+import matsu.num.transform.fft.component.FourierBasisComputer;
+import matsu.num.transform.fft.component.FourierBasisComputerSupplierDefaultHolder;
+import matsu.num.transform.fft.component.FourierType;
+
+/**
+ * {@link SmallDFTCodelets}クラスのテスト.
+ */
+@RunWith(Enclosed.class)
+final class SmallDFTCodeletsTest {
+
+    public static final Class<?> TEST_CLASS = SmallDFTCodelets.class;
+
+    private static final FourierBasisComputer.Supplier COMPUTER_SUPPLIER =
+            FourierBasisComputerSupplierDefaultHolder.INSTANCE;
+
+    private static final RawInnerDFTExecutor RAW_DFT_EXECUTOR = new RawInnerDFTExecutor();
+
+    public static class 対応サイズのテスト {
+
+        @Test
+        public void test_対応サイズ() {
+            for (int n : new int[] { 2, 3, 4, 5, 6, 7, 8, 9, 10, 12, 15, 16, 32, 64 }) {
+                assertThat(SmallDFTCodelets.supports(n), is(true));
+            }
+            for (int n : new int[] { 11, 13, 14, 18, 128 }) {
+                assertThat(SmallDFTCodelets.supports(n), is(false));
+            }
+        }
+    }
+
+    @RunWith(Theories.class)
+    public static class DFT検証 {
+
+        @DataPoints
+        public static int[] SIZE = { 2, 3, 4, 5, 6, 7, 8, 9, 10, 12, 15, 16, 32, 64 };
+
+        @DataPoints
+        public static FourierType[] TYPE = FourierType.values();
+
+        @Theory
+        public void test_DFTの実行(int size, FourierType type) {
+            //オフセットを持つ範囲で検証する
+            final int offset = 3;
+            ComplexNumber[] data = createComplexArrayData(size);
+            FourierBasisComputer basisComputer = COMPUTER_SUPPLIER.covering(size, type);
+
+            double[][] dataArray = ComplexNumber.separateToArrays(data);
+            double[] re = new double[size + offset];
+            double[] im = new double[size + offset];
+            System.arraycopy(dataArray[0], 0, re, offset, size);
+            System.arraycopy(dataArray[1], 0, im, offset, size);
+            SmallDFTCodelets.compute(
+                    re, im, new double[size + offset], new double[size + offset],
+                    offset, size, basisComputer.getBasis(size));
+
+            double[][] expectedArray = ComplexNumber.separateToArrays(
+                    RAW_DFT_EXECUTOR.compute(data, basisComputer));
+
+            double[] resReal = new double[size];
+            System.arraycopy(re, offset, resReal, 0, size);
+            subtract(resReal, expectedArray[0]);
+            double[] resImag = new double[size];
+            System.arraycopy(im, offset, resImag, 0, size);
+            subtract(resImag, expectedArray[1]);
+
+            double norm = Math.max(
+                    normMax(expectedArray[0]), normMax(expectedArray[1]));
+            double normRes = Math.max(
+                    normMax(resReal), normMax(resImag));
+
+            assertThat(normRes, is(lessThan(1E-12 * norm + 1E-100)));
+        }
+    }
+}
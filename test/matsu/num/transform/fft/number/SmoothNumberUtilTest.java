@@ -0,0 +1,74 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+package matsu.num.transform.fft.number;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+
+/**
+ * {@link SmoothNumberUtil}クラスのテスト.
+ */
+@RunWith(Enclosed.class)
+final class SmoothNumberUtilTest {
+
+    public static final Class<?> TEST_CLASS = SmoothNumberUtil.class;
+
+    public static class is5Smoothのテスト {
+
+        @Test
+        public void test_判定() {
+            assertThat(SmoothNumberUtil.is5Smooth(1), is(true));
+            assertThat(SmoothNumberUtil.is5Smooth(2), is(true));
+            assertThat(SmoothNumberUtil.is5Smooth(360), is(true));
+            assertThat(SmoothNumberUtil.is5Smooth(0x4000_0000), is(true));
+
+            assertThat(SmoothNumberUtil.is5Smooth(7), is(false));
+            assertThat(SmoothNumberUtil.is5Smooth(22), is(false));
+            assertThat(SmoothNumberUtil.is5Smooth(0x7FFF_FFFF), is(false));
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_0以下は例外() {
+            SmoothNumberUtil.is5Smooth(0);
+        }
+    }
+
+    public static class ceilTo5Smoothのテスト {
+
+        @Test
+        public void test_小さい値で総当たりと一致() {
+            for (int n = 1; n <= 5000; n++) {
+                int expected = n;
+                while (!SmoothNumberUtil.is5Smooth(expected)) {
+                    expected++;
+                }
+                assertThat(SmoothNumberUtil.ceilTo5Smooth(n), is(expected));
+            }
+        }
+
+        @Test
+        public void test_大きい値() {
+            assertThat(SmoothNumberUtil.ceilTo5Smooth(0x4000_0000), is(0x4000_0000));
+            assertThat(SmoothNumberUtil.ceilTo5Smooth(0x3FFF_FFFF), is(0x4000_0000));
+            assertThat(SmoothNumberUtil.ceilTo5Smooth(1_000_001), is(1_012_500));
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_0以下は例外() {
+            SmoothNumberUtil.ceilTo5Smooth(0);
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_2の30乗を超える場合は例外() {
+            SmoothNumberUtil.ceilTo5Smooth(0x4000_0001);
+        }
+    }
+}
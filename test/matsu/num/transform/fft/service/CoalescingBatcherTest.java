@@ -0,0 +1,260 @@
+/*
+ * Copyright © 2025 Matsuura Y.
+ * 
+ * This software is released under the MIT License.
+ * http://opensource.org/licenses/mit-license.php
+ */
+package matsu.num.transform.fft.service;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+
+import matsu.num.transform.fft.DFTExecutor;
+import matsu.num.transform.fft.convolution.CyclicConvolutionExecutor;
+import matsu.num.transform.fft.dctdst.DCT2Executor;
+import matsu.num.transform.fft.dto.ComplexNumberArrayDTO;
+import matsu.num.transform.fft.validation.DataSizeNotMismatchException;
+import matsu.num.transform.fft.validation.NotRequiredDataSizeException;
+
+/**
+ * {@link CoalescingBatcher} クラスのテスト.
+ */
+@RunWith(Enclosed.class)
+final class CoalescingBatcherTest {
+
+    public static final Class<?> TEST_CLASS = CoalescingBatcher.class;
+
+    private static final FFTModuleExecutorProvider PROVIDER = FFTModuleExecutorProvider.byDefaultLib();
+
+    private static double[] createData(int size, int seed) {
+        double[] out = new double[size];
+        for (int j = 0; j < size; j++) {
+            out[j] = Math.sin(0.37 * (j + 1) * (seed + 1));
+        }
+        return out;
+    }
+
+    public static class 変換結果の検証 {
+
+        @Test
+        public void test_実数列の変換はapplyと一致() {
+            DCT2Executor executor = PROVIDER.get(DctDstExecutors.GENERIC_DCT2_EXECUTOR);
+            try (CoalescingBatcher batcher = CoalescingBatcher.Builder.of(PROVIDER).build()) {
+                List<double[]> inputs = new ArrayList<>();
+                List<CompletableFuture<double[]>> futures = new ArrayList<>();
+                for (int i = 0; i < 20; i++) {
+                    double[] data = createData(i % 2 == 0 ? 64 : 100, i);
+                    inputs.add(data);
+                    futures.add(batcher.submit(DctDstExecutors.GENERIC_DCT2_EXECUTOR, data));
+                }
+                for (int i = 0; i < inputs.size(); i++) {
+                    assertThat(futures.get(i).join(), is(executor.apply(inputs.get(i))));
+                }
+            }
+        }
+
+        @Test
+        public void test_複素数列の変換はapplyと一致() {
+            DFTExecutor executor = PROVIDER.get(DftExecutors.GENERIC_DFT_EXECUTOR);
+            try (CoalescingBatcher batcher = CoalescingBatcher.Builder.of(PROVIDER).build()) {
+                ComplexNumberArrayDTO data = ComplexNumberArrayDTO.zeroFilledOf(48);
+                for (int j = 0; j < data.size; j++) {
+                    data.realPart[j] = Math.sin(0.1 * j * j);
+                    data.imaginaryPart[j] = Math.cos(0.3 * j);
+                }
+
+                ComplexNumberArrayDTO result =
+                        batcher.submit(DftExecutors.GENERIC_DFT_EXECUTOR, data).join();
+                ComplexNumberArrayDTO expected = executor.apply(data);
+                assertThat(result.realPart, is(expected.realPart));
+                assertThat(result.imaginaryPart, is(expected.imaginaryPart));
+            }
+        }
+
+        @Test
+        public void test_2系列の変換はapplyと一致() {
+            CyclicConvolutionExecutor executor =
+                    PROVIDER.get(CyclicConvolutionExecutors.GENERIC_CYCLIC_CONVOLUTION_EXECUTOR);
+            try (CoalescingBatcher batcher = CoalescingBatcher.Builder.of(PROVIDER).build()) {
+                double[] f = createData(30, 1);
+                double[] g = createData(30, 2);
+                double[] result = batcher.submit(
+                        CyclicConvolutionExecutors.GENERIC_CYCLIC_CONVOLUTION_EXECUTOR, f, g).join();
+                assertThat(result, is(executor.apply(f, g)));
+            }
+        }
+    }
+
+    public static class 例外的な完了の検証 {
+
+        @Test
+        public void test_rejectされるサイズは例外的に完了する() {
+            try (CoalescingBatcher batcher = CoalescingBatcher.Builder.of(PROVIDER).build()) {
+                CompletableFuture<double[]> future =
+                        batcher.submit(DctDstExecutors.GENERIC_DCT2_EXECUTOR, new double[0]);
+                try {
+                    future.join();
+                } catch (CompletionException e) {
+                    assertThat(e.getCause(), is(instanceOf(NotRequiredDataSizeException.class)));
+                    return;
+                }
+                throw new AssertionError("例外的に完了していない");
+            }
+        }
+
+        @Test
+        public void test_fとgのサイズが整合しない場合は例外的に完了する() {
+            try (CoalescingBatcher batcher = CoalescingBatcher.Builder.of(PROVIDER).build()) {
+                CompletableFuture<double[]> future = batcher.submit(
+                        CyclicConvolutionExecutors.GENERIC_CYCLIC_CONVOLUTION_EXECUTOR,
+                        new double[8], new double[4]);
+                try {
+                    future.join();
+                } catch (CompletionException e) {
+                    assertThat(e.getCause(), is(instanceOf(DataSizeNotMismatchException.class)));
+                    return;
+                }
+                throw new AssertionError("例外的に完了していない");
+            }
+        }
+
+        @Test(expected = IllegalStateException.class)
+        public void test_クローズ後の要求はISEx() {
+            CoalescingBatcher batcher = CoalescingBatcher.Builder.of(PROVIDER).build();
+            batcher.close();
+            batcher.submit(DctDstExecutors.GENERIC_DCT2_EXECUTOR, new double[8]);
+        }
+    }
+
+    public static class バッチの形成の検証 {
+
+        @Test
+        public void test_上限に達するとバッチが実行される() {
+            //保留時間を長くし, 上限到達のみでバッチが実行されるようにする
+            try (CoalescingBatcher batcher = CoalescingBatcher.Builder.of(PROVIDER)
+                    .replacedMaxBatchSize(4)
+                    .replacedMaxDelay(Duration.ofHours(1))
+                    .replacedExecutor(Runnable::run)
+                    .build()) {
+
+                List<CompletableFuture<double[]>> futures = new ArrayList<>();
+                for (int i = 0; i < 3; i++) {
+                    futures.add(batcher.submit(DctDstExecutors.GENERIC_DCT2_EXECUTOR, createData(16, i)));
+                }
+                assertThat(batcher.metrics().queueDepth(), is(3));
+                assertThat(batcher.metrics().dispatchedBatchCount(), is(0L));
+                for (CompletableFuture<double[]> future : futures) {
+                    assertThat(future.isDone(), is(false));
+                }
+
+                futures.add(batcher.submit(DctDstExecutors.GENERIC_DCT2_EXECUTOR, createData(16, 3)));
+                for (CompletableFuture<double[]> future : futures) {
+                    assertThat(future.isDone(), is(true));
+                }
+
+                CoalescingBatcher.Metrics metrics = batcher.metrics();
+                assertThat(metrics.queueDepth(), is(0));
+                assertThat(metrics.submittedCount(), is(4L));
+                assertThat(metrics.dispatchedBatchCount(), is(1L));
+                assertThat(metrics.maxBatchSize(), is(4));
+                assertThat(metrics.averageBatchSize(), is(4d));
+            }
+        }
+
+        @Test
+        public void test_サイズが異なる要求は別のバッチになる() {
+            try (CoalescingBatcher batcher = CoalescingBatcher.Builder.of(PROVIDER)
+                    .replacedMaxBatchSize(2)
+                    .replacedMaxDelay(Duration.ofHours(1))
+                    .replacedExecutor(Runnable::run)
+                    .build()) {
+
+                batcher.submit(DctDstExecutors.GENERIC_DCT2_EXECUTOR, createData(16, 0));
+                batcher.submit(DctDstExecutors.GENERIC_DCT2_EXECUTOR, createData(32, 0));
+                assertThat(batcher.metrics().queueDepth(), is(2));
+                assertThat(batcher.metrics().dispatchedBatchCount(), is(0L));
+            }
+        }
+
+        @Test
+        public void test_保留時間が経過するとバッチが実行される() {
+            try (CoalescingBatcher batcher = CoalescingBatcher.Builder.of(PROVIDER)
+                    .replacedMaxBatchSize(1000)
+                    .replacedMaxDelay(Duration.ofMillis(5))
+                    .build()) {
+
+                double[] data = createData(20, 0);
+                double[] result = batcher.submit(DctDstExecutors.GENERIC_DCT2_EXECUTOR, data).join();
+                assertThat(result, is(PROVIDER.get(DctDstExecutors.GENERIC_DCT2_EXECUTOR).apply(data)));
+                assertThat(batcher.metrics().dispatchedBatchCount(), is(1L));
+            }
+        }
+
+        @Test
+        public void test_クローズにより保留が実行される() {
+            CompletableFuture<double[]> future;
+            try (CoalescingBatcher batcher = CoalescingBatcher.Builder.of(PROVIDER)
+                    .replacedMaxDelay(Duration.ofHours(1))
+                    .replacedExecutor(Runnable::run)
+                    .build()) {
+                future = batcher.submit(DctDstExecutors.GENERIC_DCT2_EXECUTOR, createData(16, 0));
+                assertThat(future.isDone(), is(false));
+            }
+            assertThat(future.isDone(), is(true));
+        }
+    }
+
+    public static class ビルダの検証 {
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_バッチサイズの上限が0の場合はIAEx() {
+            CoalescingBatcher.Builder.of(PROVIDER).replacedMaxBatchSize(0);
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_保留時間の上限が負の場合はIAEx() {
+            CoalescingBatcher.Builder.of(PROVIDER).replacedMaxDelay(Duration.ofMillis(-1));
+        }
+
+        @Test
+        public void test_保留時間の上限は最大値まで指定できる() {
+            CoalescingBatcher.Builder.of(PROVIDER)
+                    .replacedMaxDelay(CoalescingBatcher.Builder.UPPER_LIMIT_OF_MAX_DELAY);
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_保留時間の上限が最大値を超える場合はIAEx() {
+            CoalescingBatcher.Builder.of(PROVIDER)
+                    .replacedMaxDelay(CoalescingBatcher.Builder.UPPER_LIMIT_OF_MAX_DELAY.plusNanos(1L));
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_保留時間の上限が巨大な場合はIAEx() {
+            CoalescingBatcher.Builder.of(PROVIDER).replacedMaxDelay(Duration.ofSeconds(Long.MAX_VALUE));
+        }
+    }
+
+    public static class toString表示の検証 {
+
+        @Test
+        public void test_toString表示() {
+            try (CoalescingBatcher batcher = CoalescingBatcher.Builder.of(PROVIDER).build()) {
+                batcher.submit(DctDstExecutors.GENERIC_DCT2_EXECUTOR, new double[8]).join();
+                System.out.println(TEST_CLASS.getName());
+                System.out.println(batcher);
+                System.out.println(batcher.metrics());
+                System.out.println();
+            }
+        }
+    }
+}
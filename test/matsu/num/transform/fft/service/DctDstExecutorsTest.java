@@ -6,6 +6,9 @@
  */
 package matsu.num.transform.fft.service;
 
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
@@ -14,10 +17,12 @@ import java.util.List;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
+import org.junit.AfterClass;
 import org.junit.BeforeClass;
 import org.junit.Test;
 import org.junit.experimental.runners.Enclosed;
@@ -26,6 +31,8 @@ import org.junit.experimental.theories.Theories;
 import org.junit.experimental.theories.Theory;
 import org.junit.runner.RunWith;
 
+import matsu.num.transform.fft.dctdst.DCT2Executor;
+
 /**
  * {@link DctDstExecutors} クラスのテスト.
  */
@@ -67,6 +74,46 @@ final class DctDstExecutorsTest {
         }
     }
 
+    public static class 並列実行のライブラリによるバッチ変換のテスト {
+
+        private static ForkJoinPool pool;
+        private static DCT2Executor executor;
+
+        @BeforeClass
+        public static void before_エグゼキュータを準備する() {
+            pool = new ForkJoinPool(2);
+            executor = FFTModuleExecutorProvider.by(
+                    CommonLib.Builder.implementedInit()
+                            .replacedForkJoinPool(pool)
+                            .replacedParallelThreshold(1)
+                            .build())
+                    .get(DctDstExecutors.GENERIC_DCT2_EXECUTOR);
+        }
+
+        @AfterClass
+        public static void after_プールの終了() {
+            pool.shutdown();
+        }
+
+        @Test
+        public void test_ライブラリのプールで逐次実行と同じ結果が得られる() {
+            double[][] batch = new double[8][100];
+            for (int i = 0; i < batch.length; i++) {
+                for (int j = 0; j < batch[i].length; j++) {
+                    batch[i][j] = Math.sin(0.1 * (i + 1) * j);
+                }
+            }
+
+            double[][] expected = executor.applyBatch(batch, false);
+            assertThat(pool.getPoolSize(), is(0));
+            double[][] result = executor.applyBatch(batch, true);
+
+            //ライブラリのプールのワーカーが起動している
+            assertThat(pool.getPoolSize(), is(greaterThan(0)));
+            assertThat(result, is(expected));
+        }
+    }
+
     public static class 列挙表示 {
 
         @Test
@@ -6,6 +6,9 @@
  */
 package matsu.num.transform.fft.service;
 
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
@@ -14,10 +17,12 @@ import java.util.List;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
+import org.junit.AfterClass;
 import org.junit.BeforeClass;
 import org.junit.Test;
 import org.junit.experimental.runners.Enclosed;
@@ -26,6 +31,9 @@ import org.junit.experimental.theories.Theories;
 import org.junit.experimental.theories.Theory;
 import org.junit.runner.RunWith;
 
+import matsu.num.transform.fft.DFTExecutor;
+import matsu.num.transform.fft.dto.ComplexNumberArrayDTO;
+
 /**
  * {@link DftExecutors} クラスのテスト.
  */
@@ -67,6 +75,54 @@ final class DftExecutorsTest {
         }
     }
 
+    public static class 並列実行のライブラリによる変換のテスト {
+
+        private static ForkJoinPool pool;
+        private static DFTExecutor sequentialExecutor;
+        private static DFTExecutor parallelExecutor;
+
+        @BeforeClass
+        public static void before_エグゼキュータを準備する() {
+            pool = new ForkJoinPool(4);
+            sequentialExecutor = FFTModuleExecutorProvider.byDefaultLib()
+                    .get(DftExecutors.GENERIC_DFT_EXECUTOR);
+            parallelExecutor = FFTModuleExecutorProvider.by(
+                    CommonLib.Builder.implementedInit()
+                            .replacedForkJoinPool(pool)
+                            .replacedParallelThreshold(64)
+                            .build())
+                    .get(DftExecutors.GENERIC_DFT_EXECUTOR);
+        }
+
+        @AfterClass
+        public static void after_プールの終了() {
+            pool.shutdown();
+        }
+
+        @Test
+        public void test_逐次実行と結果が一致する() {
+            for (int size : new int[] { 4096, 3000, 2 * 3 * 331 }) {
+                ComplexNumberArrayDTO data = ComplexNumberArrayDTO.zeroFilledOf(size);
+                for (int j = 0; j < size; j++) {
+                    data.realPart[j] = Math.sin(0.1 * j * j);
+                    data.imaginaryPart[j] = Math.cos(0.3 * j);
+                }
+
+                ComplexNumberArrayDTO expected = sequentialExecutor.apply(data);
+                ComplexNumberArrayDTO result = parallelExecutor.apply(data);
+                for (int k = 0; k < size; k++) {
+                    assertThat(result.realPart[k], is(closeTo(expected.realPart[k], 1E-9)));
+                    assertThat(result.imaginaryPart[k], is(closeTo(expected.imaginaryPart[k], 1E-9)));
+                }
+            }
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void test_閾値が1未満の場合は例外() {
+            CommonLib.Builder.implementedInit().replacedParallelThreshold(0);
+        }
+    }
+
     public static class 列挙表示 {
 
         @Test
@@ -6,10 +6,15 @@
  */
 package matsu.num.transform.fft.service;
 
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
 import org.junit.Test;
 import org.junit.experimental.runners.Enclosed;
 import org.junit.runner.RunWith;
 
+import matsu.num.transform.fft.component.ScratchArena;
+
 /**
  * {@link FFTModuleExecutorProvider} クラスのテスト.
  */
@@ -18,6 +23,20 @@ final class FFTModuleExecutorProviderTest {
 
     public static final Class<?> TEST_CLASS = FFTModuleExecutorProvider.class;
 
+    public static class 作業用配列の解放の検証 {
+
+        @Test
+        public void test_変換後の作業用配列がtrimにより解放される() {
+            FFTModuleExecutorProvider.byDefaultLib()
+                    .get(DctDstExecutors.GENERIC_DCT2_EXECUTOR)
+                    .apply(new double[100]);
+            assertThat(ScratchArena.current().retainedLength(), is(greaterThan(0L)));
+
+            FFTModuleExecutorProvider.trimThreadLocalWorkspace();
+            assertThat(ScratchArena.current().retainedLength(), is(0L));
+        }
+    }
+
     public static class toString表示 {
 
         @Test